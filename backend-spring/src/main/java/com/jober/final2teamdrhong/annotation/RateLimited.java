@@ -0,0 +1,36 @@
+package com.jober.final2teamdrhong.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드에 선언형 Rate Limit 적용
+ *
+ * policy는 rate-limit.policies.&lt;이름&gt;으로 정의한 정책을 참조하며,
+ * key는 제한 기준을 계산하는 SpEL 식입니다. 사용 가능한 변수:
+ * - #ip: 클라이언트 IP
+ * - #userId: 로그인 사용자 ID (비로그인 시 null → IP로 대체)
+ * - #pathVariables: 경로 변수 Map (예: #pathVariables['workspaceId'])
+ *
+ * <pre>
+ * &#64;RateLimited(policy = "phone-book-bulk-add", key = "#userId")
+ * </pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimited {
+
+    /**
+     * rate-limit.policies에 정의된 정책 이름
+     */
+    String policy();
+
+    /**
+     * 제한 기준 키 SpEL 식 (기본: 클라이언트 IP)
+     */
+    String key() default "#ip";
+}
@@ -7,6 +7,8 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 인증 관련 설정 프로퍼티
  * application.properties에서 값을 읽어옴
@@ -74,6 +76,61 @@ public class AuthProperties {
          * 비밀번호 검증 시 최소 지연 시간 (밀리초) - 타이밍 공격 방지
          */
         private long timingAttackDelayMs = 300;
+
+        /**
+         * 비밀번호 해싱 전용 스레드 풀 크기
+         */
+        private int passwordHashingPoolSize = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+        /**
+         * 비밀번호 해싱 대기 큐 크기 (초과 시 즉시 거절)
+         */
+        private int passwordHashingQueueCapacity = 64;
+
+        /**
+         * 최소 응답 시간을 적용할 경로 (context-path 제외)
+         */
+        private List<String> timingProtectedPaths = List.of("/auth/login", "/users/password", "/users/account");
+
+        /**
+         * 최소 응답 시간 지연을 비동기 완료로 처리할지 여부 (false면 필터에서 대기)
+         */
+        private boolean timingPaddingAsync = true;
+
+        /**
+         * 로그인 마지막 사용 시각 배치 반영 주기 (밀리초)
+         */
+        private long lastUsedFlushIntervalMs = 5_000;
+
+        /**
+         * IP 차단 목록(CIDR) 필터 사용 여부
+         */
+        private boolean ipBlockListEnabled = true;
+
+        /**
+         * IP 차단 목록 파일 경로 (한 줄에 CIDR 하나, '#' 주석 허용, 비어 있으면 미사용)
+         */
+        private String ipBlockListFile = "";
+
+        /**
+         * IP 차단 목록 Redis Set 키 (변경 후 "{키}:version" 값을 갱신하면 각 노드가 다시 적재)
+         */
+        private String ipBlockListRedisKey = "ip_block_list";
+
+        /**
+         * IP 차단 목록 변경 확인 주기 (밀리초)
+         */
+        private long ipBlockListReloadIntervalMs = 30_000;
+
+        /**
+         * 만료된 RDB 인증 코드 정리 주기 (밀리초)
+         */
+        private long verificationReaperIntervalMs = 60_000;
+
+        /**
+         * 만료된 RDB 인증 코드 정리 시 한 번에 삭제할 최대 행 수
+         */
+        private int verificationReaperBatchSize = 500;
     }
 
     @Getter
@@ -103,6 +160,11 @@ public class AuthProperties {
          * Refresh Token 식별자 접두사
          */
         private String refreshTokenPrefix = "refresh:";
+
+        /**
+         * 서명 검증이 끝난 토큰 캐시 최대 항목 수 (노드당)
+         */
+        private long verifiedTokenCacheMaxSize = 10_000;
     }
 
     @Getter
@@ -117,6 +179,16 @@ public class AuthProperties {
          * 사용자 토큰 목록 Redis 키 접두사
          */
         private String userTokensKeyPrefix = "user_tokens:";
+
+        /**
+         * 사용자 토큰 목록(만료 시각 점수의 Sorted Set) 사용자당 최대 항목 수
+         */
+        private int userTokensMaxEntries = 50;
+
+        /**
+         * 사용자 토큰 목록 만료 항목 정리 주기 (밀리초)
+         */
+        private long userTokensReaperIntervalMs = 600_000;
         
         /**
          * 이메일 인증 코드 Redis 키 접두사
@@ -127,6 +199,66 @@ public class AuthProperties {
          * JWT 블랙리스트 Redis 키 접두사
          */
         private String jwtBlacklistKeyPrefix = "jwt:blacklist:";
+
+        /**
+         * JWT 블랙리스트 변경 전파용 Pub/Sub 채널
+         */
+        private String jwtBlacklistChannel = "jwt:blacklist:events";
+
+        /**
+         * 로컬 블랙리스트 니어 캐시 최대 항목 수 (초과 시 Redis 조회로 전환)
+         */
+        private long blacklistNearCacheMaxSize = 100_000;
+
+        /**
+         * 사용자별 토큰 에포크(이 시각 이전 발급 토큰 무효) Redis 키 접두사
+         */
+        private String tokenEpochKeyPrefix = "user_token_epoch:";
+
+        /**
+         * 토큰 에포크 변경 전파용 Pub/Sub 채널
+         */
+        private String tokenEpochChannel = "user_token_epoch:events";
+
+        /**
+         * 토큰 에포크 로컬 캐시 유지 시간 (초, Pub/Sub 메시지 유실 시 최대 반영 지연)
+         */
+        private long tokenEpochCacheTtlSeconds = 30;
+
+        /**
+         * 인증 사용자 정보(Principal) L2 캐시 Redis 키 접두사
+         */
+        private String userPrincipalKeyPrefix = "user_principal:";
+
+        /**
+         * 인증 사용자 정보 무효화 전파용 Pub/Sub 채널
+         */
+        private String userPrincipalChannel = "user_principal:events";
+
+        /**
+         * 인증 사용자 정보 L1(로컬) 캐시 유지 시간 (초)
+         */
+        private long userPrincipalLocalTtlSeconds = 10;
+
+        /**
+         * 인증 사용자 정보 L2(Redis) 캐시 유지 시간 (초)
+         */
+        private long userPrincipalRedisTtlSeconds = 1800;
+
+        /**
+         * 인증 사용자 정보 L1 캐시 최대 항목 수
+         */
+        private long userPrincipalLocalMaxSize = 10_000;
+
+        /**
+         * 인증 코드 저장소 서킷 브레이커: 열림 상태로 전환할 Redis 연속 실패 횟수
+         */
+        private int verificationFailureThreshold = 3;
+
+        /**
+         * 인증 코드 저장소 서킷 브레이커: 열림 상태에서 Redis 복구를 점검하는 주기 (밀리초)
+         */
+        private long verificationProbeIntervalMs = 1_000;
     }
 
     @Getter
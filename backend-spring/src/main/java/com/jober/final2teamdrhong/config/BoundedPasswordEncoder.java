@@ -0,0 +1,147 @@
+package com.jober.final2teamdrhong.config;
+
+import com.jober.final2teamdrhong.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전용 스레드 풀에서 해싱을 수행하는 PasswordEncoder
+ *
+ * BCrypt 연산은 CPU를 오래 점유하므로 가상 스레드에서 그대로 실행하면
+ * 로그인 폭주 시 캐리어 스레드를 모두 차지해 다른 엔드포인트의 지연이 커집니다.
+ * 해싱/검증은 크기가 제한된 플랫폼 스레드 풀에서만 실행하고,
+ * 호출한 요청 스레드는 결과를 기다리기만 합니다.
+ *
+ * 주요 기능:
+ * - 고정 크기 플랫폼 스레드 풀 + 제한된 대기 큐
+ * - 대기 큐가 가득 차면 즉시 거절 (RateLimitExceededException → 429)
+ * - 대기 큐 깊이, 대기 시간, 거절 횟수 메트릭
+ *
+ * 거절은 재시도를 전제로 하므로, 일회성 인증 코드처럼 되돌릴 수 없는 상태를 소모하는 호출자는
+ * 해싱을 먼저 수행해야 합니다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final String METRIC_PREFIX = "auth.password.hashing";
+    private static final String REJECTED_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int poolSize, int queueCapacity, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new PasswordHashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.prestartAllCoreThreads();
+
+        this.waitTimer = Timer.builder(METRIC_PREFIX + ".wait")
+                .description("비밀번호 해싱 작업의 큐 대기 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("대기 큐 초과로 거절된 비밀번호 해싱 요청 수")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", executor, e -> e.getQueue().size())
+                .description("비밀번호 해싱 대기 큐 깊이")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("비밀번호 해싱 실행 중인 스레드 수")
+                .register(meterRegistry);
+
+        log.info("비밀번호 해싱 전용 풀 초기화: poolSize={}, queueCapacity={}", poolSize, queueCapacity);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // 해시 문자열 비교만 수행하므로 풀을 거치지 않음
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 현재 대기 큐 깊이
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private <T> T execute(Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return task.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해싱 대기 큐 초과로 요청 거절: queueDepth={}", executor.getQueue().size());
+            throw new RateLimitExceededException(REJECTED_MESSAGE, RETRY_AFTER_SECONDS);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 해싱 대기 중 인터럽트 발생", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해싱 실패", e.getCause());
+        }
+    }
+
+    /**
+     * 데몬 플랫폼 스레드 생성 (가상 스레드 설정과 무관)
+     */
+    private static class PasswordHashingThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return Thread.ofPlatform()
+                    .name("password-hashing-" + sequence.incrementAndGet())
+                    .daemon(true)
+                    .unstarted(runnable);
+        }
+    }
+}
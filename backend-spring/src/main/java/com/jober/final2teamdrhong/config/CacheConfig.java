@@ -52,6 +52,6 @@ public class CacheConfig {
     @Bean
     @ConditionalOnMissingBean(RedisConnectionFactory.class)
     public CacheManager fallbackCacheManager() {
-        return new ConcurrentMapCacheManager("userInfo");
+        return new ConcurrentMapCacheManager();
     }
 }
\ No newline at end of file
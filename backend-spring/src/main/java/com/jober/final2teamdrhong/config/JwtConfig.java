@@ -11,6 +11,8 @@ import com.jober.final2teamdrhong.dto.jwtClaims.JwtClaims;
 import jakarta.annotation.PostConstruct;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -18,7 +20,7 @@ import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
@@ -29,11 +31,18 @@ import java.util.UUID;
 @Slf4j
 @RequiredArgsConstructor
 public class JwtConfig {
+
+    // 밀리초 단위 발급 시각 (표준 iat는 초 단위라 같은 초에 일괄 무효화와 재로그인이 겹치면 구분할 수 없음)
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iatMs";
     
     private final AuthProperties authProperties;
     
     @Value("${jwt.secret.key:}")
     private String jwtSecretKey;
+
+    // 서명 키와 파서는 요청마다 새로 만들지 않고 한 번 생성 후 재사용
+    private volatile SecretKey signingKey;
+    private volatile JwtParser jwtParser;
     
     @PostConstruct
     public void validateJwtSecret() {
@@ -62,6 +71,11 @@ public class JwtConfig {
             log.warn("JWT 시크릿 키가 약해 보입니다. 더 복잡한 키 사용을 고려해주세요.");
         }
         
+        // 5. 검증된 키로 서명 키와 파서 미리 생성
+        this.signingKey = null;
+        this.jwtParser = null;
+        getJwtParser();
+        
         log.info("JWT 설정 검증 완료 - 키 길이: {} 자", jwtSecretKey.length());
     }
     
@@ -87,10 +101,29 @@ public class JwtConfig {
     }
     
     /**
-     * JWT 서명용 키 생성
+     * JWT 서명용 키 조회 (최초 호출 시 한 번만 생성)
+     */
+    private SecretKey getSigningKey() {
+        SecretKey key = signingKey;
+        if (key == null) {
+            key = Keys.hmacShaKeyFor(jwtSecretKey.getBytes());
+            signingKey = key;
+        }
+        return key;
+    }
+
+    /**
+     * JWT 파서 조회 (최초 호출 시 한 번만 생성, 스레드 안전하므로 재사용)
      */
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecretKey.getBytes());
+    private JwtParser getJwtParser() {
+        JwtParser parser = jwtParser;
+        if (parser == null) {
+            parser = Jwts.parser()
+                    .verifyWith(getSigningKey())
+                    .build();
+            jwtParser = parser;
+        }
+        return parser;
     }
     
     public long getAccessTokenValiditySeconds() {
@@ -114,6 +147,7 @@ public class JwtConfig {
                 .setSubject(email)
                 .claim("userId", userId)
                 .claim("tokenType", "access")
+                .claim(ISSUED_AT_MILLIS_CLAIM, now.getTime())
                 .setIssuedAt(now)
                 .setExpiration(validity)
                 .signWith(getSigningKey(), SignatureAlgorithm.HS256)
@@ -133,6 +167,7 @@ public class JwtConfig {
                 .setSubject(email)
                 .claim("userId", userId)
                 .claim("tokenType", "refresh")
+                .claim(ISSUED_AT_MILLIS_CLAIM, now.getTime())
                 .setIssuedAt(now)
                 .setExpiration(validity)
                 .signWith(getSigningKey(), SignatureAlgorithm.HS256)
@@ -141,30 +176,42 @@ public class JwtConfig {
 
     
     /**
-     * JWT 토큰 검증
+     * JWT 토큰을 한 번만 서명 검증/파싱하여 결과를 반환
+     * 블랙리스트 확인, 유효성 검증, Claims 보완 단계가 이 결과를 공유하여 요청당 파싱을 1회로 줄입니다.
      * @param token JWT 토큰 (Bearer 접두사 제거된 상태)
-     * @return 토큰이 유효하면 true, 아니면 false
+     * @return 파싱 결과 (실패 시 원인 예외를 담은 결과)
      */
-    @SuppressWarnings("deprecation")
-    public boolean validateToken(String token) {
+    public ParsedToken parseToken(String token) {
         try {
-            Jwts.parser()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            return ParsedToken.valid(getJwtParser().parseSignedClaims(token).getPayload());
         } catch (SecurityException e) {
             log.error("JWT 서명이 올바르지 않습니다: {}", e.getMessage());
+            return ParsedToken.invalid(e);
         } catch (MalformedJwtException e) {
             log.error("JWT 토큰 형식이 올바르지 않습니다: {}", e.getMessage());
+            return ParsedToken.invalid(e);
         } catch (ExpiredJwtException e) {
             log.error("JWT 토큰이 만료되었습니다: {}", e.getMessage());
+            return ParsedToken.invalid(e);
         } catch (UnsupportedJwtException e) {
             log.error("지원하지 않는 JWT 토큰입니다: {}", e.getMessage());
+            return ParsedToken.invalid(e);
         } catch (IllegalArgumentException e) {
             log.error("JWT 토큰이 비어있습니다: {}", e.getMessage());
+            return ParsedToken.invalid(e);
+        } catch (JwtException e) {
+            log.error("JWT 토큰 파싱 실패: {}", e.getMessage());
+            return ParsedToken.invalid(e);
         }
-        return false;
+    }
+
+    /**
+     * JWT 토큰 검증
+     * @param token JWT 토큰 (Bearer 접두사 제거된 상태)
+     * @return 토큰이 유효하면 true, 아니면 false
+     */
+    public boolean validateToken(String token) {
+        return parseToken(token).isValid();
     }
     
     /**
@@ -172,14 +219,11 @@ public class JwtConfig {
      * @param token JWT 토큰 (Bearer 접두사 제거된 상태)
      * @return Claims 객체 (토큰이 유효하지 않으면 null)
      */
-    @SuppressWarnings("deprecation")
     public Claims getClaimsFromToken(String token) {
         try {
-            return Jwts.parser()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
+            return getJwtParser()
+                    .parseSignedClaims(token)
+                    .getPayload();
         } catch (Exception e) {
             log.error("JWT 토큰 파싱 실패: {}", e.getMessage());
             return null;
@@ -308,13 +352,24 @@ public class JwtConfig {
                 return null;
             }
 
-            return JwtClaims.builder()
-                    .email(claims.getSubject())
-                    .userId(extractUserIdFromClaims(claims))
-                    .tokenType((String) claims.get("tokenType"))
-                    .jti(claims.getId())
-                    .expiresAt(convertToLocalDateTime(claims.getExpiration()))
-                    .build();
+            return buildJwtClaims(claims);
+        } catch (Exception e) {
+            log.error("JWT Claims 생성 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 이미 파싱된 토큰에서 JwtClaims 객체 생성 (재파싱 없음)
+     * @param parsedToken parseToken()의 결과
+     * @return JwtClaims 객체 (토큰이 유효하지 않으면 null)
+     */
+    public JwtClaims getJwtClaims(ParsedToken parsedToken) {
+        if (parsedToken == null || !parsedToken.isValid()) {
+            return null;
+        }
+        try {
+            return buildJwtClaims(parsedToken.claims());
         } catch (Exception e) {
             log.error("JWT Claims 생성 실패: {}", e.getMessage());
             return null;
@@ -334,8 +389,46 @@ public class JwtConfig {
         return getJwtClaims(token);
     }
 
+    /**
+     * 요청당 한 번 파싱된 JWT 결과
+     *
+     * @param claims 검증된 Claims (실패 시 null)
+     * @param error 검증 실패 원인 (성공 시 null)
+     */
+    public record ParsedToken(Claims claims, Exception error) {
+
+        public static ParsedToken valid(Claims claims) {
+            return new ParsedToken(claims, null);
+        }
+
+        public static ParsedToken invalid(Exception error) {
+            return new ParsedToken(null, error);
+        }
+
+        public boolean isValid() {
+            return claims != null && error == null;
+        }
+
+        public String getJti() {
+            return claims != null ? claims.getId() : null;
+        }
+    }
+
     // === Private Helper Methods ===
 
+    /**
+     * Claims에서 JwtClaims 객체 생성
+     */
+    private JwtClaims buildJwtClaims(Claims claims) {
+        return JwtClaims.builder()
+                .email(claims.getSubject())
+                .userId(extractUserIdFromClaims(claims))
+                .tokenType((String) claims.get("tokenType"))
+                .jti(claims.getId())
+                .expiresAt(convertToLocalDateTime(claims.getExpiration()))
+                .build();
+    }
+
     /**
      * Claims에서 사용자 ID 안전하게 추출
      */
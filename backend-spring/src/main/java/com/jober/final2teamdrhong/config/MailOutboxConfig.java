@@ -0,0 +1,38 @@
+package com.jober.final2teamdrhong.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 이메일 아웃박스 발송 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.mail.outbox")
+@Getter
+@Setter
+public class MailOutboxConfig {
+
+    // 발송 워커 수 (워커마다 SMTP 연결 1개를 배치 단위로 재사용)
+    private int workers = 2;
+
+    // 워커가 한 번에 점유해 같은 SMTP 연결로 보내는 최대 메일 수
+    private int batchSize = 20;
+
+    // 아웃박스 폴링 주기
+    private long pollIntervalMs = 1_000;
+
+    // 발송 중 점유 만료 시간 (노드 장애 시 다른 노드가 다시 점유)
+    private long leaseMs = 60_000;
+
+    // 최대 발송 시도 횟수 (초과 시 FAILED)
+    private int maxAttempts = 5;
+
+    // 재시도 대기 시간: 기본값 x 2^(시도 횟수-1), 최대값 제한
+    private long initialBackoffMs = 2_000;
+    private long maxBackoffMs = 300_000;
+
+    // 발신자 주소 (비어 있으면 SMTP 세션 기본값 사용)
+    private String from = "";
+}
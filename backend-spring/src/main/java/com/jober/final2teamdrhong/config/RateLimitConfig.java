@@ -5,6 +5,9 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Configuration
 @ConfigurationProperties(prefix = "rate-limit")
 @Getter
@@ -35,6 +38,13 @@ public class RateLimitConfig {
         public static final int REFRESH_TOKEN_REQUESTS_PER_WINDOW = 10;
         public static final int REFRESH_TOKEN_WINDOW_DURATION_MINUTES = 5;
 
+        // 선언형 제한 정책 기본값
+        public static final int POLICY_REQUESTS_PER_WINDOW = 60;
+        public static final int POLICY_WINDOW_DURATION_MINUTES = 1;
+
+        // 인메모리 폴백 저장소의 제한 종류별 최대 버킷 수
+        public static final long IN_MEMORY_MAX_BUCKETS = 100_000;
+
         private Defaults() {
           // 상수 클래스이므로 인스턴스화 방지
         }
@@ -46,12 +56,23 @@ public class RateLimitConfig {
     private Login login = new Login();
     private RefreshToken refreshToken = new RefreshToken();
 
+    // Redis 미사용 시 인메모리 버킷 수 상한 (제한 종류별)
+    private long inMemoryMaxBuckets = Defaults.IN_MEMORY_MAX_BUCKETS;
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    private HeavyHitters heavyHitters = new HeavyHitters();
+
+    // @RateLimited 선언형 제한 정책 (rate-limit.policies.<정책 이름>.*)
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
 
     @Getter
     @Setter
     public static class EmailSend {
         private int requestsPerWindow = Defaults.EMAIL_SEND_REQUESTS_PER_WINDOW;
         private int windowDurationMinutes = Defaults.EMAIL_SEND_WINDOW_DURATION_MINUTES;
+        private LocalBatch localBatch = new LocalBatch();
     }
     
     @Getter
@@ -59,6 +80,7 @@ public class RateLimitConfig {
     public static class EmailVerify {
         private int requestsPerWindow = Defaults.EMAIL_VERIFY_REQUESTS_PER_WINDOW;
         private int windowDurationMinutes = Defaults.EMAIL_VERIFY_WINDOW_DURATION_MINUTES;
+        private LocalBatch localBatch = new LocalBatch();
     }
     
     @Getter
@@ -66,6 +88,7 @@ public class RateLimitConfig {
     public static class Signup {
         private int requestsPerWindow = Defaults.SIGNUP_REQUESTS_PER_WINDOW;
         private int windowDurationMinutes = Defaults.SIGNUP_WINDOW_DURATION_MINUTES;
+        private LocalBatch localBatch = new LocalBatch();
     }
 
     @Getter
@@ -73,6 +96,7 @@ public class RateLimitConfig {
     public static class Login {
         private int requestsPerWindow = Defaults.LOGIN_REQUESTS_PER_WINDOW;
         private int windowDurationMinutes = Defaults.LOGIN_WINDOW_DURATION_MINUTES;
+        private LocalBatch localBatch = new LocalBatch();
     }
 
     @Getter
@@ -80,5 +104,62 @@ public class RateLimitConfig {
     public static class RefreshToken {
         private int requestsPerWindow = Defaults.REFRESH_TOKEN_REQUESTS_PER_WINDOW;
         private int windowDurationMinutes = Defaults.REFRESH_TOKEN_WINDOW_DURATION_MINUTES;
+        private LocalBatch localBatch = new LocalBatch();
+    }
+
+    /**
+     * 엔드포인트용 선언형 제한 정책 (@RateLimited의 policy 이름으로 참조)
+     */
+    @Getter
+    @Setter
+    public static class Policy {
+        private int requestsPerWindow = Defaults.POLICY_REQUESTS_PER_WINDOW;
+        private int windowDurationMinutes = Defaults.POLICY_WINDOW_DURATION_MINUTES;
+        private LocalBatch localBatch = new LocalBatch();
+    }
+
+    /**
+     * 노드 로컬 선할당(배치) 모드 설정 (Redis 사용 시에만 적용)
+     *
+     * maxUnsynchronizedTokens가 0이면 매 요청 Redis와 동기화 (정확 모드).
+     * 0보다 크면 노드가 최대 해당 토큰 수 또는 maxUnsynchronizedMillis 동안 로컬에서 소비하고
+     * 이후 Redis와 한 번에 동기화하므로, 노드 수 x 토큰 수만큼 제한을 초과할 수 있습니다.
+     * 리프레시처럼 위험도가 낮은 제한에만 사용합니다.
+     */
+    @Getter
+    @Setter
+    public static class LocalBatch {
+        private int maxUnsynchronizedTokens = 0;
+        private long maxUnsynchronizedMillis = 1_000;
+
+        public boolean isEnabled() {
+            return maxUnsynchronizedTokens > 0;
+        }
+    }
+
+    /**
+     * Redis → 로컬 버킷 자동 전환 서킷 브레이커 설정
+     */
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        // 로컬 전환까지의 연속 실패 횟수
+        private int failureThreshold = 5;
+        // 로컬 모드에서 Redis 복구 점검 주기
+        private long probeIntervalMs = 1_000;
+        // Rate Limit용 Redis 명령 타임아웃 (실패를 빠르게 감지하기 위함)
+        private long commandTimeoutMs = 500;
+    }
+
+    /**
+     * 상위 요청 키(heavy hitter) 추적 설정
+     */
+    @Getter
+    @Setter
+    public static class HeavyHitters {
+        // 제한 종류별로 보관하는 최대 키 수 (메모리 상한)
+        private int capacity = 64;
+        // 카운트 절반 감쇠 주기
+        private long decayIntervalMs = 60_000;
     }
-}
\ No newline at end of file
+}
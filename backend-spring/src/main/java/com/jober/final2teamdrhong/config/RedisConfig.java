@@ -2,9 +2,13 @@ package com.jober.final2teamdrhong.config;
 
 import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
 import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.metrics.MicrometerOptions;
+import io.lettuce.core.resource.ClientResources;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -15,6 +19,7 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -37,6 +42,42 @@ public class RedisConfig {
     @Value("${spring.data.redis.password:}")
     private String redisPassword;
     
+    // Lettuce I/O(이벤트 루프)·계산 스레드 수 (0 이하: Lettuce 기본값 = 사용 가능 CPU 수)
+    @Value("${app.redis.lettuce.io-threads:0}")
+    private int lettuceIoThreads;
+    
+    // 명령별 지연 시간 히스토그램 기록 여부
+    @Value("${app.redis.lettuce.latency-histogram:true}")
+    private boolean latencyHistogram;
+    
+    /**
+     * Spring Boot가 생성하는 공용 ClientResources 설정
+     * RedisConnectionFactory(RedisTemplate, 캐시 매니저 등)와 bucket4j RedisClient가 같은 이벤트 루프를 공유합니다.
+     * 컨테이너 CPU 제한에 맞춰 스레드 수를 지정할 수 있습니다.
+     */
+    @Bean
+    public ClientResourcesBuilderCustomizer lettuceThreadPoolCustomizer() {
+        return builder -> {
+            if (lettuceIoThreads > 0) {
+                builder.ioThreadPoolSize(lettuceIoThreads)
+                        .computationThreadPoolSize(lettuceIoThreads);
+                log.info("Lettuce 스레드 수 설정: ioThreads={}", lettuceIoThreads);
+            }
+        };
+    }
+    
+    /**
+     * Lettuce 명령 지연 시간 메트릭 옵션 (lettuce.command.completion/firstresponse, 명령 유형별 태그)
+     * 노드 간 집계가 가능하도록 히스토그램 버킷을 함께 기록합니다.
+     */
+    @Bean
+    public MicrometerOptions lettuceMicrometerOptions() {
+        return MicrometerOptions.builder()
+                .histogram(latencyHistogram)
+                .localDistinction(false)
+                .build();
+    }
+    
     @Bean
     public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
         return new StringRedisTemplate(connectionFactory);
@@ -58,14 +99,29 @@ public class RedisConfig {
         return redisTemplate;
     }
     
+    /**
+     * Redis Pub/Sub 리스너 컨테이너 (노드 간 블랙리스트 전파 등)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+    
+    /**
+     * bucket4j용 ProxyManager
+     * 별도 이벤트 루프를 만들지 않도록 공용 ClientResources로 RedisClient를 생성합니다.
+     */
     @Bean
-    public LettuceBasedProxyManager<byte[]> lettuceBasedProxyManager() {
+    public LettuceBasedProxyManager<byte[]> lettuceBasedProxyManager(ClientResources clientResources,
+                                                                     RateLimitConfig rateLimitConfig) {
         try {
-            // Redis URL 동적 생성
-            String redisUrl = buildRedisUrl();
             log.info("Redis 연결 시도: host={}, port={}", redisHost, redisPort);
             
-            RedisClient redisClient = RedisClient.create(redisUrl);
+            // Redis 장애 시 요청이 기본 타임아웃(60초)만큼 묶이지 않도록 짧은 명령 타임아웃 적용
+            RedisURI redisUri = buildRedisUri(Duration.ofMillis(rateLimitConfig.getCircuitBreaker().getCommandTimeoutMs()));
+            RedisClient redisClient = RedisClient.create(clientResources, redisUri);
             
             return LettuceBasedProxyManager.builderFor(redisClient)
                     .build();
@@ -76,19 +132,20 @@ public class RedisConfig {
     }
     
     /**
-     * application.properties 설정을 기반으로 Redis URL 생성
+     * application.properties 설정을 기반으로 RedisURI 생성 (비밀번호 특수문자 인코딩 문제 없음)
      */
-    private String buildRedisUrl() {
-        StringBuilder urlBuilder = new StringBuilder("redis://");
+    private RedisURI buildRedisUri(Duration commandTimeout) {
+        RedisURI.Builder uriBuilder = RedisURI.builder()
+                .withHost(redisHost)
+                .withPort(redisPort)
+                .withTimeout(commandTimeout);
         
         // 비밀번호가 있는 경우 추가
         if (redisPassword != null && !redisPassword.trim().isEmpty()) {
-            urlBuilder.append(":").append(redisPassword).append("@");
+            uriBuilder.withPassword(redisPassword.toCharArray());
         }
         
-        urlBuilder.append(redisHost).append(":").append(redisPort);
-        
-        return urlBuilder.toString();
+        return uriBuilder.build();
     }
     
     /**
@@ -1,6 +1,8 @@
 package com.jober.final2teamdrhong.config;
 
 import com.jober.final2teamdrhong.filter.JwtAuthenticationFilter;
+import com.jober.final2teamdrhong.interceptor.RateLimitInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -61,13 +63,19 @@ public class SecurityConfig implements WebMvcConfigurer {
         "/webjars/**",
 
         // H2 콘솔 (개발환경에서만 사용)
-        "/h2-console/**"
+        "/h2-console/**",
+
+        // 헬스 체크
+        "/actuator/health"
     };
 
     // JWT 필터 주입
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final ObjectMapper objectMapper;
 
+    // 선언형 Rate Limit(@RateLimited) 인터셉터
+    private final RateLimitInterceptor rateLimitInterceptor;
+
 
     // OAuth2 성공/실패 핸들러 주입
     private final com.jober.final2teamdrhong.service.OAuth2AuthenticationSuccessHandler oAuth2AuthenticationSuccessHandler;
@@ -87,9 +95,17 @@ public class SecurityConfig implements WebMvcConfigurer {
         return filter;
     }
 
+    /**
+     * BCrypt 해싱/검증은 전용 플랫폼 스레드 풀에서 실행 (가상 스레드 캐리어 점유 방지)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(AuthProperties authProperties, MeterRegistry meterRegistry) {
+        AuthProperties.Security security = authProperties.getSecurity();
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(),
+                security.getPasswordHashingPoolSize(),
+                security.getPasswordHashingQueueCapacity(),
+                meterRegistry);
     }
 
     @Bean
@@ -164,6 +180,7 @@ public class SecurityConfig implements WebMvcConfigurer {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(PERMIT_ALL_URLS).permitAll() // 인증 없이 접근 가능한 공개 엔드포인트들
                         .requestMatchers("/admin/**").hasRole("ADMIN") // 관리자 권한 필요
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") // 운영 메트릭은 관리자만 조회
                         .anyRequest().authenticated() // 나머지 API는 인증된 사용자만 접근 가능
                 )
                 // OAuth2 로그인 설정
@@ -248,7 +265,7 @@ public class SecurityConfig implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        // No interceptors added for now, as RequestTimingInterceptor is removed
+        registry.addInterceptor(rateLimitInterceptor);
     }
 
     /**
@@ -0,0 +1,25 @@
+package com.jober.final2teamdrhong.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 워크스페이스 연쇄 소프트 삭제 작업 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.workspace.deletion")
+@Getter
+@Setter
+public class WorkspaceDeletionConfig {
+
+    // 한 트랜잭션에서 소프트 삭제할 최대 행 수 (행 잠금 유지 시간 제한)
+    private int batchSize = 500;
+
+    // 미완료 작업 재개 폴링 주기 (재기동이나 처리 실패 후 이어서 처리)
+    private long pollIntervalMs = 30_000;
+
+    // 작업 점유 유지 시간 (배치마다 연장되며, 처리 노드가 멈추면 만료 후 다른 노드가 이어서 처리)
+    private long leaseMs = 60_000;
+}
@@ -3,11 +3,15 @@ package com.jober.final2teamdrhong.controller;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.jober.final2teamdrhong.dto.rateLimit.HeavyHitterResponse;
 import com.jober.final2teamdrhong.service.PublicTemplateService;
+import com.jober.final2teamdrhong.service.RateLimitService;
 import com.jober.final2teamdrhong.exception.ErrorResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,10 +23,13 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
+import java.util.Map;
+
 
 /**
  * 관리자용 컨트롤러.
- * ADMIN 권한을 가진 사용자만 접근 가능하며, 현재는 공용 템플릿 삭제 기능을 제공한다.
+ * ADMIN 권한을 가진 사용자만 접근 가능하며, 공용 템플릿 삭제와 Rate Limit 상위 요청 키 조회 기능을 제공한다.
  */
 @RestController
 @RequestMapping("/admin")
@@ -31,6 +38,7 @@ import lombok.RequiredArgsConstructor;
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminController {
     private final PublicTemplateService publicTemplateService;
+    private final RateLimitService rateLimitService;
 
     /**
      * ADMIN 권한을 가진 사용자만 공용 템플릿을 삭제할 수 있습니다.
@@ -87,4 +95,36 @@ public class AdminController {
         publicTemplateService.deletePublicTemplate(publicTemplateId);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 제한 종류별로 요청이 가장 많은 IP/이메일 등 상위 키를 조회합니다.
+     * 노드별 추정값(Space-Saving)이며 최근 요청일수록 가중치가 큽니다.
+     *
+     * @param limit 제한 종류별 최대 반환 개수 (기본 10)
+     * @return 제한 이름 → 상위 키 목록
+     */
+    @Operation(
+            summary = "Rate Limit 상위 요청 키 조회",
+            description = "제한 종류별로 요청 수가 가장 많은 키(IP, 이메일, 사용자 ID)와 거부 횟수를 조회합니다. 크리덴셜 스터핑 등 공격원 탐지용입니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "조회 성공"
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "권한 부족 - ADMIN 권한이 없음",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @GetMapping("/rate-limits/heavy-hitters")
+    public ResponseEntity<Map<String, List<HeavyHitterResponse>>> getRateLimitHeavyHitters(
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(rateLimitService.getHeavyHitters(Math.max(1, Math.min(limit, 100))));
+    }
+}
@@ -1,5 +1,6 @@
 package com.jober.final2teamdrhong.controller;
 
+import com.jober.final2teamdrhong.annotation.RateLimited;
 import com.jober.final2teamdrhong.dto.jwtClaims.JwtClaims;
 import com.jober.final2teamdrhong.dto.phonebook.PhoneBookRequest;
 import com.jober.final2teamdrhong.dto.phonebook.PhoneBookResponse;
@@ -96,6 +97,7 @@ public class PhoneBookController {
     })
     @SecurityRequirement(name = "bearerAuth")
     @PostMapping("/{phoneBookId}/recipients")
+    @RateLimited(policy = "phone-book-bulk-add", key = "#userId")
     public ResponseEntity<PhoneBookResponse.ModifiedRecipientsDTO> addRecipientsToPhoneBook(@RequestBody PhoneBookRequest.RecipientIdListDTO recipientIdListDTO,
                                                                                             @PathVariable Integer workspaceId,
                                                                                             @PathVariable Integer phoneBookId,
@@ -4,6 +4,7 @@ import com.jober.final2teamdrhong.dto.jwtClaims.JwtClaims;
 import com.jober.final2teamdrhong.dto.workspace.WorkspaceRequest;
 import com.jober.final2teamdrhong.dto.workspace.WorkspaceResponse;
 import com.jober.final2teamdrhong.exception.ErrorResponse;
+import com.jober.final2teamdrhong.service.WorkspaceExportService;
 import com.jober.final2teamdrhong.service.WorkspaceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -13,13 +14,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -32,6 +37,7 @@ import java.util.List;
 public class WorkspaceController {
 
     private final WorkspaceService workspaceService;
+    private final WorkspaceExportService workspaceExportService;
 
     /**
      * 새로운 워크스페이스를 생성하는 API
@@ -160,6 +166,40 @@ public class WorkspaceController {
         return ResponseEntity.status(HttpStatus.OK).body(updatedWorkspace);
     }
 
+    /**
+     * 특정 워크스페이스를 복제하는 API
+     * <p>
+     * 원본 워크스페이스의 수신자, 주소록, 주소록-수신자 매핑, 개인 템플릿을 새 이름과 URL을 가진 워크스페이스로 복제합니다.
+     * 복제는 서버에서 한 번의 트랜잭션으로 처리되며, 요청한 사용자가 원본 워크스페이스의 소유자인지 확인하는 인가 과정이 포함됩니다.
+     *
+     * @param cloneDTO    복제본의 이름과 URL을 담은 요청 데이터 (JSON, @Valid로 검증됨)
+     * @param workspaceId 복제할 원본 워크스페이스의 ID
+     * @param jwtClaims {@link AuthenticationPrincipal}을 통해 SecurityContext에서 직접 주입받는 현재 로그인된 사용자의 JWT 정보 객체
+     * @return 상태 코드 201 (Created)와 함께 생성된 워크스페이스 정보와 복제 건수를 담은 ResponseEntity
+     */
+    @Operation(summary = "워크스페이스 복제", description = "특정 워크스페이스와 그 수신자, 주소록, 개인 템플릿을 새 워크스페이스로 복제합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "워크스페이스 복제 성공",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = WorkspaceResponse.CloneDTO.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청: 요청 데이터 유효성 검사에 실패했거나, 비즈니스 규칙에 위배됩니다. (예: 워크스페이스를 찾을 수 없음, 접근 권한 없음, 중복된 URL)",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패 (로그인 필요)",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @PostMapping("/{workspaceId}/clone")
+    public ResponseEntity<WorkspaceResponse.CloneDTO> cloneWorkspace(@Valid @RequestBody WorkspaceRequest.CloneDTO cloneDTO,
+                                                                     @PathVariable Integer workspaceId,
+                                                                     @AuthenticationPrincipal JwtClaims jwtClaims) {
+        Integer currentUserId = jwtClaims.getUserId();
+        WorkspaceResponse.CloneDTO clonedWorkspace = workspaceService.cloneWorkspace(cloneDTO, workspaceId, currentUserId);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(clonedWorkspace);
+    }
+
     /**
      * 특정 워크스페이스를 삭제하는 API (소프트 딜리트)
      * <p>
@@ -191,4 +231,76 @@ public class WorkspaceController {
 
         return ResponseEntity.status(HttpStatus.OK).body(deletedWorkspace);
     }
+
+    /**
+     * 삭제된 워크스페이스의 하위 데이터 연쇄 삭제 진행 상태를 조회하는 API
+     * <p>
+     * 워크스페이스 삭제 API는 워크스페이스만 즉시 삭제하고, 수신자·주소록·템플릿 등 하위 데이터는 백그라운드에서 배치 단위로 삭제합니다.
+     * 이 API로 현재 처리 중인 단계와 지금까지 삭제된 행 수를 확인할 수 있습니다.
+     *
+     * @param workspaceId 삭제된 워크스페이스의 ID
+     * @param jwtClaims {@link AuthenticationPrincipal}을 통해 SecurityContext에서 직접 주입받는 현재 로그인된 사용자의 JWT 정보 객체
+     * @return 상태 코드 200 (OK)와 함께 연쇄 삭제 진행 상태를 담은 ResponseEntity
+     */
+    @Operation(summary = "워크스페이스 삭제 진행 상태 조회", description = "삭제된 워크스페이스의 하위 데이터 연쇄 삭제 진행 상태를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "삭제 진행 상태 조회 성공",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = WorkspaceResponse.DeletionProgressDTO.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청: 워크스페이스를 찾을 수 없거나 접근 권한이 없거나, 삭제 작업이 없습니다.",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패 (로그인 필요)",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/{workspaceId}/deletion")
+    public ResponseEntity<WorkspaceResponse.DeletionProgressDTO> readDeletionProgress(@PathVariable Integer workspaceId,
+                                                                                      @AuthenticationPrincipal JwtClaims jwtClaims) {
+        Integer currentUserId = jwtClaims.getUserId();
+        WorkspaceResponse.DeletionProgressDTO progress = workspaceService.readDeletionProgress(workspaceId, currentUserId);
+
+        return ResponseEntity.status(HttpStatus.OK).body(progress);
+    }
+
+    /**
+     * 특정 워크스페이스 전체를 ZIP 아카이브로 내보내는 API (백업, 컴플라이언스 대응)
+     * <p>
+     * 수신자, 주소록, 주소록-수신자 매핑, 개인 템플릿을 섹션별 NDJSON 파일로 묶어 응답 본문에 바로 스트리밍합니다.
+     * 페이지 단위 조회 API를 반복 호출하지 않아도 되며, 서버 메모리 사용량은 워크스페이스 크기와 관계없이 일정합니다.
+     * 소유권 검증은 응답을 쓰기 전에 수행되므로, 권한이 없으면 일반 오류 응답이 반환됩니다.
+     *
+     * @param workspaceId 내보낼 워크스페이스의 ID
+     * @param jwtClaims {@link AuthenticationPrincipal}을 통해 SecurityContext에서 직접 주입받는 현재 로그인된 사용자의 JWT 정보 객체
+     * @param response    ZIP 아카이브를 스트리밍할 HTTP 응답
+     * @throws IOException 응답 스트림 쓰기에 실패한 경우 (클라이언트 연결 종료 등)
+     */
+    @Operation(summary = "워크스페이스 내보내기", description = "워크스페이스의 수신자, 주소록, 매핑, 개인 템플릿을 NDJSON ZIP 아카이브로 내려받습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "워크스페이스 내보내기 성공",
+                    content = @Content(mediaType = "application/zip")),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청: 워크스페이스를 찾을 수 없거나 접근 권한이 없습니다.",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "인증 실패 (로그인 필요)",
+                    content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    @GetMapping("/{workspaceId}/export")
+    public void exportWorkspace(@PathVariable Integer workspaceId,
+                                @AuthenticationPrincipal JwtClaims jwtClaims,
+                                HttpServletResponse response) throws IOException {
+        Integer currentUserId = jwtClaims.getUserId();
+        workspaceExportService.validateExport(workspaceId, currentUserId);
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType("application/zip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("workspace-" + workspaceId + "-export.zip")
+                .build()
+                .toString());
+        workspaceExportService.writeArchive(workspaceId, response.getOutputStream());
+    }
 }
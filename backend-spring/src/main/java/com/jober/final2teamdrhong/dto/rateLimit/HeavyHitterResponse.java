@@ -0,0 +1,22 @@
+package com.jober.final2teamdrhong.dto.rateLimit;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Rate Limit 상위 요청 키(heavy hitter) 응답 DTO
+ *
+ * Space-Saving 알고리즘 추정값이므로 실제 요청 수는 count - error 이상 count 이하입니다.
+ *
+ * @param key      제한 기준 키 (IP, 이메일, 사용자 ID 등)
+ * @param count    추정 요청 수 (최근 구간 가중)
+ * @param error    추정 오차 상한
+ * @param rejected 제한 초과로 거부된 추정 요청 수
+ */
+@Schema(name = "HeavyHitterResponse")
+public record HeavyHitterResponse(
+    String key,
+    long count,
+    long error,
+    long rejected
+) {
+}
@@ -57,4 +57,17 @@ public class WorkspaceRequest {
         String newCompanyName,
         String newCompanyRegisterNumber
     ) {}
+
+    /**
+     * 워크스페이스 복제를 요청하는 DTO 입니다.
+     * 이름과 고유 URL을 제외한 정보는 원본 워크스페이스에서 복사합니다.
+     */
+    @Schema(name = "WorkspaceCloneDTO")
+    public record CloneDTO(
+        @NotBlank(message = "워크스페이스 이름은 필수 입력 항목입니다.")
+        @Length(min = 2, max = 20, message = "워크스페이스 이름은 2자 이상 20자 이하로 입력해주세요.")
+        String newWorkspaceName,
+        @NotBlank(message = "고유 URL은 필수 입력 항목입니다.")
+        String newWorkspaceUrl
+    ) {}
 }
@@ -2,6 +2,7 @@ package com.jober.final2teamdrhong.dto.workspace;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.jober.final2teamdrhong.entity.Workspace;
+import com.jober.final2teamdrhong.entity.WorkspaceDeletionJob;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDateTime;
@@ -90,4 +91,42 @@ public class WorkspaceResponse {
             );
         }
     }
+
+    /**
+     * 워크스페이스 복제 결과 응답을 위한 DTO
+     */
+    @Schema(name = "WorkspaceCloneResultDTO")
+    public record CloneDTO(
+        SimpleDTO workspace,
+        int recipientCount,
+        int phoneBookCount,
+        int groupMappingCount,
+        int individualTemplateCount
+    ) {}
+
+    /**
+     * 워크스페이스 연쇄 삭제 진행 상태 응답을 위한 DTO
+     */
+    @Schema(name = "WorkspaceDeletionProgressDTO")
+    public record DeletionProgressDTO(
+        Integer workspaceId,
+        WorkspaceDeletionJob.Stage stage,
+        long processedCount,
+        boolean completed,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime updatedAt,
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+        LocalDateTime completedAt
+    ) {
+        public DeletionProgressDTO(WorkspaceDeletionJob job) {
+            this(
+                job.getWorkspaceId(),
+                job.getStage(),
+                job.getProcessedCount(),
+                job.isCompleted(),
+                job.getUpdatedAt(),
+                job.getCompletedAt()
+            );
+        }
+    }
 }
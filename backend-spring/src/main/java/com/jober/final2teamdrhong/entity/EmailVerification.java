@@ -13,9 +13,12 @@ import java.time.LocalDateTime;
 /**
  * 이메일 인증 코드 엔티티 (RDB 저장용)
  * Redis나 InMemory가 사용 불가능할 때 fallback으로 사용
+ * 만료된 행은 RdbVerificationStorage의 정리 작업이 expires_at 인덱스로 주기적으로 삭제
  */
 @Entity
-@Table(name = "email_verification")
+@Table(name = "email_verification", indexes = {
+        @Index(name = "idx_email_verification_expires_at", columnList = "expires_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @SuperBuilder
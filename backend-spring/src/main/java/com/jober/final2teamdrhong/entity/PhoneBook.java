@@ -9,7 +9,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "phone_book")
+@Table(name = "phone_book", indexes = {
+        @Index(name = "idx_phone_book_workspace_clone_source", columnList = "workspace_id, clone_source_id")
+})
 @Getter
 @Setter
 @ToString(exclude = {"workspace", "groupMappings"})
@@ -35,6 +37,10 @@ public class PhoneBook extends BaseEntity {
     @JoinColumn(name = "workspace_id", nullable = false) // FK
     private Workspace workspace;
 
+    // 워크스페이스 복제 시 원본 행의 ID (복제본의 주소록-수신자 매핑 ID 재매핑에 사용)
+    @Column(name = "clone_source_id")
+    private Integer cloneSourceId;
+
     @Builder.Default
     @OneToMany(mappedBy = "phoneBook", fetch = FetchType.LAZY)
     private List<GroupMapping> groupMappings = new ArrayList<>();
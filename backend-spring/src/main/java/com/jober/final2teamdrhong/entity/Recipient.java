@@ -9,7 +9,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "recipient")
+@Table(name = "recipient", indexes = {
+        @Index(name = "idx_recipient_workspace_clone_source", columnList = "workspace_id, clone_source_id")
+})
 @Getter
 @Setter
 @ToString(exclude = {"workspace", "groupMappings"})
@@ -39,6 +41,10 @@ public class Recipient extends BaseEntity {
     @JoinColumn(name = "workspace_id", nullable = false) // FK
     private Workspace workspace;
 
+    // 워크스페이스 복제 시 원본 행의 ID (복제본의 주소록-수신자 매핑 ID 재매핑에 사용)
+    @Column(name = "clone_source_id")
+    private Integer cloneSourceId;
+
     @Builder.Default
     @OneToMany(mappedBy = "recipient", fetch = FetchType.LAZY)
     private List<GroupMapping> groupMappings = new ArrayList<>();
@@ -0,0 +1,105 @@
+package com.jober.final2teamdrhong.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 워크스페이스 연쇄 소프트 삭제 작업 엔티티
+ *
+ * 워크스페이스 삭제 시 같은 트랜잭션에서 기록되고, 백그라운드 작업이 하위 데이터를 단계별 배치로 소프트 삭제합니다.
+ * 배치마다 진행 상태(stage, processed_count)를 함께 커밋하므로 재기동 후에도 이어서 처리합니다.
+ * 여러 노드가 같은 작업을 처리하지 않도록 배치마다 점유(lease_owner, lease_until)를 조건부 UPDATE로 갱신합니다.
+ */
+@Entity
+@Table(name = "workspace_deletion_job", indexes = {
+        @Index(name = "idx_workspace_deletion_job_stage", columnList = "stage")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WorkspaceDeletionJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(name = "workspace_id", nullable = false, unique = true)
+    private Integer workspaceId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", nullable = false, length = 30)
+    private Stage stage;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Column(name = "created_at", columnDefinition = "TIMESTAMP", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", columnDefinition = "TIMESTAMP", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "completed_at", columnDefinition = "TIMESTAMP")
+    private LocalDateTime completedAt;
+
+    // 작업을 처리 중인 노드 식별자 (점유 중이 아니면 null)
+    @Column(name = "lease_owner", length = 36)
+    private String leaseOwner;
+
+    // 점유 만료 시각 (이 시각이 지나면 다른 노드가 이어서 처리 가능)
+    @Column(name = "lease_until", columnDefinition = "TIMESTAMP")
+    private LocalDateTime leaseUntil;
+
+    /**
+     * 삭제 단계 (참조하는 쪽부터 순서대로 처리)
+     */
+    public enum Stage {
+        FAVORITE,
+        TEMPLATE_HISTORY,
+        GROUP_MAPPING,
+        INDIVIDUAL_TEMPLATE,
+        RECIPIENT,
+        PHONE_BOOK,
+        COMPLETED;
+
+        public Stage next() {
+            return this == COMPLETED ? COMPLETED : values()[ordinal() + 1];
+        }
+    }
+
+    // 정적 팩토리 메서드: 첫 단계부터 시작하는 작업 생성
+    public static WorkspaceDeletionJob create(Integer workspaceId, LocalDateTime now) {
+        WorkspaceDeletionJob job = new WorkspaceDeletionJob();
+        job.workspaceId = workspaceId;
+        job.stage = Stage.values()[0];
+        job.processedCount = 0;
+        job.createdAt = now;
+        job.updatedAt = now;
+        return job;
+    }
+
+    // 현재 단계의 한 배치 처리 결과 반영
+    public void recordBatch(int processed, LocalDateTime now) {
+        this.processedCount += processed;
+        this.updatedAt = now;
+    }
+
+    // 현재 단계에 남은 데이터가 없으면 다음 단계로 이동
+    public void advance(LocalDateTime now) {
+        this.stage = stage.next();
+        this.updatedAt = now;
+        if (stage == Stage.COMPLETED) {
+            this.completedAt = now;
+            this.leaseOwner = null;
+            this.leaseUntil = null;
+        }
+    }
+
+    public boolean isCompleted() {
+        return stage == Stage.COMPLETED;
+    }
+}
@@ -0,0 +1,67 @@
+package com.jober.final2teamdrhong.filter;
+
+import com.jober.final2teamdrhong.service.IpBlockListService;
+import com.jober.final2teamdrhong.util.ClientIpUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * IP 차단 목록(CIDR) 필터
+ *
+ * 서블릿 필터 중 가장 먼저 실행되어 차단된 네트워크의 요청을
+ * JWT 검증, BCrypt, Redis 조회 전에 403으로 종료합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class IpBlockListFilter extends OncePerRequestFilter {
+
+    private static final byte[] BLOCKED_BODY =
+            "{\"message\":\"접근이 차단된 네트워크입니다.\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final IpBlockListService ipBlockListService;
+    private final Counter blockedCounter;
+    private final boolean isDevelopment;
+
+    public IpBlockListFilter(IpBlockListService ipBlockListService,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.environment.development:true}") boolean isDevelopment) {
+        this.ipBlockListService = ipBlockListService;
+        this.blockedCounter = Counter.builder("security.ip_block_list.blocked")
+                .description("IP 차단 목록으로 거부된 요청 수")
+                .register(meterRegistry);
+        this.isDevelopment = isDevelopment;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clientIp = ClientIpUtil.getClientIpAddress(request, isDevelopment);
+        if (!ipBlockListService.isBlocked(clientIp)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        blockedCounter.increment();
+        log.debug("차단된 네트워크 요청 거부: ip={}, uri={}", clientIp, request.getRequestURI());
+        response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentLength(BLOCKED_BODY.length);
+        response.getOutputStream().write(BLOCKED_BODY);
+    }
+}
@@ -6,6 +6,8 @@ import com.jober.final2teamdrhong.dto.jwtClaims.JwtClaims;
 import com.jober.final2teamdrhong.exception.ErrorResponse;
 import com.jober.final2teamdrhong.service.JwtClaimsService;
 import com.jober.final2teamdrhong.service.BlacklistService;
+import com.jober.final2teamdrhong.service.TokenEpochService;
+import com.jober.final2teamdrhong.service.VerifiedTokenCache;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,6 +34,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtConfig jwtConfig;
     private final JwtClaimsService jwtClaimsService;
     private final BlacklistService blacklistService;
+    private final TokenEpochService tokenEpochService;
+    private final VerifiedTokenCache verifiedTokenCache;
     private final ObjectMapper objectMapper;
 
 
@@ -66,30 +70,41 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            // 3. 토큰이 블랙리스트에 있는 경우 401 에러 처리  
-            if (blacklistService.isTokenBlacklisted(token)) {
+            // 3. 토큰을 한 번만 서명 검증/파싱 (최근 검증된 토큰은 캐시에서 재사용)
+            JwtConfig.ParsedToken parsedToken = verifiedTokenCache.getOrParse(token);
+
+            // 4. 토큰이 블랙리스트에 있는 경우 401 에러 처리  
+            if (blacklistService.isTokenBlacklisted(parsedToken)) {
                 handleAuthenticationError(request, response, "무효화된 토큰입니다. 다시 로그인해주세요.");
                 return;
             }
 
-            // 4. 토큰 유효성 검증
-            if (!jwtConfig.validateToken(token)) {
-                String errorMessage = determineJwtErrorMessage(request, new Exception("Token validation failed"));
+            // 5. 토큰 유효성 검증
+            if (!parsedToken.isValid()) {
+                Exception cause = parsedToken.error() != null
+                        ? parsedToken.error() : new Exception("Token validation failed");
+                String errorMessage = determineJwtErrorMessage(request, cause);
                 handleAuthenticationError(request, response, errorMessage);
                 return;
             }
 
-            // 5. 토큰에서 기본 Claims를 추출하고 DB정보로 보완
-            JwtClaims claims = jwtClaimsService.getEnrichedClaims(token);
+            // 5-1. 비밀번호 변경 등으로 일괄 무효화된 토큰인지 확인 (iat vs 사용자 토큰 에포크)
+            if (tokenEpochService.isRevoked(parsedToken)) {
+                handleAuthenticationError(request, response, "무효화된 토큰입니다. 다시 로그인해주세요.");
+                return;
+            }
+
+            // 6. 파싱된 Claims를 DB정보로 보완
+            JwtClaims claims = jwtClaimsService.getEnrichedClaims(parsedToken);
 
-            // 6. 인증 객체 (Authentication) 생성
+            // 7. 인증 객체 (Authentication) 생성
             Authentication authentication = new UsernamePasswordAuthenticationToken(
                     claims, // Principal (사용자 정보 객체)
                     null,   // Credentials (JWT에서는 비밀번호 사용 안 함)
                     Collections.singletonList(new SimpleGrantedAuthority("ROLE_"+claims.getUserRole().name()))// 권한 정보
             );
 
-            // 7. SecurityContext에 인증 정보 설정
+            // 8. SecurityContext에 인증 정보 설정
             SecurityContextHolder.getContext().setAuthentication(authentication);
             log.info("사용자 인증 완료: {}", claims.getEmail());
             
@@ -184,6 +199,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                requestURI.startsWith("/api/swagger-resources") ||
                requestURI.startsWith("/api/webjars") ||
                requestURI.startsWith("/api/h2-console") ||  // H2 콘솔 경로 추가
+               requestURI.equals("/api/actuator/health") ||  // 헬스 체크
                requestURI.startsWith("/api/oauth2/");  // OAuth2 관련 경로 추가
     }
 }
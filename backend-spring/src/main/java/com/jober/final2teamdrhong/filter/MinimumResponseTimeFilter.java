@@ -0,0 +1,113 @@
+package com.jober.final2teamdrhong.filter;
+
+import com.jober.final2teamdrhong.config.AuthProperties;
+import com.jober.final2teamdrhong.util.TimingAttackProtection;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 타이밍 공격 방지용 최소 응답 시간 필터
+ *
+ * 서비스가 TimingAttackProtection으로 요구한 최소 응답 시간을
+ * 요청 처리(트랜잭션 커밋 포함)가 끝난 뒤에 적용합니다.
+ * 응답 본문을 버퍼링해 두었다가 비동기 모드로 전환하고 남은 시간 후에 응답을 완료하므로
+ * 대기하는 동안 요청 스레드와 DB 커넥션을 점유하지 않습니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class MinimumResponseTimeFilter extends OncePerRequestFilter {
+
+    private static final long ASYNC_TIMEOUT_MARGIN_MS = 5_000;
+
+    private final TimingAttackProtection timingAttackProtection;
+    private final AuthProperties authProperties;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("timing-padding").daemon(true).factory());
+
+    public MinimumResponseTimeFilter(TimingAttackProtection timingAttackProtection, AuthProperties authProperties) {
+        this.timingAttackProtection = timingAttackProtection;
+        this.authProperties = authProperties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !authProperties.getSecurity().getTimingProtectedPaths().contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        long remainingDelay;
+
+        timingAttackProtection.startTiming();
+        try {
+            filterChain.doFilter(request, responseWrapper);
+            remainingDelay = timingAttackProtection.getRemainingDelay();
+        } catch (IOException | ServletException | RuntimeException e) {
+            responseWrapper.copyBodyToResponse();
+            throw e;
+        } finally {
+            timingAttackProtection.clear();
+        }
+
+        if (remainingDelay <= 0) {
+            responseWrapper.copyBodyToResponse();
+            return;
+        }
+
+        if (!request.isAsyncSupported() || !authProperties.getSecurity().isTimingPaddingAsync()) {
+            sleepThenComplete(responseWrapper, remainingDelay);
+            return;
+        }
+
+        // 비동기 모드로 전환 후 남은 시간 뒤에 응답 완료 (요청 스레드 즉시 반환)
+        AsyncContext asyncContext = request.startAsync(request, responseWrapper);
+        asyncContext.setTimeout(remainingDelay + ASYNC_TIMEOUT_MARGIN_MS);
+        scheduler.schedule(() -> Thread.ofVirtual().start(() -> complete(asyncContext, responseWrapper)),
+                remainingDelay, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    private void complete(AsyncContext asyncContext, ContentCachingResponseWrapper responseWrapper) {
+        try {
+            responseWrapper.copyBodyToResponse();
+        } catch (IOException e) {
+            log.warn("지연된 응답 전송 실패: {}", e.getMessage());
+        } finally {
+            asyncContext.complete();
+        }
+    }
+
+    private void sleepThenComplete(ContentCachingResponseWrapper responseWrapper, long delayMs) throws IOException {
+        try {
+            Thread.sleep(delayMs);
+        } catch (InterruptedException e) {
+            // 인터럽트 상태 복원
+            Thread.currentThread().interrupt();
+            log.warn("응답 시간 지연 중 인터럽트 발생");
+        }
+        responseWrapper.copyBodyToResponse();
+    }
+}
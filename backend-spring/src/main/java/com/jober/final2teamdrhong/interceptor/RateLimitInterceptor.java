@@ -0,0 +1,161 @@
+package com.jober.final2teamdrhong.interceptor;
+
+import com.jober.final2teamdrhong.annotation.RateLimited;
+import com.jober.final2teamdrhong.dto.jwtClaims.JwtClaims;
+import com.jober.final2teamdrhong.exception.RateLimitExceededException;
+import com.jober.final2teamdrhong.service.RateLimitService;
+import com.jober.final2teamdrhong.util.ClientIpUtil;
+import io.github.bucket4j.ConsumptionProbe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.SimpleEvaluationContext;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RateLimited} 선언을 처리하는 인터셉터
+ *
+ * 기동 시 모든 핸들러 메서드의 선언을 검사해 정책 존재 여부를 확인하고
+ * 키 SpEL 식과 엔드포인트별 허용/거부 카운터를 미리 만들어 둡니다.
+ * 요청 시에는 키 계산과 토큰 소비 한 번만 수행합니다.
+ */
+@Component
+@Slf4j
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+
+    private final RateLimitService rateLimitService;
+    private final MeterRegistry meterRegistry;
+    private final boolean isDevelopment;
+
+    // 핸들러 메서드별 컴파일된 선언
+    private final Map<Method, CompiledLimit> compiledLimits = new ConcurrentHashMap<>();
+
+    public RateLimitInterceptor(RateLimitService rateLimitService,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.environment.development:true}") boolean isDevelopment) {
+        this.rateLimitService = rateLimitService;
+        this.meterRegistry = meterRegistry;
+        this.isDevelopment = isDevelopment;
+    }
+
+    /**
+     * 선언 1건의 컴파일 결과 (정책 이름, 키 식, 엔드포인트 카운터)
+     */
+    private record CompiledLimit(String policy, String endpoint, Expression keyExpression,
+                                 Counter allowed, Counter rejected) {
+    }
+
+    /**
+     * 기동 시 모든 @RateLimited 선언을 미리 컴파일 (잘못된 정책 이름/키 식은 기동 실패)
+     */
+    @EventListener(ContextRefreshedEvent.class)
+    public void precompile(ContextRefreshedEvent event) {
+        event.getApplicationContext().getBeansOfType(RequestMappingHandlerMapping.class).values()
+                .forEach(mapping -> mapping.getHandlerMethods().values().forEach(this::findOrCompile));
+        log.info("@RateLimited 선언 컴파일 완료: {}개 엔드포인트", compiledLimits.size());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        CompiledLimit limit = findOrCompile(handlerMethod);
+        if (limit == null) {
+            return true;
+        }
+
+        String clientIp = ClientIpUtil.getClientIpAddress(request, isDevelopment);
+        String identifier = resolveKey(limit, request, clientIp);
+        ConsumptionProbe probe = rateLimitService.tryConsumePolicy(limit.policy(), identifier);
+        if (probe.isConsumed()) {
+            limit.allowed().increment();
+            return true;
+        }
+
+        limit.rejected().increment();
+        long waitTime = TimeUnit.NANOSECONDS.toSeconds(probe.getNanosToWaitForRefill());
+        log.warn("요청 속도 제한 초과: endpoint={}, policy={}, key={}, waitTime={}초",
+                limit.endpoint(), limit.policy(), identifier, waitTime);
+        throw new RateLimitExceededException(
+                "요청 속도 제한을 초과했습니다. " + waitTime + "초 후 다시 시도해주세요.",
+                waitTime
+        );
+    }
+
+    private CompiledLimit findOrCompile(HandlerMethod handlerMethod) {
+        RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+        if (rateLimited == null) {
+            return null;
+        }
+        return compiledLimits.computeIfAbsent(handlerMethod.getMethod(), method -> compile(handlerMethod, rateLimited));
+    }
+
+    private CompiledLimit compile(HandlerMethod handlerMethod, RateLimited rateLimited) {
+        String endpoint = handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        if (!rateLimitService.hasPolicy(rateLimited.policy())) {
+            throw new IllegalStateException(
+                    "정의되지 않은 Rate Limit 정책입니다: " + rateLimited.policy() + " (" + endpoint + ")");
+        }
+        return new CompiledLimit(
+                rateLimited.policy(),
+                endpoint,
+                EXPRESSION_PARSER.parseExpression(rateLimited.key()),
+                counter(rateLimited.policy(), endpoint, "allowed"),
+                counter(rateLimited.policy(), endpoint, "rejected"));
+    }
+
+    private Counter counter(String policy, String endpoint, String outcome) {
+        return Counter.builder("rate_limit.endpoint.requests")
+                .description("선언형 Rate Limit 엔드포인트별 허용/거부 요청 수")
+                .tag("policy", policy)
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키 식 평가 (결과가 비어 있으면 클라이언트 IP 사용)
+     */
+    private String resolveKey(CompiledLimit limit, HttpServletRequest request, String clientIp) {
+        SimpleEvaluationContext context = SimpleEvaluationContext.forReadOnlyDataBinding().build();
+        context.setVariable("ip", clientIp);
+        context.setVariable("userId", currentUserId());
+        context.setVariable("pathVariables", request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE));
+
+        Object key = limit.keyExpression().getValue(context);
+        if (key == null || key.toString().isBlank()) {
+            return clientIp;
+        }
+        return key.toString();
+    }
+
+    private Integer currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtClaims jwtClaims) {
+            return jwtClaims.getUserId();
+        }
+        return null;
+    }
+}
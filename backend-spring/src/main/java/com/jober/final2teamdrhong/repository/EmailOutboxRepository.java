@@ -0,0 +1,80 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.entity.EmailOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 이메일 발송 아웃박스 Repository
+ *
+ * 점유(claim)는 조회한 next_attempt_at 값이 그대로일 때만 성공하는 조건부 UPDATE로 처리하므로
+ * 여러 노드가 동시에 폴링해도 같은 메일을 중복 발송하지 않습니다.
+ */
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    /**
+     * 발송 대상 조회 (발송 시각이 도래한 대기 행 + 점유가 만료된 발송 중 행)
+     */
+    @Query("SELECT o FROM EmailOutbox o WHERE o.status <> :failed AND o.nextAttemptAt <= :now ORDER BY o.nextAttemptAt")
+    List<EmailOutbox> findDue(@Param("failed") EmailOutbox.Status failed,
+                              @Param("now") LocalDateTime now,
+                              Pageable pageable);
+
+    default List<EmailOutbox> findDue(LocalDateTime now, Pageable pageable) {
+        return findDue(EmailOutbox.Status.FAILED, now, pageable);
+    }
+
+    /**
+     * 발송 점유 (다른 워커가 먼저 점유했으면 0 반환)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutbox o SET o.status = :sending, o.nextAttemptAt = :leaseUntil " +
+           "WHERE o.outboxId = :outboxId AND o.nextAttemptAt = :observedNextAttemptAt AND o.status <> :failed")
+    int claim(@Param("outboxId") Long outboxId,
+              @Param("observedNextAttemptAt") LocalDateTime observedNextAttemptAt,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("sending") EmailOutbox.Status sending,
+              @Param("failed") EmailOutbox.Status failed);
+
+    default int claim(Long outboxId, LocalDateTime observedNextAttemptAt, LocalDateTime leaseUntil) {
+        return claim(outboxId, observedNextAttemptAt, leaseUntil, EmailOutbox.Status.SENDING, EmailOutbox.Status.FAILED);
+    }
+
+    /**
+     * 실패한 발송을 다음 시도 시각으로 재예약
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE EmailOutbox o SET o.status = :status, o.attempts = o.attempts + 1, " +
+           "o.nextAttemptAt = :nextAttemptAt, o.lastError = :lastError WHERE o.outboxId = :outboxId")
+    int updateAfterFailure(@Param("outboxId") Long outboxId,
+                           @Param("status") EmailOutbox.Status status,
+                           @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                           @Param("lastError") String lastError);
+
+    default int scheduleRetry(Long outboxId, LocalDateTime nextAttemptAt, String lastError) {
+        return updateAfterFailure(outboxId, EmailOutbox.Status.PENDING, nextAttemptAt, lastError);
+    }
+
+    default int markFailed(Long outboxId, LocalDateTime failedAt, String lastError) {
+        return updateAfterFailure(outboxId, EmailOutbox.Status.FAILED, failedAt, lastError);
+    }
+
+    /**
+     * 발송 완료 행 삭제 (인증 코드가 담긴 본문을 남기지 않음)
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM EmailOutbox o WHERE o.outboxId IN :outboxIds")
+    int deleteSent(@Param("outboxIds") List<Long> outboxIds);
+
+    long countByStatus(EmailOutbox.Status status);
+}
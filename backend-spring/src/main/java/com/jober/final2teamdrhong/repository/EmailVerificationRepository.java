@@ -1,11 +1,16 @@
 package com.jober.final2teamdrhong.repository;
 
 import com.jober.final2teamdrhong.entity.EmailVerification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,4 +23,15 @@ public interface EmailVerificationRepository extends JpaRepository<EmailVerifica
     @Modifying
     @Transactional
     void deleteByEmail(String email);
+
+    /**
+     * 만료된 인증 코드 ID 조회 (expires_at 인덱스 사용, 배치 크기만큼)
+     */
+    @Query("SELECT v.verificationId FROM EmailVerification v WHERE v.expiresAt < :now ORDER BY v.expiresAt")
+    List<Integer> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM EmailVerification v WHERE v.verificationId IN :ids")
+    int deleteByIds(@Param("ids") List<Integer> ids);
 }
@@ -15,6 +15,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -87,4 +88,29 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Integer>, Jp
     List<Favorite> findAllByIndividualTemplate_individualTemplateId(Integer individualTemplateId);
 
     List<Favorite> findAllByPublicTemplate_publicTemplateId(Integer publicTemplateId);
+
+    /**
+     * 워크스페이스 연쇄 삭제 대상인 즐겨찾기 ID를 배치 크기만큼 조회합니다.
+     * <p>
+     * {@code @SQLRestriction}에 의해 아직 삭제되지 않은 행만 조회되므로, 반복 호출하면 남은 행이 줄어듭니다.
+     *
+     * @param workspaceId 삭제된 워크스페이스 ID
+     * @param pageable    배치 크기
+     * @return 소프트 딜리트할 즐겨찾기 ID 목록
+     */
+    @Query("SELECT f.favoriteId FROM Favorite f WHERE f.workspace.workspaceId = :workspaceId ORDER BY f.favoriteId")
+    List<Integer> findIdsByWorkspaceId(@Param("workspaceId") Integer workspaceId, Pageable pageable);
+
+    /**
+     * ID 목록에 해당하는 즐겨찾기를 한 번의 UPDATE로 소프트 딜리트합니다.
+     *
+     * @param ids 소프트 딜리트할 즐겨찾기 ID 목록
+     * @param now 삭제 시점으로 기록할 현재 시간
+     * @return 소프트 딜리트된 행 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE Favorite f SET f.updatedAt = :now, f.deletedAt = :now, f.isDeleted = true
+            WHERE f.favoriteId IN :ids""")
+    int softDeleteAllByIds(@Param("ids") List<Integer> ids, @Param("now") LocalDateTime now);
 }
@@ -147,4 +147,54 @@ public interface GroupMappingRepository extends JpaRepository<GroupMapping, Inte
      * @return 조건에 일치하는 GroupMapping 엔티티 목록
      */
     List<GroupMapping> findAllByPhoneBookAndRecipient_RecipientIdIn(PhoneBook phoneBook, List<Integer> recipientIds);
+
+    /**
+     * 복제된 주소록과 수신자 사이의 매핑을 한 번의 INSERT...SELECT로 복제합니다.
+     * <p>
+     * 대상 워크스페이스의 주소록·수신자에 기록된 {@code clone_source_id}(원본 ID)를 기준으로
+     * 원본 매핑과 조인하여, 원본 ID 쌍을 새 ID 쌍으로 재매핑합니다.
+     * 따라서 {@link RecipientRepository#cloneAllToWorkspace}와
+     * {@link PhoneBookRepository#cloneAllToWorkspace}가 같은 트랜잭션에서 먼저 실행되어야 합니다.
+     *
+     * @param targetWorkspaceId 대상(복제본) 워크스페이스 ID
+     * @param now               생성 시간으로 사용할 현재 시간
+     * @return 복제된 매핑 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+                    INSERT INTO group_mapping (phone_book_id, recipient_id, created_at, updated_at, deleted_at, is_deleted)
+                    SELECT pb.phone_book_id, r.recipient_id, :now, :now, null, false
+                    FROM phone_book pb
+                    JOIN group_mapping gm ON gm.phone_book_id = pb.clone_source_id AND gm.is_deleted = false
+                    JOIN recipient r ON r.workspace_id = :targetWorkspaceId AND r.clone_source_id = gm.recipient_id
+                    WHERE pb.workspace_id = :targetWorkspaceId""",
+                    nativeQuery = true)
+    int cloneAllToWorkspace(@Param("targetWorkspaceId") Integer targetWorkspaceId,
+                            @Param("now") LocalDateTime now);
+
+    /**
+     * 워크스페이스 연쇄 삭제 대상인 주소록-수신자 매핑 ID를 배치 크기만큼 조회합니다.
+     * <p>
+     * {@code @SQLRestriction}에 의해 아직 삭제되지 않은 행만 조회되므로, 반복 호출하면 남은 행이 줄어듭니다.
+     * 매핑은 주소록을 통해 워크스페이스에 속하므로, 주소록 단계보다 먼저 처리해야 합니다.
+     *
+     * @param workspaceId 삭제된 워크스페이스 ID
+     * @param pageable    배치 크기
+     * @return 소프트 딜리트할 주소록-수신자 매핑 ID 목록
+     */
+    @Query("SELECT gm.groupMappingId FROM GroupMapping gm WHERE gm.phoneBook.workspace.workspaceId = :workspaceId ORDER BY gm.groupMappingId")
+    List<Integer> findIdsByWorkspaceId(@Param("workspaceId") Integer workspaceId, Pageable pageable);
+
+    /**
+     * ID 목록에 해당하는 주소록-수신자 매핑를 한 번의 UPDATE로 소프트 딜리트합니다.
+     *
+     * @param ids 소프트 딜리트할 주소록-수신자 매핑 ID 목록
+     * @param now 삭제 시점으로 기록할 현재 시간
+     * @return 소프트 딜리트된 행 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE GroupMapping gm SET gm.updatedAt = :now, gm.deletedAt = :now, gm.isDeleted = true
+            WHERE gm.groupMappingId IN :ids""")
+    int softDeleteAllByIds(@Param("ids") List<Integer> ids, @Param("now") LocalDateTime now);
 }
@@ -4,10 +4,13 @@ import com.jober.final2teamdrhong.entity.IndividualTemplate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -49,4 +52,53 @@ public interface IndividualTemplateRepository extends JpaRepository<IndividualTe
             @Param("workspaceId") Integer workspaceId,
             @Param("status") IndividualTemplate.Status status,
             Pageable pageable);
+
+    /**
+     * 원본 워크스페이스의 모든 개인 템플릿을 대상 워크스페이스로 한 번의 INSERT...SELECT로 복제합니다.
+     * <p>
+     * 검수 상태는 템플릿마다 새로 받아야 하므로 복제본은 모두 DRAFT 상태로 생성합니다.
+     * 수정 이력과 즐겨찾기는 복제하지 않으며, 삭제된 템플릿도 복제하지 않습니다.
+     *
+     * @param sourceWorkspaceId 원본 워크스페이스 ID
+     * @param targetWorkspaceId 대상(복제본) 워크스페이스 ID
+     * @param now               생성 시간으로 사용할 현재 시간
+     * @return 복제된 개인 템플릿 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+                    INSERT INTO individual_template (individual_template_title, individual_template_content, button_title,
+                                                     status, workspace_id, created_at, updated_at, deleted_at, is_deleted)
+                    SELECT it.individual_template_title, it.individual_template_content, it.button_title,
+                           'DRAFT', :targetWorkspaceId, :now, :now, null, false
+                    FROM individual_template it
+                    WHERE it.workspace_id = :sourceWorkspaceId AND it.is_deleted = false""",
+                    nativeQuery = true)
+    int cloneAllToWorkspace(@Param("sourceWorkspaceId") Integer sourceWorkspaceId,
+                            @Param("targetWorkspaceId") Integer targetWorkspaceId,
+                            @Param("now") LocalDateTime now);
+
+    /**
+     * 워크스페이스 연쇄 삭제 대상인 개인 템플릿 ID를 배치 크기만큼 조회합니다.
+     * <p>
+     * {@code @SQLRestriction}에 의해 아직 삭제되지 않은 행만 조회되므로, 반복 호출하면 남은 행이 줄어듭니다.
+     *
+     * @param workspaceId 삭제된 워크스페이스 ID
+     * @param pageable    배치 크기
+     * @return 소프트 딜리트할 개인 템플릿 ID 목록
+     */
+    @Query("SELECT it.individualTemplateId FROM IndividualTemplate it WHERE it.workspace.workspaceId = :workspaceId ORDER BY it.individualTemplateId")
+    List<Integer> findIdsByWorkspaceId(@Param("workspaceId") Integer workspaceId, Pageable pageable);
+
+    /**
+     * ID 목록에 해당하는 개인 템플릿를 한 번의 UPDATE로 소프트 딜리트합니다.
+     *
+     * @param ids 소프트 딜리트할 개인 템플릿 ID 목록
+     * @param now 삭제 시점으로 기록할 현재 시간
+     * @return 소프트 딜리트된 행 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE IndividualTemplate it SET it.updatedAt = :now, it.deletedAt = :now, it.isDeleted = true
+            WHERE it.individualTemplateId IN :ids""")
+    int softDeleteAllByIds(@Param("ids") List<Integer> ids, @Param("now") LocalDateTime now);
 }
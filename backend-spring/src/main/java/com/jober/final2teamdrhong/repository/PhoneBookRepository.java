@@ -1,11 +1,14 @@
 package com.jober.final2teamdrhong.repository;
 
 import com.jober.final2teamdrhong.entity.PhoneBook;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,4 +53,54 @@ public interface PhoneBookRepository extends JpaRepository<PhoneBook, Integer> {
                     WHERE phone_book_id = :phoneBookId""",
                     nativeQuery = true)
     Optional<PhoneBook> findByIdIncludingDeleted(@Param("phoneBookId") Integer phoneBookId);
+
+    /**
+     * 원본 워크스페이스의 모든 주소록을 대상 워크스페이스로 한 번의 INSERT...SELECT로 복제합니다.
+     * <p>
+     * 복제된 행의 {@code clone_source_id}에 원본 주소록 ID를 기록하여,
+     * 이후 주소록-수신자 매핑을 복제할 때 원본 ID를 새 ID로 재매핑하는 데 사용합니다.
+     * 삭제된 주소록은 복제하지 않습니다.
+     *
+     * @param sourceWorkspaceId 원본 워크스페이스 ID
+     * @param targetWorkspaceId 대상(복제본) 워크스페이스 ID
+     * @param now               생성 시간으로 사용할 현재 시간
+     * @return 복제된 주소록 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query(value = """
+                    INSERT INTO phone_book (phone_book_name, phone_book_memo, workspace_id,
+                                            clone_source_id, created_at, updated_at, deleted_at, is_deleted)
+                    SELECT pb.phone_book_name, pb.phone_book_memo, :targetWorkspaceId,
+                           pb.phone_book_id, :now, :now, null, false
+                    FROM phone_book pb
+                    WHERE pb.workspace_id = :sourceWorkspaceId AND pb.is_deleted = false""",
+                    nativeQuery = true)
+    int cloneAllToWorkspace(@Param("sourceWorkspaceId") Integer sourceWorkspaceId,
+                            @Param("targetWorkspaceId") Integer targetWorkspaceId,
+                            @Param("now") LocalDateTime now);
+
+    /**
+     * 워크스페이스 연쇄 삭제 대상인 주소록 ID를 배치 크기만큼 조회합니다.
+     * <p>
+     * {@code @SQLRestriction}에 의해 아직 삭제되지 않은 행만 조회되므로, 반복 호출하면 남은 행이 줄어듭니다.
+     *
+     * @param workspaceId 삭제된 워크스페이스 ID
+     * @param pageable    배치 크기
+     * @return 소프트 딜리트할 주소록 ID 목록
+     */
+    @Query("SELECT pb.phoneBookId FROM PhoneBook pb WHERE pb.workspace.workspaceId = :workspaceId ORDER BY pb.phoneBookId")
+    List<Integer> findIdsByWorkspaceId(@Param("workspaceId") Integer workspaceId, Pageable pageable);
+
+    /**
+     * ID 목록에 해당하는 주소록를 한 번의 UPDATE로 소프트 딜리트합니다.
+     *
+     * @param ids 소프트 딜리트할 주소록 ID 목록
+     * @param now 삭제 시점으로 기록할 현재 시간
+     * @return 소프트 딜리트된 행 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE PhoneBook pb SET pb.updatedAt = :now, pb.deletedAt = :now, pb.isDeleted = true
+            WHERE pb.phoneBookId IN :ids""")
+    int softDeleteAllByIds(@Param("ids") List<Integer> ids, @Param("now") LocalDateTime now);
 }
@@ -2,12 +2,14 @@ package com.jober.final2teamdrhong.repository;
 
 import com.jober.final2teamdrhong.entity.IndividualTemplate;
 import com.jober.final2teamdrhong.entity.TemplateModifiedHistory;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -26,4 +28,30 @@ public interface TemplateModifiedHistoryRepository extends JpaRepository<Templat
             "WHERE h.individualTemplate = :individualTemplate"
     )
     void bulkSoftDeleteByTemplate(@Param("individualTemplate") IndividualTemplate individualTemplate);
+
+    /**
+     * 워크스페이스 연쇄 삭제 대상인 템플릿 수정 이력 ID를 배치 크기만큼 조회합니다.
+     * <p>
+     * {@code @SQLRestriction}에 의해 아직 삭제되지 않은 행만 조회되므로, 반복 호출하면 남은 행이 줄어듭니다.
+     * 수정 이력은 개인 템플릿을 통해 워크스페이스에 속하므로, 개인 템플릿 단계보다 먼저 처리해야 합니다.
+     *
+     * @param workspaceId 삭제된 워크스페이스 ID
+     * @param pageable    배치 크기
+     * @return 소프트 딜리트할 템플릿 수정 이력 ID 목록
+     */
+    @Query("SELECT h.historyId FROM TemplateModifiedHistory h WHERE h.individualTemplate.workspace.workspaceId = :workspaceId ORDER BY h.historyId")
+    List<Integer> findIdsByWorkspaceId(@Param("workspaceId") Integer workspaceId, Pageable pageable);
+
+    /**
+     * ID 목록에 해당하는 템플릿 수정 이력를 한 번의 UPDATE로 소프트 딜리트합니다.
+     *
+     * @param ids 소프트 딜리트할 템플릿 수정 이력 ID 목록
+     * @param now 삭제 시점으로 기록할 현재 시간
+     * @return 소프트 딜리트된 행 수
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE TemplateModifiedHistory h SET h.updatedAt = :now, h.deletedAt = :now, h.isDeleted = true
+            WHERE h.historyId IN :ids""")
+    int softDeleteAllByIds(@Param("ids") List<Integer> ids, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,49 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.entity.WorkspaceDeletionJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 워크스페이스 연쇄 삭제 작업 Repository
+ *
+ * 점유(claim)는 점유한 노드가 없거나, 자신이 점유했거나, 점유가 만료된 작업에서만 성공하는 조건부 UPDATE로 처리하므로
+ * 여러 노드가 동시에 폴링해도 같은 작업을 함께 처리하지 않습니다.
+ */
+@Repository
+public interface WorkspaceDeletionJobRepository extends JpaRepository<WorkspaceDeletionJob, Long> {
+
+    Optional<WorkspaceDeletionJob> findByWorkspaceId(Integer workspaceId);
+
+    /**
+     * 아직 끝나지 않은 작업을 등록 순으로 조회
+     */
+    List<WorkspaceDeletionJob> findAllByStageNotOrderByJobIdAsc(WorkspaceDeletionJob.Stage stage);
+
+    /**
+     * 작업 점유 또는 점유 연장 (다른 노드가 유효한 점유를 가지고 있거나 완료된 작업이면 0 반환)
+     * 배치 트랜잭션 안에서 호출하면 커밋 전까지 작업 행 잠금을 유지하므로 진행 상태 갱신도 직렬화됩니다.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Transactional
+    @Query("UPDATE WorkspaceDeletionJob j SET j.leaseOwner = :owner, j.leaseUntil = :leaseUntil " +
+           "WHERE j.jobId = :jobId AND j.stage <> :completed " +
+           "AND (j.leaseOwner IS NULL OR j.leaseOwner = :owner OR j.leaseUntil <= :now)")
+    int claim(@Param("jobId") Long jobId,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil,
+              @Param("completed") WorkspaceDeletionJob.Stage completed);
+
+    default int claim(Long jobId, String owner, LocalDateTime now, LocalDateTime leaseUntil) {
+        return claim(jobId, owner, now, leaseUntil, WorkspaceDeletionJob.Stage.COMPLETED);
+    }
+}
@@ -14,6 +14,7 @@ import com.jober.final2teamdrhong.entity.UserAuth;
 import com.jober.final2teamdrhong.dto.auth.OAuth2UserInfoFactory;
 import com.jober.final2teamdrhong.exception.AuthenticationException;
 import com.jober.final2teamdrhong.exception.BusinessException;
+import com.jober.final2teamdrhong.exception.RateLimitExceededException;
 import com.jober.final2teamdrhong.repository.UserRepository;
 import com.jober.final2teamdrhong.service.storage.VerificationStorage;
 import com.jober.final2teamdrhong.util.LogMaskingUtil;
@@ -42,6 +43,7 @@ public class AuthService {
     private final AuthProperties authProperties;
     private final TimingAttackProtection timingAttackProtection;
     private final UserValidationService userValidationService;
+    private final UserAuthLastUsedBuffer userAuthLastUsedBuffer;
 
     /**
      * Rate limiting과 함께 회원가입 처리
@@ -60,7 +62,10 @@ public class AuthService {
         // 1. 비즈니스 규칙 검증 (기본 유효성 검증은 @Valid에서 처리됨)
         userValidationService.validateLocalSignupBusinessRules(requestDto);
 
-        // 2. 인증 코드 검증
+        // 2. 비밀번호 암호화 (해싱 풀 포화로 거절되어도 재시도할 수 있도록 인증 코드 소모 전에 수행)
+        String encodedPassword = passwordEncoder.encode(requestDto.password());
+
+        // 3. 인증 코드 검증
         validateVerificationCode(requestDto.email(), requestDto.verificationCode());
 
         try {
@@ -71,8 +76,7 @@ public class AuthService {
                     requestDto.userNumber()
             );
 
-            // 5. 비밀번호 암호화 및 UserAuth 생성
-            String encodedPassword = passwordEncoder.encode(requestDto.password());
+            // 5. UserAuth 생성
             UserAuth userAuth = UserAuth.builder()
                     .authType(UserAuth.AuthType.LOCAL)
                     .passwordHash(encodedPassword)
@@ -203,9 +207,6 @@ public class AuthService {
      * 로컬 계정 로그인 (Refresh Token 포함)
      */
     public UserLoginResponse loginWithRefreshToken(@Valid UserLoginRequest userLoginRequest, String clientIp) {
-        // 타이밍 공격 방지를 위한 요청 시작 시간 기록
-        timingAttackProtection.startTiming();
-
         try {
             log.info("로그인 시도: email={}", LogMaskingUtil.maskEmail(userLoginRequest.email()));
 
@@ -218,12 +219,13 @@ public class AuthService {
         } catch (BadCredentialsException e) {
             handleAuthenticationFailure(userLoginRequest.email());
             throw e;
+        } catch (RateLimitExceededException e) {
+            // 해싱 풀 포화는 인증 실패가 아니므로 응답 시간 패딩 없이 429로 그대로 전달
+            log.warn("로그인 거부: email={}, reason=비밀번호 해싱 풀 포화", LogMaskingUtil.maskEmail(userLoginRequest.email()));
+            throw e;
         } catch (Exception e) {
             handleUnexpectedError(userLoginRequest.email(), e);
             return null; // 실제로는 예외가 던져지므로 도달하지 않음
-        } finally {
-            // ThreadLocal 정리 (메모리 누수 방지)
-            timingAttackProtection.clear();
         }
     }
 
@@ -252,9 +254,10 @@ public class AuthService {
 
     /**
      * 인증 실패 처리
+     * 최소 응답 시간은 트랜잭션 종료 후 MinimumResponseTimeFilter에서 적용
      */
     private void handleAuthenticationFailure(String email) {
-        timingAttackProtection.ensureMinimumResponseTime(authProperties.getSecurity().getMinResponseTimeMs());
+        timingAttackProtection.requireMinimumResponseTime(authProperties.getSecurity().getMinResponseTimeMs());
         log.warn("로그인 실패: email={}, reason=인증 정보 불일치", LogMaskingUtil.maskEmail(email));
         throw new BadCredentialsException(authProperties.getMessages().getInvalidCredentials());
     }
@@ -263,7 +266,7 @@ public class AuthService {
      * 예상치 못한 오류 처리
      */
     private void handleUnexpectedError(String email, Exception e) {
-        timingAttackProtection.ensureMinimumResponseTime(authProperties.getSecurity().getMinResponseTimeMs());
+        timingAttackProtection.requireMinimumResponseTime(authProperties.getSecurity().getMinResponseTimeMs());
         log.error("로그인 처리 중 오류 발생: email={}, error={}",
                 LogMaskingUtil.maskEmail(email), e.getMessage());
         throw new BadCredentialsException(authProperties.getMessages().getInvalidCredentials());
@@ -273,8 +276,8 @@ public class AuthService {
      * 성공적인 로그인 응답 생성
      */
     private UserLoginResponse createSuccessfulLoginResponse(User user, UserAuth localAuth, String clientIp) {
-        localAuth.updateLastUsed();
-        userRepository.save(user);
+        // 마지막 사용 시각은 쓰기 지연 버퍼로 모아 주기적으로 배치 반영 (로그인 경로에서 UPDATE 없음)
+        userAuthLastUsedBuffer.record(localAuth.getAuthId());
 
         String accessToken = jwtConfig.generateAccessToken(user.getUserEmail(), user.getUserId());
         String refreshToken = tokenService.createRefreshToken(user, clientIp);
@@ -302,13 +305,9 @@ public class AuthService {
             throw new AuthenticationException("Authorization 헤더가 필요합니다.");
         }
 
-        // 2. 토큰 갱신 처리
+        // 2. 토큰 갱신 처리 (새 Access Token도 회전 시 사용자별 토큰 목록에 함께 저장됨)
         TokenService.TokenPair tokenPair = tokenService.refreshTokens(refreshToken, clientIp);
 
-        // 2-1. 새로운 Access Token을 사용자별 토큰 목록에 저장
-        Integer userId = jwtConfig.getUserIdFromToken(tokenPair.accessToken()).intValue();
-        tokenService.saveAccessToken(tokenPair.accessToken(), userId);
-
         // 3. 보안 강화: 민감한 정보 마스킹 후 로깅
         log.info("토큰 갱신 API 완료: ip={}", LogMaskingUtil.maskIpAddress(clientIp));
 
@@ -380,8 +379,9 @@ public class AuthService {
             throw new BusinessException("이미 로컬 로그인이 설정된 계정입니다.");
         }
 
-        // 4. 이메일 인증 코드 검증
+        // 4. 이메일 인증 코드 검증 (비밀번호 암호화는 해싱 풀 포화로 거절되어도 재시도할 수 있도록 인증 코드 소모 전에 수행)
         rateLimitService.checkEmailVerifyRateLimit(request.email());
+        String encodedPassword = passwordEncoder.encode(request.password());
         if (!verificationStorage.validateAndDelete(request.email(), request.verificationCode())) {
             log.warn("[ACCOUNT_INTEGRATION] 인증 코드 불일치: userId={}, email={}",
                     userId, LogMaskingUtil.maskEmail(request.email()));
@@ -389,7 +389,6 @@ public class AuthService {
         }
 
         // 5. 로컬 인증 정보 생성 및 추가
-        String encodedPassword = passwordEncoder.encode(request.password());
         UserAuth localAuth = UserAuth.createLocalAuth(user, encodedPassword);
         localAuth.markAsVerified(); // 이메일 인증 완료
 
@@ -0,0 +1,345 @@
+package com.jober.final2teamdrhong.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.jober.final2teamdrhong.config.AuthProperties;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.SubscriptionListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JWT 블랙리스트 로컬 니어 캐시
+ *
+ * 주요 기능:
+ * - 최근 블랙리스트에 추가된 JTI를 노드 메모리에 보관
+ * - 시작 시 Redis의 jwt:blacklist:* 키로 초기 적재
+ * - 블랙리스트 추가/제거를 Redis Pub/Sub으로 모든 노드에 전파
+ *
+ * 구독이 살아 있고 초기 적재가 끝난 상태(authoritative)에서만 "로컬에 없음 = 블랙리스트 아님"으로 판단합니다.
+ * 하트비트가 끊기거나, 구독이 (재)연결되거나, 노드별 이벤트 시퀀스 번호에 빈 구간이 보이거나, 용량을 초과하면
+ * 즉시 비권위 상태가 되어 BlacklistService가 Redis를 직접 조회하고, 다음 하트비트에서 Redis로부터 다시 적재합니다.
+ * Redis 장애 시의 Fail-Safe 동작은 그대로 유지됩니다.
+ *
+ * 이벤트 형식 (nodeId는 발행 노드 식별자, seq는 노드별로 1씩 증가하는 이벤트 번호):
+ * - add:{nodeId}:{seq}:{ttlMillis}:{jti}
+ * - del:{nodeId}:{seq}:{jti}
+ * - hb:{nodeId}:{마지막으로 사용한 seq}
+ */
+@Component
+@Slf4j
+public class BlacklistNearCache implements MessageListener, SubscriptionListener {
+
+    private static final String ADD_EVENT = "add:";
+    private static final String REMOVE_EVENT = "del:";
+    private static final String HEARTBEAT_EVENT = "hb:";
+    private static final long HEARTBEAT_INTERVAL_MS = 2_000;
+    private static final long HEARTBEAT_TIMEOUT_MS = HEARTBEAT_INTERVAL_MS * 3;
+    private static final int SEED_BATCH_SIZE = 500;
+    private static final Duration SEQUENCE_RETENTION = Duration.ofMinutes(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+    private final String keyPrefix;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong publishSequence = new AtomicLong();
+
+    // 발행 노드 ID -> 마지막으로 받은 이벤트 번호 (하트비트가 끊긴 노드는 자동 정리)
+    private final Cache<String, Long> lastSequenceByNode = Caffeine.newBuilder()
+            .expireAfterWrite(SEQUENCE_RETENTION)
+            .build();
+
+    // JTI -> 만료 시각(epoch millis)
+    private final Cache<String, Long> blacklistedJtis;
+
+    private volatile boolean subscribed = false;
+    private volatile boolean authoritative = false;
+    private volatile long lastHeartbeatReceivedAt = 0;
+    // 비권위 전환 횟수 (재적재 중에 누락이 감지되면 적재 결과를 권위 상태로 인정하지 않기 위함)
+    private final AtomicLong staleMarks = new AtomicLong();
+
+    public BlacklistNearCache(ObjectProvider<StringRedisTemplate> stringRedisTemplateProvider,
+                              ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider,
+                              AuthProperties authProperties) {
+        this.stringRedisTemplate = stringRedisTemplateProvider.getIfAvailable();
+        this.listenerContainerProvider = listenerContainerProvider;
+        this.keyPrefix = authProperties.getRedis().getJwtBlacklistKeyPrefix();
+        this.channel = authProperties.getRedis().getJwtBlacklistChannel();
+        this.blacklistedJtis = Caffeine.newBuilder()
+                .maximumSize(authProperties.getRedis().getBlacklistNearCacheMaxSize())
+                .expireAfter(new JtiExpiry())
+                .evictionListener((String jti, Long expiresAt, RemovalCause cause) -> {
+                    if (cause == RemovalCause.SIZE) {
+                        // 용량 초과로 밀려난 JTI가 있으면 로컬 음성 판정을 더 이상 신뢰할 수 없음
+                        authoritative = false;
+                        log.warn("블랙리스트 니어 캐시 용량 초과 - Redis 직접 조회로 전환");
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Pub/Sub 채널 구독 (초기 적재는 구독 확인 후 하트비트에서 수행하여 누락 구간을 없앰)
+     */
+    @PostConstruct
+    public void subscribe() {
+        RedisMessageListenerContainer container = listenerContainerProvider.getIfAvailable();
+        if (container == null || stringRedisTemplate == null) {
+            log.info("Redis Pub/Sub 미사용 환경 - 블랙리스트 니어 캐시 비활성화");
+            return;
+        }
+        container.addMessageListener(this, new ChannelTopic(channel));
+        subscribed = true;
+    }
+
+    /**
+     * 구독이 (재)연결되면 끊긴 동안 놓친 이벤트가 있을 수 있으므로 비권위 상태로 전환
+     * 다음 하트비트가 자신의 메시지를 받으면 Redis에서 다시 적재합니다.
+     */
+    @Override
+    public void onChannelSubscribed(byte[] subscribedChannel, long count) {
+        markStale("Pub/Sub 구독 (재)연결");
+    }
+
+    /**
+     * 로컬에 블랙리스트로 기록된 JTI인지 확인 (네트워크 호출 없음)
+     */
+    public boolean isKnownBlacklisted(String jti) {
+        Long expiresAt = blacklistedJtis.getIfPresent(jti);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * 로컬에 없는 JTI를 블랙리스트가 아니라고 판단해도 되는지 여부
+     */
+    public boolean isAuthoritative() {
+        return authoritative
+                && System.currentTimeMillis() - lastHeartbeatReceivedAt <= HEARTBEAT_TIMEOUT_MS;
+    }
+
+    /**
+     * 블랙리스트 추가를 로컬에 기록하고 다른 노드로 전파
+     * Redis 저장이 끝난 뒤 호출되어야 합니다.
+     */
+    public void publishAdded(String jti, long ttlSeconds) {
+        long ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        record(jti, ttlMillis);
+        publish(ADD_EVENT + nextEventHeader() + ttlMillis + ":" + jti);
+    }
+
+    /**
+     * 블랙리스트 제거를 로컬에 반영하고 다른 노드로 전파
+     */
+    public void publishRemoved(String jti) {
+        blacklistedJtis.invalidate(jti);
+        publish(REMOVE_EVENT + nextEventHeader() + jti);
+    }
+
+    /**
+     * 하트비트: 자신이 보낸 메시지가 돌아오는지로 구독 상태를 확인하고,
+     * 끊겼다가 복구되면 Redis에서 다시 적재한 뒤 권위 상태로 전환
+     */
+    @Scheduled(fixedDelay = HEARTBEAT_INTERVAL_MS)
+    public void heartbeat() {
+        if (!subscribed) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(channel, HEARTBEAT_EVENT + nodeId + ":" + publishSequence.get());
+        } catch (Exception e) {
+            markStale("하트비트 발행 실패: " + e.getMessage());
+            return;
+        }
+
+        if (System.currentTimeMillis() - lastHeartbeatReceivedAt > HEARTBEAT_TIMEOUT_MS) {
+            markStale("하트비트 수신 지연");
+        } else if (!authoritative) {
+            resync();
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (body.startsWith(ADD_EVENT)) {
+                String[] parts = body.substring(ADD_EVENT.length()).split(":", 4);
+                long ttlMillis = Long.parseLong(parts[2]);
+                String jti = parts[3];
+                trackSequence(parts[0], Long.parseLong(parts[1]), false);
+                record(jti, ttlMillis);
+            } else if (body.startsWith(REMOVE_EVENT)) {
+                String[] parts = body.substring(REMOVE_EVENT.length()).split(":", 3);
+                String jti = parts[2];
+                trackSequence(parts[0], Long.parseLong(parts[1]), false);
+                blacklistedJtis.invalidate(jti);
+            } else if (body.startsWith(HEARTBEAT_EVENT)) {
+                String[] parts = body.substring(HEARTBEAT_EVENT.length()).split(":", 2);
+                trackSequence(parts[0], Long.parseLong(parts[1]), true);
+                if (parts[0].equals(nodeId)) {
+                    lastHeartbeatReceivedAt = System.currentTimeMillis();
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("블랙리스트 이벤트 처리 실패: body={}, error={}", body, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 로컬 항목 수 (근사값)
+     */
+    public long size() {
+        return blacklistedJtis.estimatedSize();
+    }
+
+    private void record(String jti, long ttlMillis) {
+        if (ttlMillis > 0) {
+            blacklistedJtis.put(jti, System.currentTimeMillis() + ttlMillis);
+        }
+    }
+
+    /**
+     * 발행할 이벤트의 노드 ID와 다음 이벤트 번호 ("{nodeId}:{seq}:")
+     */
+    private String nextEventHeader() {
+        return nodeId + ":" + publishSequence.incrementAndGet() + ":";
+    }
+
+    /**
+     * 발행 노드별 이벤트 번호를 기록하고 빈 구간이 있으면 비권위 상태로 전환
+     * 이벤트는 직전 번호 + 1, 하트비트는 직전 번호와 같아야 하며 처음 보는 노드는 받은 번호를 기준으로 삼습니다.
+     */
+    private void trackSequence(String sourceNodeId, long sequence, boolean heartbeat) {
+        Long previous = lastSequenceByNode.asMap().put(sourceNodeId, sequence);
+        if (previous == null) {
+            return;
+        }
+        long expected = heartbeat ? previous : previous + 1;
+        if (sequence > expected) {
+            markStale("이벤트 누락 감지: node=" + sourceNodeId + ", expected=" + expected + ", received=" + sequence);
+        }
+    }
+
+    private void publish(String payload) {
+        if (stringRedisTemplate == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(channel, payload);
+        } catch (Exception e) {
+            // Redis 키는 이미 저장되었고 이벤트 번호도 이미 소모되었으므로,
+            // 다른 노드는 이 노드의 다음 이벤트나 하트비트에서 빈 구간을 감지해 Redis에서 다시 적재함
+            log.error("블랙리스트 이벤트 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    private void markStale(String reason) {
+        staleMarks.incrementAndGet();
+        if (authoritative) {
+            log.warn("블랙리스트 니어 캐시 비권위 상태로 전환: {}", reason);
+        }
+        authoritative = false;
+    }
+
+    /**
+     * Redis의 블랙리스트 키 전체를 SCAN + 파이프라인 PTTL로 적재
+     */
+    private void resync() {
+        try {
+            // 적재 시작 전에 이벤트 번호 기준을 초기화 (이후 누락분은 아래 SCAN 결과에 포함됨)
+            lastSequenceByNode.invalidateAll();
+            long staleMarksAtStart = staleMarks.get();
+
+            ScanOptions options = ScanOptions.scanOptions().match(keyPrefix + "*").count(1000).build();
+            List<String> batch = new ArrayList<>(SEED_BATCH_SIZE);
+            long loaded = 0;
+            try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() >= SEED_BATCH_SIZE) {
+                        loaded += loadBatch(batch);
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                loaded += loadBatch(batch);
+            }
+
+            // 적재 중 용량 초과나 이벤트 누락이 없었을 때만 권위 상태로 전환
+            if (blacklistedJtis.estimatedSize() < blacklistedJtiCapacity() && staleMarks.get() == staleMarksAtStart) {
+                authoritative = true;
+                log.info("블랙리스트 니어 캐시 동기화 완료: {} 개", loaded);
+            }
+        } catch (Exception e) {
+            log.error("블랙리스트 니어 캐시 동기화 실패: {}", e.getMessage());
+            authoritative = false;
+        }
+    }
+
+    private int loadBatch(List<String> keys) {
+        List<Object> ttls = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.keyCommands().pTtl(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        int loaded = 0;
+        for (int i = 0; i < keys.size() && i < ttls.size(); i++) {
+            if (ttls.get(i) instanceof Long ttlMillis && ttlMillis > 0) {
+                record(keys.get(i).substring(keyPrefix.length()), ttlMillis);
+                loaded++;
+            }
+        }
+        return loaded;
+    }
+
+    private long blacklistedJtiCapacity() {
+        return blacklistedJtis.policy().eviction()
+                .map(eviction -> eviction.getMaximum())
+                .orElse(Long.MAX_VALUE);
+    }
+
+    /**
+     * 항목별 만료 시각을 블랙리스트 키 TTL에 맞추는 정책
+     */
+    private static class JtiExpiry implements Expiry<String, Long> {
+
+        @Override
+        public long expireAfterCreate(String key, Long expiresAt, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAt - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Long expiresAt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, expiresAt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Long expiresAt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -17,6 +17,7 @@ import java.time.Duration;
  * - 토큰 블랙리스트 조회
  * - 자동 만료 처리 TTL
  * - 사용자별 전체 토큰 무효화
+ * - 로컬 니어 캐시(BlacklistNearCache)로 대부분의 조회를 네트워크 없이 처리
  *
  */
 @Service
@@ -26,6 +27,7 @@ public class BlacklistService {
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final JwtConfig jwtConfig;
+    private final BlacklistNearCache blacklistNearCache;
 
     //Redis 키 패턴  
     private static final String BLACKLIST_KEY_PREFIX = "jwt:blacklist:";
@@ -45,6 +47,7 @@ public class BlacklistService {
             
             String key = BLACKLIST_KEY_PREFIX + jti;
             redisTemplate.opsForValue().set(key, "blacklisted", Duration.ofSeconds(ttlSeconds));
+            blacklistNearCache.publishAdded(jti, ttlSeconds);
             log.info("토큰이 블랙리스트에 추가되었습니다. JTI: {}, TTL: {}초", jti, ttlSeconds);
         } catch (Exception e) {
             log.error("토큰 블랙리스트 추가 실패: {}", e.getMessage());
@@ -61,6 +64,7 @@ public class BlacklistService {
         try {
             String key = BLACKLIST_KEY_PREFIX + jti;
             redisTemplate.opsForValue().set(key, "blacklisted", Duration.ofSeconds(ttlSeconds));
+            blacklistNearCache.publishAdded(jti, ttlSeconds);
             log.info("JTI가 블랙리스트에 추가되었습니다. JTI: {}, TTL: {}초", jti, ttlSeconds);
         } catch (Exception e) {
             log.error("JTI 블랙리스트 추가 실패: {}", e.getMessage());
@@ -92,15 +96,7 @@ public class BlacklistService {
      */
     public boolean isTokenBlacklisted(String token) {
         try {
-            String jti = jwtConfig.getJtiFromToken(token);
-            if (jti == null) {
-                log.warn("토큰에서 JTI를 추출할 수 없습니다. 블랙리스트로 처리합니다.");
-                return true; // JTI 추출 실패 시 보안상 차단
-            }
-            
-            String key = BLACKLIST_KEY_PREFIX + jti;
-            Boolean exists = redisTemplate.hasKey(key);
-            return exists != null && exists;
+            return isJtiBlacklisted(jwtConfig.getJtiFromToken(token));
         } catch (Exception e) {
             log.error("토큰 블랙리스트 확인 실패: {}", e.getMessage());
             // Redis 장애 시 보안을 위해 true를 반환 (Fail-Safe)
@@ -108,6 +104,45 @@ public class BlacklistService {
         }
     }
 
+    /**
+     * 이미 파싱된 토큰이 블랙리스트에 있는지 확인 (재파싱 없음)
+     *
+     * @param parsedToken JwtConfig.parseToken()의 결과
+     * @return 블랙리스트에 있으면 true, 아니면 false
+     */
+    public boolean isTokenBlacklisted(JwtConfig.ParsedToken parsedToken) {
+        try {
+            return isJtiBlacklisted(parsedToken.getJti());
+        } catch (Exception e) {
+            log.error("토큰 블랙리스트 확인 실패: {}", e.getMessage());
+            // Redis 장애 시 보안을 위해 true를 반환 (Fail-Safe)
+            return true;
+        }
+    }
+
+    /**
+     * JTI 기준 블랙리스트 조회
+     */
+    private boolean isJtiBlacklisted(String jti) {
+        if (jti == null) {
+            log.warn("토큰에서 JTI를 추출할 수 없습니다. 블랙리스트로 처리합니다.");
+            return true; // JTI 추출 실패 시 보안상 차단
+        }
+
+        // 로컬 니어 캐시로 먼저 판단 (대부분의 요청은 Redis 왕복 없음)
+        if (blacklistNearCache.isKnownBlacklisted(jti)) {
+            return true;
+        }
+        if (blacklistNearCache.isAuthoritative()) {
+            return false;
+        }
+
+        // 니어 캐시를 신뢰할 수 없는 경우 Redis 직접 조회
+        String key = BLACKLIST_KEY_PREFIX + jti;
+        Boolean exists = redisTemplate.hasKey(key);
+        return exists != null && exists;
+    }
+
     /**
      * 토큰을 블랙리스트에서 제거 (JTI 기반)
      * @param token JWT 토큰
@@ -122,6 +157,7 @@ public class BlacklistService {
             
             String key = BLACKLIST_KEY_PREFIX + jti;
             redisTemplate.delete(key);
+            blacklistNearCache.publishRemoved(jti);
             log.info("토큰이 블랙리스트에서 제거되었습니다. JTI: {}", jti);
         } catch (Exception e) {
             log.error("토큰 블랙리스트 제거 실패: {}", e.getMessage());
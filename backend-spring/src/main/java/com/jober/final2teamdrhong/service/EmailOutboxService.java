@@ -0,0 +1,315 @@
+package com.jober.final2teamdrhong.service;
+
+import com.jober.final2teamdrhong.config.MailOutboxConfig;
+import com.jober.final2teamdrhong.entity.EmailOutbox;
+import com.jober.final2teamdrhong.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이메일 아웃박스 발송 서비스
+ *
+ * 요청 스레드는 아웃박스 행만 기록하고 바로 반환하며, 실제 SMTP 발송은 워커 풀이 담당합니다.
+ * 워커는 점유한 배치를 JavaMailSender 다건 발송으로 보내므로 배치 내 메일이 SMTP 연결 1개를 재사용합니다.
+ * 실패한 메일은 지수 백오프(지터 포함)로 재예약하고, 최대 시도 횟수를 넘기면 FAILED로 남깁니다.
+ */
+@Service
+@Slf4j
+public class EmailOutboxService {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final MailOutboxConfig mailOutboxConfig;
+    private final JavaMailSender mailSender;
+    private final ThreadPoolExecutor workers;
+    private final AtomicBoolean dispatching = new AtomicBoolean(false);
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    public EmailOutboxService(EmailOutboxRepository emailOutboxRepository,
+                              MailOutboxConfig mailOutboxConfig,
+                              @Autowired(required = false) JavaMailSender mailSender,
+                              MeterRegistry meterRegistry) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.mailOutboxConfig = mailOutboxConfig;
+        this.mailSender = mailSender;
+        this.workers = mailSender != null ? createWorkers(Math.max(1, mailOutboxConfig.getWorkers())) : null;
+
+        Gauge.builder("mail.outbox.pending", pendingCount, AtomicLong::get)
+                .description("발송 대기 중인 아웃박스 메일 수")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("mail.outbox.sent")
+                .description("발송 완료된 아웃박스 메일 수")
+                .register(meterRegistry);
+        this.retriedCounter = Counter.builder("mail.outbox.retried")
+                .description("발송 실패로 재예약된 아웃박스 메일 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("mail.outbox.failed")
+                .description("최대 시도 횟수를 넘겨 발송 포기한 아웃박스 메일 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 메일 발송 가능 여부 (JavaMailSender 미구성 시 false)
+     */
+    public boolean isEnabled() {
+        return workers != null;
+    }
+
+    /**
+     * 발송할 메일을 아웃박스에 기록
+     *
+     * 트랜잭션 안에서 호출되면 커밋 이후에 발송을 깨우고, 아니면 즉시 깨웁니다.
+     * 깨우기에 실패하더라도 다음 폴링 주기에 발송됩니다.
+     *
+     * @param recipient 수신자 이메일
+     * @param subject 제목
+     * @param body 본문
+     */
+    public void enqueue(String recipient, String subject, String body) {
+        emailOutboxRepository.save(EmailOutbox.create(recipient, subject, body));
+        pendingCount.incrementAndGet();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        } else {
+            wakeUp();
+        }
+    }
+
+    /**
+     * 발송 시각이 도래한 메일을 점유해 워커에 배치 단위로 전달
+     *
+     * 워커 대기열에 여유가 있는 만큼만 점유하므로 SMTP 장애 시에도 점유 행이 쌓이지 않습니다.
+     *
+     * @return 이번 주기에 점유한 메일 수
+     */
+    @Scheduled(fixedDelayString = "${app.mail.outbox.poll-interval-ms:1000}")
+    public int dispatchDue() {
+        if (workers == null || !dispatching.compareAndSet(false, true)) {
+            return 0;
+        }
+
+        int claimed = 0;
+        try {
+            while (!workers.isShutdown() && workers.getQueue().remainingCapacity() > 0) {
+                List<EmailOutbox> batch = claimBatch();
+                if (batch.isEmpty()) {
+                    break;
+                }
+                claimed += batch.size();
+                workers.execute(() -> sendBatch(batch));
+                if (batch.size() < mailOutboxConfig.getBatchSize()) {
+                    break;
+                }
+            }
+            pendingCount.set(emailOutboxRepository.countByStatus(EmailOutbox.Status.PENDING));
+        } catch (Exception e) {
+            // 점유한 행은 점유 만료 후 다시 발송 대상이 됨
+            log.error("이메일 아웃박스 발송 점유 실패: {}", e.getMessage());
+        } finally {
+            dispatching.set(false);
+        }
+        return claimed;
+    }
+
+    /**
+     * 점유한 배치를 하나의 SMTP 연결로 발송하고 결과를 반영
+     */
+    void sendBatch(List<EmailOutbox> batch) {
+        Map<MimeMessage, EmailOutbox> messages = new IdentityHashMap<>(batch.size());
+        for (EmailOutbox outbox : batch) {
+            try {
+                messages.put(createMessage(outbox), outbox);
+            } catch (MessagingException | RuntimeException e) {
+                handleFailure(outbox, e);
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        Map<Object, Exception> failures;
+        try {
+            mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            failures = Map.of();
+        } catch (MailSendException e) {
+            failures = e.getFailedMessages().isEmpty() ? allFailed(messages, e) : e.getFailedMessages();
+        } catch (MailException e) {
+            failures = allFailed(messages, e);
+        }
+
+        List<Long> sentIds = new ArrayList<>(messages.size());
+        for (Map.Entry<MimeMessage, EmailOutbox> entry : messages.entrySet()) {
+            Exception failure = failures.get(entry.getKey());
+            if (failure == null) {
+                sentIds.add(entry.getValue().getOutboxId());
+            } else {
+                handleFailure(entry.getValue(), failure);
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            emailOutboxRepository.deleteSent(sentIds);
+            sentCounter.increment(sentIds.size());
+            log.debug("이메일 아웃박스 발송 완료: {}건", sentIds.size());
+        }
+    }
+
+    /**
+     * 종료 시 워커 정리 (발송하지 못한 점유 행은 점유 만료 후 다시 발송)
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (workers == null) {
+            return;
+        }
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("이메일 아웃박스 워커 종료 대기 시간 초과 - 미발송 메일은 재기동 후 발송");
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 발송 대기 중인 메일 수 (마지막 폴링 기준)
+     */
+    public long getPendingCount() {
+        return pendingCount.get();
+    }
+
+    private List<EmailOutbox> claimBatch() {
+        LocalDateTime now = now();
+        LocalDateTime leaseUntil = now.plusNanos(TimeUnit.MILLISECONDS.toNanos(mailOutboxConfig.getLeaseMs()));
+        List<EmailOutbox> due = emailOutboxRepository.findDue(now, PageRequest.of(0, mailOutboxConfig.getBatchSize()));
+
+        List<EmailOutbox> claimed = new ArrayList<>(due.size());
+        for (EmailOutbox outbox : due) {
+            if (emailOutboxRepository.claim(outbox.getOutboxId(), outbox.getNextAttemptAt(), leaseUntil) == 1) {
+                claimed.add(outbox);
+            }
+        }
+        return claimed;
+    }
+
+    private MimeMessage createMessage(EmailOutbox outbox) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        if (StringUtils.hasText(mailOutboxConfig.getFrom())) {
+            helper.setFrom(mailOutboxConfig.getFrom());
+        }
+        helper.setTo(outbox.getRecipient());
+        helper.setSubject(outbox.getSubject());
+        helper.setText(outbox.getBody());
+        return message;
+    }
+
+    private void handleFailure(EmailOutbox outbox, Exception e) {
+        int attempts = outbox.getAttempts() + 1;
+        String error = truncate(e.getMessage());
+        try {
+            if (attempts >= mailOutboxConfig.getMaxAttempts()) {
+                emailOutboxRepository.markFailed(outbox.getOutboxId(), now(), error);
+                failedCounter.increment();
+                log.error("이메일 발송 최종 실패: outboxId={}, recipient={}, attempts={}, error={}",
+                        outbox.getOutboxId(), outbox.getRecipient(), attempts, error);
+            } else {
+                long backoffMs = backoffMs(attempts);
+                emailOutboxRepository.scheduleRetry(outbox.getOutboxId(),
+                        now().plusNanos(TimeUnit.MILLISECONDS.toNanos(backoffMs)), error);
+                retriedCounter.increment();
+                log.warn("이메일 발송 실패 - {}ms 후 재시도: outboxId={}, attempts={}, error={}",
+                        backoffMs, outbox.getOutboxId(), attempts, error);
+            }
+        } catch (Exception updateError) {
+            log.error("이메일 아웃박스 실패 반영 실패 - 점유 만료 후 재시도: outboxId={}, error={}",
+                    outbox.getOutboxId(), updateError.getMessage());
+        }
+    }
+
+    /**
+     * 재시도 대기 시간: 기본값 x 2^(시도 횟수-1)을 최대값으로 제한하고 절반 범위의 지터 적용
+     */
+    private long backoffMs(int attempts) {
+        long base = mailOutboxConfig.getInitialBackoffMs() << Math.min(attempts - 1, MAX_BACKOFF_SHIFT);
+        long capped = Math.max(1, Math.min(base, mailOutboxConfig.getMaxBackoffMs()));
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    private void wakeUp() {
+        if (workers != null) {
+            Thread.ofVirtual().name("mail-outbox-dispatch").start(this::dispatchDue);
+        }
+    }
+
+    private static Map<Object, Exception> allFailed(Map<MimeMessage, EmailOutbox> messages, Exception e) {
+        Map<Object, Exception> failures = new IdentityHashMap<>(messages.size());
+        for (MimeMessage message : messages.keySet()) {
+            failures.put(message, e);
+        }
+        return failures;
+    }
+
+    private static ThreadPoolExecutor createWorkers(int size) {
+        // 대기열을 워커 수로 제한해 점유 후 오래 대기하는 배치가 없도록 함
+        return new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(size),
+                Thread.ofPlatform().name("mail-outbox-", 1).daemon(true).factory());
+    }
+
+    private static String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static LocalDateTime now() {
+        return ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime();
+    }
+}
@@ -2,8 +2,6 @@ package com.jober.final2teamdrhong.service;
 
 import com.jober.final2teamdrhong.service.storage.VerificationStorage;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
@@ -13,16 +11,16 @@ import java.security.SecureRandom;
 @Slf4j
 public class EmailService {
 
-    private final JavaMailSender mailSender;
     private final VerificationStorage verificationStorage;
     private final RateLimitService rateLimitService;
+    private final EmailOutboxService emailOutboxService;
     
     public EmailService(VerificationStorage verificationStorage,
                        RateLimitService rateLimitService,
-                       @org.springframework.beans.factory.annotation.Autowired(required = false) JavaMailSender mailSender) {
+                       EmailOutboxService emailOutboxService) {
         this.verificationStorage = verificationStorage;
         this.rateLimitService = rateLimitService;
-        this.mailSender = mailSender;
+        this.emailOutboxService = emailOutboxService;
     }
     
     private static final int CODE_LENGTH = 6;
@@ -74,23 +72,17 @@ public class EmailService {
         try {
             String code = createRandomCode();
 
-            if (mailSender != null) {
-                // 실제 이메일 발송
-                SimpleMailMessage message = new SimpleMailMessage();
-                message.setTo(email);
-                message.setSubject(purpose.getEmailSubject());
-                message.setText(purpose.getEmailContent(code, CODE_EXPIRY_MINUTES));
+            // 인증 코드를 먼저 저장하고 메일은 아웃박스를 통해 비동기로 발송
+            verificationStorage.save(email, code);
 
-                mailSender.send(message);
-                log.info("인증 코드 전송 성공: email={}, purpose={}", email, purpose);
-
-                // 이메일 발송 성공 시에만 인증 코드 저장
-                verificationStorage.save(email, code);
+            if (emailOutboxService.isEnabled()) {
+                emailOutboxService.enqueue(email, purpose.getEmailSubject(),
+                        purpose.getEmailContent(code, CODE_EXPIRY_MINUTES));
+                log.info("인증 코드 발송 요청 완료: email={}, purpose={}", email, purpose);
             } else {
-                // 개발환경에서는 로그로만 기록하고 인증 코드 저장
+                // 개발환경에서는 로그로만 기록
                 log.warn("이메일 발송 비활성화 상태 - 인증 코드 로그 출력: email={}, purpose={}, code={}",
                         email, purpose, code);
-                verificationStorage.save(email, code);
             }
 
         } catch (Exception e) {
@@ -0,0 +1,138 @@
+package com.jober.final2teamdrhong.service;
+
+import com.jober.final2teamdrhong.dto.rateLimit.HeavyHitterResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 상위 요청 키 추적기 (Space-Saving top-K)
+ *
+ * 최대 capacity개의 키만 보관하므로 키 종류가 아무리 많아도 메모리 사용량이 일정합니다.
+ * 가득 찬 상태에서 새 키가 들어오면 가장 적은 카운트의 키를 밀어내고 그 카운트를 이어받으며,
+ * 이어받은 값은 오차(error)로 기록합니다. 실제 빈도가 전체의 1/capacity를 넘는 키는 반드시 남습니다.
+ * 주기적 감쇠(decay)로 오래된 요청의 비중을 줄여 최근 공격원을 우선 보여줍니다.
+ */
+class HeavyHitterTracker {
+
+    // 비정상적으로 긴 키로 메모리를 늘리지 못하도록 키 길이 제한
+    private static final int MAX_KEY_LENGTH = 256;
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    // 가상 스레드 피닝을 피하기 위해 synchronized 대신 ReentrantLock 사용
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private static final class Counter {
+        private final String key;
+        private long count;
+        private long error;
+        private long rejected;
+
+        private Counter(String key, long inherited) {
+            this.key = key;
+            this.count = inherited;
+            this.error = inherited;
+        }
+    }
+
+    HeavyHitterTracker(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.counters = new HashMap<>(this.capacity * 2);
+    }
+
+    /**
+     * Rate Limit 판정 1건 기록
+     *
+     * @param key      제한 기준 키
+     * @param rejected 제한 초과로 거부되었는지 여부
+     */
+    void record(String key, boolean rejected) {
+        String trackedKey = key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+        lock.lock();
+        try {
+            Counter counter = counters.get(trackedKey);
+            if (counter == null) {
+                counter = admit(trackedKey);
+            }
+            counter.count++;
+            if (rejected) {
+                counter.rejected++;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 추정 요청 수 기준 상위 키 조회
+     */
+    List<HeavyHitterResponse> top(int limit) {
+        List<HeavyHitterResponse> snapshot;
+        lock.lock();
+        try {
+            snapshot = new ArrayList<>(counters.size());
+            for (Counter counter : counters.values()) {
+                snapshot.add(new HeavyHitterResponse(counter.key, counter.count, counter.error, counter.rejected));
+            }
+        } finally {
+            lock.unlock();
+        }
+        return snapshot.stream()
+                .sorted(Comparator.comparingLong(HeavyHitterResponse::count).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * 모든 카운트를 절반으로 감쇠하고 0이 된 키 제거
+     */
+    void decay() {
+        lock.lock();
+        try {
+            Iterator<Counter> iterator = counters.values().iterator();
+            while (iterator.hasNext()) {
+                Counter counter = iterator.next();
+                counter.count >>= 1;
+                counter.error >>= 1;
+                counter.rejected >>= 1;
+                if (counter.count == 0) {
+                    iterator.remove();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return counters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Counter admit(String key) {
+        long inherited = 0;
+        if (counters.size() >= capacity) {
+            Counter min = null;
+            for (Counter candidate : counters.values()) {
+                if (min == null || candidate.count < min.count) {
+                    min = candidate;
+                }
+            }
+            counters.remove(min.key);
+            inherited = min.count;
+        }
+        Counter counter = new Counter(key, inherited);
+        counters.put(key, counter);
+        return counter;
+    }
+}
@@ -0,0 +1,139 @@
+package com.jober.final2teamdrhong.service;
+
+import com.jober.final2teamdrhong.config.AuthProperties;
+import com.jober.final2teamdrhong.util.CidrBlockList;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * IP 차단 목록(CIDR) 관리 서비스
+ *
+ * 파일과 Redis Set에서 CIDR 범위를 읽어 불변 CidrBlockList로 만들고 참조를 교체하는 방식으로
+ * 재시작 없이 갱신합니다. 요청 경로에서는 현재 목록 조회만 수행합니다.
+ *
+ * 변경 감지:
+ * - 파일: 마지막 수정 시각
+ * - Redis: "{키}:version" 값 (SADD/SREM 후 INCR)
+ * 새 목록에 잘못된 형식이 있거나 원본을 읽지 못하면 기존 목록을 유지합니다.
+ */
+@Service
+@Slf4j
+public class IpBlockListService {
+
+    private final AuthProperties authProperties;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private volatile CidrBlockList blockList = CidrBlockList.empty();
+
+    // 원본별 마지막 적재 상태 (재적재는 스케줄러 스레드에서만 수행)
+    private long fileLastModified = -1;
+    private List<String> fileEntries = List.of();
+    private String redisVersion;
+    private List<String> redisEntries = List.of();
+
+    public IpBlockListService(AuthProperties authProperties,
+                              ObjectProvider<StringRedisTemplate> stringRedisTemplateProvider,
+                              MeterRegistry meterRegistry) {
+        this.authProperties = authProperties;
+        this.stringRedisTemplate = stringRedisTemplateProvider.getIfAvailable();
+        Gauge.builder("security.ip_block_list.ranges", this, service -> service.blockList.size())
+                .description("IP 차단 목록 CIDR 범위 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 클라이언트 IP 차단 여부 (객체 생성 없는 조회)
+     */
+    public boolean isBlocked(String clientIp) {
+        return blockList.contains(clientIp);
+    }
+
+    /**
+     * 파일/Redis 변경 확인 후 바뀐 경우에만 목록 재생성 (기동 직후 한 번 실행)
+     *
+     * @return 현재 적용 중인 범위 수
+     */
+    @Scheduled(fixedDelayString = "${auth.security.ip-block-list-reload-interval-ms:30000}")
+    public int reload() {
+        if (!authProperties.getSecurity().isIpBlockListEnabled()) {
+            return 0;
+        }
+        boolean changed = reloadFile() | reloadRedis();
+        if (changed) {
+            List<String> entries = new ArrayList<>(fileEntries.size() + redisEntries.size());
+            entries.addAll(fileEntries);
+            entries.addAll(redisEntries);
+            try {
+                CidrBlockList reloaded = CidrBlockList.parse(entries);
+                blockList = reloaded;
+                log.info("IP 차단 목록 적재: {}개 범위 (병합 후 {}개 구간)", reloaded.size(), reloaded.intervalCount());
+            } catch (IllegalArgumentException e) {
+                log.error("IP 차단 목록 형식 오류 - 기존 목록 유지: {}", e.getMessage());
+            }
+        }
+        return blockList.size();
+    }
+
+    private boolean reloadFile() {
+        String file = authProperties.getSecurity().getIpBlockListFile();
+        if (file == null || file.isBlank()) {
+            return false;
+        }
+        Path path = Path.of(file);
+        try {
+            if (!Files.exists(path)) {
+                if (fileLastModified != -1) {
+                    log.warn("IP 차단 목록 파일이 없어 파일 항목을 비움: {}", path);
+                    fileLastModified = -1;
+                    fileEntries = List.of();
+                    return true;
+                }
+                return false;
+            }
+            long lastModified = Files.getLastModifiedTime(path).toMillis();
+            if (lastModified == fileLastModified) {
+                return false;
+            }
+            fileEntries = Files.readAllLines(path, StandardCharsets.UTF_8);
+            fileLastModified = lastModified;
+            return true;
+        } catch (IOException e) {
+            log.error("IP 차단 목록 파일 읽기 실패 - 기존 목록 유지: path={}, error={}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean reloadRedis() {
+        if (stringRedisTemplate == null) {
+            return false;
+        }
+        String key = authProperties.getSecurity().getIpBlockListRedisKey();
+        try {
+            String version = stringRedisTemplate.opsForValue().get(key + ":version");
+            if (Objects.equals(version, redisVersion)) {
+                return false;
+            }
+            Set<String> members = stringRedisTemplate.opsForSet().members(key);
+            redisEntries = members != null ? List.copyOf(members) : List.of();
+            redisVersion = version;
+            return true;
+        } catch (Exception e) {
+            log.warn("IP 차단 목록 Redis 조회 실패 - 기존 목록 유지: {}", e.getMessage());
+            return false;
+        }
+    }
+}
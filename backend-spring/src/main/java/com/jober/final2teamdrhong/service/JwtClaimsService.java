@@ -7,8 +7,6 @@ import com.jober.final2teamdrhong.exception.AuthenticationException;
 import com.jober.final2teamdrhong.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 
 /**
@@ -17,6 +15,9 @@ import org.springframework.stereotype.Service;
  * 기본 사용법:
  * 1. JWT 토큰에서 기본 Claims 추출: jwtConfig.getJwtClaims(token)
  * 2. DB 정보가 필요한 경우: jwtClaimsService.enrichWithUserInfo(claims)
+ *
+ * 사용자 정보는 UserPrincipalCache(L1 로컬 + L2 Redis, userId 키)를 거쳐 조회하므로
+ * 캐시 적중 시 인증 요청마다 발생하던 DB 조회가 생략됩니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -25,6 +26,7 @@ public class JwtClaimsService {
     
     private final JwtConfig jwtConfig;
     private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
     
     /**
      * JWT 토큰에서 Claims를 추출하고 DB에서 사용자 정보로 보완
@@ -44,6 +46,22 @@ public class JwtClaimsService {
         return enrichWithUserInfo(basicClaims);
     }
     
+    /**
+     * 이미 파싱된 토큰의 Claims를 DB에서 사용자 정보로 보완 (재파싱 없음)
+     * 
+     * @param parsedToken JwtConfig.parseToken()의 결과
+     * @return 사용자 정보가 포함된 JwtClaims
+     * @throws AuthenticationException 토큰이 유효하지 않거나 사용자를 찾을 수 없는 경우
+     */
+    public JwtClaims getEnrichedClaims(JwtConfig.ParsedToken parsedToken) {
+        JwtClaims basicClaims = jwtConfig.getJwtClaims(parsedToken);
+        if (basicClaims == null) {
+            throw new AuthenticationException("유효하지 않은 토큰입니다");
+        }
+        
+        return enrichWithUserInfo(basicClaims);
+    }
+    
     /**
      * Authorization 헤더에서 Claims를 추출하고 DB에서 사용자 정보로 보완
      * 
@@ -60,24 +78,23 @@ public class JwtClaimsService {
     }
     
     /**
-     * 기본 JWT Claims에 DB의 사용자 정보를 추가
+     * 기본 JWT Claims에 DB의 사용자 정보를 추가 (UserPrincipalCache 경유)
      * 
      * @param basicClaims JWT에서 추출한 기본 Claims
      * @return 사용자 정보가 추가된 JwtClaims
      * @throws AuthenticationException 사용자를 찾을 수 없는 경우
      */
-    @Cacheable(value = "userInfo", key = "#basicClaims.email + ':' + #basicClaims.userId")
     public JwtClaims enrichWithUserInfo(JwtClaims basicClaims) {
         if (basicClaims.getEmail() == null || basicClaims.getUserId() == null) {
             throw new AuthenticationException("토큰에 필수 정보가 누락되었습니다");
         }
         
-        // DB에서 사용자 정보 조회
-        User user = userRepository.findByUserEmail(basicClaims.getEmail())
-                .orElseThrow(() -> new AuthenticationException("사용자를 찾을 수 없습니다"));
+        // 캐시 미스 시에만 DB에서 사용자 정보 조회
+        UserPrincipalCache.UserPrincipal principal = userPrincipalCache.getOrLoad(
+                basicClaims.getUserId(), () -> loadUserPrincipal(basicClaims));
         
-        // 토큰의 userId와 DB의 userId 일치 확인
-        if (!basicClaims.getUserId().equals(user.getUserId())) {
+        // 토큰의 이메일과 현재 사용자 이메일 일치 확인 (탈퇴 익명화 등)
+        if (!basicClaims.getEmail().equals(principal.email())) {
             throw new AuthenticationException("사용자 정보가 일치하지 않습니다");
         }
         
@@ -90,8 +107,8 @@ public class JwtClaimsService {
                 .jti(basicClaims.getJti())
                 .expiresAt(basicClaims.getExpiresAt())
                 // DB 정보 추가
-                .userName(user.getUserName())
-                .userRole(user.getUserRole())
+                .userName(principal.userName())
+                .userRole(principal.userRole())
                 .build();
     }
     
@@ -101,16 +118,31 @@ public class JwtClaimsService {
      * @param email 사용자 이메일
      * @param userId 사용자 ID
      */
-    @CacheEvict(value = "userInfo", key = "#email + ':' + #userId")
     public void evictUserInfoCache(String email, Integer userId) {
         log.debug("사용자 정보 캐시 무효화: email={}, userId={}", email, userId);
+        userPrincipalCache.evict(userId);
     }
     
     /**
      * 모든 사용자 정보 캐시 무효화
      */
-    @CacheEvict(value = "userInfo", allEntries = true)
     public void evictAllUserInfoCache() {
         log.debug("모든 사용자 정보 캐시 무효화");
+        userPrincipalCache.evictAll();
+    }
+    
+    /**
+     * DB에서 사용자 조회 후 토큰 정보와 대조
+     */
+    private UserPrincipalCache.UserPrincipal loadUserPrincipal(JwtClaims basicClaims) {
+        User user = userRepository.findByUserEmail(basicClaims.getEmail())
+                .orElseThrow(() -> new AuthenticationException("사용자를 찾을 수 없습니다"));
+        
+        // 토큰의 userId와 DB의 userId 일치 확인
+        if (!basicClaims.getUserId().equals(user.getUserId())) {
+            throw new AuthenticationException("사용자 정보가 일치하지 않습니다");
+        }
+        
+        return UserPrincipalCache.UserPrincipal.from(user);
     }
 }
\ No newline at end of file
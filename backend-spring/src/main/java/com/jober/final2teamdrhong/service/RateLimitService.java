@@ -1,22 +1,35 @@
 package com.jober.final2teamdrhong.service;
 
 import com.jober.final2teamdrhong.config.RateLimitConfig;
+import com.jober.final2teamdrhong.dto.rateLimit.HeavyHitterResponse;
 import com.jober.final2teamdrhong.exception.RateLimitExceededException;
+import com.jober.final2teamdrhong.util.RedisCircuitBreaker;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
 import io.github.bucket4j.BucketConfiguration;
-import io.github.bucket4j.local.LocalBucketBuilder;
+import io.github.bucket4j.ConsumptionProbe;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+import io.github.bucket4j.distributed.proxy.optimization.DelayParameters;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
 import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
-import java.util.function.Supplier;
+import java.util.TreeMap;
+import java.util.function.Function;
 
 /**
  * Rate Limiting 서비스
@@ -29,26 +42,102 @@ import java.util.function.Supplier;
  * - 토큰 갱신: IP당 5분간 10회
  * 
  * Redis 사용 가능시 분산 환경 지원, 불가능시 인메모리 폴백 사용
+ * 
+ * 버킷 설정은 기동 시 한 번만 생성하고 Redis 버킷 프록시는 키별로 캐시하며,
+ * 제한 체크는 tryConsumeAndReturnRemaining 한 번으로 허용 여부와 대기 시간을 함께 얻습니다.
+ * 제한별로 선할당(배치) 모드를 켜면 노드가 토큰 일부를 로컬에서 소비하고 주기적으로 Redis와 동기화합니다.
+ * Redis 호출이 연속으로 실패하면 서킷 브레이커가 로컬 버킷으로 전환하고, 백그라운드 점검 성공 시 복귀합니다.
+ * 모든 판정은 제한별 상위 요청 키 추적기(Space-Saving)에 기록되어 관리자 API로 조회할 수 있습니다.
  */
 @Service
 @Slf4j
 public class RateLimitService {
     
+    // 키별 버킷 프록시 캐시 크기/유휴 만료 (프록시 생성 비용 절감용, 상태는 Redis에 있음)
+    private static final long PROXY_CACHE_MAX_SIZE = 100_000;
+    private static final Duration PROXY_CACHE_IDLE_TIMEOUT = Duration.ofMinutes(10);
+    
+    // 복구 점검용 키 (조회만 수행)
+    private static final byte[] PROBE_KEY = "rate_limit:probe".getBytes(StandardCharsets.UTF_8);
+    
+    private static final Function<Bucket, ConsumptionProbe> TRY_CONSUME_ONE = bucket -> bucket.tryConsumeAndReturnRemaining(1);
+    
     private final RateLimitConfig rateLimitConfig;
     private final LettuceBasedProxyManager<byte[]> proxyManager;
     
-    // 인메모리 버킷 저장소 (Redis 비활성화 시 폴백용)
-    private final Map<String, Bucket> inMemoryBuckets = new ConcurrentHashMap<>();
+    // 제한 종류별 버킷 설정 (기동 시 한 번만 생성)
+    private final Map<LimitType, BucketConfiguration> bucketConfigs;
+    
+    // 제한 종류별 Redis 버킷 빌더 (선할당 모드 최적화 포함, 기동 시 한 번만 생성)
+    private final Map<LimitType, RemoteBucketBuilder<byte[]>> remoteBucketBuilders;
+    
+    // Redis 버킷 프록시 캐시 (키별 재사용, 선할당 모드의 로컬 상태도 프록시에 보관됨)
+    private final Cache<String, Bucket> proxyCache = Caffeine.newBuilder()
+            .maximumSize(PROXY_CACHE_MAX_SIZE)
+            .expireAfterAccess(PROXY_CACHE_IDLE_TIMEOUT)
+            .build();
+    
+    // 인메모리 버킷 저장소 (Redis 비활성화/장애 시 폴백용, 제한 종류별 크기 상한 + 리필 주기 유휴 만료)
+    private final Map<LimitType, Cache<String, Bucket>> inMemoryBuckets;
     
-    // 버킷 생성 동기화용 락 (동일 키에 대한 중복 생성 방지)
-    private final Map<String, ReentrantLock> bucketLocks = new ConcurrentHashMap<>();
+    // Redis 장애 시 로컬 버킷으로 자동 전환
+    private final RedisCircuitBreaker circuitBreaker;
+    
+    // @RateLimited 선언형 정책 (기동 시 설정에서 미리 생성)
+    private final Map<String, Policy> policies;
+    
+    // 제한 종류/정책별 상위 요청 키 추적기 (키 종류와 무관하게 고정 메모리)
+    private final Map<String, HeavyHitterTracker> heavyHitters;
     
     @Autowired
     public RateLimitService(RateLimitConfig rateLimitConfig, 
                            @Autowired(required = false) StringRedisTemplate redisTemplate,
-                           @Autowired(required = false) LettuceBasedProxyManager<byte[]> proxyManager) {
+                           @Autowired(required = false) LettuceBasedProxyManager<byte[]> proxyManager,
+                           MeterRegistry meterRegistry) {
         this.rateLimitConfig = rateLimitConfig;
         this.proxyManager = proxyManager;
+        this.bucketConfigs = createBucketConfigs();
+        this.remoteBucketBuilders = proxyManager != null ? createRemoteBucketBuilders() : Map.of();
+        this.inMemoryBuckets = createInMemoryBucketStores();
+        this.circuitBreaker = new RedisCircuitBreaker("Rate Limit", rateLimitConfig.getCircuitBreaker().getFailureThreshold());
+        this.policies = createPolicies();
+        this.heavyHitters = createHeavyHitterTrackers();
+        
+        // 현재 모드: 1 = Redis(분산), 0 = 로컬(인메모리)
+        Gauge.builder("rate_limit.mode", this, service -> service.isUsingRedis() ? 1 : 0)
+                .description("Rate Limit 저장소 모드 (1: Redis, 0: 로컬)")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Rate Limit 종류 (버킷 키 접두사)
+     */
+    public enum LimitType {
+        EMAIL_SEND("email_send:"),
+        EMAIL_VERIFY("email_verify:"),
+        SIGNUP("signup:"),
+        LOGIN("login:"),
+        LOGIN_EMAIL("login_email:"),
+        REFRESH_TOKEN("refresh_token:");
+        
+        private final String keyPrefix;
+        
+        LimitType(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+        
+        public String key(String identifier) {
+            return keyPrefix + identifier;
+        }
+    }
+    
+    /**
+     * 선언형 제한 정책 (버킷 설정/Redis 빌더/인메모리 저장소를 정책별로 미리 생성)
+     */
+    private record Policy(String keyPrefix,
+                          BucketConfiguration bucketConfig,
+                          RemoteBucketBuilder<byte[]> remoteBucketBuilder,
+                          Cache<String, Bucket> inMemoryBuckets) {
     }
     
     // =========================================
@@ -56,45 +145,96 @@ public class RateLimitService {
     // =========================================
     
     public boolean isEmailSendAllowed(String ipAddress) {
-        String key = "email_send:" + ipAddress;
-        Bucket bucket = getBucket(key, () -> createEmailSendBucketConfig());
-        return bucket.tryConsume(1);
+        return tryConsume(LimitType.EMAIL_SEND, ipAddress).isConsumed();
     }
     
     public boolean isEmailVerifyAllowed(String email) {
-        String key = "email_verify:" + email;
-        Bucket bucket = getBucket(key, () -> createEmailVerifyBucketConfig());
-        return bucket.tryConsume(1);
+        return tryConsume(LimitType.EMAIL_VERIFY, email).isConsumed();
     }
     
     public boolean isSignupAllowed(String ipAddress) {
-        String key = "signup:" + ipAddress;
-        Bucket bucket = getBucket(key, () -> createSignupBucketConfig());
-        return bucket.tryConsume(1);
+        return tryConsume(LimitType.SIGNUP, ipAddress).isConsumed();
     }
     
     public boolean isLoginAllowed(String ipAddress) {
-        String key = "login:" + ipAddress;
-        Bucket bucket = getBucket(key, () -> createLoginBucketConfig());
-        return bucket.tryConsume(1);
+        return tryConsume(LimitType.LOGIN, ipAddress).isConsumed();
     }
     
     /**
      * 이메일별 로그인 시도 허용 여부 체크
      */
     public boolean isLoginByEmailAllowed(String email) {
-        String key = "login_email:" + email;
-        Bucket bucket = getBucket(key, () -> createLoginByEmailBucketConfig());
-        return bucket.tryConsume(1);
+        return tryConsume(LimitType.LOGIN_EMAIL, email).isConsumed();
     }
     
     /**
      * 토큰 갱신 허용 여부 체크
      */
     public boolean isRefreshTokenAllowed(String ipAddress) {
-        String key = "refresh_token:" + ipAddress;
-        Bucket bucket = getBucket(key, () -> createRefreshTokenBucketConfig());
-        return bucket.tryConsume(1);
+        return tryConsume(LimitType.REFRESH_TOKEN, ipAddress).isConsumed();
+    }
+    
+    // =========================================
+    // 선언형 정책 메서드들 (Policy Methods)
+    // =========================================
+    
+    /**
+     * 설정에 정의된 정책인지 확인 (@RateLimited 선언 검증용)
+     */
+    public boolean hasPolicy(String policyName) {
+        return policies.containsKey(policyName);
+    }
+    
+    /**
+     * 선언형 정책으로 토큰 1개 소비 시도
+     *
+     * @param policyName rate-limit.policies에 정의된 정책 이름
+     * @param identifier 제한 기준 키 (IP, 사용자 ID 등)
+     * @return 허용 여부와 다음 토큰까지 대기 시간
+     */
+    public ConsumptionProbe tryConsumePolicy(String policyName, String identifier) {
+        Policy policy = policies.get(policyName);
+        if (policy == null) {
+            throw new IllegalArgumentException("정의되지 않은 Rate Limit 정책입니다: " + policyName);
+        }
+        ConsumptionProbe probe = withBucket(policy.keyPrefix() + identifier, policy.bucketConfig(),
+                policy.remoteBucketBuilder(), policy.inMemoryBuckets(), TRY_CONSUME_ONE);
+        heavyHitters.get(policyName).record(identifier, !probe.isConsumed());
+        return probe;
+    }
+    
+    // =========================================
+    // 상위 요청 키 조회 메서드들 (Heavy Hitter Methods)
+    // =========================================
+    
+    /**
+     * 제한 종류/정책별 상위 요청 키 조회 (추정 요청 수 내림차순)
+     *
+     * @param limit 종류별 최대 반환 개수
+     * @return 제한 이름 → 상위 키 목록
+     */
+    public Map<String, List<HeavyHitterResponse>> getHeavyHitters(int limit) {
+        Map<String, List<HeavyHitterResponse>> result = new TreeMap<>();
+        heavyHitters.forEach((name, tracker) -> result.put(name, tracker.top(limit)));
+        return result;
+    }
+    
+    /**
+     * 상위 요청 키 카운트 주기적 감쇠 (최근 요청 비중 유지)
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.heavy-hitters.decay-interval-ms:60000}")
+    public void decayHeavyHitters() {
+        heavyHitters.values().forEach(HeavyHitterTracker::decay);
+    }
+    
+    private Map<String, HeavyHitterTracker> createHeavyHitterTrackers() {
+        int capacity = rateLimitConfig.getHeavyHitters().getCapacity();
+        Map<String, HeavyHitterTracker> trackers = new HashMap<>();
+        for (LimitType limitType : LimitType.values()) {
+            trackers.put(limitType.name(), new HeavyHitterTracker(capacity));
+        }
+        policies.keySet().forEach(name -> trackers.put(name, new HeavyHitterTracker(capacity)));
+        return Map.copyOf(trackers);
     }
     
     // =========================================
@@ -102,110 +242,121 @@ public class RateLimitService {
     // =========================================
     
     public long getEmailSendWaitTime(String ipAddress) {
-        String key = "email_send:" + ipAddress;
-        Bucket bucket = getBucket(key, () -> createEmailSendBucketConfig());
-        return bucket.estimateAbilityToConsume(1).getNanosToWaitForRefill() / 1_000_000_000;
+        return estimateWaitTime(LimitType.EMAIL_SEND, ipAddress);
     }
     
     public long getEmailVerifyWaitTime(String email) {
-        String key = "email_verify:" + email;
-        Bucket bucket = getBucket(key, () -> createEmailVerifyBucketConfig());
-        return bucket.estimateAbilityToConsume(1).getNanosToWaitForRefill() / 1_000_000_000;
+        return estimateWaitTime(LimitType.EMAIL_VERIFY, email);
     }
     
     public long getSignupWaitTime(String ipAddress) {
-        String key = "signup:" + ipAddress;
-        Bucket bucket = getBucket(key, () -> createSignupBucketConfig());
-        return bucket.estimateAbilityToConsume(1).getNanosToWaitForRefill() / 1_000_000_000;
+        return estimateWaitTime(LimitType.SIGNUP, ipAddress);
     }
     
     public long getLoginWaitTime(String ipAddress) {
-        String key = "login:" + ipAddress;
-        Bucket bucket = getBucket(key, () -> createLoginBucketConfig());
-        return bucket.estimateAbilityToConsume(1).getNanosToWaitForRefill() / 1_000_000_000;
+        return estimateWaitTime(LimitType.LOGIN, ipAddress);
     }
     
     /**
      * 이메일별 로그인 대기 시간 계산
      */
     public long getLoginByEmailWaitTime(String email) {
-        String key = "login_email:" + email;
-        Bucket bucket = getBucket(key, () -> createLoginByEmailBucketConfig());
-        return bucket.estimateAbilityToConsume(1).getNanosToWaitForRefill() / 1_000_000_000;
+        return estimateWaitTime(LimitType.LOGIN_EMAIL, email);
     }
     
     /**
      * 토큰 갱신 대기 시간 계산
      */
     public long getRefreshTokenWaitTime(String ipAddress) {
-        String key = "refresh_token:" + ipAddress;
-        Bucket bucket = getBucket(key, () -> createRefreshTokenBucketConfig());
-        return bucket.estimateAbilityToConsume(1).getNanosToWaitForRefill() / 1_000_000_000;
+        return estimateWaitTime(LimitType.REFRESH_TOKEN, ipAddress);
     }
     
     // =========================================
     // 버킷 설정 메서드들 (Bucket Config Methods)
     // =========================================
     
-    private BucketConfiguration createEmailSendBucketConfig() {
-        return BucketConfiguration.builder()
-                .addLimit(Bandwidth.simple(
-                        rateLimitConfig.getEmailSend().getRequestsPerWindow(),
-                        Duration.ofMinutes(rateLimitConfig.getEmailSend().getWindowDurationMinutes())
-                ))
-                .build();
+    private Map<LimitType, BucketConfiguration> createBucketConfigs() {
+        Map<LimitType, BucketConfiguration> configs = new EnumMap<>(LimitType.class);
+        configs.put(LimitType.EMAIL_SEND, createBucketConfig(
+                rateLimitConfig.getEmailSend().getRequestsPerWindow(),
+                rateLimitConfig.getEmailSend().getWindowDurationMinutes()));
+        configs.put(LimitType.EMAIL_VERIFY, createBucketConfig(
+                rateLimitConfig.getEmailVerify().getRequestsPerWindow(),
+                rateLimitConfig.getEmailVerify().getWindowDurationMinutes()));
+        configs.put(LimitType.SIGNUP, createBucketConfig(
+                rateLimitConfig.getSignup().getRequestsPerWindow(),
+                rateLimitConfig.getSignup().getWindowDurationMinutes()));
+        configs.put(LimitType.LOGIN, createBucketConfig(
+                rateLimitConfig.getLogin().getRequestsPerWindow(),
+                rateLimitConfig.getLogin().getWindowDurationMinutes()));
+        // 이메일별 로그인: 동일 계정 무차별 대입 방지하면서도 사용자 편의성 고려 (10회로 완화)
+        configs.put(LimitType.LOGIN_EMAIL, createBucketConfig(
+                10,
+                rateLimitConfig.getLogin().getWindowDurationMinutes()));
+        configs.put(LimitType.REFRESH_TOKEN, createBucketConfig(
+                rateLimitConfig.getRefreshToken().getRequestsPerWindow(),
+                rateLimitConfig.getRefreshToken().getWindowDurationMinutes()));
+        return configs;
     }
     
-    private BucketConfiguration createEmailVerifyBucketConfig() {
-        return BucketConfiguration.builder()
-                .addLimit(Bandwidth.simple(
-                        rateLimitConfig.getEmailVerify().getRequestsPerWindow(),
-                        Duration.ofMinutes(rateLimitConfig.getEmailVerify().getWindowDurationMinutes())
-                ))
-                .build();
+    /**
+     * 제한 종류별 Redis 버킷 빌더 생성
+     * 선할당 모드가 켜진 제한은 delaying 최적화로 로컬에서 일정 토큰/시간만큼 소비 후 Redis와 동기화
+     */
+    private Map<LimitType, RemoteBucketBuilder<byte[]>> createRemoteBucketBuilders() {
+        Map<LimitType, RemoteBucketBuilder<byte[]>> builders = new EnumMap<>(LimitType.class);
+        for (LimitType limitType : LimitType.values()) {
+            builders.put(limitType, createRemoteBucketBuilder(limitType.name(), getLocalBatch(limitType)));
+        }
+        return builders;
     }
     
-    private BucketConfiguration createSignupBucketConfig() {
-        return BucketConfiguration.builder()
-                .addLimit(Bandwidth.simple(
-                        rateLimitConfig.getSignup().getRequestsPerWindow(),
-                        Duration.ofMinutes(rateLimitConfig.getSignup().getWindowDurationMinutes())
-                ))
-                .build();
-    }
-
-    private BucketConfiguration createLoginBucketConfig() {
-        return BucketConfiguration.builder()
-                .addLimit(Bandwidth.simple(
-                        rateLimitConfig.getLogin().getRequestsPerWindow(),
-                        Duration.ofMinutes(rateLimitConfig.getLogin().getWindowDurationMinutes())
-                ))
-                .build();
+    private RemoteBucketBuilder<byte[]> createRemoteBucketBuilder(String limitName, RateLimitConfig.LocalBatch localBatch) {
+        RemoteBucketBuilder<byte[]> builder = proxyManager.builder();
+        if (localBatch != null && localBatch.isEnabled()) {
+            builder = builder.withOptimization(Optimizations.delaying(new DelayParameters(
+                    localBatch.getMaxUnsynchronizedTokens(),
+                    Duration.ofMillis(localBatch.getMaxUnsynchronizedMillis()))));
+            log.info("Rate Limit 선할당 모드 사용: limit={}, maxUnsynchronizedTokens={}, maxUnsynchronizedMillis={}",
+                    limitName, localBatch.getMaxUnsynchronizedTokens(), localBatch.getMaxUnsynchronizedMillis());
+        }
+        return builder;
     }
     
     /**
-     * 이메일별 로그인 버킷 설정 (적절한 제한)
-     * 동일 계정에 대한 무차별 대입 공격 방지하면서도 사용자 편의성 고려
+     * 설정의 선언형 정책을 버킷 설정/빌더/저장소까지 미리 생성
      */
-    private BucketConfiguration createLoginByEmailBucketConfig() {
-        return BucketConfiguration.builder()
-                .addLimit(Bandwidth.simple(
-                        10, // 이메일별로 10회로 완화 (정상 사용자 배려)
-                        Duration.ofMinutes(rateLimitConfig.getLogin().getWindowDurationMinutes())
-                ))
-                .build();
+    private Map<String, Policy> createPolicies() {
+        Map<String, Policy> compiled = new HashMap<>();
+        rateLimitConfig.getPolicies().forEach((name, policyConfig) -> {
+            BucketConfiguration bucketConfig = createBucketConfig(
+                    policyConfig.getRequestsPerWindow(), policyConfig.getWindowDurationMinutes());
+            compiled.put(name, new Policy(
+                    "policy:" + name + ":",
+                    bucketConfig,
+                    proxyManager != null ? createRemoteBucketBuilder(name, policyConfig.getLocalBatch()) : null,
+                    createInMemoryBucketStore(bucketConfig)));
+        });
+        return Map.copyOf(compiled);
     }
     
     /**
-     * 토큰 갱신 버킷 설정
-     * 토큰 갱신 남용 방지
+     * 제한 종류별 선할당 모드 설정 (이메일별 로그인 제한은 계정 보호를 위해 항상 정확 모드)
      */
-    private BucketConfiguration createRefreshTokenBucketConfig() {
+    private RateLimitConfig.LocalBatch getLocalBatch(LimitType limitType) {
+        return switch (limitType) {
+            case EMAIL_SEND -> rateLimitConfig.getEmailSend().getLocalBatch();
+            case EMAIL_VERIFY -> rateLimitConfig.getEmailVerify().getLocalBatch();
+            case SIGNUP -> rateLimitConfig.getSignup().getLocalBatch();
+            case LOGIN -> rateLimitConfig.getLogin().getLocalBatch();
+            case LOGIN_EMAIL -> null;
+            case REFRESH_TOKEN -> rateLimitConfig.getRefreshToken().getLocalBatch();
+        };
+    }
+    
+    private BucketConfiguration createBucketConfig(int requestsPerWindow, int windowDurationMinutes) {
         return BucketConfiguration.builder()
-                .addLimit(Bandwidth.simple(
-                        rateLimitConfig.getRefreshToken().getRequestsPerWindow(),
-                        Duration.ofMinutes(rateLimitConfig.getRefreshToken().getWindowDurationMinutes())
-                ))
+                .addLimit(Bandwidth.simple(requestsPerWindow, Duration.ofMinutes(windowDurationMinutes)))
                 .build();
     }
     
@@ -213,50 +364,124 @@ public class RateLimitService {
     // 내부 헬퍼 메서드들 (Internal Helpers)
     // =========================================
     
-    private Bucket getBucket(String key, Supplier<BucketConfiguration> configSupplier) {
-        if (proxyManager != null) {
-            // Redis 사용 가능한 경우
-            return proxyManager.builder()
-                    .build(key.getBytes(), configSupplier);
-        } else {
-            // Redis 비활성화 시 인메모리 폴백 사용 (동기화된 버킷 생성)
-            return getOrCreateInMemoryBucket(key, configSupplier);
+    /**
+     * 토큰 1개 소비 시도 (허용 여부와 대기 시간을 한 번의 호출로 반환)
+     */
+    private ConsumptionProbe tryConsume(LimitType limitType, String identifier) {
+        ConsumptionProbe probe = withBucket(limitType, limitType.key(identifier), TRY_CONSUME_ONE);
+        heavyHitters.get(limitType.name()).record(identifier, !probe.isConsumed());
+        return probe;
+    }
+    
+    /**
+     * 소비 없이 대기 시간(초)만 계산
+     */
+    private long estimateWaitTime(LimitType limitType, String identifier) {
+        return withBucket(limitType, limitType.key(identifier),
+                bucket -> toSeconds(bucket.estimateAbilityToConsume(1).getNanosToWaitForRefill()));
+    }
+    
+    private long toSeconds(long nanos) {
+        return nanos / 1_000_000_000;
+    }
+    
+    private <T> T withBucket(LimitType limitType, String key, Function<Bucket, T> action) {
+        return withBucket(key, bucketConfigs.get(limitType), remoteBucketBuilders.get(limitType),
+                inMemoryBuckets.get(limitType), action);
+    }
+    
+    /**
+     * Redis 버킷으로 실행하고, Redis 미사용/서킷 열림/호출 실패 시 로컬 버킷으로 실행
+     */
+    private <T> T withBucket(String key,
+                             BucketConfiguration config,
+                             RemoteBucketBuilder<byte[]> remoteBucketBuilder,
+                             Cache<String, Bucket> localBuckets,
+                             Function<Bucket, T> action) {
+        if (isUsingRedis()) {
+            try {
+                // 키별 프록시 재사용
+                Bucket remoteBucket = proxyCache.get(key, k -> remoteBucketBuilder
+                        .build(k.getBytes(StandardCharsets.UTF_8), () -> config));
+                T result = action.apply(remoteBucket);
+                circuitBreaker.recordSuccess();
+                return result;
+            } catch (RuntimeException e) {
+                circuitBreaker.recordFailure(e);
+                log.warn("Rate Limit Redis 호출 실패 - 로컬 버킷 사용: key={}, error={}", key, e.getMessage());
+            }
         }
+        return action.apply(getOrCreateInMemoryBucket(localBuckets, key, config));
     }
     
     /**
-     * 인메모리 버킷 동기화된 생성/조회
-     * 동일 키에 대한 중복 생성 방지
+     * Redis 버킷 사용 여부 (Redis 설정 + 서킷 닫힘)
      */
-    private Bucket getOrCreateInMemoryBucket(String key, Supplier<BucketConfiguration> configSupplier) {
-        // 이미 존재하는 버킷 반환
-        Bucket existingBucket = inMemoryBuckets.get(key);
-        if (existingBucket != null) {
-            return existingBucket;
+    public boolean isUsingRedis() {
+        return proxyManager != null && circuitBreaker.isClosed();
+    }
+    
+    /**
+     * 로컬 모드일 때 Redis 복구 점검 (백그라운드)
+     */
+    @Scheduled(fixedDelayString = "${rate-limit.circuit-breaker.probe-interval-ms:1000}")
+    public void probeRedis() {
+        if (proxyManager == null || circuitBreaker.isClosed()) {
+            return;
         }
-        
-        // 키별 락 획득 (동일 키에 대한 동시 생성 방지)
-        ReentrantLock lock = bucketLocks.computeIfAbsent(key, k -> new ReentrantLock());
-        
-        lock.lock();
         try {
-            // 다시 한 번 확인 (다른 스레드가 이미 생성했을 수 있음)
-            existingBucket = inMemoryBuckets.get(key);
-            if (existingBucket != null) {
-                return existingBucket;
-            }
-            
-            // 새 버킷 생성 및 저장
-            Bucket newBucket = Bucket.builder()
-                    .addLimit(getBandwidthFromConfig(configSupplier.get()))
-                    .build();
-            
-            inMemoryBuckets.put(key, newBucket);
-            return newBucket;
-            
-        } finally {
-            lock.unlock();
+            proxyManager.getProxyConfiguration(PROBE_KEY);
+            circuitBreaker.recordProbe(true);
+        } catch (RuntimeException e) {
+            circuitBreaker.recordProbe(false);
+            log.debug("Rate Limit Redis 점검 실패: {}", e.getMessage());
+        }
+    }
+    
+    /**
+     * 인메모리 버킷 저장소 생성
+     * 리필 주기 동안 접근이 없으면 버킷이 가득 찬 상태와 같으므로 제거해도 제한 결과가 달라지지 않음
+     * 크기 상한을 넘으면 사용 빈도가 낮은 키부터 제거 (임의 IP/이메일 대량 유입 시 힙 보호)
+     */
+    private Map<LimitType, Cache<String, Bucket>> createInMemoryBucketStores() {
+        Map<LimitType, Cache<String, Bucket>> stores = new EnumMap<>(LimitType.class);
+        for (LimitType limitType : LimitType.values()) {
+            stores.put(limitType, createInMemoryBucketStore(bucketConfigs.get(limitType)));
+        }
+        return stores;
+    }
+    
+    private Cache<String, Bucket> createInMemoryBucketStore(BucketConfiguration config) {
+        Bandwidth bandwidth = getBandwidthFromConfig(config);
+        return Caffeine.newBuilder()
+                .maximumSize(rateLimitConfig.getInMemoryMaxBuckets())
+                .expireAfterAccess(Duration.ofNanos(bandwidth.getRefillPeriodNanos()))
+                .build();
+    }
+    
+    /**
+     * 인메모리 버킷 조회/생성 (키별 원자적 compute-if-absent, 별도 락 없음)
+     */
+    private Bucket getOrCreateInMemoryBucket(Cache<String, Bucket> localBuckets, String key, BucketConfiguration config) {
+        return localBuckets.get(key, k -> Bucket.builder()
+                .addLimit(getBandwidthFromConfig(config))
+                .build());
+    }
+    
+    /**
+     * 인메모리 버킷 수 (근사값, 모니터링/테스트용)
+     */
+    public long getInMemoryBucketCount() {
+        long count = 0;
+        for (Cache<String, Bucket> store : inMemoryBuckets.values()) {
+            store.cleanUp();
+            count += store.estimatedSize();
+        }
+        for (Policy policy : policies.values()) {
+            policy.inMemoryBuckets().cleanUp();
+            count += policy.inMemoryBuckets().estimatedSize();
         }
+        return count;
     }
     
     private Bandwidth getBandwidthFromConfig(BucketConfiguration config) {
@@ -276,8 +501,9 @@ public class RateLimitService {
      * 이메일 발송 Rate Limiting 체크
      */
     public void checkEmailSendRateLimit(String clientIp, String email) {
-        if (!isEmailSendAllowed(clientIp)) {
-            long waitTime = getEmailSendWaitTime(clientIp);
+        ConsumptionProbe probe = tryConsume(LimitType.EMAIL_SEND, clientIp);
+        if (!probe.isConsumed()) {
+            long waitTime = toSeconds(probe.getNanosToWaitForRefill());
             log.warn("이메일 발송 속도 제한 초과: ip={}, email={}, waitTime={}초", 
                     clientIp, email, waitTime);
             throw new RateLimitExceededException(
@@ -291,8 +517,9 @@ public class RateLimitService {
      * 회원가입 Rate Limiting 체크
      */
     public void checkSignupRateLimit(String clientIp, String email) {
-        if (!isSignupAllowed(clientIp)) {
-            long waitTime = getSignupWaitTime(clientIp);
+        ConsumptionProbe probe = tryConsume(LimitType.SIGNUP, clientIp);
+        if (!probe.isConsumed()) {
+            long waitTime = toSeconds(probe.getNanosToWaitForRefill());
             log.warn("회원가입 속도 제한 초과: ip={}, email={}, waitTime={}초", 
                     clientIp, email, waitTime);
             throw new RateLimitExceededException(
@@ -306,8 +533,9 @@ public class RateLimitService {
      * 이메일 인증 코드 검증 Rate Limiting 체크
      */
     public void checkEmailVerifyRateLimit(String email) {
-        if (!isEmailVerifyAllowed(email)) {
-            long waitTime = getEmailVerifyWaitTime(email);
+        ConsumptionProbe probe = tryConsume(LimitType.EMAIL_VERIFY, email);
+        if (!probe.isConsumed()) {
+            long waitTime = toSeconds(probe.getNanosToWaitForRefill());
             log.warn("인증 코드 검증 속도 제한 초과: email={}, waitTime={}초", email, waitTime);
             throw new RateLimitExceededException(
                 "인증 코드 검증 시도 횟수를 초과했습니다. " + waitTime + "초 후 다시 시도해주세요.", 
@@ -321,8 +549,9 @@ public class RateLimitService {
      * 로그인 Rate Limiting 체크 (IP 기반만)
      */
     public void checkLoginRateLimit(String clientIp) {
-        if (!isLoginAllowed(clientIp)) {
-            long waitTime = getLoginWaitTime(clientIp);
+        ConsumptionProbe probe = tryConsume(LimitType.LOGIN, clientIp);
+        if (!probe.isConsumed()) {
+            long waitTime = toSeconds(probe.getNanosToWaitForRefill());
             log.warn("로그인 시도 속도 제한 초과: ip={}, waitTime={}초", clientIp, waitTime);
             throw new RateLimitExceededException(
                 "로그인 시도 속도 제한을 초과했습니다. " + waitTime + "초 후 다시 시도해주세요.", 
@@ -337,8 +566,9 @@ public class RateLimitService {
      */
     public void checkEnhancedLoginRateLimit(String clientIp, String email) {
         // 1. IP 기반 체크
-        if (!isLoginAllowed(clientIp)) {
-            long waitTime = getLoginWaitTime(clientIp);
+        ConsumptionProbe ipProbe = tryConsume(LimitType.LOGIN, clientIp);
+        if (!ipProbe.isConsumed()) {
+            long waitTime = toSeconds(ipProbe.getNanosToWaitForRefill());
             log.warn("로그인 시도 속도 제한 초과 (IP): ip={}, email={}, waitTime={}초", 
                     clientIp, email, waitTime);
             throw new RateLimitExceededException(
@@ -348,8 +578,9 @@ public class RateLimitService {
         }
         
         // 2. 이메일 기반 체크 (더 엄격한 제한)
-        if (!isLoginByEmailAllowed(email)) {
-            long waitTime = getLoginByEmailWaitTime(email);
+        ConsumptionProbe emailProbe = tryConsume(LimitType.LOGIN_EMAIL, email);
+        if (!emailProbe.isConsumed()) {
+            long waitTime = toSeconds(emailProbe.getNanosToWaitForRefill());
             log.warn("로그인 시도 속도 제한 초과 (이메일): ip={}, email={}, waitTime={}초", 
                     clientIp, email, waitTime);
             throw new RateLimitExceededException(
@@ -364,8 +595,9 @@ public class RateLimitService {
      * 토큰 갱신 남용 방지
      */
     public void checkRefreshTokenRateLimit(String clientIp) {
-        if (!isRefreshTokenAllowed(clientIp)) {
-            long waitTime = getRefreshTokenWaitTime(clientIp);
+        ConsumptionProbe probe = tryConsume(LimitType.REFRESH_TOKEN, clientIp);
+        if (!probe.isConsumed()) {
+            long waitTime = toSeconds(probe.getNanosToWaitForRefill());
             log.warn("토큰 갱신 속도 제한 초과: ip={}, waitTime={}초", clientIp, waitTime);
             throw new RateLimitExceededException(
                 "토큰 갱신 속도 제한을 초과했습니다. " + waitTime + "초 후 다시 시도해주세요.",
@@ -388,10 +620,10 @@ public class RateLimitService {
     public void resetLoginRateLimit(String email, String clientIp) {
         try {
             // 1. 이메일 기반 로그인 제한 리셋
-            resetRateLimitBucket("login_email:" + email);
+            resetRateLimitBucket(LimitType.LOGIN_EMAIL, email);
 
             // 2. IP 기반 로그인 제한 리셋
-            resetRateLimitBucket("login:" + clientIp);
+            resetRateLimitBucket(LimitType.LOGIN, clientIp);
 
             log.info("로그인 Rate Limit 리셋 완료: email={}, ip={}", email, clientIp);
 
@@ -405,18 +637,21 @@ public class RateLimitService {
     /**
      * 특정 키의 Rate Limit 버킷을 리셋합니다.
      *
-     * @param key Rate Limit 버킷 키
+     * @param limitType Rate Limit 종류
+     * @param identifier IP 또는 이메일
      */
-    private void resetRateLimitBucket(String key) {
+    private void resetRateLimitBucket(LimitType limitType, String identifier) {
+        String key = limitType.key(identifier);
         try {
-            if (proxyManager != null) {
+            // 장애 중 로컬 버킷에 쌓인 상태도 함께 제거
+            inMemoryBuckets.get(limitType).invalidate(key);
+            // 선할당 모드에서 프록시가 보관한 로컬 토큰 상태도 버려 다음 요청이 새 버킷에서 시작하도록 함
+            proxyCache.invalidate(key);
+            if (isUsingRedis()) {
                 // Redis 사용 시: 해당 키를 삭제하여 리셋
-                proxyManager.removeProxy(key.getBytes());
+                proxyManager.removeProxy(key.getBytes(StandardCharsets.UTF_8));
                 log.debug("Redis Rate Limit 버킷 삭제: key={}", key);
             } else {
-                // 인메모리 사용 시: 해당 키의 버킷을 제거
-                inMemoryBuckets.remove(key);
-                bucketLocks.remove(key); // 락도 정리
                 log.debug("인메모리 Rate Limit 버킷 삭제: key={}", key);
             }
         } catch (Exception e) {
@@ -0,0 +1,319 @@
+package com.jober.final2teamdrhong.service;
+
+import com.jober.final2teamdrhong.config.AuthProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 기반 Refresh Token 저장소
+ *
+ * 주요 기능:
+ * - 발급(기존 토큰 정리 포함), 회전, 무효화를 각각 하나의 Lua 스크립트로 원자적으로 처리
+ * - 로그인/토큰 갱신 시 Redis 왕복을 요청당 1~2회로 축소
+ * - 회전 스크립트가 기존 토큰의 존재 확인과 삭제를 함께 수행하여 동시 갱신 중 하나만 성공
+ *
+ * 키 구조 (AuthProperties.Redis):
+ * - refresh_token:{hash} → userId
+ * - user_tokens:{userId} → 토큰 해시 및 "access:{jti}" 목록 (Sorted Set, 점수 = 만료 시각 epoch millis)
+ *
+ * 사용자 토큰 목록은 쓰기마다 만료 항목을 잘라내고 사용자당 최대 항목 수를 넘으면 만료가 가장 이른 항목부터 제거합니다.
+ * 키 TTL은 가장 늦게 만료되는 항목에 맞추며, 백그라운드 정리 작업이 쓰기가 없는 사용자의 목록도 주기적으로 정리합니다.
+ * 이전 형식(Set)의 목록은 스크립트가 처음 접근할 때 Sorted Set으로 변환합니다.
+ *
+ * 발급/전체 무효화 스크립트는 사용자 토큰 목록에서 읽은 키를 삭제하므로 단일 Redis(비클러스터) 구성을 전제로 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTokenStore {
+
+    private static final int REAPER_BATCH_SIZE = 100;
+
+    /**
+     * 공통 인자: ARGV[1]=현재 시각(ms), ARGV[2]=최대 항목 수, ARGV[3]=refresh 키 접두사,
+     * ARGV[4]=access 항목 접두사, ARGV[5]=refresh JTI 항목 접두사, ARGV[6]=이전 형식 변환 시 기본 TTL(ms)
+     */
+    private static final String INDEX_LUA = """
+            local now = tonumber(ARGV[1])
+            local maxEntries = tonumber(ARGV[2])
+
+            local function isRefreshHash(member)
+                return string.sub(member, 1, #ARGV[4]) ~= ARGV[4] and string.sub(member, 1, #ARGV[5]) ~= ARGV[5]
+            end
+
+            local function prepare(key)
+                if redis.call('TYPE', key).ok == 'set' then
+                    local pttl = redis.call('PTTL', key)
+                    local score = now + (pttl > 0 and pttl or tonumber(ARGV[6]))
+                    local legacy = redis.call('SMEMBERS', key)
+                    redis.call('DEL', key)
+                    for _, member in ipairs(legacy) do
+                        redis.call('ZADD', key, score, member)
+                    end
+                end
+                redis.call('ZREMRANGEBYSCORE', key, '-inf', now)
+            end
+
+            local function finish(key)
+                local overflow = redis.call('ZCARD', key) - maxEntries
+                if overflow > 0 then
+                    for _, member in ipairs(redis.call('ZRANGE', key, 0, overflow - 1)) do
+                        if isRefreshHash(member) then
+                            redis.call('DEL', ARGV[3] .. member)
+                        end
+                    end
+                    redis.call('ZREMRANGEBYRANK', key, 0, overflow - 1)
+                end
+                local last = redis.call('ZRANGE', key, -1, -1, 'WITHSCORES')
+                if last[2] then
+                    redis.call('PEXPIREAT', key, last[2])
+                end
+            end
+
+            local function revokeAll(key)
+                local members = redis.call('ZRANGE', key, 0, -1)
+                for _, member in ipairs(members) do
+                    if isRefreshHash(member) then
+                        redis.call('DEL', ARGV[3] .. member)
+                    end
+                end
+                redis.call('DEL', key)
+                return #members
+            end
+            """;
+
+    /**
+     * 기존 토큰 전체 무효화 후 새 Refresh Token 저장 (단일 세션 정책)
+     * KEYS[1]=user_tokens, ARGV[7]=새 토큰 해시, ARGV[8]=userId, ARGV[9]=TTL(초)
+     */
+    private static final RedisScript<Long> ISSUE_SCRIPT = RedisScript.of(INDEX_LUA + """
+            prepare(KEYS[1])
+            local revoked = revokeAll(KEYS[1])
+            redis.call('SET', ARGV[3] .. ARGV[7], ARGV[8], 'EX', ARGV[9])
+            redis.call('ZADD', KEYS[1], now + tonumber(ARGV[9]) * 1000, ARGV[7])
+            finish(KEYS[1])
+            return revoked
+            """, Long.class);
+
+    /**
+     * 사용자의 모든 Refresh Token 키와 토큰 목록 삭제
+     * KEYS[1]=user_tokens
+     */
+    private static final RedisScript<Long> REVOKE_ALL_SCRIPT = RedisScript.of(INDEX_LUA + """
+            prepare(KEYS[1])
+            return revokeAll(KEYS[1])
+            """, Long.class);
+
+    /**
+     * 기존 토큰이 해당 사용자 소유로 남아 있을 때만 새 토큰으로 교체
+     * KEYS[1]=기존 토큰 키, KEYS[2]=새 토큰 키, KEYS[3]=user_tokens
+     * ARGV[7]=기존 해시, ARGV[8]=새 해시, ARGV[9]=userId, ARGV[10]=TTL(초),
+     * ARGV[11]=access 항목('' 이면 생략), ARGV[12]=access TTL(초)
+     */
+    private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of(INDEX_LUA + """
+            if redis.call('GET', KEYS[1]) ~= ARGV[9] then
+                return 0
+            end
+            prepare(KEYS[3])
+            redis.call('DEL', KEYS[1])
+            redis.call('ZREM', KEYS[3], ARGV[7])
+            redis.call('SET', KEYS[2], ARGV[9], 'EX', ARGV[10])
+            redis.call('ZADD', KEYS[3], now + tonumber(ARGV[10]) * 1000, ARGV[8])
+            if ARGV[11] ~= '' then
+                redis.call('ZADD', KEYS[3], now + tonumber(ARGV[12]) * 1000, ARGV[11])
+            end
+            finish(KEYS[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * 토큰 키 삭제 + 소유자 토큰 목록에서 제거
+     * KEYS[1]=토큰 키, ARGV[7]=user_tokens 접두사, ARGV[8]=토큰 해시
+     */
+    private static final RedisScript<Long> REVOKE_SCRIPT = RedisScript.of(INDEX_LUA + """
+            local userId = redis.call('GET', KEYS[1])
+            if not userId then
+                return 0
+            end
+            local index = ARGV[7] .. userId
+            prepare(index)
+            redis.call('DEL', KEYS[1])
+            redis.call('ZREM', index, ARGV[8])
+            return 1
+            """, Long.class);
+
+    /**
+     * Access Token 항목 추가
+     * KEYS[1]=user_tokens, ARGV[7]=access 항목, ARGV[8]=access TTL(초)
+     */
+    private static final RedisScript<Long> ADD_ACCESS_SCRIPT = RedisScript.of(INDEX_LUA + """
+            prepare(KEYS[1])
+            redis.call('ZADD', KEYS[1], now + tonumber(ARGV[8]) * 1000, ARGV[7])
+            finish(KEYS[1])
+            return 1
+            """, Long.class);
+
+    /**
+     * 여러 사용자 토큰 목록의 만료 항목 정리 및 최대 항목 수 적용
+     * KEYS=user_tokens 목록들
+     */
+    private static final RedisScript<Long> TRIM_SCRIPT = RedisScript.of(INDEX_LUA + """
+            for _, key in ipairs(KEYS) do
+                prepare(key)
+                finish(key)
+            end
+            return #KEYS
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final AuthProperties authProperties;
+
+    /**
+     * 사용자의 기존 토큰을 모두 무효화하고 새 Refresh Token 저장
+     *
+     * @param userId 사용자 ID
+     * @param tokenHash 새 토큰 해시
+     * @param ttlSeconds 토큰 만료 시간 (초)
+     * @return 정리된 기존 항목 수
+     */
+    public long issue(Long userId, String tokenHash, long ttlSeconds) {
+        Long revoked = stringRedisTemplate.execute(ISSUE_SCRIPT, List.of(userTokensKey(userId)),
+                args(tokenHash, userId.toString(), String.valueOf(ttlSeconds)));
+        return revoked != null ? revoked : 0;
+    }
+
+    /**
+     * Refresh Token 회전 (기존 토큰 삭제 + 새 토큰 저장 + Access Token 항목 추가)
+     *
+     * @param userId 사용자 ID
+     * @param oldTokenHash 기존 토큰 해시
+     * @param newTokenHash 새 토큰 해시
+     * @param accessTokenId 새 Access Token 항목 (access 접두사 포함, 없으면 null)
+     * @param ttlSeconds 새 토큰 만료 시간 (초)
+     * @return 기존 토큰이 아직 유효하여 교체했으면 true, 이미 사용/무효화된 토큰이면 false
+     */
+    public boolean rotate(Long userId, String oldTokenHash, String newTokenHash, String accessTokenId, long ttlSeconds) {
+        Long result = stringRedisTemplate.execute(ROTATE_SCRIPT,
+                List.of(refreshTokenKey(oldTokenHash), refreshTokenKey(newTokenHash), userTokensKey(userId)),
+                args(oldTokenHash, newTokenHash, userId.toString(), String.valueOf(ttlSeconds),
+                        accessTokenId != null ? accessTokenId : "",
+                        String.valueOf(authProperties.getToken().getAccessTokenValiditySeconds())));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 특정 Refresh Token 무효화
+     *
+     * @param tokenHash 토큰 해시
+     * @return 삭제했으면 true
+     */
+    public boolean revoke(String tokenHash) {
+        Long result = stringRedisTemplate.execute(REVOKE_SCRIPT, List.of(refreshTokenKey(tokenHash)),
+                args(authProperties.getRedis().getUserTokensKeyPrefix(), tokenHash));
+        return result != null && result == 1L;
+    }
+
+    /**
+     * 사용자의 모든 Refresh Token 무효화
+     *
+     * @param userId 사용자 ID
+     * @return 정리된 항목 수
+     */
+    public long revokeAll(Long userId) {
+        Long revoked = stringRedisTemplate.execute(REVOKE_ALL_SCRIPT, List.of(userTokensKey(userId)), args());
+        return revoked != null ? revoked : 0;
+    }
+
+    /**
+     * 사용자 토큰 목록에 Access Token 항목 추가
+     *
+     * @param userId 사용자 ID
+     * @param accessTokenId Access Token 항목 (access 접두사 포함)
+     * @param ttlSeconds Access Token 만료 시간 (초)
+     */
+    public void addAccessToken(Long userId, String accessTokenId, long ttlSeconds) {
+        stringRedisTemplate.execute(ADD_ACCESS_SCRIPT, List.of(userTokensKey(userId)),
+                args(accessTokenId, String.valueOf(ttlSeconds)));
+    }
+
+    /**
+     * Refresh Token 존재 여부
+     */
+    public boolean exists(String tokenHash) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(refreshTokenKey(tokenHash)));
+    }
+
+    /**
+     * 사용자 토큰 목록 백그라운드 정리
+     * 쓰기가 없는 사용자의 만료 항목도 제거하여 사용자당 메모리를 제한합니다. (여러 노드에서 실행되어도 안전)
+     */
+    @Scheduled(fixedDelayString = "${auth.redis.user-tokens-reaper-interval-ms:600000}",
+            initialDelayString = "${auth.redis.user-tokens-reaper-interval-ms:600000}")
+    public void reapExpiredEntries() {
+        try {
+            ScanOptions options = ScanOptions.scanOptions()
+                    .match(authProperties.getRedis().getUserTokensKeyPrefix() + "*")
+                    .count(1000)
+                    .build();
+            List<String> batch = new ArrayList<>(REAPER_BATCH_SIZE);
+            long scanned = 0;
+            try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() >= REAPER_BATCH_SIZE) {
+                        scanned += trim(batch);
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                scanned += trim(batch);
+            }
+            log.debug("사용자 토큰 목록 정리 완료: {} 개", scanned);
+        } catch (Exception e) {
+            log.error("사용자 토큰 목록 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    private long trim(List<String> userTokensKeys) {
+        Long trimmed = stringRedisTemplate.execute(TRIM_SCRIPT, userTokensKeys, args());
+        return trimmed != null ? trimmed : 0;
+    }
+
+    /**
+     * 공통 인자(ARGV[1]~ARGV[6]) 뒤에 스크립트별 인자 추가
+     */
+    private Object[] args(String... scriptArgs) {
+        Object[] args = new Object[6 + scriptArgs.length];
+        args[0] = String.valueOf(System.currentTimeMillis());
+        args[1] = String.valueOf(authProperties.getRedis().getUserTokensMaxEntries());
+        args[2] = refreshTokenKeyPrefix();
+        args[3] = authProperties.getToken().getAccessTokenPrefix();
+        args[4] = authProperties.getToken().getRefreshTokenPrefix();
+        args[5] = String.valueOf(TimeUnit.SECONDS.toMillis(authProperties.getToken().getRefreshTokenValiditySeconds()));
+        System.arraycopy(scriptArgs, 0, args, 6, scriptArgs.length);
+        return args;
+    }
+
+    private String refreshTokenKey(String tokenHash) {
+        return refreshTokenKeyPrefix() + tokenHash;
+    }
+
+    private String userTokensKey(Long userId) {
+        return authProperties.getRedis().getUserTokensKeyPrefix() + userId;
+    }
+
+    private String refreshTokenKeyPrefix() {
+        return authProperties.getRedis().getRefreshTokenKeyPrefix();
+    }
+}
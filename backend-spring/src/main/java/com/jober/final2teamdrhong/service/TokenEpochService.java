@@ -0,0 +1,201 @@
+package com.jober.final2teamdrhong.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jober.final2teamdrhong.config.AuthProperties;
+import com.jober.final2teamdrhong.config.JwtConfig;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * 사용자별 토큰 에포크 관리 서비스
+ *
+ * 주요 기능:
+ * - "이 시각 이전에 발급된 토큰은 모두 무효" 기준 시각을 사용자별로 Redis에 단일 키로 저장
+ * - 비밀번호 변경, 회원 탈퇴, 계정 통합 시 세션 수와 무관하게 한 번의 쓰기로 전체 토큰 무효화
+ * - 조회 결과(에포크 없음 포함)를 로컬에 짧게 캐시하고, 변경은 Redis Pub/Sub으로 모든 노드에 즉시 전파
+ *
+ * 에포크와 토큰 발급 시각은 밀리초 단위(iatMs 클레임)로 비교하여, 무효화 직후 같은 초에 재로그인한 토큰은 유효합니다.
+ * iatMs 클레임이 없는 이전 토큰은 초 단위 iat를 그 초의 시작 시각으로 보고 비교하므로 같은 초에 발급된 경우 무효입니다.
+ * Redis 조회 실패 시에는 BlacklistService와 동일하게 Fail-Safe(무효)로 판단합니다.
+ * Redis가 없는 환경에서는 로컬 캐시가 유일한 저장소이므로 에포크를 Refresh Token 유효기간 동안 용량 제한 없이 보관합니다.
+ */
+@Service
+@Slf4j
+public class TokenEpochService implements MessageListener {
+
+    // 에포크가 없는 사용자도 캐시하기 위한 값
+    private static final long NO_EPOCH = 0L;
+    private static final long LOCAL_CACHE_MAX_SIZE = 100_000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+    private final AuthProperties authProperties;
+
+    // 사용자 ID -> 유효 토큰 최소 발급 시각 (epoch millis)
+    private final Cache<Integer, Long> epochs;
+
+    public TokenEpochService(ObjectProvider<StringRedisTemplate> stringRedisTemplateProvider,
+                             ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider,
+                             AuthProperties authProperties) {
+        this.stringRedisTemplate = stringRedisTemplateProvider.getIfAvailable();
+        this.listenerContainerProvider = listenerContainerProvider;
+        this.authProperties = authProperties;
+        this.epochs = stringRedisTemplate != null
+                ? Caffeine.newBuilder()
+                        .maximumSize(LOCAL_CACHE_MAX_SIZE)
+                        .expireAfterWrite(Duration.ofSeconds(authProperties.getRedis().getTokenEpochCacheTtlSeconds()))
+                        .build()
+                : Caffeine.newBuilder()
+                        .expireAfterWrite(Duration.ofSeconds(authProperties.getToken().getRefreshTokenValiditySeconds()))
+                        .build();
+    }
+
+    /**
+     * 에포크 변경 채널 구독
+     */
+    @PostConstruct
+    public void subscribe() {
+        RedisMessageListenerContainer container = listenerContainerProvider.getIfAvailable();
+        if (container == null || stringRedisTemplate == null) {
+            log.info("Redis Pub/Sub 미사용 환경 - 토큰 에포크 로컬 캐시는 TTL로만 갱신");
+            return;
+        }
+        container.addMessageListener(this, new ChannelTopic(authProperties.getRedis().getTokenEpochChannel()));
+    }
+
+    /**
+     * 현재 시각 이전에 발급된 사용자의 모든 토큰 무효화 (Redis 단일 쓰기)
+     * 키 TTL은 Refresh Token 유효기간으로, 그 이후에는 이전 토큰이 모두 자연 만료됩니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void revokeAllIssuedBefore(Integer userId) {
+        if (userId == null) {
+            log.warn("토큰 에포크 갱신 실패 - userId가 null");
+            return;
+        }
+
+        long notBeforeMillis = System.currentTimeMillis();
+        long ttlSeconds = authProperties.getToken().getRefreshTokenValiditySeconds();
+
+        epochs.asMap().merge(userId, notBeforeMillis, Math::max);
+        if (stringRedisTemplate == null) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.opsForValue().set(epochKey(userId), String.valueOf(notBeforeMillis),
+                    Duration.ofSeconds(ttlSeconds));
+            log.info("[SECURITY] 사용자 {} 토큰 에포크 갱신 - 이전 발급 토큰 전체 무효화", userId);
+        } catch (Exception e) {
+            log.error("토큰 에포크 저장 실패: userId={}, error={}", userId, e.getMessage());
+            throw new RuntimeException("Failed to save token epoch", e);
+        }
+
+        publish(userId + ":" + notBeforeMillis);
+    }
+
+    /**
+     * 파싱된 토큰이 사용자 에포크 이전에 발급되었는지 확인
+     */
+    public boolean isRevoked(JwtConfig.ParsedToken parsedToken) {
+        return parsedToken != null && isRevoked(parsedToken.claims());
+    }
+
+    /**
+     * Claims의 iat가 사용자 에포크 이전인지 확인
+     *
+     * @param claims 검증된 JWT Claims
+     * @return 무효화된 토큰이면 true (조회 실패 시 true)
+     */
+    public boolean isRevoked(Claims claims) {
+        if (claims == null) {
+            return false;
+        }
+
+        Integer userId = extractUserId(claims);
+        Date issuedAt = claims.getIssuedAt();
+        if (userId == null || issuedAt == null) {
+            return false;
+        }
+
+        try {
+            // Redis가 없으면 에포크가 없는 사용자를 캐시하지 않음 (보관 기간 동안 항목이 계속 늘어나지 않도록)
+            Long notBeforeMillis = stringRedisTemplate != null
+                    ? epochs.get(userId, this::loadEpoch)
+                    : epochs.getIfPresent(userId);
+            return notBeforeMillis != null && notBeforeMillis != NO_EPOCH
+                    && issuedAtMillis(claims, issuedAt) < notBeforeMillis;
+        } catch (Exception e) {
+            // Fail-Safe: 확인 불가 시 무효화된 것으로 간주
+            log.error("토큰 에포크 확인 실패: userId={}, error={}", userId, e.getMessage());
+            return true;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            int separator = body.indexOf(':');
+            Integer userId = Integer.valueOf(body.substring(0, separator));
+            long notBeforeMillis = Long.parseLong(body.substring(separator + 1));
+            epochs.asMap().merge(userId, notBeforeMillis, Math::max);
+        } catch (RuntimeException e) {
+            log.warn("토큰 에포크 이벤트 처리 실패: body={}, error={}", body, e.getMessage());
+        }
+    }
+
+    private Long loadEpoch(Integer userId) {
+        String value = stringRedisTemplate.opsForValue().get(epochKey(userId));
+        return value != null ? Long.parseLong(value) : NO_EPOCH;
+    }
+
+    private void publish(String payload) {
+        try {
+            stringRedisTemplate.convertAndSend(authProperties.getRedis().getTokenEpochChannel(), payload);
+        } catch (Exception e) {
+            // Redis 키는 이미 저장되었으므로 다른 노드는 로컬 캐시 만료 후 반영
+            log.error("토큰 에포크 이벤트 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 토큰 발급 시각 (epoch millis)
+     * iatMs 클레임이 없으면 초 단위 iat를 그대로 사용하여 같은 초의 무효화도 적용되도록 함
+     */
+    private long issuedAtMillis(Claims claims, Date issuedAt) {
+        Object issuedAtMillis = claims.get(JwtConfig.ISSUED_AT_MILLIS_CLAIM);
+        if (issuedAtMillis instanceof Number number) {
+            return number.longValue();
+        }
+        return issuedAt.getTime();
+    }
+
+    private String epochKey(Integer userId) {
+        return authProperties.getRedis().getTokenEpochKeyPrefix() + userId;
+    }
+
+    private Integer extractUserId(Claims claims) {
+        Object userIdObj = claims.get("userId");
+        if (userIdObj instanceof Integer) {
+            return (Integer) userIdObj;
+        } else if (userIdObj instanceof Long) {
+            return ((Long) userIdObj).intValue();
+        }
+        return null;
+    }
+}
@@ -8,13 +8,8 @@ import com.jober.final2teamdrhong.util.LogMaskingUtil;
 import com.jober.final2teamdrhong.config.AuthProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
-
-import java.time.Duration;
-import java.util.Set;
-
 /**
  * RefreshToken 관리 서비스
  * 
@@ -23,6 +18,8 @@ import java.util.Set;
  * - 토큰 회전 (Token Rotation) 보안 정책
  * - 다중 세션 관리 및 제한
  * - 토큰 정리 및 통계
+ *
+ * Redis 저장/회전/무효화는 RefreshTokenStore의 원자적 스크립트로 처리합니다.
  */
 @Service
 @RequiredArgsConstructor
@@ -32,9 +29,9 @@ public class TokenService {
     private final UserRepository userRepository;
     private final JwtConfig jwtConfig;
     private final RateLimitService rateLimitService;
-    private final RedisTemplate<String,String> redisTemplate;
+    private final RefreshTokenStore refreshTokenStore;
     private final AuthProperties authProperties;
-    private final BlacklistService blacklistService;
+    private final TokenEpochService tokenEpochService;
 
     // Redis 키 패턴 및 설정 상수는 AuthProperties에서 가져옴
     /**
@@ -46,14 +43,11 @@ public class TokenService {
                 LogMaskingUtil.maskUserId(user.getUserId().longValue()), 
                 LogMaskingUtil.maskIpAddress(clientIp));
 
-        // 1. 기존 토큰 무효화 (단일 세션 정책)
-        revokeAllUserTokens(user.getUserId().longValue());
-
-        // 2. 새로운 Refresh Token 생성
+        // 1. 새로운 Refresh Token 생성
         String refreshToken = jwtConfig.generateRefreshToken(user.getUserEmail(), user.getUserId());
         String tokenHash = jwtConfig.generateTokenHash(refreshToken);
 
-        // 3. Redis에 저장
+        // 2. 기존 토큰 무효화(단일 세션 정책) + Redis 저장을 한 번에 처리
         saveRefreshTokenToRedis(tokenHash,user.getUserId().longValue(),authProperties.getToken().getRefreshTokenValiditySeconds());
 
         log.info("Refresh Token 생성 완료: userId={}",
@@ -100,6 +94,12 @@ public class TokenService {
             throw new AuthenticationException(authProperties.getMessages().getInvalidRefreshToken());
         }
 
+        // 비밀번호 변경 등으로 일괄 무효화된 토큰인지 확인
+        if (tokenEpochService.isRevoked(jwtConfig.getClaimsFromToken(refreshToken))) {
+            log.warn("일괄 무효화된 Refresh Token: ip={}", LogMaskingUtil.maskIpAddress(clientIp));
+            throw new AuthenticationException(authProperties.getMessages().getExpiredRefreshToken());
+        }
+
         // Redis에서 토큰 존재 여부 확인
         String tokenHash = jwtConfig.generateTokenHash(refreshToken);
         if (!isValidRefreshTokenInRedis(tokenHash)) {
@@ -162,11 +162,26 @@ public class TokenService {
         String newAccessToken = jwtConfig.generateAccessToken(context.email(), context.userId());
         String newRefreshToken = jwtConfig.generateRefreshToken(context.email(), context.userId());
         String newTokenHash = jwtConfig.generateTokenHash(newRefreshToken);
+        String oldTokenHash = jwtConfig.generateTokenHash(oldRefreshToken);
+        String accessJti = jwtConfig.getJtiFromToken(newAccessToken);
+        String accessTokenId = accessJti != null ? authProperties.getToken().getAccessTokenPrefix() + accessJti : null;
+
+        // 기존 토큰 무효화 및 새 토큰 저장 (Token Rotation, 원자적 처리)
+        boolean rotated;
+        try {
+            rotated = refreshTokenStore.rotate(context.userId().longValue(), oldTokenHash, newTokenHash,
+                    accessTokenId, authProperties.getToken().getRefreshTokenValiditySeconds());
+        } catch (Exception e) {
+            log.error("Redis Refresh Token 회전 실패 : {}", e.getMessage());
+            throw new RuntimeException("Failed to save Refresh Token", e);
+        }
 
-        // 기존 토큰 무효화 및 새 토큰 저장 (Token Rotation)
-        revokeRefreshToken(oldRefreshToken);
-        saveRefreshTokenToRedis(newTokenHash, context.userId().longValue(),
-                authProperties.getToken().getRefreshTokenValiditySeconds());
+        // 동시 요청이 먼저 회전했거나 이미 무효화된 토큰
+        if (!rotated) {
+            log.warn("이미 사용되었거나 무효화된 Refresh Token으로 갱신 시도: userId={}",
+                    LogMaskingUtil.maskUserId(context.userId().longValue()));
+            throw new AuthenticationException(authProperties.getMessages().getExpiredRefreshToken());
+        }
 
         return new TokenPair(newAccessToken, newRefreshToken);
     }
@@ -181,7 +196,7 @@ public class TokenService {
     private record RefreshTokenContext(String email, Integer userId, User user) {}
 
     /**
-     * Redis에 Refresh Token 저장
+     * Redis에 Refresh Token 저장 (기존 사용자 토큰 정리 포함, 단일 스크립트)
      *
      * @param tokenHash 토큰 해시값
      * @param userId 사용자 ID
@@ -189,17 +204,10 @@ public class TokenService {
      */
     private void saveRefreshTokenToRedis(String tokenHash, Long userId, long ttlSeconds) {
         try{
-            String tokenKey = authProperties.getRedis().getRefreshTokenKeyPrefix() + tokenHash;
-            String userTokensSetKey = authProperties.getRedis().getUserTokensKeyPrefix() + userId; // 사용자별 토큰 목록을 위한 키
+            long revoked = refreshTokenStore.issue(userId, tokenHash, ttlSeconds);
 
-            // 토큰 해시 -> 사용자 ID 매핑 저장
-            redisTemplate.opsForValue().set(tokenKey, userId.toString(), Duration.ofSeconds(ttlSeconds));
-
-            // 사용자 별 토큰 목록에 추가 (정리용)
-            redisTemplate.opsForSet().add(userTokensSetKey, tokenHash);
-            redisTemplate.expire(userTokensSetKey, Duration.ofSeconds(ttlSeconds));
-
-            log.info("Refresh Token 저장 완료: userId={}, TTL={}초", LogMaskingUtil.maskUserId(userId), ttlSeconds);
+            log.info("Refresh Token 저장 완료: userId={}, TTL={}초, 기존 토큰 정리={}개",
+                    LogMaskingUtil.maskUserId(userId), ttlSeconds, revoked);
         }catch (Exception e){
             log.error("Redis Refresh Token 저장 실패 : {}", e.getMessage());
             throw new RuntimeException("Failed to save Refresh Token",e);
@@ -212,9 +220,7 @@ public class TokenService {
      */
     private boolean isValidRefreshTokenInRedis(String tokenHash) {
         try {
-            String tokenKey = authProperties.getRedis().getRefreshTokenKeyPrefix() + tokenHash;
-            Boolean exists = redisTemplate.hasKey(tokenKey);
-            return exists != null && exists;
+            return refreshTokenStore.exists(tokenHash);
         } catch (Exception e) {
             log.error("Redis Refresh Token 검증 실패: {}", e.getMessage());
             return false;
@@ -232,19 +238,8 @@ public class TokenService {
         String tokenHash = jwtConfig.generateTokenHash(refreshToken);
 
         try {
-            String tokenKey = authProperties.getRedis().getRefreshTokenKeyPrefix() + tokenHash;
-            String userIdStr = redisTemplate.opsForValue().get(tokenKey);
-
-            if (userIdStr != null) {
-                Long userId = Long.valueOf(userIdStr);
-                String userTokensSetKey = authProperties.getRedis().getUserTokensKeyPrefix() + userId;
-
-                // 토큰 삭제
-                redisTemplate.delete(tokenKey);
-                // 사용자별 토큰 목록에서도 삭제
-                redisTemplate.opsForSet().remove(userTokensSetKey, tokenHash);
-
-                log.info("Refresh Token 무효화 완료: userId={}", userId);
+            if (refreshTokenStore.revoke(tokenHash)) {
+                log.info("Refresh Token 무효화 완료");
             }
         } catch (Exception e) {
             log.error("Redis Refresh Token 무효화 실패: {}", e.getMessage());
@@ -271,15 +266,10 @@ public class TokenService {
                 return;
             }
 
-            String userTokensSetKey = authProperties.getRedis().getUserTokensKeyPrefix() + userId.longValue();
-
             // Access Token JTI를 prefix와 함께 저장 (Refresh Token과 구분)
             String accessTokenId = authProperties.getToken().getAccessTokenPrefix() + jti;
-            redisTemplate.opsForSet().add(userTokensSetKey, accessTokenId);
-
-            // TTL 설정 (Access Token 만료시간에 맞춤)
-            long accessTokenValiditySeconds = jwtConfig.getAccessTokenValiditySeconds();
-            redisTemplate.expire(userTokensSetKey, Duration.ofSeconds(accessTokenValiditySeconds));
+            refreshTokenStore.addAccessToken(userId.longValue(), accessTokenId,
+                    jwtConfig.getAccessTokenValiditySeconds());
 
             log.debug("Access Token 저장 완료: userId={}, jti={}", userId, jti);
 
@@ -290,30 +280,24 @@ public class TokenService {
 
     /**
      * 사용자의 모든 Refresh Token 무효화 (전체 로그아웃)
+     * 토큰 목록 조회와 키 삭제를 하나의 스크립트로 처리합니다.
      */
     public void revokeAllUserTokens(Long userId) {
         try {
-            String userTokensSetKey = authProperties.getRedis().getUserTokensKeyPrefix() + userId;
-            Set<String> tokenIdentifiers = redisTemplate.opsForSet().members(userTokensSetKey);
-
-            if (tokenIdentifiers != null && !tokenIdentifiers.isEmpty()) {
-                // 토큰 타입별로 처리
-                for (String tokenId : tokenIdentifiers) {
-                    processTokenRevocation(tokenId);
-                }
-                redisTemplate.delete(userTokensSetKey); // 사용자 토큰 세트 자체 삭제
-            }
-
-            log.info("사용자 {}의 모든 토큰이 무효화되었습니다: {} 개", userId,
-                tokenIdentifiers != null ? tokenIdentifiers.size() : 0);
+            long revoked = refreshTokenStore.revokeAll(userId);
+            log.info("사용자 {}의 모든 토큰이 무효화되었습니다: {} 개", userId, revoked);
         } catch (Exception e) {
             log.error("Redis 사용자 토큰 무효화 실패: {}", e.getMessage());
         }
     }
 
     /**
-     * 사용자의 모든 토큰을 블랙리스트에 추가
-     * 비밀번호 변경 시 사용
+     * 사용자의 모든 토큰 무효화
+     * 비밀번호 변경, 회원 탈퇴, 계정 통합 시 사용
+     *
+     * 토큰별 블랙리스트 키 대신 사용자 토큰 에포크를 한 번 갱신하며,
+     * 이전에 발급된 Access/Refresh Token은 인증 필터와 토큰 갱신 단계에서 iat 비교로 거부됩니다.
+     * 남아 있는 Refresh Token 키는 다음 로그인 시 정리되거나 TTL로 만료됩니다.
      *
      * @param userId 사용자 ID
      */
@@ -324,107 +308,10 @@ public class TokenService {
         }
 
         try {
-            String userTokensSetKey = authProperties.getRedis().getUserTokensKeyPrefix() + userId.longValue();
-            Set<String> tokenIdentifiers = redisTemplate.opsForSet().members(userTokensSetKey);
-
-            if (tokenIdentifiers == null || tokenIdentifiers.isEmpty()) {
-                log.info("사용자 {}의 활성 토큰이 없음", userId);
-                return;
-            }
-
-            int blacklistedCount = 0;
-
-            // 각 토큰을 블랙리스트에 추가
-            for (String tokenId : tokenIdentifiers) {
-                if (addTokenToBlacklistByType(tokenId)) {
-                    blacklistedCount++;
-                }
-            }
-
-            // 사용자 토큰 목록 정리
-            redisTemplate.delete(userTokensSetKey);
-
-            log.info("사용자 {}의 모든 토큰 블랙리스트 추가 완료: {}/{} 개",
-                userId, blacklistedCount, tokenIdentifiers.size());
-
+            tokenEpochService.revokeAllIssuedBefore(userId);
+            log.info("사용자 {}의 모든 토큰 무효화 완료 (토큰 에포크 갱신)", userId);
         } catch (Exception e) {
-            log.error("사용자 {} 토큰 블랙리스트 추가 실패: {}", userId, e.getMessage());
-        }
-    }
-
-    /**
-     * 토큰 타입별 무효화 처리 (단일 책임 원칙)
-     *
-     * @param tokenId 토큰 식별자 (prefix 포함)
-     */
-    private void processTokenRevocation(String tokenId) {
-        try {
-            String accessPrefix = authProperties.getToken().getAccessTokenPrefix();
-            String refreshPrefix = authProperties.getToken().getRefreshTokenPrefix();
-
-            if (tokenId.startsWith(accessPrefix)) {
-                // Access Token은 JTI만 저장되어 있으므로 별도 처리 불필요
-                log.debug("Access Token 무효화: {}", tokenId);
-            } else if (tokenId.startsWith(refreshPrefix)) {
-                // Refresh Token JTI 처리 (향후 확장 시 사용)
-                log.debug("Refresh Token JTI 무효화: {}", tokenId);
-            } else {
-                // 기존 방식 (Refresh Token 해시)
-                String tokenKey = authProperties.getRedis().getRefreshTokenKeyPrefix() + tokenId;
-                redisTemplate.delete(tokenKey);
-                log.debug("Refresh Token 해시 무효화: {}", tokenId);
-            }
-        } catch (Exception e) {
-            log.error("토큰 무효화 처리 실패: tokenId={}, error={}", tokenId, e.getMessage());
-        }
-    }
-
-    /**
-     * 토큰 타입별 블랙리스트 추가 (단일 책임 원칙)
-     *
-     * @param tokenId 토큰 식별자 (prefix 포함)
-     * @return 성공 여부
-     */
-    private boolean addTokenToBlacklistByType(String tokenId) {
-        try {
-            String accessPrefix = authProperties.getToken().getAccessTokenPrefix();
-            String refreshPrefix = authProperties.getToken().getRefreshTokenPrefix();
-
-            if (tokenId.startsWith(accessPrefix)) {
-                String jti = tokenId.substring(accessPrefix.length()); // prefix 제거
-                long accessTokenTtl = jwtConfig.getAccessTokenValiditySeconds();
-                addJtiToBlacklist(jti, accessTokenTtl);
-                return true;
-            } else if (tokenId.startsWith(refreshPrefix)) {
-                String jti = tokenId.substring(refreshPrefix.length()); // prefix 제거
-                long refreshTokenTtl = authProperties.getToken().getRefreshTokenValiditySeconds();
-                addJtiToBlacklist(jti, refreshTokenTtl);
-                return true;
-            } else {
-                // 기존 방식은 이미 무효화되어 있으므로 별도 처리 불필요
-                log.debug("기존 방식 토큰은 블랙리스트 추가 생략: {}", tokenId);
-                return true;
-            }
-        } catch (Exception e) {
-            log.error("토큰 블랙리스트 추가 실패: tokenId={}, error={}", tokenId, e.getMessage());
-            return false;
-        }
-    }
-
-    /**
-     * JTI를 블랙리스트에 추가 (DRY 원칙)
-     * BlacklistService를 활용하여 일관된 처리
-     *
-     * @param jti JWT ID
-     * @param ttlSeconds TTL (초)
-     */
-    private void addJtiToBlacklist(String jti, long ttlSeconds) {
-        try {
-            // BlacklistService에 위임하여 일관된 처리
-            blacklistService.addJtiToBlacklistExternal(jti, ttlSeconds);
-            log.debug("JTI 블랙리스트 추가 완료: jti={}, ttl={}초", jti, ttlSeconds);
-        } catch (Exception e) {
-            log.error("JTI 블랙리스트 추가 실패: jti={}, error={}", jti, e.getMessage());
+            log.error("사용자 {} 토큰 무효화 실패: {}", userId, e.getMessage());
         }
     }
 
@@ -436,6 +323,10 @@ public class TokenService {
             return false;
         }
 
+        if (tokenEpochService.isRevoked(jwtConfig.getClaimsFromToken(refreshToken))) {
+            return false;
+        }
+
         String tokenHash = jwtConfig.generateTokenHash(refreshToken);
         return isValidRefreshTokenInRedis(tokenHash);
     }
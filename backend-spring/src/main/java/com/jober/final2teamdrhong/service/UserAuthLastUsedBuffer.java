@@ -0,0 +1,131 @@
+package com.jober.final2teamdrhong.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인증 수단 마지막 사용 시각(last_used_at) 쓰기 지연 버퍼
+ *
+ * 로그인 성공 시 UPDATE를 바로 실행하지 않고 authId별로 가장 최근 시각만 메모리에 모아 두었다가
+ * 짧은 주기와 애플리케이션 종료 시에 JDBC 배치로 반영합니다.
+ * 같은 계정의 동시 로그인이 users_auth 행 잠금을 두고 직렬화되지 않습니다.
+ *
+ * 반영 실패 시 항목을 버퍼에 되돌려 다음 주기에 재시도하며,
+ * 프로세스가 비정상 종료되면 마지막 주기 이후의 갱신은 유실될 수 있습니다 (통계성 데이터).
+ */
+@Component
+@Slf4j
+public class UserAuthLastUsedBuffer {
+
+    private static final String UPDATE_SQL =
+            "UPDATE users_auth SET last_used_at = ? WHERE auth_id = ? AND (last_used_at IS NULL OR last_used_at < ?)";
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Integer, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public UserAuthLastUsedBuffer(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        Gauge.builder("auth.last_used.pending", pending, Map::size)
+                .description("반영 대기 중인 인증 수단 마지막 사용 시각 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 마지막 사용 시각 기록 (DB 쓰기 없음)
+     *
+     * @param authId 인증 수단 ID
+     */
+    public void record(Integer authId) {
+        if (authId == null) {
+            return;
+        }
+        pending.merge(authId, ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime(), this::latest);
+    }
+
+    /**
+     * 버퍼에 모인 갱신을 JDBC 배치로 반영
+     *
+     * @return 반영 시도한 항목 수
+     */
+    @Scheduled(fixedDelayString = "${auth.security.last-used-flush-interval-ms:5000}")
+    public int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        // 항목별로 원자적으로 꺼내므로 꺼낸 뒤 들어온 기록은 다음 주기에 반영
+        List<Object[]> batch = new ArrayList<>(Math.min(pending.size(), BATCH_SIZE));
+        int total = 0;
+        for (Integer authId : pending.keySet()) {
+            LocalDateTime lastUsedAt = pending.remove(authId);
+            if (lastUsedAt == null) {
+                continue;
+            }
+            Timestamp timestamp = Timestamp.valueOf(lastUsedAt);
+            batch.add(new Object[]{timestamp, authId, timestamp});
+            if (batch.size() >= BATCH_SIZE) {
+                total += executeBatch(batch);
+                batch = new ArrayList<>(BATCH_SIZE);
+            }
+        }
+        if (!batch.isEmpty()) {
+            total += executeBatch(batch);
+        }
+
+        log.debug("인증 수단 마지막 사용 시각 반영: {}건", total);
+        return total;
+    }
+
+    /**
+     * 종료 시 남은 갱신 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        int flushed = flush();
+        if (!pending.isEmpty()) {
+            log.warn("종료 중 반영하지 못한 인증 수단 마지막 사용 시각: {}건", pending.size());
+        } else if (flushed > 0) {
+            log.info("종료 전 인증 수단 마지막 사용 시각 반영 완료: {}건", flushed);
+        }
+    }
+
+    /**
+     * 반영 대기 중인 항목 수
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    private int executeBatch(List<Object[]> batch) {
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+            return batch.size();
+        } catch (Exception e) {
+            log.error("인증 수단 마지막 사용 시각 배치 반영 실패 - 다음 주기에 재시도: {}건, error={}",
+                    batch.size(), e.getMessage());
+            for (Object[] row : batch) {
+                pending.merge((Integer) row[1], ((Timestamp) row[0]).toLocalDateTime(), this::latest);
+            }
+            return 0;
+        }
+    }
+
+    private LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
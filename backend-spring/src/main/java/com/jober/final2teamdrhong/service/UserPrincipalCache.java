@@ -0,0 +1,246 @@
+package com.jober.final2teamdrhong.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jober.final2teamdrhong.config.AuthProperties;
+import com.jober.final2teamdrhong.entity.User;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 인증 사용자 정보(Principal) 2단계 캐시
+ *
+ * 주요 기능:
+ * - L1: 노드 로컬 Caffeine 캐시 (짧은 TTL, 동일 사용자 동시 요청은 한 번만 적재)
+ * - L2: Redis 캐시 (노드 간 공유, JSON 문자열)
+ * - 사용자 정보 변경 시 L1/L2 삭제 후 Redis Pub/Sub으로 다른 노드의 L1도 무효화
+ *
+ * 키는 userId이며, 트랜잭션 안에서 무효화하면 커밋 후 한 번 더 무효화하여
+ * 커밋 전에 다른 요청이 이전 값을 다시 적재하는 경우를 막습니다.
+ * Redis 장애 시에는 L1과 DB 조회만으로 동작합니다.
+ */
+@Component
+@Slf4j
+public class UserPrincipalCache implements MessageListener {
+
+    private static final String CACHE_NAME = "userPrincipals";
+    private static final String EVICT_ALL_EVENT = "*";
+    private static final int EVICT_BATCH_SIZE = 500;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+    private final ObjectMapper objectMapper;
+    private final AuthProperties authProperties;
+
+    private final Cache<Integer, UserPrincipal> localCache;
+
+    public UserPrincipalCache(ObjectProvider<StringRedisTemplate> stringRedisTemplateProvider,
+                              ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider,
+                              ObjectMapper objectMapper,
+                              AuthProperties authProperties,
+                              MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplateProvider.getIfAvailable();
+        this.listenerContainerProvider = listenerContainerProvider;
+        this.objectMapper = objectMapper;
+        this.authProperties = authProperties;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(authProperties.getRedis().getUserPrincipalLocalMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(authProperties.getRedis().getUserPrincipalLocalTtlSeconds()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME);
+    }
+
+    /**
+     * 무효화 이벤트 채널 구독
+     */
+    @PostConstruct
+    public void subscribe() {
+        RedisMessageListenerContainer container = listenerContainerProvider.getIfAvailable();
+        if (container == null || stringRedisTemplate == null) {
+            log.info("Redis Pub/Sub 미사용 환경 - 사용자 정보 L1 캐시는 TTL로만 갱신");
+            return;
+        }
+        container.addMessageListener(this, new ChannelTopic(authProperties.getRedis().getUserPrincipalChannel()));
+    }
+
+    /**
+     * L1 → L2 → loader 순서로 사용자 정보 조회
+     *
+     * @param userId 사용자 ID
+     * @param loader DB 조회 (예외는 그대로 전파되며 결과는 캐시하지 않음)
+     * @return 사용자 정보
+     */
+    public UserPrincipal getOrLoad(Integer userId, Supplier<UserPrincipal> loader) {
+        return localCache.get(userId, id -> {
+            UserPrincipal cached = readRemote(id);
+            if (cached != null) {
+                return cached;
+            }
+            UserPrincipal loaded = loader.get();
+            writeRemote(id, loaded);
+            return loaded;
+        });
+    }
+
+    /**
+     * 사용자 정보 캐시 무효화 (모든 노드의 L1 + L2)
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(Integer userId) {
+        if (userId == null) {
+            return;
+        }
+        evictNow(userId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 전체 사용자 정보 캐시 무효화 (운영 목적)
+     */
+    public void evictAll() {
+        localCache.invalidateAll();
+        if (stringRedisTemplate == null) {
+            return;
+        }
+        try {
+            String keyPrefix = authProperties.getRedis().getUserPrincipalKeyPrefix();
+            ScanOptions options = ScanOptions.scanOptions().match(keyPrefix + "*").count(1000).build();
+            List<String> batch = new ArrayList<>(EVICT_BATCH_SIZE);
+            try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    batch.add(cursor.next());
+                    if (batch.size() >= EVICT_BATCH_SIZE) {
+                        stringRedisTemplate.delete(batch);
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                stringRedisTemplate.delete(batch);
+            }
+        } catch (Exception e) {
+            log.error("사용자 정보 L2 캐시 전체 삭제 실패: {}", e.getMessage());
+        }
+        publish(EVICT_ALL_EVENT);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (EVICT_ALL_EVENT.equals(body)) {
+                localCache.invalidateAll();
+            } else {
+                localCache.invalidate(Integer.valueOf(body));
+            }
+        } catch (RuntimeException e) {
+            log.warn("사용자 정보 무효화 이벤트 처리 실패: body={}, error={}", body, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 L1 항목 수 (근사값)
+     */
+    public long size() {
+        return localCache.estimatedSize();
+    }
+
+    private void evictNow(Integer userId) {
+        localCache.invalidate(userId);
+        if (stringRedisTemplate == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.delete(principalKey(userId));
+        } catch (Exception e) {
+            log.error("사용자 정보 L2 캐시 삭제 실패: userId={}, error={}", userId, e.getMessage());
+        }
+        publish(String.valueOf(userId));
+    }
+
+    private UserPrincipal readRemote(Integer userId) {
+        if (stringRedisTemplate == null) {
+            return null;
+        }
+        try {
+            String json = stringRedisTemplate.opsForValue().get(principalKey(userId));
+            return json != null ? objectMapper.readValue(json, UserPrincipal.class) : null;
+        } catch (Exception e) {
+            log.warn("사용자 정보 L2 캐시 조회 실패 - DB 조회로 대체: userId={}, error={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRemote(Integer userId, UserPrincipal principal) {
+        if (stringRedisTemplate == null || principal == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.opsForValue().set(principalKey(userId), objectMapper.writeValueAsString(principal),
+                    Duration.ofSeconds(authProperties.getRedis().getUserPrincipalRedisTtlSeconds()));
+        } catch (Exception e) {
+            log.warn("사용자 정보 L2 캐시 저장 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private void publish(String payload) {
+        if (stringRedisTemplate == null) {
+            return;
+        }
+        try {
+            stringRedisTemplate.convertAndSend(authProperties.getRedis().getUserPrincipalChannel(), payload);
+        } catch (Exception e) {
+            // 다른 노드의 L1은 TTL 만료 후 반영
+            log.error("사용자 정보 무효화 이벤트 발행 실패: {}", e.getMessage());
+        }
+    }
+
+    private String principalKey(Integer userId) {
+        return authProperties.getRedis().getUserPrincipalKeyPrefix() + userId;
+    }
+
+    /**
+     * 인증에 필요한 사용자 정보
+     *
+     * @param userId 사용자 ID
+     * @param email 사용자 이메일
+     * @param userName 사용자 이름
+     * @param userRole 사용자 권한
+     */
+    public record UserPrincipal(Integer userId, String email, String userName, User.UserRole userRole) {
+
+        public static UserPrincipal from(User user) {
+            return new UserPrincipal(user.getUserId(), user.getUserEmail(), user.getUserName(), user.getUserRole());
+        }
+    }
+}
@@ -33,6 +33,7 @@ public class UserService {
     private final VerificationStorage verificationStorage;
     private final TimingAttackProtection timingAttackProtection;
     private final AuthProperties authProperties;
+    private final UserPrincipalCache userPrincipalCache;
 
     /**
      * 사용자 프로필 정보 조회
@@ -67,24 +68,13 @@ public class UserService {
                 .findFirst()
                 .orElseThrow(() -> new BusinessException("로컬 인증 정보가 없습니다."));
 
-        // 3. 현재 비밀번호 검증 (타이밍 공격 방지)
-        timingAttackProtection.startTiming();
+        // 3. 현재 비밀번호 검증 (타이밍 공격 방지 - 지연은 커밋 후 필터에서 적용)
+        boolean passwordMatches = passwordEncoder.matches(request.currentPassword(), userAuth.getPasswordHash());
+        timingAttackProtection.requireMinimumResponseTime(authProperties.getSecurity().getTimingAttackDelayMs());
 
-        try {
-            boolean passwordMatches = passwordEncoder.matches(request.currentPassword(), userAuth.getPasswordHash());
-            long delay = authProperties.getSecurity().getTimingAttackDelayMs();
-
-            if (!passwordMatches) {
-                timingAttackProtection.ensureMinimumResponseTime(delay);
-                log.warn("비밀번호 변경 실패 - 현재 비밀번호 불일치: userId={}", userId);
-                throw new AuthenticationException("현재 비밀번호가 일치하지 않습니다.");
-            }
-
-            // 성공 시에도 최소 시간 보장
-            timingAttackProtection.ensureMinimumResponseTime(delay);
-
-        } finally {
-            timingAttackProtection.clear();
+        if (!passwordMatches) {
+            log.warn("비밀번호 변경 실패 - 현재 비밀번호 불일치: userId={}", userId);
+            throw new AuthenticationException("현재 비밀번호가 일치하지 않습니다.");
         }
 
         // 4. 새 비밀번호가 현재와 다른지 확인
@@ -98,6 +88,7 @@ public class UserService {
 
         // 6. 보안 처리 - 모든 토큰 무효화 (RefreshTokenService 활용)
         tokenService.addAllUserTokensToBlacklist(userId);
+        userPrincipalCache.evict(userId);
         rateLimitService.resetLoginRateLimit(user.getUserEmail(), clientIp);
 
         log.info("비밀번호 변경 완료: userId={}", userId);
@@ -115,29 +106,32 @@ public class UserService {
         // 1. Rate Limit 체크
         rateLimitService.checkEmailVerifyRateLimit(request.email());
 
-        // 2. 인증 코드 검증 (일회성)
+        // 2. 새 비밀번호 암호화 (해싱 풀 포화로 거절되어도 재시도할 수 있도록 인증 코드 소모 전에 수행)
+        String newPasswordHash = passwordEncoder.encode(request.newPassword());
+
+        // 3. 인증 코드 검증 (일회성)
         if (!verificationStorage.validateAndDelete(request.email(), request.verificationCode())) {
             log.warn("비밀번호 재설정 실패 - 인증 코드 불일치: email={}",
                     LogMaskingUtil.maskEmail(request.email()));
             throw new BusinessException("인증 코드가 일치하지 않거나 만료되었습니다.");
         }
 
-        // 3. 사용자 조회
+        // 4. 사용자 조회
         User user = userRepository.findByUserEmail(request.email())
                 .orElseThrow(() -> new BusinessException("사용자를 찾을 수 없습니다."));
 
-        // 4. 로컬 인증 정보 조회
+        // 5. 로컬 인증 정보 조회
         UserAuth userAuth = user.getUserAuths().stream()
                 .filter(auth -> auth.getAuthType() == UserAuth.AuthType.LOCAL)
                 .findFirst()
                 .orElseThrow(() -> new BusinessException("로컬 인증 정보가 없습니다."));
 
-        // 5. 비밀번호 변경
-        String newPasswordHash = passwordEncoder.encode(request.newPassword());
+        // 6. 비밀번호 변경
         userAuth.updatePasswordHash(newPasswordHash);
 
-        // 6. 보안 처리 - 모든 토큰 무효화 (RefreshTokenService 활용)
+        // 7. 보안 처리 - 모든 토큰 무효화 (RefreshTokenService 활용)
         tokenService.addAllUserTokensToBlacklist(user.getUserId());
+        userPrincipalCache.evict(user.getUserId());
         rateLimitService.resetLoginRateLimit(user.getUserEmail(), clientIp);
 
         log.info("비밀번호 재설정 완료: email={}", LogMaskingUtil.maskEmail(request.email()));
@@ -180,8 +174,9 @@ public class UserService {
         // 5. 회원 탈퇴 처리 (Soft Delete + 개인정보 익명화)
         user.deleteAccount(anonymizedEmail);
 
-        // 6. 모든 토큰 무효화
+        // 6. 모든 토큰 및 인증 사용자 정보 캐시 무효화
         tokenService.addAllUserTokensToBlacklist(userId);
+        userPrincipalCache.evict(userId);
 
         // 7. Rate Limit 정보 초기화 (원래 이메일 사용)
         rateLimitService.resetLoginRateLimit(originalEmail, clientIp);
@@ -194,26 +189,18 @@ public class UserService {
     }
 
     /**
-     * 회원 탈퇴를 위한 비밀번호 검증 (타이밍 공격 방지 포함)
+     * 회원 탈퇴를 위한 비밀번호 검증 (타이밍 공격 방지 포함, 지연은 커밋 후 필터에서 적용)
      * @param localAuth 로컬 인증 정보
      * @param password  사용자가 입력한 비밀번호
      * @param userId    사용자 ID (로깅용)
      */
     private void verifyPasswordForDeletion(UserAuth localAuth, String password, Integer userId) {
-        timingAttackProtection.startTiming();
-        try {
-            boolean passwordMatches = passwordEncoder.matches(password, localAuth.getPasswordHash());
-            long delay = authProperties.getSecurity().getTimingAttackDelayMs();
-
-            if (!passwordMatches) {
-                timingAttackProtection.ensureMinimumResponseTime(delay);
-                log.warn("[ACCOUNT_DELETE] 회원 탈퇴 실패 - 비밀번호 불일치: userId={}", userId);
-                throw new AuthenticationException("비밀번호가 일치하지 않습니다.");
-            }
-
-            timingAttackProtection.ensureMinimumResponseTime(delay);
-        } finally {
-            timingAttackProtection.clear();
+        boolean passwordMatches = passwordEncoder.matches(password, localAuth.getPasswordHash());
+        timingAttackProtection.requireMinimumResponseTime(authProperties.getSecurity().getTimingAttackDelayMs());
+
+        if (!passwordMatches) {
+            log.warn("[ACCOUNT_DELETE] 회원 탈퇴 실패 - 비밀번호 불일치: userId={}", userId);
+            throw new AuthenticationException("비밀번호가 일치하지 않습니다.");
         }
     }
 }
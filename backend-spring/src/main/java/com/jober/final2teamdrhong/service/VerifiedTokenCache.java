@@ -0,0 +1,156 @@
+package com.jober.final2teamdrhong.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.jober.final2teamdrhong.config.AuthProperties;
+import com.jober.final2teamdrhong.config.JwtConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증이 끝난 JWT 로컬 캐시
+ *
+ * 주요 기능:
+ * - 동일 토큰의 반복 요청 시 HMAC 검증과 Claims 디코딩 생략
+ * - 원본 토큰의 64비트 해시를 키로 사용, 적중 시 원본 토큰 전체를 비교하여 해시 충돌 방지
+ * - 각 항목은 토큰 자체의 exp 시각에 만료, 전체 크기는 설정값으로 제한
+ *
+ * 블랙리스트(로그아웃) 확인은 캐시와 무관하게 매 요청 수행되므로 무효화된 토큰은 계속 차단됩니다.
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwtVerifiedTokens";
+
+    private final JwtConfig jwtConfig;
+    private final Cache<Long, CachedToken> cache;
+
+    public VerifiedTokenCache(JwtConfig jwtConfig, AuthProperties authProperties, MeterRegistry meterRegistry) {
+        this.jwtConfig = jwtConfig;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(authProperties.getToken().getVerifiedTokenCacheMaxSize())
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 검증 결과를 반환하고, 없으면 JwtConfig로 파싱 후 유효한 토큰만 캐시
+     *
+     * @param token JWT 토큰 (Bearer 접두사 제거된 상태)
+     * @return 파싱 결과
+     */
+    public JwtConfig.ParsedToken getOrParse(String token) {
+        if (token == null || token.isEmpty()) {
+            return jwtConfig.parseToken(token);
+        }
+
+        long key = hash(token);
+        CachedToken cached = cache.getIfPresent(key);
+        if (cached != null && cached.matches(token) && !cached.isExpired()) {
+            return cached.parsedToken();
+        }
+
+        JwtConfig.ParsedToken parsedToken = jwtConfig.parseToken(token);
+        if (parsedToken.isValid()) {
+            Date expiration = parsedToken.claims().getExpiration();
+            if (expiration != null) {
+                cache.put(key, new CachedToken(token, parsedToken, expiration.getTime()));
+            }
+        }
+        return parsedToken;
+    }
+
+    /**
+     * 캐시 적중/미스 통계
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 현재 캐시 항목 수 (근사값)
+     */
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 전체 캐시 비우기 (키 교체 등 운영 목적)
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+        log.info("검증된 토큰 캐시 전체 무효화");
+    }
+
+    /**
+     * 64비트 FNV-1a 해시 (암호학적 해시가 아니므로 적중 시 원본 비교 필수)
+     */
+    private static long hash(String token) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < token.length(); i++) {
+            h ^= token.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+
+    /**
+     * 캐시 항목
+     *
+     * @param token 원본 토큰 (해시 충돌 검증용)
+     * @param parsedToken 검증된 파싱 결과
+     * @param expiresAtMillis 토큰 exp (epoch millis)
+     */
+    private record CachedToken(String token, JwtConfig.ParsedToken parsedToken, long expiresAtMillis) {
+
+        /**
+         * 길이가 같은 경우 내용과 무관하게 일정 시간에 비교
+         */
+        boolean matches(String other) {
+            if (token.length() != other.length()) {
+                return false;
+            }
+            int diff = 0;
+            for (int i = 0; i < token.length(); i++) {
+                diff |= token.charAt(i) ^ other.charAt(i);
+            }
+            return diff == 0;
+        }
+
+        boolean isExpired() {
+            return expiresAtMillis <= System.currentTimeMillis();
+        }
+    }
+
+    /**
+     * 항목별 만료 시각을 토큰의 exp에 맞추는 정책
+     */
+    private static class TokenExpiry implements Expiry<Long, CachedToken> {
+
+        @Override
+        public long expireAfterCreate(Long key, CachedToken value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, CachedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, CachedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.jober.final2teamdrhong.service;
+
+import com.jober.final2teamdrhong.config.WorkspaceDeletionConfig;
+import com.jober.final2teamdrhong.entity.WorkspaceDeletionJob;
+import com.jober.final2teamdrhong.repository.FavoriteRepository;
+import com.jober.final2teamdrhong.repository.GroupMappingRepository;
+import com.jober.final2teamdrhong.repository.IndividualTemplateRepository;
+import com.jober.final2teamdrhong.repository.PhoneBookRepository;
+import com.jober.final2teamdrhong.repository.RecipientRepository;
+import com.jober.final2teamdrhong.repository.TemplateModifiedHistoryRepository;
+import com.jober.final2teamdrhong.repository.WorkspaceDeletionJobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 워크스페이스 연쇄 소프트 삭제 서비스
+ *
+ * 워크스페이스 삭제 요청은 작업 행만 기록하고 바로 반환하며, 하위 데이터(즐겨찾기, 템플릿 수정 이력, 주소록-수신자 매핑,
+ * 개인 템플릿, 수신자, 주소록)는 백그라운드에서 참조하는 쪽부터 배치 단위로 소프트 삭제합니다.
+ * 배치마다 별도 트랜잭션으로 커밋하므로 큰 워크스페이스도 행 잠금을 오래 잡지 않으며,
+ * 진행 상태도 같은 트랜잭션에 기록되어 중단되더라도 다음 폴링 주기에 이어서 처리합니다.
+ * 각 배치 트랜잭션은 작업 점유를 먼저 연장하므로, 여러 노드가 동시에 폴링해도 한 작업은 한 노드만 처리합니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class WorkspaceDeletionService {
+
+    private final WorkspaceDeletionJobRepository workspaceDeletionJobRepository;
+    private final FavoriteRepository favoriteRepository;
+    private final TemplateModifiedHistoryRepository templateModifiedHistoryRepository;
+    private final GroupMappingRepository groupMappingRepository;
+    private final IndividualTemplateRepository individualTemplateRepository;
+    private final RecipientRepository recipientRepository;
+    private final PhoneBookRepository phoneBookRepository;
+    private final WorkspaceDeletionConfig workspaceDeletionConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean processing = new AtomicBoolean(false);
+    private final AtomicBoolean wakeRequested = new AtomicBoolean(false);
+    private final String workerId = UUID.randomUUID().toString();
+
+    /**
+     * 워크스페이스의 연쇄 삭제 작업을 등록
+     *
+     * 워크스페이스 소프트 삭제와 같은 트랜잭션에서 호출되어야 하며, 커밋 이후에 처리를 깨웁니다.
+     * 깨우기에 실패하더라도 다음 폴링 주기에 처리됩니다.
+     *
+     * @param workspaceId 삭제된 워크스페이스 ID
+     */
+    public void enqueue(Integer workspaceId) {
+        if (workspaceDeletionJobRepository.findByWorkspaceId(workspaceId).isEmpty()) {
+            workspaceDeletionJobRepository.save(WorkspaceDeletionJob.create(workspaceId, now()));
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wakeUp();
+                }
+            });
+        } else {
+            wakeUp();
+        }
+    }
+
+    /**
+     * 워크스페이스의 연쇄 삭제 진행 상태 조회
+     *
+     * @param workspaceId 워크스페이스 ID
+     * @return 등록된 삭제 작업 (삭제되지 않았거나 작업이 없으면 빈 Optional)
+     */
+    public Optional<WorkspaceDeletionJob> getJob(Integer workspaceId) {
+        return workspaceDeletionJobRepository.findByWorkspaceId(workspaceId);
+    }
+
+    /**
+     * 미완료 작업을 등록 순으로 끝까지 처리
+     *
+     * 노드 안에서는 동시에 하나의 처리만 실행되며, 처리 중에 새 작업이 등록되면 현재 처리가 이어서 맡습니다.
+     * 다른 노드가 점유 중인 작업은 건너뜁니다.
+     * 처리 중 실패한 작업은 다음 주기에 실패한 배치부터 다시 시도합니다.
+     *
+     * @return 이번 주기에 소프트 삭제한 행 수
+     */
+    @Scheduled(fixedDelayString = "${app.workspace.deletion.poll-interval-ms:30000}")
+    public long processPending() {
+        if (!processing.compareAndSet(false, true)) {
+            return 0;
+        }
+
+        long processed = 0;
+        try {
+            do {
+                wakeRequested.set(false);
+                List<WorkspaceDeletionJob> jobs = workspaceDeletionJobRepository
+                        .findAllByStageNotOrderByJobIdAsc(WorkspaceDeletionJob.Stage.COMPLETED);
+                for (WorkspaceDeletionJob job : jobs) {
+                    try {
+                        processed += runToCompletion(job.getJobId());
+                    } catch (Exception e) {
+                        log.error("워크스페이스 연쇄 삭제 실패 - 다음 주기에 재시도: workspaceId={}, stage={}, error={}",
+                                job.getWorkspaceId(), job.getStage(), e.getMessage());
+                    }
+                }
+            } while (wakeRequested.get());
+        } catch (Exception e) {
+            log.error("워크스페이스 연쇄 삭제 작업 조회 실패: {}", e.getMessage());
+        } finally {
+            processing.set(false);
+        }
+        return processed;
+    }
+
+    private long runToCompletion(Long jobId) {
+        long processed = 0;
+        while (true) {
+            Integer batch = transactionTemplate.execute(status -> processBatch(jobId));
+            if (batch == null || batch < 0) {
+                return processed;
+            }
+            processed += batch;
+        }
+    }
+
+    /**
+     * 작업 점유를 연장한 뒤 현재 단계의 한 배치를 소프트 삭제하고 진행 상태를 같은 트랜잭션에 기록
+     *
+     * @return 소프트 삭제한 행 수, 작업이 끝났거나 다른 노드가 점유 중이면 -1
+     */
+    private int processBatch(Long jobId) {
+        LocalDateTime now = now();
+        LocalDateTime leaseUntil = now.plusNanos(TimeUnit.MILLISECONDS.toNanos(workspaceDeletionConfig.getLeaseMs()));
+        if (workspaceDeletionJobRepository.claim(jobId, workerId, now, leaseUntil) != 1) {
+            return -1;
+        }
+
+        WorkspaceDeletionJob job = workspaceDeletionJobRepository.findById(jobId).orElse(null);
+        if (job == null || job.isCompleted()) {
+            return -1;
+        }
+
+        Pageable batch = PageRequest.of(0, workspaceDeletionConfig.getBatchSize());
+        List<Integer> ids = findIds(job.getStage(), job.getWorkspaceId(), batch);
+        int deleted = ids.isEmpty() ? 0 : softDelete(job.getStage(), ids, now);
+
+        // 벌크 UPDATE가 영속성 컨텍스트를 비우므로 작업 행은 다시 조회해 갱신
+        WorkspaceDeletionJob current = workspaceDeletionJobRepository.findById(jobId).orElseThrow();
+        current.recordBatch(deleted, now);
+        if (ids.size() < batch.getPageSize()) {
+            current.advance(now);
+            if (current.isCompleted()) {
+                log.info("워크스페이스 연쇄 삭제 완료: workspaceId={}, processed={}",
+                        current.getWorkspaceId(), current.getProcessedCount());
+            }
+        }
+        return deleted;
+    }
+
+    private List<Integer> findIds(WorkspaceDeletionJob.Stage stage, Integer workspaceId, Pageable batch) {
+        return switch (stage) {
+            case FAVORITE -> favoriteRepository.findIdsByWorkspaceId(workspaceId, batch);
+            case TEMPLATE_HISTORY -> templateModifiedHistoryRepository.findIdsByWorkspaceId(workspaceId, batch);
+            case GROUP_MAPPING -> groupMappingRepository.findIdsByWorkspaceId(workspaceId, batch);
+            case INDIVIDUAL_TEMPLATE -> individualTemplateRepository.findIdsByWorkspaceId(workspaceId, batch);
+            case RECIPIENT -> recipientRepository.findIdsByWorkspaceId(workspaceId, batch);
+            case PHONE_BOOK -> phoneBookRepository.findIdsByWorkspaceId(workspaceId, batch);
+            case COMPLETED -> List.of();
+        };
+    }
+
+    private int softDelete(WorkspaceDeletionJob.Stage stage, List<Integer> ids, LocalDateTime now) {
+        return switch (stage) {
+            case FAVORITE -> favoriteRepository.softDeleteAllByIds(ids, now);
+            case TEMPLATE_HISTORY -> templateModifiedHistoryRepository.softDeleteAllByIds(ids, now);
+            case GROUP_MAPPING -> groupMappingRepository.softDeleteAllByIds(ids, now);
+            case INDIVIDUAL_TEMPLATE -> individualTemplateRepository.softDeleteAllByIds(ids, now);
+            case RECIPIENT -> recipientRepository.softDeleteAllByIds(ids, now);
+            case PHONE_BOOK -> phoneBookRepository.softDeleteAllByIds(ids, now);
+            case COMPLETED -> 0;
+        };
+    }
+
+    private void wakeUp() {
+        wakeRequested.set(true);
+        Thread.ofVirtual().name("workspace-deletion").start(this::processPending);
+    }
+
+    private static LocalDateTime now() {
+        return ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime();
+    }
+}
@@ -0,0 +1,251 @@
+package com.jober.final2teamdrhong.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 워크스페이스 내보내기 서비스
+ *
+ * 워크스페이스의 수신자, 주소록, 주소록-수신자 매핑, 개인 템플릿을 섹션별 NDJSON 파일로 묶은 ZIP 아카이브를 응답 스트림에 바로 씁니다.
+ * 각 섹션은 전방 전용(forward-only) JDBC 커서로 한 행씩 읽어 JSON 한 줄로 쓰므로, 엔티티를 만들지 않고
+ * 워크스페이스 크기와 관계없이 메모리 사용량이 일정합니다.
+ * 모든 섹션은 하나의 읽기 전용 트랜잭션에서 조회하여 같은 시점의 스냅샷을 내보냅니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class WorkspaceExportService {
+
+    // MySQL 이외 DB에서 한 번에 가져올 행 수
+    private static final int FETCH_SIZE = 1_000;
+
+    // 각 섹션의 조회 조건은 리포지토리의 워크스페이스 범위 조회와 같음 (workspace_id 일치, 삭제되지 않은 행)
+    private static final List<Section> SECTIONS = List.of(
+            new Section("recipients.ndjson", """
+                    SELECT recipient_id, recipient_name, recipient_phone_number, recipient_memo, created_at, updated_at
+                    FROM recipient
+                    WHERE workspace_id = ? AND is_deleted = false
+                    ORDER BY recipient_id""",
+                    List.of("recipientId", "recipientName", "recipientPhoneNumber", "recipientMemo", "createdAt", "updatedAt")),
+            new Section("phone_books.ndjson", """
+                    SELECT phone_book_id, phone_book_name, phone_book_memo, created_at, updated_at
+                    FROM phone_book
+                    WHERE workspace_id = ? AND is_deleted = false
+                    ORDER BY phone_book_id""",
+                    List.of("phoneBookId", "phoneBookName", "phoneBookMemo", "createdAt", "updatedAt")),
+            new Section("group_mappings.ndjson", """
+                    SELECT gm.group_mapping_id, gm.phone_book_id, gm.recipient_id, gm.created_at
+                    FROM group_mapping gm
+                    JOIN phone_book pb ON pb.phone_book_id = gm.phone_book_id
+                    WHERE pb.workspace_id = ? AND pb.is_deleted = false AND gm.is_deleted = false
+                    ORDER BY gm.group_mapping_id""",
+                    List.of("groupMappingId", "phoneBookId", "recipientId", "createdAt")),
+            new Section("individual_templates.ndjson", """
+                    SELECT individual_template_id, individual_template_title, individual_template_content, button_title,
+                           status, created_at, updated_at
+                    FROM individual_template
+                    WHERE workspace_id = ? AND is_deleted = false
+                    ORDER BY individual_template_id""",
+                    List.of("individualTemplateId", "individualTemplateTitle", "individualTemplateContent", "buttonTitle",
+                            "status", "createdAt", "updatedAt"))
+    );
+
+    private final WorkspaceValidator workspaceValidator;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final JsonFactory jsonFactory = new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private volatile Integer streamingFetchSize;
+
+    /**
+     * 내보내기 전에 요청한 사용자가 워크스페이스의 소유자인지 확인
+     *
+     * 응답 헤더와 본문을 쓰기 전에 호출해야 권한 오류를 일반 오류 응답으로 돌려줄 수 있습니다.
+     *
+     * @param workspaceId 내보낼 워크스페이스 ID
+     * @param userId      요청을 보낸 사용자 ID
+     * @throws IllegalArgumentException 워크스페이스가 존재하지 않거나 사용자에게 접근 권한이 없을 경우
+     */
+    public void validateExport(Integer workspaceId, Integer userId) {
+        workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
+    }
+
+    /**
+     * 워크스페이스 스냅샷 ZIP 아카이브를 출력 스트림에 기록
+     *
+     * 섹션별 NDJSON 파일 뒤에 내보낸 시각과 섹션별 행 수를 담은 manifest.json을 추가합니다.
+     * 출력 스트림은 닫지 않습니다.
+     *
+     * @param workspaceId  내보낼 워크스페이스 ID ({@link #validateExport}로 검증된 값)
+     * @param outputStream 아카이브를 쓸 출력 스트림
+     * @return 섹션 파일 이름별 내보낸 행 수
+     * @throws IOException 출력 스트림 쓰기에 실패한 경우 (클라이언트 연결 종료 등)
+     */
+    public Map<String, Long> writeArchive(Integer workspaceId, OutputStream outputStream) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(outputStream);
+        int fetchSize = streamingFetchSize();
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        Map<String, Long> rowCounts;
+        try {
+            rowCounts = readOnlyTransaction.execute(status -> {
+                Map<String, Long> counts = new LinkedHashMap<>();
+                for (Section section : SECTIONS) {
+                    counts.put(section.entryName(), writeSection(zip, section, workspaceId, fetchSize));
+                }
+                return counts;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writeManifest(zip, workspaceId, rowCounts);
+        zip.finish();
+        log.info("워크스페이스 내보내기 완료: workspaceId={}, rows={}", workspaceId, rowCounts);
+        return rowCounts;
+    }
+
+    private long writeSection(ZipOutputStream zip, Section section, Integer workspaceId, int fetchSize) {
+        try {
+            zip.putNextEntry(new ZipEntry(section.entryName()));
+            JsonGenerator generator = jsonFactory.createGenerator(zip);
+            generator.setRootValueSeparator(null);
+
+            long[] rowCount = {0};
+            int[] columnTypes = new int[section.fields().size()];
+            jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(section.sql(),
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                statement.setFetchSize(fetchSize);
+                statement.setInt(1, workspaceId);
+                return statement;
+            }, resultSet -> {
+                if (rowCount[0] == 0) {
+                    ResultSetMetaData metaData = resultSet.getMetaData();
+                    for (int column = 1; column <= columnTypes.length; column++) {
+                        columnTypes[column - 1] = metaData.getColumnType(column);
+                    }
+                }
+                writeRow(generator, resultSet, section.fields(), columnTypes);
+                rowCount[0]++;
+            });
+
+            generator.close();
+            zip.closeEntry();
+            return rowCount[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeRow(JsonGenerator generator, ResultSet resultSet, List<String> fields, int[] columnTypes)
+            throws SQLException {
+        try {
+            generator.writeStartObject();
+            for (int column = 1; column <= fields.size(); column++) {
+                generator.writeFieldName(fields.get(column - 1));
+                writeValue(generator, resultSet, column, columnTypes[column - 1]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeValue(JsonGenerator generator, ResultSet resultSet, int column, int sqlType)
+            throws SQLException, IOException {
+        switch (sqlType) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT -> {
+                long value = resultSet.getLong(column);
+                if (resultSet.wasNull()) {
+                    generator.writeNull();
+                } else {
+                    generator.writeNumber(value);
+                }
+            }
+            case Types.BIT, Types.BOOLEAN -> {
+                boolean value = resultSet.getBoolean(column);
+                if (resultSet.wasNull()) {
+                    generator.writeNull();
+                } else {
+                    generator.writeBoolean(value);
+                }
+            }
+            case Types.TIMESTAMP, Types.DATE -> {
+                LocalDateTime value = resultSet.getObject(column, LocalDateTime.class);
+                generator.writeString(value != null ? value.toString() : null);
+            }
+            default -> generator.writeString(resultSet.getString(column));
+        }
+    }
+
+    private void writeManifest(ZipOutputStream zip, Integer workspaceId, Map<String, Long> rowCounts) throws IOException {
+        zip.putNextEntry(new ZipEntry("manifest.json"));
+        JsonGenerator generator = jsonFactory.createGenerator(zip);
+        generator.writeStartObject();
+        generator.writeNumberField("workspaceId", workspaceId);
+        generator.writeStringField("exportedAt", ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime().toString());
+        generator.writeObjectFieldStart("rowCounts");
+        for (Map.Entry<String, Long> entry : rowCounts.entrySet()) {
+            generator.writeNumberField(entry.getKey(), entry.getValue());
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.close();
+        zip.closeEntry();
+    }
+
+    /**
+     * 커서 조회 fetch size
+     *
+     * MySQL Connector/J는 fetch size가 Integer.MIN_VALUE일 때만 결과를 한 행씩 스트리밍하고,
+     * 그 외 값이면 전체 결과를 메모리에 올리므로 DB 종류에 따라 값을 고릅니다.
+     */
+    private int streamingFetchSize() {
+        Integer fetchSize = streamingFetchSize;
+        if (fetchSize == null) {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            fetchSize = isMySqlCompatible(productName) ? Integer.MIN_VALUE : FETCH_SIZE;
+            streamingFetchSize = fetchSize;
+        }
+        return fetchSize;
+    }
+
+    private static boolean isMySqlCompatible(String productName) {
+        if (productName == null) {
+            return false;
+        }
+        String name = productName.toLowerCase();
+        return name.contains("mysql") || name.contains("mariadb");
+    }
+
+    private record Section(String entryName, String sql, List<String> fields) {
+    }
+}
@@ -4,6 +4,10 @@ import com.jober.final2teamdrhong.dto.workspace.WorkspaceRequest;
 import com.jober.final2teamdrhong.dto.workspace.WorkspaceResponse;
 import com.jober.final2teamdrhong.entity.User;
 import com.jober.final2teamdrhong.entity.Workspace;
+import com.jober.final2teamdrhong.repository.GroupMappingRepository;
+import com.jober.final2teamdrhong.repository.IndividualTemplateRepository;
+import com.jober.final2teamdrhong.repository.PhoneBookRepository;
+import com.jober.final2teamdrhong.repository.RecipientRepository;
 import com.jober.final2teamdrhong.repository.WorkspaceRepository;
 import com.jober.final2teamdrhong.service.validator.UserValidator;
 import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
@@ -12,6 +16,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 /**
@@ -23,8 +31,13 @@ import java.util.List;
 public class WorkspaceService {
 
     private final WorkspaceRepository workspaceRepository;
+    private final RecipientRepository recipientRepository;
+    private final PhoneBookRepository phoneBookRepository;
+    private final GroupMappingRepository groupMappingRepository;
+    private final IndividualTemplateRepository individualTemplateRepository;
     private final UserValidator userValidator;
     private final WorkspaceValidator workspaceValidator;
+    private final WorkspaceDeletionService workspaceDeletionService;
     private final EntityManager entityManager;
 
     /**
@@ -60,6 +73,7 @@ public class WorkspaceService {
                 .build();
 
         Workspace savedWorkspace = workspaceRepository.save(workspace);
+        workspaceValidator.evictOwnership(savedWorkspace.getWorkspaceId());
 
         return new WorkspaceResponse.SimpleDTO(savedWorkspace);
     }
@@ -138,10 +152,61 @@ public class WorkspaceService {
         existingWorkspace.setCompanyName(updateDTO.newCompanyName());
         existingWorkspace.setCompanyRegisterNumber(updateDTO.newCompanyRegisterNumber());
         existingWorkspace.update();
+        workspaceValidator.evictOwnership(workspaceId);
 
         return new WorkspaceResponse.DetailDTO(existingWorkspace);
     }
 
+    /**
+     * 특정 워크스페이스를 복제합니다.
+     * <p>
+     * 요청한 사용자가 원본 워크스페이스의 소유자인지 확인한 뒤, 이름과 URL만 새 값으로 바꾼 워크스페이스를 만들고
+     * 수신자, 주소록, 주소록-수신자 매핑, 개인 템플릿을 하나의 트랜잭션 안에서 복제합니다.
+     * 각 테이블은 행 단위 저장 대신 INSERT...SELECT 한 번으로 복제하며,
+     * 매핑은 복제된 주소록·수신자에 기록된 원본 ID({@code clone_source_id})로 새 ID에 재매핑합니다.
+     *
+     * @param cloneDTO    복제본의 이름과 URL
+     * @param workspaceId 복제할 원본 워크스페이스의 ID
+     * @param userId      요청을 보낸 사용자의 ID (인가에 사용)
+     * @return 생성된 워크스페이스 정보와 테이블별 복제 건수({@link WorkspaceResponse.CloneDTO})
+     * @throws IllegalArgumentException 원본 워크스페이스가 존재하지 않거나, 사용자가 소유자가 아니거나, URL이 이미 사용 중일 경우 발생
+     */
+    @Transactional
+    public WorkspaceResponse.CloneDTO cloneWorkspace(WorkspaceRequest.CloneDTO cloneDTO, Integer workspaceId, Integer userId) {
+        // 1. 원본 워크스페이스 조회 (소유권 검증 포함) 및 URL 중복 체크
+        Workspace sourceWorkspace = workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
+        workspaceValidator.validateUrlOnCreate(cloneDTO.newWorkspaceUrl());
+
+        // 2. 복제본 워크스페이스 생성 (이름, URL 외 정보는 원본에서 복사)
+        Workspace clonedWorkspace = workspaceRepository.save(Workspace.builder()
+                .workspaceName(cloneDTO.newWorkspaceName())
+                .workspaceSubname(sourceWorkspace.getWorkspaceSubname())
+                .workspaceAddress(sourceWorkspace.getWorkspaceAddress())
+                .workspaceDetailAddress(sourceWorkspace.getWorkspaceDetailAddress())
+                .workspaceUrl(cloneDTO.newWorkspaceUrl())
+                .representerName(sourceWorkspace.getRepresenterName())
+                .representerPhoneNumber(sourceWorkspace.getRepresenterPhoneNumber())
+                .representerEmail(sourceWorkspace.getRepresenterEmail())
+                .companyName(sourceWorkspace.getCompanyName())
+                .companyRegisterNumber(sourceWorkspace.getCompanyRegisterNumber())
+                .user(sourceWorkspace.getUser())
+                .build());
+        Integer clonedWorkspaceId = clonedWorkspace.getWorkspaceId();
+        WorkspaceResponse.SimpleDTO clonedWorkspaceDTO = new WorkspaceResponse.SimpleDTO(clonedWorkspace);
+
+        // 3. 하위 데이터 복제 (매핑은 수신자·주소록 복제 이후에 실행해야 함)
+        LocalDateTime now = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime().truncatedTo(ChronoUnit.SECONDS);
+        int recipientCount = recipientRepository.cloneAllToWorkspace(workspaceId, clonedWorkspaceId, now);
+        int phoneBookCount = phoneBookRepository.cloneAllToWorkspace(workspaceId, clonedWorkspaceId, now);
+        int groupMappingCount = groupMappingRepository.cloneAllToWorkspace(clonedWorkspaceId, now);
+        int individualTemplateCount = individualTemplateRepository.cloneAllToWorkspace(workspaceId, clonedWorkspaceId, now);
+
+        workspaceValidator.evictOwnership(clonedWorkspaceId);
+
+        return new WorkspaceResponse.CloneDTO(clonedWorkspaceDTO, recipientCount, phoneBookCount,
+                groupMappingCount, individualTemplateCount);
+    }
+
     /**
      * 특정 워크스페이스를 소프트 딜리트 처리합니다.
      * <p>
@@ -157,6 +222,8 @@ public class WorkspaceService {
      *         DB에 실제로 기록된 최종 상태를 다시 조회합니다.</li>
      *     <li>재조회된 엔티티를 DTO로 변환하여 반환함으로써, 응답 시간과 DB 시간의 일관성을 보장합니다.</li>
      * </ol>
+     * 하위 데이터(수신자, 주소록, 매핑, 템플릿, 수정 이력, 즐겨찾기)는 같은 트랜잭션에 등록한 연쇄 삭제 작업이
+     * 커밋 이후 백그라운드에서 배치 단위로 소프트 딜리트하므로, 이 메서드는 하위 데이터 양과 관계없이 바로 반환됩니다.
      *
      * @param workspaceId 소프트 딜리트할 워크스페이스의 ID
      * @param userId      요청을 보낸 사용자의 ID (인가에 사용)
@@ -169,8 +236,12 @@ public class WorkspaceService {
         // 1. 기존 워크스페이스 조회 (소유권 검증 포함)
         Workspace existingWorkspace = workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
 
-        // 2. 소프트 딜리트 처리
+        // 2. 소프트 딜리트 처리 (같은 요청의 이후 소유권 검증도 DB를 다시 확인하도록 무효화)
         existingWorkspace.softDelete();
+        workspaceValidator.evictOwnership(workspaceId);
+
+        // 2-1. 하위 데이터 연쇄 삭제 작업 등록 (커밋 이후 백그라운드에서 처리)
+        workspaceDeletionService.enqueue(workspaceId);
 
         // 3. 즉시 DB에 반영, 및 Hibernate 1차 캐시 비우기 후 변경된 DB를 반환해야 정확한 시간이 응답으로 나옴
         entityManager.flush();
@@ -182,4 +253,25 @@ public class WorkspaceService {
 
         return new WorkspaceResponse.SimpleDTO(deletedWorkspace);
     }
+
+    /**
+     * 삭제된 워크스페이스의 하위 데이터 연쇄 삭제 진행 상태를 조회합니다.
+     * <p>
+     * 워크스페이스는 이미 소프트 딜리트된 상태이므로 {@link WorkspaceRepository#findByIdIncludingDeleted(Integer)}로 조회한 뒤
+     * 요청한 사용자가 소유자인지 직접 확인합니다.
+     *
+     * @param workspaceId 삭제된 워크스페이스의 ID
+     * @param userId      요청을 보낸 사용자의 ID (인가에 사용)
+     * @return 연쇄 삭제 진행 상태({@link WorkspaceResponse.DeletionProgressDTO})
+     * @throws IllegalArgumentException 워크스페이스가 존재하지 않거나, 사용자가 소유자가 아니거나, 삭제 작업이 없을 경우 발생
+     */
+    public WorkspaceResponse.DeletionProgressDTO readDeletionProgress(Integer workspaceId, Integer userId) {
+        workspaceRepository.findByIdIncludingDeleted(workspaceId)
+                .filter(workspace -> workspace.getUser().getUserId().equals(userId))
+                .orElseThrow(() -> new IllegalArgumentException("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + workspaceId));
+
+        return workspaceDeletionService.getJob(workspaceId)
+                .map(WorkspaceResponse.DeletionProgressDTO::new)
+                .orElseThrow(() -> new IllegalArgumentException("삭제 작업이 등록되지 않은 워크스페이스입니다. ID: " + workspaceId));
+    }
 }
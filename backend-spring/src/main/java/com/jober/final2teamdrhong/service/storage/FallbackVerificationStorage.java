@@ -1,17 +1,28 @@
 package com.jober.final2teamdrhong.service.storage;
 
+import com.jober.final2teamdrhong.config.AuthProperties;
+import com.jober.final2teamdrhong.util.RedisCircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.Optional;
 
 /**
  * Fallback 로직을 담당하는 "총괄 매니저" 구현체입니다.
  * Plan A (Redis)를 먼저 시도하고, 실패 시 Plan B (RDB)로 자동 전환합니다.
+ *
+ * Redis 연속 실패 시 서킷 브레이커가 열려 Redis 타임아웃을 기다리지 않고 바로 RDB를 사용하며,
+ * 백그라운드 점검으로 복구가 확인되면 다시 Redis를 사용합니다.
+ * 장애 직후 일정 시간은 Redis와 RDB에 함께 저장(dual-write)해, 인증 도중 Redis가 다시 끊기거나
+ * 복구되더라도 어느 쪽에서든 같은 코드로 검증할 수 있게 합니다.
+ * Redis에 정상 저장하면 RDB의 이전 코드는 항상 덮어쓰거나 지우고, Redis에 코드가 남아 있으면 RDB로 검증하지 않으므로
+ * 장애 중 RDB에 남은 이전 코드로는 검증할 수 없습니다.
  */
 @Slf4j
 @Component
@@ -19,35 +30,64 @@ import java.util.Optional;
 @Profile("!redis-fallback-test") // Redis 폴백 테스트가 아닐 때만 활성화
 public class FallbackVerificationStorage implements VerificationStorage {
 
+    // 인증 코드 유효 시간 (RDB에 남은 코드가 모두 만료되는 데 걸리는 시간)
+    private static final Duration CODE_TTL = Duration.ofMinutes(5);
+    private static final String PROBE_KEY = "verification_storage:probe";
+
     private final VerificationStorage primaryStorage;   // Plan A: Redis
     private final VerificationStorage secondaryStorage; // Plan B: RDB
+    private final RedisCircuitBreaker circuitBreaker;
+
+    // 이 시각까지는 Redis 정상이어도 RDB에 함께 저장 (System.nanoTime 기준)
+    private volatile long dualWriteUntilNanos;
 
     public FallbackVerificationStorage(
             @Qualifier("redisStorage") VerificationStorage primaryStorage,
-            @Qualifier("rdbStorage") VerificationStorage secondaryStorage) {
+            @Qualifier("rdbStorage") VerificationStorage secondaryStorage,
+            AuthProperties authProperties) {
         this.primaryStorage = primaryStorage;
         this.secondaryStorage = secondaryStorage;
+        this.circuitBreaker = new RedisCircuitBreaker("인증 코드 저장소",
+                authProperties.getRedis().getVerificationFailureThreshold());
+        this.dualWriteUntilNanos = System.nanoTime();
     }
 
     @Override
     public void save(String key, String value) {
-        try {
-            primaryStorage.save(key, value);
-        } catch (DataAccessException e) {
-            log.warn(" 주 저장소(Redis) 장애 발생. 예비 저장소(RDB)로 전환합니다. 에러: {}", e.getMessage());
-            secondaryStorage.save(key, value);
+        if (circuitBreaker.isClosed()) {
+            try {
+                primaryStorage.save(key, value);
+                circuitBreaker.recordSuccess();
+            } catch (DataAccessException e) {
+                circuitBreaker.recordFailure(e);
+                log.warn(" 주 저장소(Redis) 장애 발생. 예비 저장소(RDB)로 전환합니다. 에러: {}", e.getMessage());
+                saveToSecondaryOnly(key, value);
+                return;
+            }
+            if (isBefore(dualWriteUntilNanos)) {
+                saveCopyToSecondary(key, value);
+            } else {
+                // 장애 중(다른 노드 포함) RDB에 남은 이전 코드로 검증되지 않도록 정리
+                deleteFromSecondary(key);
+            }
+            return;
         }
+        saveToSecondaryOnly(key, value);
     }
 
     @Override
     public Optional<String> find(String key) {
-        try {
-            Optional<String> primaryResult = primaryStorage.find(key);
-            if (primaryResult.isPresent()) {
-                return primaryResult;
+        if (circuitBreaker.isClosed()) {
+            try {
+                Optional<String> primaryResult = primaryStorage.find(key);
+                circuitBreaker.recordSuccess();
+                if (primaryResult.isPresent()) {
+                    return primaryResult;
+                }
+            } catch (DataAccessException e) {
+                circuitBreaker.recordFailure(e);
+                log.warn(" 주 저장소(Redis) 장애 발생. 예비 저장소(RDB)로 전환합니다. 에러: {}", e.getMessage());
             }
-        } catch (DataAccessException e) {
-            log.warn(" 주 저장소(Redis) 장애 발생. 예비 저장소(RDB)로 전환합니다. 에러: {}", e.getMessage());
         }
         // Primary에서 찾지 못했거나 장애가 발생한 경우 Secondary 확인
         return secondaryStorage.find(key);
@@ -55,16 +95,98 @@ public class FallbackVerificationStorage implements VerificationStorage {
 
     @Override
     public void delete(String key) {
+        if (circuitBreaker.isClosed()) {
+            try {
+                primaryStorage.delete(key);
+                circuitBreaker.recordSuccess();
+            } catch (DataAccessException e) {
+                circuitBreaker.recordFailure(e);
+                log.warn(" 주 저장소(Redis) 장애 발생. 예비 저장소(RDB)로 전환합니다. 에러: {}", e.getMessage());
+            }
+        }
+        // 양쪽 모두에서 삭제해야 함 (어디에 저장되었는지 모르므로)
+        deleteFromSecondary(key);
+    }
+
+    /**
+     * 저장소별 원자적 검증 및 삭제
+     *
+     * Redis에서 검증에 성공하면 함께 저장된 RDB 사본도 지워 같은 코드를 다시 쓸 수 없게 합니다.
+     * RDB는 Redis 장애 중이거나 Redis에 코드가 없을 때(장애 중 RDB에만 저장된 코드)만 확인하며,
+     * Redis에 다른 코드가 있으면 Redis가 최신이므로 RDB에 남은 이전 코드로는 검증하지 않습니다.
+     */
+    @Override
+    public boolean validateAndDelete(String key, String expectedValue) {
+        if (circuitBreaker.isClosed()) {
+            try {
+                boolean valid = primaryStorage.validateAndDelete(key, expectedValue);
+                circuitBreaker.recordSuccess();
+                if (valid) {
+                    deleteFromSecondary(key);
+                    return true;
+                }
+                if (primaryStorage.find(key).isPresent()) {
+                    return false;
+                }
+            } catch (DataAccessException e) {
+                circuitBreaker.recordFailure(e);
+                log.warn(" 주 저장소(Redis) 장애 발생. 예비 저장소(RDB)로 전환합니다. 에러: {}", e.getMessage());
+            }
+        }
+        return secondaryStorage.validateAndDelete(key, expectedValue);
+    }
+
+    /**
+     * 열림 상태에서 Redis 복구 점검
+     */
+    @Scheduled(fixedDelayString = "${auth.redis.verification-probe-interval-ms:1000}")
+    public void probePrimary() {
+        if (circuitBreaker.isClosed()) {
+            return;
+        }
         try {
-            primaryStorage.delete(key);
+            primaryStorage.find(PROBE_KEY);
+            circuitBreaker.recordProbe(true);
         } catch (DataAccessException e) {
-            log.warn(" 주 저장소(Redis) 장애 발생. 예비 저장소(RDB)로 전환합니다. 에러: {}", e.getMessage());
+            circuitBreaker.recordProbe(false);
         }
-        // 양쪽 모두에서 삭제해야 함 (어디에 저장되었는지 모르므로)
+    }
+
+    /**
+     * Redis 사용 여부 (서킷 브레이커 닫힘 상태)
+     */
+    public boolean isUsingPrimary() {
+        return circuitBreaker.isClosed();
+    }
+
+    /**
+     * 장애로 RDB에만 저장 - 복구 후에도 코드 유효 시간 동안은 양쪽에 저장
+     */
+    private void saveToSecondaryOnly(String key, String value) {
+        dualWriteUntilNanos = System.nanoTime() + CODE_TTL.toNanos();
+        secondaryStorage.save(key, value);
+    }
+
+    /**
+     * Redis 저장 후 RDB에 사본 저장 - 실패해도 Redis에 저장되었으므로 로그만 남기고 계속 진행
+     */
+    private void saveCopyToSecondary(String key, String value) {
+        try {
+            secondaryStorage.save(key, value);
+        } catch (DataAccessException e) {
+            log.warn("예비 저장소(RDB) 사본 저장 실패 - Redis 저장은 완료되어 계속 진행합니다. 에러: {}", e.getMessage());
+        }
+    }
+
+    private void deleteFromSecondary(String key) {
         try {
             secondaryStorage.delete(key);
         } catch (DataAccessException e) {
             log.debug("RDB에서 삭제 시 에러 발생 (정상적일 수 있음): {}", e.getMessage());
         }
     }
+
+    private static boolean isBefore(long deadlineNanos) {
+        return System.nanoTime() - deadlineNanos < 0;
+    }
 }
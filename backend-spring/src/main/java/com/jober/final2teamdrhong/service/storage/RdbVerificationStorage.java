@@ -1,33 +1,76 @@
 package com.jober.final2teamdrhong.service.storage;
 
+import com.jober.final2teamdrhong.config.AuthProperties;
 import com.jober.final2teamdrhong.entity.EmailVerification;
 import com.jober.final2teamdrhong.repository.EmailVerificationRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.context.annotation.Profile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Optional;
 
 /**
  * 관계형 데이터베이스(RDB)를 사용하는 저장소 구현체입니다.
  * 데이터의 영속성을 보장하며, Redis 장애 시 Fallback 역할을 합니다.
+ *
+ * 저장은 email 유니크 키 기준 단일 upsert 문으로 처리하고,
+ * 만료된 행은 주기적으로 expires_at 인덱스를 이용해 배치 단위로 삭제합니다.
  */
+@Slf4j
 @Component("rdbStorage")
 @RequiredArgsConstructor
 @Transactional
 public class RdbVerificationStorage implements VerificationStorage {
-    
+
+    private static final int VALIDITY_MINUTES = 5;
+    // 한 번의 정리 주기에서 처리할 최대 배치 수 (나머지는 다음 주기에 처리)
+    private static final int MAX_REAPER_BATCHES = 100;
+
+    // MySQL 8.0.19+에서는 폐기 예정인 VALUES() 대신 행 별칭(row alias)으로 새 값을 참조
+    private static final String MYSQL_UPSERT_SQL = """
+            INSERT INTO email_verification (email, verification_code, expires_at, created_at, updated_at, is_deleted)
+            VALUES (?, ?, ?, ?, ?, false) AS new
+            ON DUPLICATE KEY UPDATE verification_code = new.verification_code, expires_at = new.expires_at,
+                updated_at = new.updated_at, is_deleted = false, deleted_at = NULL
+            """;
+
+    // MariaDB는 행 별칭을 지원하지 않으므로 VALUES() 사용
+    private static final String MARIADB_UPSERT_SQL = """
+            INSERT INTO email_verification (email, verification_code, expires_at, created_at, updated_at, is_deleted)
+            VALUES (?, ?, ?, ?, ?, false)
+            ON DUPLICATE KEY UPDATE verification_code = VALUES(verification_code), expires_at = VALUES(expires_at),
+                updated_at = VALUES(updated_at), is_deleted = false, deleted_at = NULL
+            """;
+
+    // MySQL 외(H2 등)에서는 표준에 가까운 MERGE ... KEY 구문 사용
+    private static final String MERGE_UPSERT_SQL = """
+            MERGE INTO email_verification (email, verification_code, expires_at, created_at, updated_at, is_deleted, deleted_at)
+            KEY (email) VALUES (?, ?, ?, ?, ?, false, NULL)
+            """;
+
     private final EmailVerificationRepository repository;
-    
+    private final JdbcTemplate jdbcTemplate;
+    private final AuthProperties authProperties;
+
+    private volatile String upsertSql;
+
     @Override
     public void save(String key, String value) {
-        // 기존 인증 정보가 있다면 삭제 후 새로 저장
-        repository.deleteByEmail(key);
-        repository.flush(); // 즉시 삭제 반영
-        
-        EmailVerification verification = EmailVerification.create(key, value);
-        repository.save(verification);
+        // 기존 인증 정보가 있다면 같은 행을 새 코드로 갱신
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        Timestamp nowTimestamp = Timestamp.valueOf(now);
+        jdbcTemplate.update(upsertSql(), key, value, Timestamp.valueOf(now.plusMinutes(VALIDITY_MINUTES)),
+                nowTimestamp, nowTimestamp);
     }
 
     @Override
@@ -63,4 +106,59 @@ public class RdbVerificationStorage implements VerificationStorage {
         
         return false;
     }
+
+    /**
+     * 만료된 인증 코드 정리
+     * 배치마다 별도 트랜잭션으로 삭제하여 긴 잠금을 만들지 않습니다. (여러 노드에서 실행되어도 안전)
+     *
+     * @return 삭제한 행 수
+     */
+    @Scheduled(fixedDelayString = "${auth.security.verification-reaper-interval-ms:60000}",
+            initialDelayString = "${auth.security.verification-reaper-interval-ms:60000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int reapExpired() {
+        int batchSize = Math.max(1, authProperties.getSecurity().getVerificationReaperBatchSize());
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = 0;
+        try {
+            for (int i = 0; i < MAX_REAPER_BATCHES; i++) {
+                List<Integer> expiredIds = repository.findExpiredIds(now, PageRequest.of(0, batchSize));
+                if (expiredIds.isEmpty()) {
+                    break;
+                }
+                deleted += repository.deleteByIds(expiredIds);
+                if (expiredIds.size() < batchSize) {
+                    break;
+                }
+            }
+            if (deleted > 0) {
+                log.debug("만료된 인증 코드 정리 완료: {}건", deleted);
+            }
+        } catch (Exception e) {
+            log.error("만료된 인증 코드 정리 실패: {}", e.getMessage());
+        }
+        return deleted;
+    }
+
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            sql = selectUpsertSql(productName);
+            upsertSql = sql;
+        }
+        return sql;
+    }
+
+    private static String selectUpsertSql(String productName) {
+        if (productName == null) {
+            return MERGE_UPSERT_SQL;
+        }
+        String name = productName.toLowerCase();
+        if (name.contains("mariadb")) {
+            return MARIADB_UPSERT_SQL;
+        }
+        return name.contains("mysql") ? MYSQL_UPSERT_SQL : MERGE_UPSERT_SQL;
+    }
 }
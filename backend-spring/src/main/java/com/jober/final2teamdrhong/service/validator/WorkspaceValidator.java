@@ -6,11 +6,19 @@ import com.jober.final2teamdrhong.repository.IndividualTemplateRepository;
 import com.jober.final2teamdrhong.repository.WorkspaceRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @RequiredArgsConstructor
 public class WorkspaceValidator {
 
+    // 요청 단위 소유권 검증 결과 캐시의 요청 속성 이름
+    private static final String VERIFIED_OWNERSHIPS_ATTRIBUTE = WorkspaceValidator.class.getName() + ".VERIFIED_OWNERSHIPS";
+
     private final WorkspaceRepository workspaceRepository;
     private final IndividualTemplateRepository individualTemplateRepository;
 
@@ -29,6 +37,10 @@ public class WorkspaceValidator {
     /**
      * 워크스페이스의 존재 여부와 사용자의 접근 권한을 검증합니다.
      * 검증에 성공하면 워크스페이스 엔티티를 반환하고, 실패하면 예외를 발생시킵니다.
+     * <p>
+     * 같은 HTTP 요청 안에서 이미 검증된 (userId, workspaceId) 조합은 DB를 다시 조회하지 않고
+     * {@code getReferenceById}로 얻은 참조를 반환합니다. 참조는 필드에 처음 접근할 때 PK로 로딩되므로
+     * 트랜잭션 안에서 사용해야 하며, 컨트롤러처럼 반환값을 쓰지 않는 검증 호출은 추가 쿼리가 없습니다.
      *
      * @param workspaceId 검증할 워크스페이스의 ID
      * @param userId      접근을 시도하는 사용자의 ID
@@ -36,8 +48,31 @@ public class WorkspaceValidator {
      * @throws IllegalArgumentException 워크스페이스가 존재하지 않거나 사용자에게 접근 권한이 없을 경우
      */
     public Workspace validateAndGetWorkspace(Integer workspaceId, Integer userId) {
-        return workspaceRepository.findByWorkspaceIdAndUser_UserId(workspaceId, userId)
+        Set<OwnershipKey> verifiedOwnerships = verifiedOwnerships();
+        OwnershipKey key = new OwnershipKey(workspaceId, userId);
+        if (verifiedOwnerships != null && verifiedOwnerships.contains(key)) {
+            return workspaceRepository.getReferenceById(workspaceId);
+        }
+
+        Workspace workspace = workspaceRepository.findByWorkspaceIdAndUser_UserId(workspaceId, userId)
                 .orElseThrow(() -> new IllegalArgumentException("워크스페이스를 찾을 수 없거나 접근권한이 없습니다. ID: " + workspaceId));
+        if (verifiedOwnerships != null) {
+            verifiedOwnerships.add(key);
+        }
+        return workspace;
+    }
+
+    /**
+     * 현재 요청의 워크스페이스 소유권 검증 결과를 무효화합니다.
+     * 워크스페이스 생성·수정·삭제 시 호출하여 같은 요청의 이후 검증이 DB 상태를 다시 확인하도록 합니다.
+     *
+     * @param workspaceId 무효화할 워크스페이스의 ID
+     */
+    public void evictOwnership(Integer workspaceId) {
+        Set<OwnershipKey> verifiedOwnerships = verifiedOwnerships();
+        if (verifiedOwnerships != null) {
+            verifiedOwnerships.removeIf(key -> key.workspaceId().equals(workspaceId));
+        }
     }
 
     /**
@@ -74,4 +109,25 @@ public class WorkspaceValidator {
         return individualTemplateRepository.findByIndividualTemplateIdAndWorkspace_WorkspaceId(individualTemplateId, workspaceId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 워크스페이스에 존재하지 않는 템플릿입니다."));
     }
+
+    /**
+     * 현재 요청의 소유권 검증 결과 (HTTP 요청 밖의 호출이면 null - 캐시 미사용)
+     */
+    @SuppressWarnings("unchecked")
+    private Set<OwnershipKey> verifiedOwnerships() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Set<OwnershipKey> verifiedOwnerships =
+                (Set<OwnershipKey>) attributes.getAttribute(VERIFIED_OWNERSHIPS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (verifiedOwnerships == null) {
+            verifiedOwnerships = ConcurrentHashMap.newKeySet();
+            attributes.setAttribute(VERIFIED_OWNERSHIPS_ATTRIBUTE, verifiedOwnerships, RequestAttributes.SCOPE_REQUEST);
+        }
+        return verifiedOwnerships;
+    }
+
+    private record OwnershipKey(Integer workspaceId, Integer userId) {
+    }
 }
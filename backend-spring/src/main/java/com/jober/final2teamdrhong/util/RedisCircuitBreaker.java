@@ -0,0 +1,61 @@
+package com.jober.final2teamdrhong.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Redis 호출 서킷 브레이커
+ *
+ * 연속 실패가 임계값에 도달하면 열림 상태가 되어 Redis 호출을 즉시 건너뛰고,
+ * 백그라운드 점검(probe)이 성공하면 다시 닫힘 상태로 돌아갑니다.
+ * 열림 상태에서는 요청 스레드가 Redis 타임아웃을 기다리지 않습니다.
+ */
+@Slf4j
+public class RedisCircuitBreaker {
+
+    private final String name;
+    private final int failureThreshold;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean open = new AtomicBoolean(false);
+
+    /**
+     * @param name 로그에 표시할 사용처 이름 (예: "Rate Limit")
+     * @param failureThreshold 열림 상태로 전환할 연속 실패 횟수
+     */
+    public RedisCircuitBreaker(String name, int failureThreshold) {
+        this.name = name;
+        this.failureThreshold = Math.max(1, failureThreshold);
+    }
+
+    /**
+     * Redis 호출 가능 여부 (닫힘 상태)
+     */
+    public boolean isClosed() {
+        return !open.get();
+    }
+
+    public void recordSuccess() {
+        consecutiveFailures.set(0);
+    }
+
+    public void recordFailure(Exception e) {
+        int failures = consecutiveFailures.incrementAndGet();
+        if (failures >= failureThreshold && open.compareAndSet(false, true)) {
+            log.warn("{} Redis 연속 실패 {}회 - 대체 저장소로 전환: {}", name, failures, e.getMessage());
+        }
+    }
+
+    /**
+     * 열림 상태에서 점검 결과 반영
+     *
+     * @param healthy Redis 점검 성공 여부
+     */
+    public void recordProbe(boolean healthy) {
+        if (healthy && open.compareAndSet(true, false)) {
+            consecutiveFailures.set(0);
+            log.info("{} Redis 복구 확인 - Redis로 복귀", name);
+        }
+    }
+}
@@ -5,7 +5,11 @@ import org.springframework.stereotype.Component;
 
 /**
  * 타이밍 공격 방지를 위한 유틸리티 클래스
- * 요청 시작 시간을 ThreadLocal에 저장하고 최소 응답 시간을 보장
+ * 요청 시작 시간과 요구되는 최소 응답 시간을 ThreadLocal에 저장
+ *
+ * 서비스 계층은 최소 응답 시간만 요청하고 직접 대기하지 않습니다.
+ * 실제 지연은 MinimumResponseTimeFilter가 트랜잭션 커밋 이후
+ * 응답 완료 시점을 예약하는 방식으로 적용하므로 DB 커넥션을 점유하지 않습니다.
  */
 @Component
 @Slf4j
@@ -14,36 +18,50 @@ public class TimingAttackProtection {
     // 요청 시작 시간을 저장하는 ThreadLocal
     private static final ThreadLocal<Long> REQUEST_START_TIME = new ThreadLocal<>();
 
+    // 요구되는 최소 응답 시간을 저장하는 ThreadLocal
+    private static final ThreadLocal<Long> REQUIRED_MINIMUM_MS = new ThreadLocal<>();
+
     /**
      * 요청 시작 시간을 ThreadLocal에 설정
-     * Controller나 Service 진입점에서 호출
+     * MinimumResponseTimeFilter 진입 시 호출
      */
     public void startTiming() {
         REQUEST_START_TIME.set(System.currentTimeMillis());
     }
 
     /**
-     * 최소 응답 시간을 보장 (타이밍 공격 방지)
-     * @param minimumMs 최소 대기 시간 (밀리초)
+     * 최소 응답 시간 요구 (대기하지 않음)
+     * 여러 번 호출되면 가장 긴 시간을 적용
+     * @param minimumMs 최소 응답 시간 (밀리초)
      */
-    public void ensureMinimumResponseTime(long minimumMs) {
-        try {
-            long currentTime = System.currentTimeMillis();
-            long startTime = getCurrentRequestStartTime();
-            long elapsed = currentTime - startTime;
+    public void requireMinimumResponseTime(long minimumMs) {
+        if (REQUEST_START_TIME.get() == null) {
+            // 필터를 거치지 않은 호출 (배치, 테스트 등)은 지연 없이 진행
+            log.debug("요청 시작 시간이 설정되지 않아 최소 응답 시간 요구를 무시: {}ms", minimumMs);
+            return;
+        }
+        Long current = REQUIRED_MINIMUM_MS.get();
+        if (current == null || current < minimumMs) {
+            REQUIRED_MINIMUM_MS.set(minimumMs);
+        }
+    }
 
-            if (elapsed < minimumMs) {
-                long sleepTime = minimumMs - elapsed;
-                log.debug("보안 지연 적용: {}ms 대기 (총 경과시간: {}ms)", sleepTime, elapsed);
-                Thread.sleep(sleepTime);
-            } else {
-                log.debug("최소 응답 시간 이미 만족: {}ms (요구: {}ms)", elapsed, minimumMs);
-            }
-        } catch (InterruptedException e) {
-            // 인터럽트 상태 복원
-            Thread.currentThread().interrupt();
-            log.warn("응답 시간 지연 중 인터럽트 발생");
+    /**
+     * 최소 응답 시간을 만족하기 위해 남은 지연 시간
+     * @return 남은 지연 시간 (밀리초), 요구가 없거나 이미 만족한 경우 0
+     */
+    public long getRemainingDelay() {
+        Long minimumMs = REQUIRED_MINIMUM_MS.get();
+        if (minimumMs == null) {
+            return 0;
+        }
+        long elapsed = getElapsedTime();
+        if (elapsed >= minimumMs) {
+            log.debug("최소 응답 시간 이미 만족: {}ms (요구: {}ms)", elapsed, minimumMs);
+            return 0;
         }
+        log.debug("보안 지연 적용: {}ms 대기 (총 경과시간: {}ms)", minimumMs - elapsed, elapsed);
+        return minimumMs - elapsed;
     }
 
     /**
@@ -52,6 +70,7 @@ public class TimingAttackProtection {
      */
     public void clear() {
         REQUEST_START_TIME.remove();
+        REQUIRED_MINIMUM_MS.remove();
     }
 
     /**
@@ -78,4 +97,4 @@ public class TimingAttackProtection {
         long startTime = getCurrentRequestStartTime();
         return currentTime - startTime;
     }
-}
\ No newline at end of file
+}
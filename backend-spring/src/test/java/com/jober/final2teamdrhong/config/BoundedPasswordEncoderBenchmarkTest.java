@@ -0,0 +1,113 @@
+package com.jober.final2teamdrhong.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 로그인 폭주 중 다른 엔드포인트 p99 지연 비교 벤치마크
+ *
+ * 가상 스레드에서 BCrypt 검증을 직접 실행하는 경우와 BoundedPasswordEncoder를 거치는 경우,
+ * 동시에 실행되는 가벼운 요청(짧은 연산)의 p99 지연을 비교합니다.
+ * 전용 풀을 거칠 때 가벼운 요청의 p99가 직접 실행할 때보다 낮아야 합니다.
+ * 실행: ./gradlew benchmark --tests '*BoundedPasswordEncoderBenchmarkTest'
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BoundedPasswordEncoderBenchmarkTest {
+
+    private static final int FLOOD_CONCURRENCY = 500;
+    private static final int LIGHT_REQUESTS = 2_000;
+    private static final long FLOOD_DURATION_MS = 10_000;
+
+    // 가벼운 연산 결과를 모아 JIT가 연산을 제거하지 못하도록 함
+    private final LongAdder blackhole = new LongAdder();
+
+    @Test
+    @DisplayName("로그인 폭주 중 가벼운 요청 p99 지연: 직접 실행 vs 전용 풀")
+    void compareLightRequestP99DuringLoginFlood() throws Exception {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder();
+        String hash = bcrypt.encode("password");
+
+        double direct = measureLightRequestP99(bcrypt, hash);
+
+        int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        try (BoundedPasswordEncoder bounded = new BoundedPasswordEncoder(
+                bcrypt, poolSize, FLOOD_CONCURRENCY, new SimpleMeterRegistry())) {
+            double isolated = measureLightRequestP99(bounded, hash);
+
+            System.out.printf("가벼운 요청 p99 - 직접 실행: %.2fms, 전용 풀(%d): %.2fms%n",
+                    direct, poolSize, isolated);
+            assertThat(isolated).isLessThan(direct);
+        }
+    }
+
+    private double measureLightRequestP99(PasswordEncoder encoder, String hash) throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            // 로그인 폭주: 잘못된 비밀번호로 계속 검증 (거절은 무시)
+            for (int i = 0; i < FLOOD_CONCURRENCY; i++) {
+                requests.submit(() -> {
+                    while (running.get()) {
+                        try {
+                            encoder.matches("wrong-password", hash);
+                        } catch (RuntimeException ignored) {
+                            Thread.sleep(1);
+                        }
+                    }
+                    return null;
+                });
+            }
+            Thread.sleep(500);
+
+            // 다른 엔드포인트: 짧은 연산 후 응답
+            List<Future<Long>> latencies = new ArrayList<>(LIGHT_REQUESTS);
+            long pause = TimeUnit.MILLISECONDS.toNanos(FLOOD_DURATION_MS) / LIGHT_REQUESTS;
+            for (int i = 0; i < LIGHT_REQUESTS; i++) {
+                long submittedAt = System.nanoTime();
+                latencies.add(requests.submit(() -> {
+                    blackhole.add(lightWork());
+                    return System.nanoTime() - submittedAt;
+                }));
+                TimeUnit.NANOSECONDS.sleep(pause);
+            }
+
+            List<Long> results = new ArrayList<>(LIGHT_REQUESTS);
+            for (Future<Long> latency : latencies) {
+                results.add(latency.get());
+            }
+            running.set(false);
+            return percentileMillis(results, 0.99);
+        }
+    }
+
+    private static long lightWork() {
+        long acc = 0;
+        for (int i = 0; i < 10_000; i++) {
+            acc += i ^ (acc << 1);
+        }
+        return acc;
+    }
+
+    private static double percentileMillis(List<Long> nanos, double percentile) {
+        Collections.sort(nanos);
+        int index = (int) Math.ceil(percentile * nanos.size()) - 1;
+        return nanos.get(Math.max(0, index)) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,109 @@
+package com.jober.final2teamdrhong.config;
+
+import com.jober.final2teamdrhong.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * BoundedPasswordEncoder 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class BoundedPasswordEncoderTest {
+
+    @Mock
+    private PasswordEncoder delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedPasswordEncoder encoder;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        encoder = new BoundedPasswordEncoder(delegate, 1, 1, meterRegistry);
+        callers = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+        encoder.close();
+    }
+
+    @Test
+    @DisplayName("해싱/검증 결과를 위임 인코더에서 그대로 반환")
+    void encodeAndMatches_DelegatesResult() {
+        // given
+        given(delegate.encode("password")).willReturn("hashed");
+        given(delegate.matches("password", "hashed")).willReturn(true);
+
+        // when & then
+        assertThat(encoder.encode("password")).isEqualTo("hashed");
+        assertThat(encoder.matches("password", "hashed")).isTrue();
+        assertThat(meterRegistry.get("auth.password.hashing.wait").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("위임 인코더의 런타임 예외는 그대로 전파")
+    void matches_DelegateThrows_PropagatesException() {
+        // given
+        given(delegate.matches(any(), any())).willThrow(new IllegalArgumentException("bad hash"));
+
+        // when & then
+        assertThatThrownBy(() -> encoder.matches("password", "invalid"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("bad hash");
+    }
+
+    @Test
+    @DisplayName("실행 스레드와 대기 큐가 모두 차면 즉시 거절하고 거절 횟수 기록")
+    void matches_QueueFull_RejectsFast() throws Exception {
+        // given: 실행 중 1건 + 대기 1건으로 풀을 가득 채움
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(delegate.matches(any(), any())).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+        callers.submit(() -> encoder.matches("running", "hash"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        callers.submit(() -> encoder.matches("queued", "hash"));
+        await(() -> encoder.getQueueDepth() == 1);
+
+        // when & then
+        assertThatThrownBy(() -> encoder.matches("rejected", "hash"))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(meterRegistry.get("auth.password.hashing.rejected").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("auth.password.hashing.queue.depth").gauge().value()).isEqualTo(1.0);
+
+        release.countDown();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("조건 대기 시간 초과");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
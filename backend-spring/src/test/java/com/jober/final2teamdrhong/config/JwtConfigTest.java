@@ -206,6 +206,54 @@ class JwtConfigTest {
         }
     }
 
+    @Nested
+    @DisplayName("단일 파싱 테스트")
+    class ParseTokenTest {
+
+        @Test
+        @DisplayName("유효한 토큰 파싱 결과로 JTI와 JwtClaims를 재파싱 없이 얻음")
+        void parseToken_ValidToken_ReturnsReusableResult() {
+            // given
+            String token = jwtConfig.generateAccessToken(TEST_EMAIL, TEST_USER_ID);
+
+            // when
+            JwtConfig.ParsedToken parsedToken = jwtConfig.parseToken(token);
+            JwtClaims claims = jwtConfig.getJwtClaims(parsedToken);
+
+            // then
+            assertThat(parsedToken.isValid()).isTrue();
+            assertThat(parsedToken.error()).isNull();
+            assertThat(parsedToken.getJti()).isEqualTo(jwtConfig.getJtiFromToken(token));
+            assertThat(claims.getEmail()).isEqualTo(TEST_EMAIL);
+            assertThat(claims.getUserId()).isEqualTo(TEST_USER_ID);
+            assertThat(claims.isAccessToken()).isTrue();
+        }
+
+        @Test
+        @DisplayName("잘못된 토큰 파싱 시 실패 원인을 담은 결과 반환")
+        void parseToken_MalformedToken_ReturnsInvalidResult() {
+            // when
+            JwtConfig.ParsedToken parsedToken = jwtConfig.parseToken("invalid.token.format");
+
+            // then
+            assertThat(parsedToken.isValid()).isFalse();
+            assertThat(parsedToken.error()).isNotNull();
+            assertThat(parsedToken.getJti()).isNull();
+            assertThat(jwtConfig.getJwtClaims(parsedToken)).isNull();
+        }
+
+        @Test
+        @DisplayName("null 토큰 파싱 시 예외 없이 실패 결과 반환")
+        void parseToken_NullToken_ReturnsInvalidResult() {
+            // when
+            JwtConfig.ParsedToken parsedToken = jwtConfig.parseToken(null);
+
+            // then
+            assertThat(parsedToken.isValid()).isFalse();
+            assertThat(parsedToken.error()).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
     @Nested
     @DisplayName("Claims 추출 테스트")
     class ClaimsExtractionTest {
@@ -2,8 +2,16 @@ package com.jober.final2teamdrhong.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jober.final2teamdrhong.dto.workspace.WorkspaceRequest;
+import com.jober.final2teamdrhong.entity.GroupMapping;
+import com.jober.final2teamdrhong.entity.IndividualTemplate;
+import com.jober.final2teamdrhong.entity.PhoneBook;
+import com.jober.final2teamdrhong.entity.Recipient;
 import com.jober.final2teamdrhong.entity.User;
 import com.jober.final2teamdrhong.entity.Workspace;
+import com.jober.final2teamdrhong.repository.GroupMappingRepository;
+import com.jober.final2teamdrhong.repository.IndividualTemplateRepository;
+import com.jober.final2teamdrhong.repository.PhoneBookRepository;
+import com.jober.final2teamdrhong.repository.RecipientRepository;
 import com.jober.final2teamdrhong.repository.UserRepository;
 import com.jober.final2teamdrhong.repository.WorkspaceRepository;
 import jakarta.persistence.EntityManager;
@@ -20,6 +28,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.transaction.annotation.Transactional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -42,6 +51,18 @@ class WorkspaceControllerTest {
     @Autowired
     private WorkspaceRepository workspaceRepository;
 
+    @Autowired
+    private RecipientRepository recipientRepository;
+
+    @Autowired
+    private PhoneBookRepository phoneBookRepository;
+
+    @Autowired
+    private GroupMappingRepository groupMappingRepository;
+
+    @Autowired
+    private IndividualTemplateRepository individualTemplateRepository;
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
@@ -416,6 +437,107 @@ class WorkspaceControllerTest {
         resultActions.andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("워크스페이스 복제 성공 테스트")
+    @WithMockJwtClaims(userId = 1)
+    void cloneWorkspace_Success_Test() throws Exception {
+        // given
+        // 1. 수신자 2명, 주소록 1개(수신자 2명 매핑), 승인된 개인 템플릿 1개를 가진 원본 워크스페이스를 준비합니다.
+        Workspace sourceWorkspace = workspaceRepository.save(Workspace.builder()
+                .workspaceName("원본 워크스페이스")
+                .workspaceUrl("clone-source-url")
+                .representerName("원본 대표")
+                .representerPhoneNumber("010-1111-1111")
+                .companyName("원본 회사")
+                .user(testUser)
+                .build());
+        Recipient recipient1 = recipientRepository.save(Recipient.builder()
+                .recipientName("수신자1")
+                .recipientPhoneNumber("010-0000-0001")
+                .workspace(sourceWorkspace)
+                .build());
+        Recipient recipient2 = recipientRepository.save(Recipient.builder()
+                .recipientName("수신자2")
+                .recipientPhoneNumber("010-0000-0002")
+                .workspace(sourceWorkspace)
+                .build());
+        PhoneBook phoneBook = phoneBookRepository.save(PhoneBook.builder()
+                .phoneBookName("원본 주소록")
+                .workspace(sourceWorkspace)
+                .build());
+        groupMappingRepository.save(GroupMapping.builder().phoneBook(phoneBook).recipient(recipient1).build());
+        groupMappingRepository.save(GroupMapping.builder().phoneBook(phoneBook).recipient(recipient2).build());
+        individualTemplateRepository.save(IndividualTemplate.builder()
+                .individualTemplateTitle("원본 템플릿")
+                .status(IndividualTemplate.Status.APPROVED)
+                .workspace(sourceWorkspace)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        WorkspaceRequest.CloneDTO cloneDTO = new WorkspaceRequest.CloneDTO("복제 워크스페이스", "clone-target-url");
+        String requestBody = objectMapper.writeValueAsString(cloneDTO);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                post("/workspaces/" + sourceWorkspace.getWorkspaceId() + "/clone")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody)
+        );
+
+        // then
+        // 1. API 호출 결과를 검증합니다.
+        resultActions
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.workspace.workspaceId").value(not(sourceWorkspace.getWorkspaceId())))
+                .andExpect(jsonPath("$.workspace.workspaceName").value("복제 워크스페이스"))
+                .andExpect(jsonPath("$.recipientCount").value(2))
+                .andExpect(jsonPath("$.phoneBookCount").value(1))
+                .andExpect(jsonPath("$.groupMappingCount").value(2))
+                .andExpect(jsonPath("$.individualTemplateCount").value(1));
+
+        // 2. 복제된 매핑이 원본이 아닌 복제된 주소록과 수신자를 가리키는지 DB에서 직접 확인합니다.
+        Integer clonedWorkspaceId = jdbcTemplate.queryForObject(
+                "SELECT workspace_id FROM workspace WHERE workspace_url = ?", Integer.class, "clone-target-url");
+        Integer foreignMappings = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM group_mapping gm
+                JOIN phone_book pb ON pb.phone_book_id = gm.phone_book_id
+                JOIN recipient r ON r.recipient_id = gm.recipient_id
+                WHERE pb.workspace_id = ? AND r.workspace_id <> ?""",
+                Integer.class, clonedWorkspaceId, clonedWorkspaceId);
+        assertThat(foreignMappings).isZero();
+        String clonedStatus = jdbcTemplate.queryForObject(
+                "SELECT status FROM individual_template WHERE workspace_id = ?", String.class, clonedWorkspaceId);
+        assertThat(clonedStatus).isEqualTo("DRAFT");
+    }
+
+    @Test
+    @DisplayName("워크스페이스 복제 실패 테스트 - 권한 없음")
+    @WithMockJwtClaims(userId = 1)
+    void cloneWorkspace_Fail_Unauthorized_Test() throws Exception {
+        // given
+        Workspace othersWorkspace = workspaceRepository.save(Workspace.builder()
+                .workspaceName("남의 워크스페이스")
+                .workspaceUrl("another-users-clone-source")
+                .representerName("김대표")
+                .representerPhoneNumber("010-1111-1111")
+                .companyName("남의 회사")
+                .user(anotherUser)
+                .build());
+
+        WorkspaceRequest.CloneDTO cloneDTO = new WorkspaceRequest.CloneDTO("복제 워크스페이스", "stolen-clone-url");
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                post("/workspaces/" + othersWorkspace.getWorkspaceId() + "/clone")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(cloneDTO))
+        );
+
+        // then
+        resultActions.andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("워크스페이스 삭제 성공 테스트")
     @WithMockJwtClaims(userId = 1)
@@ -483,4 +605,60 @@ class WorkspaceControllerTest {
         //    GlobalExceptionHandler에 의해 최종적으로 400 Bad Request가 반환되는지 확인합니다.
         resultActions.andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("워크스페이스 내보내기 성공 테스트")
+    @WithMockJwtClaims(userId = 1)
+    void exportWorkspace_Success_Test() throws Exception {
+        // given
+        Workspace targetWorkspace = workspaceRepository.save(Workspace.builder()
+                .workspaceName("내보낼 워크스페이스")
+                .workspaceUrl("export-target-url")
+                .representerName("내보내기 대표")
+                .representerPhoneNumber("010-1111-1111")
+                .companyName("내보내기 회사")
+                .user(testUser)
+                .build());
+        recipientRepository.save(Recipient.builder()
+                .recipientName("수신자")
+                .recipientPhoneNumber("010-0000-0001")
+                .workspace(targetWorkspace)
+                .build());
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/workspaces/" + targetWorkspace.getWorkspaceId() + "/export")
+        );
+
+        // then
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/zip"))
+                .andExpect(header().string("Content-Disposition",
+                        containsString("workspace-" + targetWorkspace.getWorkspaceId() + "-export.zip")));
+    }
+
+    @Test
+    @DisplayName("워크스페이스 내보내기 실패 테스트 - 권한 없음")
+    @WithMockJwtClaims(userId = 1)
+    void exportWorkspace_Fail_Unauthorized_Test() throws Exception {
+        // given
+        Workspace othersWorkspace = workspaceRepository.save(Workspace.builder()
+                .workspaceName("남의 워크스페이스")
+                .workspaceUrl("another-users-export-url")
+                .representerName("김대표")
+                .representerPhoneNumber("010-1111-1111")
+                .companyName("남의 회사")
+                .user(anotherUser)
+                .build());
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+                get("/workspaces/" + othersWorkspace.getWorkspaceId() + "/export")
+        );
+
+        // then
+        // 응답을 쓰기 전에 소유권을 검증하므로 일반 오류 응답(400 Bad Request)이 반환됩니다.
+        resultActions.andExpect(status().isBadRequest());
+    }
 }
@@ -0,0 +1,69 @@
+package com.jober.final2teamdrhong.filter;
+
+import com.jober.final2teamdrhong.service.IpBlockListService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * IpBlockListFilter 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class IpBlockListFilterTest {
+
+    @Mock
+    private IpBlockListService ipBlockListService;
+
+    @Mock
+    private FilterChain filterChain;
+
+    private IpBlockListFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IpBlockListFilter(ipBlockListService, new SimpleMeterRegistry(), false);
+        request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setRemoteAddr("203.0.113.9");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("차단 목록의 IP는 다음 필터로 넘기지 않고 403 응답")
+    void doFilter_BlockedIp_Returns403() throws Exception {
+        // given
+        given(ipBlockListService.isBlocked("203.0.113.9")).willReturn(true);
+
+        // when
+        filter.doFilter(request, response, filterChain);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(403);
+        then(filterChain).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("차단되지 않은 IP는 다음 필터로 전달")
+    void doFilter_AllowedIp_Continues() throws Exception {
+        // given
+        given(ipBlockListService.isBlocked("203.0.113.9")).willReturn(false);
+
+        // when
+        filter.doFilter(request, response, filterChain);
+
+        // then
+        then(filterChain).should().doFilter(request, response);
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+}
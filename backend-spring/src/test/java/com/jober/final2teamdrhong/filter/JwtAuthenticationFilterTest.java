@@ -7,6 +7,10 @@ import com.jober.final2teamdrhong.entity.User;
 import com.jober.final2teamdrhong.exception.ErrorResponse;
 import com.jober.final2teamdrhong.service.BlacklistService;
 import com.jober.final2teamdrhong.service.JwtClaimsService;
+import com.jober.final2teamdrhong.service.TokenEpochService;
+import com.jober.final2teamdrhong.service.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.MalformedJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -47,6 +51,12 @@ class JwtAuthenticationFilterTest {
     @Mock
     private BlacklistService blacklistService;
 
+    @Mock
+    private TokenEpochService tokenEpochService;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
     @Mock
     private ObjectMapper objectMapper;
 
@@ -75,6 +85,10 @@ class JwtAuthenticationFilterTest {
     private static final String PUBLIC_AUTH_URI = "/api/auth/login";
     private static final String PUBLIC_SWAGGER_URI = "/api/swagger-ui/index.html";
 
+    private final JwtConfig.ParsedToken validParsedToken = JwtConfig.ParsedToken.valid(mock(Claims.class));
+    private final JwtConfig.ParsedToken invalidParsedToken =
+            JwtConfig.ParsedToken.invalid(new MalformedJwtException("malformed token"));
+
     @BeforeEach
     void setUp() {
         // SecurityContext 초기화
@@ -101,7 +115,7 @@ class JwtAuthenticationFilterTest {
             assertThat(auth.getAuthorities()).isEmpty();
 
             verify(filterChain).doFilter(request, response);
-            verifyNoInteractions(jwtConfig, jwtClaimsService, blacklistService);
+            verifyNoInteractions(jwtConfig, jwtClaimsService, blacklistService, verifiedTokenCache);
         }
 
         @Test
@@ -155,7 +169,7 @@ class JwtAuthenticationFilterTest {
 
             // then
             verify(filterChain).doFilter(request, response);
-            verifyNoInteractions(jwtConfig, jwtClaimsService, blacklistService);
+            verifyNoInteractions(jwtConfig, jwtClaimsService, blacklistService, verifiedTokenCache);
         }
     }
 
@@ -192,7 +206,28 @@ class JwtAuthenticationFilterTest {
             // given
             given(request.getHeader("Authorization")).willReturn(BEARER_TOKEN);
             given(jwtConfig.extractTokenFromHeader(BEARER_TOKEN)).willReturn(TEST_TOKEN);
-            given(blacklistService.isTokenBlacklisted(TEST_TOKEN)).willReturn(true);
+            given(verifiedTokenCache.getOrParse(TEST_TOKEN)).willReturn(validParsedToken);
+            given(blacklistService.isTokenBlacklisted(validParsedToken)).willReturn(true);
+            setupErrorResponse("무효화된 토큰입니다. 다시 로그인해주세요.");
+
+            // when
+            jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+            // then
+            verify(response).setStatus(HttpStatus.UNAUTHORIZED.value());
+            verify(blacklistService).isTokenBlacklisted(validParsedToken);
+            verify(filterChain, never()).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("토큰 에포크 이전에 발급된 토큰인 경우 401 에러")
+        void doFilterInternal_TokenIssuedBeforeEpoch_Returns401() throws Exception {
+            // given
+            given(request.getHeader("Authorization")).willReturn(BEARER_TOKEN);
+            given(jwtConfig.extractTokenFromHeader(BEARER_TOKEN)).willReturn(TEST_TOKEN);
+            given(verifiedTokenCache.getOrParse(TEST_TOKEN)).willReturn(validParsedToken);
+            given(blacklistService.isTokenBlacklisted(validParsedToken)).willReturn(false);
+            given(tokenEpochService.isRevoked(validParsedToken)).willReturn(true);
             setupErrorResponse("무효화된 토큰입니다. 다시 로그인해주세요.");
 
             // when
@@ -200,7 +235,7 @@ class JwtAuthenticationFilterTest {
 
             // then
             verify(response).setStatus(HttpStatus.UNAUTHORIZED.value());
-            verify(blacklistService).isTokenBlacklisted(TEST_TOKEN);
+            verify(jwtClaimsService, never()).getEnrichedClaims(any(JwtConfig.ParsedToken.class));
             verify(filterChain, never()).doFilter(request, response);
         }
 
@@ -210,15 +245,16 @@ class JwtAuthenticationFilterTest {
             // given
             given(request.getHeader("Authorization")).willReturn(BEARER_TOKEN);
             given(jwtConfig.extractTokenFromHeader(BEARER_TOKEN)).willReturn(TEST_TOKEN);
-            given(blacklistService.isTokenBlacklisted(TEST_TOKEN)).willReturn(false);
-            given(jwtConfig.validateToken(TEST_TOKEN)).willReturn(false);
+            given(verifiedTokenCache.getOrParse(TEST_TOKEN)).willReturn(invalidParsedToken);
+            given(blacklistService.isTokenBlacklisted(invalidParsedToken)).willReturn(false);
             setupErrorResponseForTokenValidation();
 
             // when
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
 
             // then
-            verify(jwtConfig).validateToken(TEST_TOKEN);
+            verify(verifiedTokenCache).getOrParse(TEST_TOKEN);
+            verify(jwtConfig, never()).validateToken(anyString());
             verify(response).setStatus(HttpStatus.UNAUTHORIZED.value());
             verify(filterChain, never()).doFilter(request, response);
         }
@@ -235,8 +271,8 @@ class JwtAuthenticationFilterTest {
             given(request.getRequestURI()).willReturn(PRIVATE_URI);
             given(request.getHeader("Authorization")).willReturn(BEARER_TOKEN);
             given(jwtConfig.extractTokenFromHeader(BEARER_TOKEN)).willReturn(TEST_TOKEN);
-            given(blacklistService.isTokenBlacklisted(TEST_TOKEN)).willReturn(false);
-            given(jwtConfig.validateToken(TEST_TOKEN)).willReturn(true);
+            given(verifiedTokenCache.getOrParse(TEST_TOKEN)).willReturn(validParsedToken);
+            given(blacklistService.isTokenBlacklisted(validParsedToken)).willReturn(false);
 
             testClaims = JwtClaims.builder()
                     .email(TEST_EMAIL)
@@ -253,7 +289,7 @@ class JwtAuthenticationFilterTest {
         @DisplayName("유효한 토큰으로 인증 성공")
         void doFilterInternal_ValidToken_SetsAuthentication() throws Exception {
             // given
-            given(jwtClaimsService.getEnrichedClaims(TEST_TOKEN)).willReturn(testClaims);
+            given(jwtClaimsService.getEnrichedClaims(validParsedToken)).willReturn(testClaims);
 
             // when
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -269,7 +305,7 @@ class JwtAuthenticationFilterTest {
                     .contains("ROLE_USER");
             assertThat(auth.isAuthenticated()).isTrue();
 
-            verify(jwtClaimsService).getEnrichedClaims(TEST_TOKEN);
+            verify(jwtClaimsService).getEnrichedClaims(validParsedToken);
             verify(filterChain).doFilter(request, response);
         }
 
@@ -287,7 +323,7 @@ class JwtAuthenticationFilterTest {
                     .expiresAt(LocalDateTime.now().plusMinutes(15))
                     .build();
 
-            given(jwtClaimsService.getEnrichedClaims(TEST_TOKEN)).willReturn(adminClaims);
+            given(jwtClaimsService.getEnrichedClaims(validParsedToken)).willReturn(adminClaims);
 
             // when
             jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
@@ -314,8 +350,8 @@ class JwtAuthenticationFilterTest {
             given(request.getRequestURI()).willReturn(PRIVATE_URI);
             given(request.getHeader("Authorization")).willReturn(BEARER_TOKEN);
             given(jwtConfig.extractTokenFromHeader(BEARER_TOKEN)).willReturn(TEST_TOKEN);
-            given(blacklistService.isTokenBlacklisted(TEST_TOKEN)).willReturn(false);
-            given(jwtConfig.validateToken(TEST_TOKEN)).willReturn(true);
+            given(verifiedTokenCache.getOrParse(TEST_TOKEN)).willReturn(validParsedToken);
+            given(blacklistService.isTokenBlacklisted(validParsedToken)).willReturn(false);
         }
 
         @Test
@@ -323,7 +359,7 @@ class JwtAuthenticationFilterTest {
         void doFilterInternal_JwtClaimsServiceException_Returns401() throws Exception {
             // given
             RuntimeException exception = new RuntimeException("사용자를 찾을 수 없습니다");
-            given(jwtClaimsService.getEnrichedClaims(TEST_TOKEN)).willThrow(exception);
+            given(jwtClaimsService.getEnrichedClaims(validParsedToken)).willThrow(exception);
             setupErrorResponseForException(exception);
 
             // when
@@ -0,0 +1,128 @@
+package com.jober.final2teamdrhong.filter;
+
+import com.jober.final2teamdrhong.config.AuthProperties;
+import com.jober.final2teamdrhong.util.TimingAttackProtection;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * MinimumResponseTimeFilter 단위 테스트
+ */
+class MinimumResponseTimeFilterTest {
+
+    private static final String LOGIN_URI = "/api/auth/login";
+    private static final String BODY = "{\"message\":\"로그인 실패\"}";
+
+    private TimingAttackProtection timingAttackProtection;
+    private AuthProperties authProperties;
+    private MinimumResponseTimeFilter filter;
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        timingAttackProtection = new TimingAttackProtection();
+        authProperties = new AuthProperties();
+        filter = new MinimumResponseTimeFilter(timingAttackProtection, authProperties);
+
+        request = new MockHttpServletRequest("POST", LOGIN_URI);
+        request.setContextPath("/api");
+        request.setAsyncSupported(true);
+        response = new MockHttpServletResponse();
+    }
+
+    @AfterEach
+    void tearDown() {
+        filter.shutdown();
+    }
+
+    @Test
+    @DisplayName("최소 응답 시간 요구가 없으면 즉시 응답 본문 전송")
+    void doFilter_NoRequirement_CompletesImmediately() throws Exception {
+        // when
+        filter.doFilter(request, response, writeBody(0));
+
+        // then
+        assertThat(request.isAsyncStarted()).isFalse();
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("최소 응답 시간 요구 시 비동기로 전환하고 남은 시간 후 응답 완료")
+    void doFilter_WithRequirement_CompletesAsynchronouslyAfterDelay() throws Exception {
+        // when
+        long startedAt = System.nanoTime();
+        filter.doFilter(request, response, writeBody(200));
+        long filterElapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        // then: 요청 스레드는 대기하지 않고 반환, 본문은 아직 전송되지 않음
+        assertThat(request.isAsyncStarted()).isTrue();
+        assertThat(filterElapsedMs).isLessThan(200);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+
+        awaitCommitted(2_000);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(200);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("비동기 미사용 설정 시 필터에서 대기 후 응답 전송")
+    void doFilter_AsyncDisabled_SleepsInFilter() throws Exception {
+        // given
+        authProperties.getSecurity().setTimingPaddingAsync(false);
+
+        // when
+        long startedAt = System.nanoTime();
+        filter.doFilter(request, response, writeBody(100));
+
+        // then
+        assertThat(request.isAsyncStarted()).isFalse();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isGreaterThanOrEqualTo(100);
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    @DisplayName("보호 대상이 아닌 경로는 필터를 적용하지 않음")
+    void doFilter_UnprotectedPath_Skipped() throws Exception {
+        // given
+        request.setRequestURI("/api/users/profile");
+
+        // when
+        filter.doFilter(request, response, writeBody(200));
+
+        // then: 시작 시간이 없으므로 요구가 무시되고 즉시 응답
+        assertThat(request.isAsyncStarted()).isFalse();
+        assertThat(response.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    private FilterChain writeBody(long minimumMs) {
+        return (req, res) -> {
+            if (minimumMs > 0) {
+                timingAttackProtection.requireMinimumResponseTime(minimumMs);
+            }
+            res.setContentType("application/json");
+            res.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private void awaitCommitted(long timeoutMs) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        while (response.getContentAsByteArray().length == 0) {
+            if (System.nanoTime() > deadline) {
+                fail("지연된 응답 완료 대기 시간 초과");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
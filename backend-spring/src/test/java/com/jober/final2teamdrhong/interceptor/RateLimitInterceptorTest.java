@@ -0,0 +1,138 @@
+package com.jober.final2teamdrhong.interceptor;
+
+import com.jober.final2teamdrhong.annotation.RateLimited;
+import com.jober.final2teamdrhong.config.RateLimitConfig;
+import com.jober.final2teamdrhong.exception.RateLimitExceededException;
+import com.jober.final2teamdrhong.service.RateLimitService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RateLimitInterceptor 단위 테스트
+ */
+class RateLimitInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitInterceptor interceptor;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitConfig.Policy policy = new RateLimitConfig.Policy();
+        policy.setRequestsPerWindow(2);
+        policy.setWindowDurationMinutes(1);
+        RateLimitConfig rateLimitConfig = new RateLimitConfig();
+        rateLimitConfig.getPolicies().put("test-policy", policy);
+
+        meterRegistry = new SimpleMeterRegistry();
+        RateLimitService rateLimitService = new RateLimitService(rateLimitConfig, null, null, meterRegistry);
+        interceptor = new RateLimitInterceptor(rateLimitService, meterRegistry, true);
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    @DisplayName("정책 한도까지 허용하고 초과 시 대기 시간 포함 예외, 엔드포인트별 카운터 기록")
+    void preHandle_ExceedsPolicy_ThrowsAndCounts() throws Exception {
+        // given
+        HandlerMethod handler = handler("byIp");
+
+        // when & then
+        assertThat(interceptor.preHandle(request("10.0.0.1", Map.of()), response, handler)).isTrue();
+        assertThat(interceptor.preHandle(request("10.0.0.1", Map.of()), response, handler)).isTrue();
+        assertThatThrownBy(() -> interceptor.preHandle(request("10.0.0.1", Map.of()), response, handler))
+                .isInstanceOfSatisfying(RateLimitExceededException.class, e ->
+                        assertThat(e.getRetryAfterSeconds()).isBetween(0L, 30L));
+
+        // 다른 IP는 별도 버킷
+        assertThat(interceptor.preHandle(request("10.0.0.2", Map.of()), response, handler)).isTrue();
+
+        assertThat(count("byIp", "allowed")).isEqualTo(3);
+        assertThat(count("byIp", "rejected")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키 식으로 경로 변수를 기준으로 제한")
+    void preHandle_PathVariableKey_LimitsPerPathVariable() throws Exception {
+        // given: 같은 IP라도 워크스페이스별로 제한
+        HandlerMethod handler = handler("byWorkspace");
+
+        // when & then
+        interceptor.preHandle(request("10.0.0.1", Map.of("workspaceId", "1")), response, handler);
+        interceptor.preHandle(request("10.0.0.1", Map.of("workspaceId", "1")), response, handler);
+        assertThatThrownBy(() -> interceptor.preHandle(request("10.0.0.1", Map.of("workspaceId", "1")), response, handler))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(interceptor.preHandle(request("10.0.0.1", Map.of("workspaceId", "2")), response, handler)).isTrue();
+    }
+
+    @Test
+    @DisplayName("선언이 없는 핸들러는 제한하지 않음")
+    void preHandle_NotAnnotated_Passes() throws Exception {
+        // given
+        HandlerMethod handler = handler("notLimited");
+
+        // when & then
+        for (int i = 0; i < 5; i++) {
+            assertThat(interceptor.preHandle(request("10.0.0.1", Map.of()), response, handler)).isTrue();
+        }
+        assertThat(meterRegistry.find("rate_limit.endpoint.requests").counters()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("설정에 없는 정책을 선언하면 예외")
+    void preHandle_UnknownPolicy_Throws() throws Exception {
+        // given
+        HandlerMethod handler = handler("unknownPolicy");
+
+        // when & then
+        assertThatThrownBy(() -> interceptor.preHandle(request("10.0.0.1", Map.of()), response, handler))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("no-such-policy");
+    }
+
+    private HandlerMethod handler(String methodName) throws NoSuchMethodException {
+        return new HandlerMethod(new TestController(), TestController.class.getMethod(methodName));
+    }
+
+    private MockHttpServletRequest request(String remoteAddr, Map<String, String> pathVariables) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, pathVariables);
+        return request;
+    }
+
+    private double count(String method, String outcome) {
+        return meterRegistry.get("rate_limit.endpoint.requests")
+                .tag("endpoint", "TestController#" + method)
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    static class TestController {
+
+        @RateLimited(policy = "test-policy")
+        public void byIp() {
+        }
+
+        @RateLimited(policy = "test-policy", key = "#pathVariables['workspaceId']")
+        public void byWorkspace() {
+        }
+
+        @RateLimited(policy = "no-such-policy")
+        public void unknownPolicy() {
+        }
+
+        public void notLimited() {
+        }
+    }
+}
@@ -7,8 +7,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -159,4 +161,33 @@ class EmailVerificationRepositoryTest {
         assertThat(savedVerification.isExpired()).isTrue();
         assertThat(savedVerification.isValid()).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("만료된 인증 정보만 배치 크기만큼 조회 후 삭제 테스트")
+    void findExpiredIdsAndDeleteByIds_Success_Test() {
+        // given
+        // 1. 만료된 인증 정보 3건을 저장합니다. (setUp의 유효한 인증 정보 1건은 유지)
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(EmailVerification.builder()
+                    .email("expired" + i + "@example.com")
+                    .verificationCode("000000")
+                    .expiresAt(LocalDateTime.now().minusMinutes(10 + i))
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        // 1. 만료된 인증 정보 ID를 배치 크기 2로 조회한 뒤 삭제합니다.
+        List<Integer> expiredIds = emailVerificationRepository.findExpiredIds(LocalDateTime.now(), PageRequest.of(0, 2));
+        int deleted = emailVerificationRepository.deleteByIds(expiredIds);
+
+        // then
+        // 1. 배치 크기만큼만 삭제되었는지 확인합니다.
+        assertThat(expiredIds).hasSize(2);
+        assertThat(deleted).isEqualTo(2);
+        // 2. 남은 만료 인증 정보는 1건이고 유효한 인증 정보는 그대로인지 확인합니다.
+        assertThat(emailVerificationRepository.findExpiredIds(LocalDateTime.now(), PageRequest.of(0, 10))).hasSize(1);
+        assertThat(emailVerificationRepository.findByEmail("test@example.com")).isPresent();
+    }
+}
@@ -444,4 +444,29 @@ class GroupMappingRepositoryTest {
         // 1. 빈 리스트가 반환되는지 확인합니다.
         assertThat(foundMappings).isEmpty();
     }
+
+    @Test
+    @DisplayName("삭제된 워크스페이스의 매핑 ID를 배치 크기만큼 조회하고 소프트 삭제하면 남은 매핑만 조회되는지 테스트")
+    void findIdsByWorkspaceId_SoftDeleteAllByIds_Test() {
+        // given
+        // 1. 워크스페이스가 먼저 소프트 딜리트된 상태에서도 하위 매핑이 조회되어야 합니다.
+        Integer workspaceId = testPhoneBook.getWorkspace().getWorkspaceId();
+        entityManager.createNativeQuery("UPDATE workspace SET is_deleted = true WHERE workspace_id = :workspaceId")
+                .setParameter("workspaceId", workspaceId)
+                .executeUpdate();
+        Pageable batch = PageRequest.of(0, 2);
+        LocalDateTime now = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime();
+
+        // when
+        List<Integer> firstBatch = groupMappingRepository.findIdsByWorkspaceId(workspaceId, batch);
+        int deleted = groupMappingRepository.softDeleteAllByIds(firstBatch, now);
+        List<Integer> secondBatch = groupMappingRepository.findIdsByWorkspaceId(workspaceId, batch);
+
+        // then
+        assertThat(firstBatch).hasSize(2);
+        assertThat(deleted).isEqualTo(2);
+        assertThat(secondBatch).hasSize(1).doesNotContainAnyElementsOf(firstBatch);
+        assertThat(groupMappingRepository.findAllByIdIncludingDeleted(firstBatch))
+                .allSatisfy(mapping -> assertThat(mapping.getIsDeleted()).isTrue());
+    }
 }
@@ -0,0 +1,115 @@
+package com.jober.final2teamdrhong.repository;
+
+import com.jober.final2teamdrhong.entity.WorkspaceDeletionJob;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class WorkspaceDeletionJobRepositoryTest {
+
+    private static final String NODE_A = "node-a";
+    private static final String NODE_B = "node-b";
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private WorkspaceDeletionJobRepository workspaceDeletionJobRepository;
+
+    private LocalDateTime now;
+    private Long jobId;
+
+    @BeforeEach
+    void setUp() {
+        // TIMESTAMP 컬럼 정밀도와 무관하게 비교할 수 있도록 초 단위로 자름
+        now = ZonedDateTime.now(ZoneId.of("Asia/Seoul")).toLocalDateTime().truncatedTo(ChronoUnit.SECONDS);
+        WorkspaceDeletionJob job = testEntityManager.persistAndFlush(WorkspaceDeletionJob.create(1, now));
+        jobId = job.getJobId();
+        testEntityManager.clear();
+    }
+
+    @Test
+    @DisplayName("점유 중인 작업은 다른 노드가 점유할 수 없고 점유한 노드는 연장 가능")
+    void claim_HeldLease_OnlyOwnerCanRenew() {
+        // given
+        assertThat(workspaceDeletionJobRepository.claim(jobId, NODE_A, now, now.plusMinutes(1))).isEqualTo(1);
+
+        // when
+        int otherNode = workspaceDeletionJobRepository.claim(jobId, NODE_B, now.plusSeconds(10), now.plusMinutes(2));
+        int owner = workspaceDeletionJobRepository.claim(jobId, NODE_A, now.plusSeconds(10), now.plusMinutes(2));
+
+        // then
+        assertThat(otherNode).isZero();
+        assertThat(owner).isEqualTo(1);
+        WorkspaceDeletionJob job = workspaceDeletionJobRepository.findById(jobId).orElseThrow();
+        assertThat(job.getLeaseOwner()).isEqualTo(NODE_A);
+        assertThat(job.getLeaseUntil()).isEqualTo(now.plusMinutes(2));
+    }
+
+    @Test
+    @DisplayName("점유가 만료되면 다른 노드가 이어받고 이전 점유 노드는 더 이상 연장할 수 없음")
+    void claim_ExpiredLease_TakenOverByOtherNode() {
+        // given
+        workspaceDeletionJobRepository.claim(jobId, NODE_A, now, now.plusMinutes(1));
+
+        // when
+        int takeover = workspaceDeletionJobRepository.claim(jobId, NODE_B, now.plusMinutes(2), now.plusMinutes(3));
+        int staleOwner = workspaceDeletionJobRepository.claim(jobId, NODE_A, now.plusMinutes(2), now.plusMinutes(3));
+
+        // then
+        assertThat(takeover).isEqualTo(1);
+        assertThat(staleOwner).isZero();
+        assertThat(workspaceDeletionJobRepository.findById(jobId).orElseThrow().getLeaseOwner()).isEqualTo(NODE_B);
+    }
+
+    @Test
+    @DisplayName("단계 진행 상태가 저장되고 완료되면 점유가 해제되어 더 이상 점유할 수 없음")
+    void advance_StageTransitionsPersistAndCompletionReleasesLease() {
+        // given
+        workspaceDeletionJobRepository.claim(jobId, NODE_A, now, now.plusMinutes(1));
+        WorkspaceDeletionJob job = workspaceDeletionJobRepository.findById(jobId).orElseThrow();
+
+        // when: 첫 단계에서 한 배치를 처리한 뒤 다음 단계로 이동
+        job.recordBatch(3, now);
+        job.advance(now);
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // then
+        WorkspaceDeletionJob advanced = workspaceDeletionJobRepository.findById(jobId).orElseThrow();
+        assertThat(advanced.getStage()).isEqualTo(WorkspaceDeletionJob.Stage.TEMPLATE_HISTORY);
+        assertThat(advanced.getProcessedCount()).isEqualTo(3);
+        assertThat(advanced.getLeaseOwner()).isEqualTo(NODE_A);
+        assertThat(workspaceDeletionJobRepository.findAllByStageNotOrderByJobIdAsc(WorkspaceDeletionJob.Stage.COMPLETED))
+                .extracting(WorkspaceDeletionJob::getJobId)
+                .containsExactly(jobId);
+
+        // when: 나머지 단계를 모두 진행하여 완료
+        while (!advanced.isCompleted()) {
+            advanced.advance(now);
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // then
+        WorkspaceDeletionJob completed = workspaceDeletionJobRepository.findById(jobId).orElseThrow();
+        assertThat(completed.getStage()).isEqualTo(WorkspaceDeletionJob.Stage.COMPLETED);
+        assertThat(completed.getCompletedAt()).isNotNull();
+        assertThat(completed.getLeaseOwner()).isNull();
+        assertThat(completed.getLeaseUntil()).isNull();
+        assertThat(workspaceDeletionJobRepository.findAllByStageNotOrderByJobIdAsc(WorkspaceDeletionJob.Stage.COMPLETED))
+                .isEmpty();
+        assertThat(workspaceDeletionJobRepository.claim(jobId, NODE_A, now, now.plusMinutes(1))).isZero();
+    }
+}
@@ -1,6 +1,7 @@
 package com.jober.final2teamdrhong.service;
 
 import com.jober.final2teamdrhong.config.AuthProperties;
+import com.jober.final2teamdrhong.config.BoundedPasswordEncoder;
 import com.jober.final2teamdrhong.config.JwtConfig;
 import com.jober.final2teamdrhong.dto.auth.SocialSignupRequest;
 import com.jober.final2teamdrhong.dto.auth.SocialSignupResponse;
@@ -12,9 +13,11 @@ import com.jober.final2teamdrhong.entity.User;
 import com.jober.final2teamdrhong.entity.UserAuth;
 import com.jober.final2teamdrhong.exception.AuthenticationException;
 import com.jober.final2teamdrhong.exception.BusinessException;
+import com.jober.final2teamdrhong.exception.RateLimitExceededException;
 import com.jober.final2teamdrhong.repository.UserRepository;
 import com.jober.final2teamdrhong.service.storage.VerificationStorage;
 import com.jober.final2teamdrhong.util.TimingAttackProtection;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -26,13 +29,18 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Optional;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.*;
 
@@ -81,6 +89,9 @@ class AuthServiceTest {
     @Mock
     private UserValidationService userValidationService;
 
+    @Mock
+    private UserAuthLastUsedBuffer userAuthLastUsedBuffer;
+
     @InjectMocks
     private AuthService authService;
 
@@ -234,6 +245,40 @@ class AuthServiceTest {
             then(userRepository).should(never()).save(any());
         }
 
+        @Test
+        @DisplayName("비밀번호 해싱 풀이 거절해도 인증 코드는 소모되지 않아 재시도 시 회원가입 성공 테스트")
+        void shouldKeepVerificationCodeWhenPasswordHashingIsRejected() {
+            // given
+            // 1. 회원가입 요청 정보를 준비합니다.
+            UserSignupRequest request = new UserSignupRequest(
+                    "테스트사용자",
+                    "test@example.com",
+                    "010-1234-5678",
+                    "Password123!",
+                    "123456"
+            );
+            String clientIp = "192.168.1.1";
+
+            // 2. 첫 번째 암호화는 해싱 풀 포화로 거절되고, 재시도 시에는 성공하도록 설정합니다.
+            given(passwordEncoder.encode(request.password()))
+                    .willThrow(new RateLimitExceededException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 1))
+                    .willReturn("$2a$10$encoded.password.hash");
+            given(verificationStorage.validateAndDelete(request.email(), request.verificationCode())).willReturn(true);
+            given(userRepository.save(any(User.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+            // when & then
+            // 1. 첫 요청은 429 예외로 실패하고 인증 코드는 소모되지 않았는지 확인합니다.
+            assertThatThrownBy(() -> authService.signupWithRateLimit(request, clientIp))
+                    .isInstanceOf(RateLimitExceededException.class);
+            then(verificationStorage).should(never()).validateAndDelete(anyString(), anyString());
+            then(userRepository).should(never()).save(any());
+
+            // 2. 같은 인증 코드로 재시도하면 회원가입이 완료되는지 확인합니다.
+            authService.signupWithRateLimit(request, clientIp);
+            then(verificationStorage).should(times(1)).validateAndDelete(request.email(), request.verificationCode());
+            then(userRepository).should(times(1)).save(any(User.class));
+        }
+
         @Test
         @DisplayName("인증 코드 검증 실패 시 회원가입 실패 테스트")
         void shouldFailWhenVerificationCodeIsInvalid() {
@@ -291,10 +336,6 @@ class AuthServiceTest {
             UserAuth localAuth = UserAuth.createLocalAuth(existingUser, "$2a$10$encoded.password.hash");
             existingUser.addUserAuth(localAuth);
 
-            // 3. 타이밍 공격 방지를 위한 설정을 합니다.
-            willDoNothing().given(timingAttackProtection).startTiming();
-            willDoNothing().given(timingAttackProtection).clear();
-
             // 4. AuthProperties 설정을 합니다 (성공 테스트에서는 더미 해시만 필요).
             given(authProperties.getSecurity()).willReturn(securityProperties);
             given(securityProperties.getDummyHash()).willReturn("$2a$10$dummy.hash.for.timing.attack");
@@ -305,18 +346,9 @@ class AuthServiceTest {
             // 6. 비밀번호 매칭이 성공하도록 설정합니다.
             given(passwordEncoder.matches(request.password(), "$2a$10$encoded.password.hash")).willReturn(true);
 
-            // 7. User ID를 설정합니다 (JWT 토큰 생성에 필요).
-            given(userRepository.save(any(User.class))).willAnswer(invocation -> {
-                User user = invocation.getArgument(0);
-                try {
-                    var field = user.getClass().getDeclaredField("userId");
-                    field.setAccessible(true);
-                    field.set(user, 1);
-                } catch (Exception e) {
-                    // 테스트에서는 무시
-                }
-                return user;
-            });
+            // 7. User ID와 인증 ID를 설정합니다 (JWT 토큰 생성, 마지막 사용 시각 기록에 필요).
+            ReflectionTestUtils.setField(existingUser, "userId", 1);
+            ReflectionTestUtils.setField(localAuth, "authId", 10);
 
             // 8. 토큰 생성 설정을 합니다 (동적 ID 때문에 any()를 사용).
             given(jwtConfig.generateAccessToken(eq(existingUser.getUserEmail()), any())).willReturn("access_token_123");
@@ -332,9 +364,8 @@ class AuthServiceTest {
             assertThat(response.token()).isEqualTo("access_token_123");
             assertThat(response.refreshToken()).isEqualTo("refresh_token_123");
 
-            // 2. 타이밍 공격 방지가 수행되었는지 확인합니다.
-            then(timingAttackProtection).should(times(1)).startTiming();
-            then(timingAttackProtection).should(times(1)).clear();
+            // 2. 성공 시에는 최소 응답 시간을 요구하지 않는지 확인합니다.
+            then(timingAttackProtection).should(never()).requireMinimumResponseTime(anyLong());
 
             // 3. 사용자 조회가 수행되었는지 확인합니다.
             then(userRepository).should(times(1)).findByUserEmailWithAuth(request.email());
@@ -346,8 +377,9 @@ class AuthServiceTest {
             then(jwtConfig).should(times(1)).generateAccessToken(existingUser.getUserEmail(), existingUser.getUserId());
             then(tokenService).should(times(1)).createRefreshToken(existingUser, clientIp);
 
-            // 6. 사용자 업데이트 저장이 수행되었는지 확인합니다.
-            then(userRepository).should(times(1)).save(existingUser);
+            // 6. 마지막 사용 시각은 버퍼에만 기록되고 즉시 저장되지 않는지 확인합니다.
+            then(userAuthLastUsedBuffer).should(times(1)).record(10);
+            then(userRepository).should(never()).save(any());
         }
 
         @Test
@@ -358,10 +390,6 @@ class AuthServiceTest {
             UserLoginRequest request = new UserLoginRequest("notfound@example.com", "Password123!");
             String clientIp = "192.168.1.1";
 
-            // 2. 타이밍 공격 방지를 위한 설정을 합니다.
-            willDoNothing().given(timingAttackProtection).startTiming();
-            willDoNothing().given(timingAttackProtection).clear();
-
             // 3. AuthProperties 설정을 합니다.
             given(authProperties.getSecurity()).willReturn(securityProperties);
             given(securityProperties.getDummyHash()).willReturn("$2a$10$dummy.hash.for.timing.attack");
@@ -375,8 +403,8 @@ class AuthServiceTest {
             // 5. 더미 해시와 비밀번호 매칭이 실패하도록 설정합니다.
             given(passwordEncoder.matches(request.password(), "$2a$10$dummy.hash.for.timing.attack")).willReturn(false);
 
-            // 6. 타이밍 공격 방지를 위한 응답 시간 설정을 합니다.
-            willDoNothing().given(timingAttackProtection).ensureMinimumResponseTime(500);
+            // 6. 타이밍 공격 방지를 위한 최소 응답 시간 요구 설정을 합니다.
+            willDoNothing().given(timingAttackProtection).requireMinimumResponseTime(500);
 
             // when & then
             // 1. 사용자가 존재하지 않아 로그인 실패 예외가 발생하는지 확인합니다.
@@ -391,7 +419,7 @@ class AuthServiceTest {
             then(passwordEncoder).should(times(1)).matches(request.password(), "$2a$10$dummy.hash.for.timing.attack");
 
             // 4. 타이밍 공격 방지가 수행되었는지 확인합니다.
-            then(timingAttackProtection).should(times(2)).ensureMinimumResponseTime(500);
+            then(timingAttackProtection).should(times(2)).requireMinimumResponseTime(500);
 
             // 5. 토큰 생성은 수행되지 않았는지 확인합니다.
             then(jwtConfig).should(never()).generateAccessToken(anyString(), any());
@@ -411,10 +439,6 @@ class AuthServiceTest {
             UserAuth localAuth = UserAuth.createLocalAuth(existingUser, "$2a$10$encoded.password.hash");
             existingUser.addUserAuth(localAuth);
 
-            // 3. 타이밍 공격 방지를 위한 설정을 합니다.
-            willDoNothing().given(timingAttackProtection).startTiming();
-            willDoNothing().given(timingAttackProtection).clear();
-
             // 4. AuthProperties 설정을 합니다.
             given(authProperties.getSecurity()).willReturn(securityProperties);
             given(securityProperties.getDummyHash()).willReturn("$2a$10$dummy.hash.for.timing.attack");
@@ -429,7 +453,7 @@ class AuthServiceTest {
             given(passwordEncoder.matches(request.password(), "$2a$10$encoded.password.hash")).willReturn(false);
 
             // 7. 타이밍 공격 방지를 위한 응답 시간 설정을 합니다.
-            willDoNothing().given(timingAttackProtection).ensureMinimumResponseTime(500);
+            willDoNothing().given(timingAttackProtection).requireMinimumResponseTime(500);
 
             // when & then
             // 1. 잘못된 비밀번호로 인한 로그인 실패 예외가 발생하는지 확인합니다.
@@ -444,7 +468,7 @@ class AuthServiceTest {
             then(passwordEncoder).should(times(1)).matches(request.password(), "$2a$10$encoded.password.hash");
 
             // 4. 타이밍 공격 방지가 수행되었는지 확인합니다.
-            then(timingAttackProtection).should(times(2)).ensureMinimumResponseTime(500);
+            then(timingAttackProtection).should(times(2)).requireMinimumResponseTime(500);
 
             // 5. 토큰 생성은 수행되지 않았는지 확인합니다.
             then(jwtConfig).should(never()).generateAccessToken(anyString(), any());
@@ -464,10 +488,6 @@ class AuthServiceTest {
             UserAuth socialAuth = UserAuth.createSocialAuth(socialOnlyUser, UserAuth.AuthType.GOOGLE, "google123");
             socialOnlyUser.addUserAuth(socialAuth);
 
-            // 3. 타이밍 공격 방지를 위한 설정을 합니다.
-            willDoNothing().given(timingAttackProtection).startTiming();
-            willDoNothing().given(timingAttackProtection).clear();
-
             // 4. AuthProperties 설정을 합니다.
             given(authProperties.getSecurity()).willReturn(securityProperties);
             given(securityProperties.getDummyHash()).willReturn("$2a$10$dummy.hash.for.timing.attack");
@@ -482,7 +502,7 @@ class AuthServiceTest {
             given(passwordEncoder.matches(request.password(), "$2a$10$dummy.hash.for.timing.attack")).willReturn(false);
 
             // 7. 타이밍 공격 방지를 위한 응답 시간 설정을 합니다.
-            willDoNothing().given(timingAttackProtection).ensureMinimumResponseTime(500);
+            willDoNothing().given(timingAttackProtection).requireMinimumResponseTime(500);
 
             // when & then
             // 1. 로컬 인증 정보가 없어 로그인 실패 예외가 발생하는지 확인합니다.
@@ -497,7 +517,7 @@ class AuthServiceTest {
             then(passwordEncoder).should(times(1)).matches(request.password(), "$2a$10$dummy.hash.for.timing.attack");
 
             // 4. 타이밍 공격 방지가 수행되었는지 확인합니다.
-            then(timingAttackProtection).should(times(2)).ensureMinimumResponseTime(500);
+            then(timingAttackProtection).should(times(2)).requireMinimumResponseTime(500);
 
             // 5. 토큰 생성은 수행되지 않았는지 확인합니다.
             then(jwtConfig).should(never()).generateAccessToken(anyString(), any());
@@ -512,10 +532,6 @@ class AuthServiceTest {
             UserLoginRequest request = new UserLoginRequest("test@example.com", "Password123!");
             String clientIp = "192.168.1.1";
 
-            // 2. 타이밍 공격 방지를 위한 설정을 합니다.
-            willDoNothing().given(timingAttackProtection).startTiming();
-            willDoNothing().given(timingAttackProtection).clear();
-
             // 3. AuthProperties 설정을 합니다.
             given(authProperties.getSecurity()).willReturn(securityProperties);
             given(securityProperties.getMinResponseTimeMs()).willReturn(500);
@@ -527,7 +543,7 @@ class AuthServiceTest {
             given(userRepository.findByUserEmailWithAuth(request.email())).willThrow(unexpectedException);
 
             // 5. 타이밍 공격 방지를 위한 응답 시간 설정을 합니다.
-            willDoNothing().given(timingAttackProtection).ensureMinimumResponseTime(500);
+            willDoNothing().given(timingAttackProtection).requireMinimumResponseTime(500);
 
             // when & then
             // 1. 예상치 못한 예외로 인한 로그인 실패 예외가 발생하는지 확인합니다.
@@ -536,9 +552,7 @@ class AuthServiceTest {
                     .hasMessage("이메일 또는 비밀번호가 올바르지 않습니다.");
 
             // 2. 타이밍 공격 방지가 수행되었는지 확인합니다 (handleUnexpectedError는 1번만 호출).
-            then(timingAttackProtection).should(times(1)).startTiming();
-            then(timingAttackProtection).should(times(1)).clear();
-            then(timingAttackProtection).should(times(1)).ensureMinimumResponseTime(500);
+            then(timingAttackProtection).should(times(1)).requireMinimumResponseTime(500);
 
             // 3. 사용자 조회가 시도되었는지 확인합니다.
             then(userRepository).should(times(1)).findByUserEmailWithAuth(request.email());
@@ -547,6 +561,71 @@ class AuthServiceTest {
             then(jwtConfig).should(never()).generateAccessToken(anyString(), any());
             then(tokenService).should(never()).createRefreshToken(any(), anyString());
         }
+
+        @Test
+        @DisplayName("비밀번호 해싱 풀 포화 시 응답 시간 패딩 없이 429 예외 전달 테스트")
+        void shouldPropagateRateLimitWhenPasswordHashingPoolIsSaturated() throws Exception {
+            // given
+            // 1. 로그인 요청 정보를 준비합니다.
+            UserLoginRequest request = new UserLoginRequest("test@example.com", "Password123!");
+            String clientIp = "192.168.1.1";
+
+            // 2. 풀 1개, 대기 큐 1개인 인코더를 만들고 검증 작업이 래치에서 멈추도록 하여 풀과 큐를 모두 채웁니다.
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch running = new CountDownLatch(1);
+            PasswordEncoder blockingDelegate = new PasswordEncoder() {
+                @Override
+                public String encode(CharSequence rawPassword) {
+                    return rawPassword.toString();
+                }
+
+                @Override
+                public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                    running.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return false;
+                }
+            };
+
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            try (BoundedPasswordEncoder saturatedEncoder =
+                         new BoundedPasswordEncoder(blockingDelegate, 1, 1, meterRegistry)) {
+                CompletableFuture<Boolean> inFlight = CompletableFuture.supplyAsync(() -> saturatedEncoder.matches("a", "a"));
+                assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+                CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> saturatedEncoder.matches("b", "b"));
+                while (meterRegistry.get("auth.password.hashing.queue.depth").gauge().value() < 1) {
+                    Thread.sleep(10);
+                }
+                ReflectionTestUtils.setField(authService, "passwordEncoder", saturatedEncoder);
+
+                // 3. 사용자 조회 결과와 AuthProperties 설정을 합니다.
+                given(authProperties.getSecurity()).willReturn(securityProperties);
+                given(securityProperties.getDummyHash()).willReturn("$2a$10$dummy.hash.for.timing.attack");
+                given(userRepository.findByUserEmailWithAuth(request.email())).willReturn(Optional.empty());
+
+                // when & then
+                // 1. 풀과 대기 큐가 모두 찬 상태에서 로그인 요청이 거절되는지 확인합니다.
+                assertThatThrownBy(() -> authService.loginWithRefreshToken(request, clientIp))
+                        .isInstanceOf(RateLimitExceededException.class);
+
+                // 2. 인증 실패 경로의 타이밍 공격 방지 패딩이 적용되지 않았는지 확인합니다.
+                then(timingAttackProtection).should(never()).requireMinimumResponseTime(anyInt());
+
+                // 3. 토큰 생성은 수행되지 않았는지 확인합니다.
+                then(jwtConfig).should(never()).generateAccessToken(anyString(), any());
+                then(tokenService).should(never()).createRefreshToken(any(), anyString());
+
+                release.countDown();
+                inFlight.get(5, TimeUnit.SECONDS);
+                queued.get(5, TimeUnit.SECONDS);
+            } finally {
+                release.countDown();
+            }
+        }
     }
 
     @Nested
@@ -1301,8 +1380,48 @@ class AuthServiceTest {
                     .isInstanceOf(BusinessException.class)
                     .hasMessage("인증 코드가 일치하지 않거나 만료되었습니다.");
 
-                // 비밀번호 인코딩이 호출되지 않았는지 확인
-                then(passwordEncoder).should(never()).encode(anyString());
+                // 로컬 인증이 추가되지 않았는지 확인
+                then(userRepository).should(never()).save(any());
+                then(tokenService).should(never()).addAllUserTokensToBlacklist(any());
+            }
+
+            @Test
+            @DisplayName("비밀번호 해싱 풀이 거절해도 인증 코드는 소모되지 않아 재시도 시 계정 통합 성공 테스트")
+            void shouldKeepVerificationCodeWhenPasswordHashingIsRejected() {
+                // given
+                Integer userId = 1;
+                String email = "user@example.com";
+                String verificationCode = "123456";
+                String password = "NewPassword123!";
+                String clientIp = "192.168.1.1";
+
+                com.jober.final2teamdrhong.dto.auth.AddLocalAuthRequest request =
+                    new com.jober.final2teamdrhong.dto.auth.AddLocalAuthRequest(email, verificationCode, password);
+
+                User socialUser = User.create("소셜사용자", email, "010-1234-5678");
+                UserAuth googleAuth = UserAuth.createSocialAuth(socialUser, UserAuth.AuthType.GOOGLE, "google123");
+                socialUser.addUserAuth(googleAuth);
+
+                // 첫 번째 암호화는 해싱 풀 포화로 거절되고, 재시도 시에는 성공
+                given(userRepository.findById(userId)).willReturn(Optional.of(socialUser));
+                given(passwordEncoder.encode(password))
+                    .willThrow(new RateLimitExceededException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 1))
+                    .willReturn("encoded_password_hash");
+                given(verificationStorage.validateAndDelete(email, verificationCode)).willReturn(true);
+                given(userRepository.save(any(User.class))).willReturn(socialUser);
+
+                // when & then
+                // 1. 첫 요청은 429 예외로 실패하고 인증 코드는 소모되지 않았는지 확인
+                assertThatThrownBy(() -> authService.addLocalAuth(userId, request, clientIp))
+                    .isInstanceOf(RateLimitExceededException.class);
+                then(verificationStorage).should(never()).validateAndDelete(anyString(), anyString());
+                assertThat(socialUser.getUserAuths()).hasSize(1);
+
+                // 2. 같은 인증 코드로 재시도하면 로컬 인증이 추가되는지 확인
+                authService.addLocalAuth(userId, request, clientIp);
+                then(verificationStorage).should(times(1)).validateAndDelete(email, verificationCode);
+                assertThat(socialUser.getUserAuths())
+                    .anyMatch(auth -> auth.getAuthType() == UserAuth.AuthType.LOCAL);
             }
         }
 
@@ -0,0 +1,171 @@
+package com.jober.final2teamdrhong.service;
+
+import com.jober.final2teamdrhong.config.AuthProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * BlacklistNearCache 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class BlacklistNearCacheTest {
+
+    @Mock
+    private ObjectProvider<StringRedisTemplate> stringRedisTemplateProvider;
+
+    @Mock
+    private ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private Cursor<String> emptyCursor;
+
+    private BlacklistNearCache blacklistNearCache;
+
+    private static final String TEST_JTI = "12345678-1234-1234-1234-123456789012";
+    private static final String OTHER_NODE = "other-node";
+    private static final String CHANNEL = "jwt:blacklist:events";
+
+    @BeforeEach
+    void setUp() {
+        blacklistNearCache = new BlacklistNearCache(
+                stringRedisTemplateProvider, listenerContainerProvider, new AuthProperties());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 추가 이벤트 수신 시 로컬에 기록")
+    void onMessage_AddEvent_RecordsJti() {
+        // when
+        blacklistNearCache.onMessage(message("add:" + OTHER_NODE + ":1:60000:" + TEST_JTI), null);
+
+        // then
+        assertThat(blacklistNearCache.isKnownBlacklisted(TEST_JTI)).isTrue();
+    }
+
+    @Test
+    @DisplayName("제거 이벤트 수신 시 로컬에서 삭제")
+    void onMessage_RemoveEvent_InvalidatesJti() {
+        // given
+        blacklistNearCache.publishAdded(TEST_JTI, 60);
+
+        // when
+        blacklistNearCache.onMessage(message("del:" + OTHER_NODE + ":1:" + TEST_JTI), null);
+
+        // then
+        assertThat(blacklistNearCache.isKnownBlacklisted(TEST_JTI)).isFalse();
+    }
+
+    @Test
+    @DisplayName("동기화 전에는 로컬 음성 판정을 신뢰하지 않음")
+    void isAuthoritative_BeforeSync_ReturnsFalse() {
+        assertThat(blacklistNearCache.isAuthoritative()).isFalse();
+    }
+
+    @Test
+    @DisplayName("잘못된 형식의 이벤트는 무시")
+    void onMessage_MalformedEvent_Ignored() {
+        assertThatCode(() -> blacklistNearCache.onMessage(message("add:not-a-number"), null))
+                .doesNotThrowAnyException();
+        assertThat(blacklistNearCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 이벤트 번호에 빈 구간이 있으면 비권위 상태로 전환")
+    void onMessage_SequenceGap_DropsAuthority() {
+        // given
+        BlacklistNearCache nearCache = authoritativeNearCache();
+        nearCache.onMessage(message("add:" + OTHER_NODE + ":1:60000:jti-1"), null);
+        assertThat(nearCache.isAuthoritative()).isTrue();
+
+        // when: 2번 이벤트가 유실되고 3번이 도착
+        nearCache.onMessage(message("add:" + OTHER_NODE + ":3:60000:jti-3"), null);
+
+        // then
+        assertThat(nearCache.isAuthoritative()).isFalse();
+        assertThat(nearCache.isKnownBlacklisted("jti-3")).isTrue();
+    }
+
+    @Test
+    @DisplayName("하트비트의 이벤트 번호가 마지막으로 받은 번호보다 크면 비권위 상태로 전환")
+    void onMessage_HeartbeatAheadOfLastEvent_DropsAuthority() {
+        // given
+        BlacklistNearCache nearCache = authoritativeNearCache();
+        nearCache.onMessage(message("hb:" + OTHER_NODE + ":4"), null);
+        assertThat(nearCache.isAuthoritative()).isTrue();
+
+        // when: 5번 이벤트가 재연결 구간에서 유실되고 하트비트만 도착
+        nearCache.onMessage(message("hb:" + OTHER_NODE + ":5"), null);
+
+        // then
+        assertThat(nearCache.isAuthoritative()).isFalse();
+    }
+
+    @Test
+    @DisplayName("구독이 재연결되면 비권위 상태로 전환하고 다음 하트비트에서 재적재")
+    void onChannelSubscribed_Resubscribe_DropsAuthorityUntilResync() {
+        // given
+        BlacklistNearCache nearCache = authoritativeNearCache();
+
+        // when
+        nearCache.onChannelSubscribed(CHANNEL.getBytes(StandardCharsets.UTF_8), 1);
+
+        // then
+        assertThat(nearCache.isAuthoritative()).isFalse();
+        nearCache.heartbeat();
+        assertThat(nearCache.isAuthoritative()).isTrue();
+        then(stringRedisTemplate).should(times(2)).scan(any(ScanOptions.class));
+    }
+
+    /**
+     * 구독 후 자신의 하트비트를 받아 Redis 적재까지 마친 권위 상태의 니어 캐시
+     */
+    private BlacklistNearCache authoritativeNearCache() {
+        given(stringRedisTemplateProvider.getIfAvailable()).willReturn(stringRedisTemplate);
+        given(listenerContainerProvider.getIfAvailable()).willReturn(listenerContainer);
+        given(stringRedisTemplate.scan(any(ScanOptions.class))).willReturn(emptyCursor);
+        given(emptyCursor.hasNext()).willReturn(false);
+
+        BlacklistNearCache nearCache = new BlacklistNearCache(
+                stringRedisTemplateProvider, listenerContainerProvider, new AuthProperties());
+        nearCache.subscribe();
+
+        // 첫 하트비트는 아직 자신의 메시지를 받지 못했으므로 비권위 상태 유지
+        nearCache.heartbeat();
+        ArgumentCaptor<String> heartbeat = ArgumentCaptor.forClass(String.class);
+        then(stringRedisTemplate).should().convertAndSend(eq(CHANNEL), heartbeat.capture());
+        nearCache.onMessage(message(heartbeat.getValue()), null);
+
+        // 자신의 하트비트를 받은 뒤의 하트비트에서 Redis 적재 후 권위 상태로 전환
+        nearCache.heartbeat();
+        assertThat(nearCache.isAuthoritative()).isTrue();
+        return nearCache;
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
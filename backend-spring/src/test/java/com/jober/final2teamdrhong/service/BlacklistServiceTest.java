@@ -1,6 +1,7 @@
 package com.jober.final2teamdrhong.service;
 
 import com.jober.final2teamdrhong.config.JwtConfig;
+import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,8 @@ class BlacklistServiceTest {
     private JwtConfig jwtConfig;
     @Mock
     private ValueOperations<String, Object> valueOperations;
+    @Mock
+    private BlacklistNearCache blacklistNearCache;
 
     @InjectMocks
     private BlacklistService blacklistService;
@@ -215,6 +218,74 @@ class BlacklistServiceTest {
         verify(jwtConfig).getJtiFromToken(TEST_ACCESS_TOKEN);
     }
 
+    @Test
+    @DisplayName("isTokenBlacklisted(ParsedToken): 파싱된 토큰의 JTI로 재파싱 없이 확인")
+    void isTokenBlacklisted_ParsedToken_UsesParsedJti() {
+        // given
+        Claims claims = mock(Claims.class);
+        given(claims.getId()).willReturn(TEST_JTI);
+        String expectedKey = BLACKLIST_KEY_PREFIX + TEST_JTI;
+        given(redisTemplate.hasKey(expectedKey)).willReturn(true);
+
+        // when
+        boolean result = blacklistService.isTokenBlacklisted(JwtConfig.ParsedToken.valid(claims));
+
+        // then
+        assertThat(result).isTrue();
+        verify(jwtConfig, never()).getJtiFromToken(anyString());
+    }
+
+    @Test
+    @DisplayName("isTokenBlacklisted(ParsedToken): 파싱 실패 토큰은 보안상 true 반환")
+    void isTokenBlacklisted_InvalidParsedToken_ReturnsTrueForSecurity() {
+        // when
+        boolean result = blacklistService.isTokenBlacklisted(
+                JwtConfig.ParsedToken.invalid(new IllegalArgumentException("empty token")));
+
+        // then
+        assertThat(result).isTrue();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("isTokenBlacklisted: 니어 캐시가 권위 상태이고 로컬에 없으면 Redis 조회 없이 false")
+    void isTokenBlacklisted_NearCacheAuthoritative_SkipsRedis() {
+        // given
+        given(blacklistNearCache.isAuthoritative()).willReturn(true);
+
+        // when
+        boolean result = blacklistService.isTokenBlacklisted(TEST_ACCESS_TOKEN);
+
+        // then
+        assertThat(result).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("isTokenBlacklisted: 니어 캐시에 기록된 JTI는 Redis 조회 없이 true")
+    void isTokenBlacklisted_KnownInNearCache_ReturnsTrueWithoutRedis() {
+        // given
+        given(blacklistNearCache.isKnownBlacklisted(TEST_JTI)).willReturn(true);
+
+        // when
+        boolean result = blacklistService.isTokenBlacklisted(TEST_ACCESS_TOKEN);
+
+        // then
+        assertThat(result).isTrue();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("addTokenToBlacklist: Redis 저장 후 다른 노드로 전파")
+    void addTokenToBlacklist_PublishesToOtherNodes() {
+        // when
+        blacklistService.addTokenToBlacklist(TEST_ACCESS_TOKEN, 900);
+
+        // then
+        verify(valueOperations).set(BLACKLIST_KEY_PREFIX + TEST_JTI, "blacklisted", Duration.ofSeconds(900));
+        verify(blacklistNearCache).publishAdded(TEST_JTI, 900);
+    }
+
     @Test
     @DisplayName("removeTokenFromBlacklist: 토큰 블랙리스트 제거 성공")
     void removeTokenFromBlacklist_Success() {
@@ -0,0 +1,159 @@
+package com.jober.final2teamdrhong.service;
+
+import com.jober.final2teamdrhong.config.MailOutboxConfig;
+import com.jober.final2teamdrhong.entity.EmailOutbox;
+import com.jober.final2teamdrhong.repository.EmailOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * EmailOutboxService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxServiceTest {
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    private EmailOutboxService emailOutboxService;
+
+    @BeforeEach
+    void setUp() {
+        emailOutboxService = new EmailOutboxService(emailOutboxRepository, new MailOutboxConfig(),
+                mailSender, new SimpleMeterRegistry());
+        lenient().when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        emailOutboxService.shutdown();
+    }
+
+    @Test
+    @DisplayName("배치 발송 성공 시 한 번의 다건 발송 후 발송 완료 행 삭제")
+    void sendBatch_Success_SendsOnceAndDeletes() {
+        // given
+        List<EmailOutbox> batch = List.of(outbox(1L, "a@example.com", 0), outbox(2L, "b@example.com", 0));
+
+        // when
+        emailOutboxService.sendBatch(batch);
+
+        // then
+        then(mailSender).should(times(1)).send(any(MimeMessage[].class));
+        then(emailOutboxRepository).should().deleteSent(List.of(1L, 2L));
+        then(emailOutboxRepository).should(never()).scheduleRetry(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("일부 메일만 실패하면 성공분은 삭제하고 실패분은 백오프 후 재시도로 예약")
+    void sendBatch_PartialFailure_SchedulesRetry() {
+        // given
+        List<EmailOutbox> batch = List.of(outbox(1L, "a@example.com", 0), outbox(2L, "b@example.com", 0));
+        willAnswer(invocation -> {
+            MimeMessage[] messages = (MimeMessage[]) invocation.getRawArguments()[0];
+            for (MimeMessage message : messages) {
+                if ("b@example.com".equals(message.getAllRecipients()[0].toString())) {
+                    throw new MailSendException(Map.of(message, new RuntimeException("550 mailbox unavailable")));
+                }
+            }
+            return null;
+        }).given(mailSender).send(any(MimeMessage[].class));
+        LocalDateTime before = LocalDateTime.now().minusHours(12);
+
+        // when
+        emailOutboxService.sendBatch(batch);
+
+        // then
+        then(emailOutboxRepository).should().deleteSent(List.of(1L));
+        ArgumentCaptor<LocalDateTime> nextAttemptCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        then(emailOutboxRepository).should().scheduleRetry(eq(2L), nextAttemptCaptor.capture(), contains("550"));
+        assertThat(nextAttemptCaptor.getValue()).isAfter(before);
+        then(emailOutboxRepository).should(never()).markFailed(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("SMTP 연결 실패 시 배치 전체를 재시도로 예약하고 최대 시도 횟수 도달 행은 FAILED 처리")
+    void sendBatch_ConnectionFailure_RetriesOrMarksFailed() {
+        // given
+        List<EmailOutbox> batch = List.of(outbox(1L, "a@example.com", 0), outbox(2L, "b@example.com", 4));
+        willThrow(new MailSendException("Mail server connection failed"))
+                .given(mailSender).send(any(MimeMessage[].class));
+
+        // when
+        emailOutboxService.sendBatch(batch);
+
+        // then
+        then(emailOutboxRepository).should().scheduleRetry(eq(1L), any(LocalDateTime.class), anyString());
+        then(emailOutboxRepository).should().markFailed(eq(2L), any(LocalDateTime.class), anyString());
+        then(emailOutboxRepository).should(never()).deleteSent(anyList());
+    }
+
+    @Test
+    @DisplayName("점유에 성공한 행만 워커에 전달해 발송")
+    void dispatchDue_SendsOnlyClaimedRows() {
+        // given
+        EmailOutbox claimed = outbox(1L, "a@example.com", 0);
+        EmailOutbox takenByOtherNode = outbox(2L, "b@example.com", 0);
+        given(emailOutboxRepository.findDue(any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(claimed, takenByOtherNode));
+        given(emailOutboxRepository.claim(eq(1L), any(), any())).willReturn(1);
+        given(emailOutboxRepository.claim(eq(2L), any(), any())).willReturn(0);
+        given(emailOutboxRepository.countByStatus(EmailOutbox.Status.PENDING)).willReturn(3L);
+
+        // when
+        int dispatched = emailOutboxService.dispatchDue();
+
+        // then
+        assertThat(dispatched).isEqualTo(1);
+        assertThat(emailOutboxService.getPendingCount()).isEqualTo(3L);
+        then(emailOutboxRepository).should(timeout(1000)).deleteSent(List.of(1L));
+        then(mailSender).should(times(1)).send(any(MimeMessage[].class));
+    }
+
+    @Test
+    @DisplayName("JavaMailSender 미구성 시 발송 비활성화")
+    void noMailSender_Disabled() {
+        // given
+        EmailOutboxService disabled = new EmailOutboxService(emailOutboxRepository, new MailOutboxConfig(),
+                null, new SimpleMeterRegistry());
+
+        // when
+        int dispatched = disabled.dispatchDue();
+
+        // then
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThat(dispatched).isZero();
+        then(emailOutboxRepository).shouldHaveNoInteractions();
+    }
+
+    private EmailOutbox outbox(Long outboxId, String recipient, int attempts) {
+        EmailOutbox outbox = EmailOutbox.create(recipient, "[notimo] 인증 코드", "인증 코드: 123456");
+        ReflectionTestUtils.setField(outbox, "outboxId", outboxId);
+        ReflectionTestUtils.setField(outbox, "attempts", attempts);
+        return outbox;
+    }
+}
@@ -1,16 +1,16 @@
 package com.jober.final2teamdrhong.service;
 
 import com.jober.final2teamdrhong.service.storage.VerificationStorage;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -26,11 +26,16 @@ class EmailServiceTest {
     private RateLimitService rateLimitService;
 
     @Mock
-    private JavaMailSender mailSender;
+    private EmailOutboxService emailOutboxService;
 
     @InjectMocks
     private EmailService emailService;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(emailOutboxService.isEnabled()).thenReturn(true);
+    }
+
     @Nested
     @DisplayName("Rate Limit과 함께 인증 코드 발송 테스트")
     class SendVerificationCodeWithRateLimitTest {
@@ -52,8 +57,8 @@ class EmailServiceTest {
             // then
             // 1. Rate limit 검사가 수행되었는지 확인합니다.
             then(rateLimitService).should(times(1)).checkEmailSendRateLimit(clientIp, email);
-            // 2. 메일이 발송되었는지 확인합니다.
-            then(mailSender).should(times(1)).send(any(SimpleMailMessage.class));
+            // 2. 메일 발송이 아웃박스에 기록되었는지 확인합니다.
+            then(emailOutboxService).should(times(1)).enqueue(eq(email), anyString(), anyString());
             // 3. 인증 코드가 저장소에 저장되었는지 확인합니다.
             then(verificationStorage).should(times(1)).save(eq(email), anyString());
         }
@@ -78,7 +83,7 @@ class EmailServiceTest {
             // 2. Rate limit 검사가 수행되었는지 확인합니다.
             then(rateLimitService).should(times(1)).checkEmailSendRateLimit(clientIp, email);
             // 3. 메일 발송은 시도되지 않았는지 확인합니다.
-            then(mailSender).should(never()).send(any(SimpleMailMessage.class));
+            then(emailOutboxService).should(never()).enqueue(anyString(), anyString(), anyString());
         }
     }
 
@@ -92,25 +97,22 @@ class EmailServiceTest {
             // given
             // 1. 유효한 이메일을 준비합니다.
             String email = "test@example.com";
-            // 2. 메일 발송이 성공하도록 설정합니다.
-            willDoNothing().given(mailSender).send(any(SimpleMailMessage.class));
 
             // when
             // 1. 인증 코드를 발송합니다.
             emailService.sendVerificationCode(email);
 
             // then
-            // 1. 메일이 발송되었는지 확인합니다.
-            ArgumentCaptor<SimpleMailMessage> messageCaptor = ArgumentCaptor.forClass(SimpleMailMessage.class);
-            then(mailSender).should(times(1)).send(messageCaptor.capture());
-
-            // 2. 발송된 메일의 내용이 올바른지 확인합니다.
-            SimpleMailMessage sentMessage = messageCaptor.getValue();
-            assertThat(sentMessage.getTo()).containsExactly(email);
-            assertThat(sentMessage.getSubject()).isEqualTo("[notimo] 회원가입 인증 코드입니다.");
-            assertThat(sentMessage.getText()).contains("회원가입을 위해 아래 인증 코드를 입력해주세요.");
-            assertThat(sentMessage.getText()).contains("인증 코드:");
-            assertThat(sentMessage.getText()).contains("5분 후에 만료됩니다");
+            // 1. 메일 발송이 아웃박스에 기록되었는지 확인합니다.
+            ArgumentCaptor<String> subjectCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+            then(emailOutboxService).should(times(1)).enqueue(eq(email), subjectCaptor.capture(), bodyCaptor.capture());
+
+            // 2. 기록된 메일의 내용이 올바른지 확인합니다.
+            assertThat(subjectCaptor.getValue()).isEqualTo("[notimo] 회원가입 인증 코드입니다.");
+            assertThat(bodyCaptor.getValue()).contains("회원가입을 위해 아래 인증 코드를 입력해주세요.");
+            assertThat(bodyCaptor.getValue()).contains("인증 코드:");
+            assertThat(bodyCaptor.getValue()).contains("5분 후에 만료됩니다");
 
             // 3. 인증 코드가 저장소에 저장되었는지 확인합니다.
             then(verificationStorage).should(times(1)).save(eq(email), anyString());
@@ -130,7 +132,7 @@ class EmailServiceTest {
                     .hasMessage("이메일을 입력해주세요.");
 
             // 2. 메일 발송은 시도되지 않았는지 확인합니다.
-            then(mailSender).should(never()).send(any(SimpleMailMessage.class));
+            then(emailOutboxService).should(never()).enqueue(anyString(), anyString(), anyString());
             // 3. 저장소에 저장되지 않았는지 확인합니다.
             then(verificationStorage).should(never()).save(anyString(), anyString());
         }
@@ -149,49 +151,51 @@ class EmailServiceTest {
                     .hasMessage("이메일을 입력해주세요.");
 
             // 2. 메일 발송은 시도되지 않았는지 확인합니다.
-            then(mailSender).should(never()).send(any(SimpleMailMessage.class));
+            then(emailOutboxService).should(never()).enqueue(anyString(), anyString(), anyString());
             // 3. 저장소에 저장되지 않았는지 확인합니다.
             then(verificationStorage).should(never()).save(anyString(), anyString());
         }
 
         @Test
-        @DisplayName("메일 발송 중 예외 발생 시 처리 테스트")
-        void shouldHandleMailSendingException() {
+        @DisplayName("아웃박스 기록 중 예외 발생 시 처리 테스트")
+        void shouldHandleOutboxEnqueueException() {
             // given
             // 1. 유효한 이메일을 준비합니다.
             String email = "test@example.com";
-            // 2. 메일 발송 시 예외가 발생하도록 설정합니다.
-            RuntimeException mailException = new RuntimeException("Mail server error");
-            willThrow(mailException).given(mailSender).send(any(SimpleMailMessage.class));
+            // 2. 아웃박스 기록 시 예외가 발생하도록 설정합니다.
+            RuntimeException outboxException = new RuntimeException("Database error");
+            willThrow(outboxException).given(emailOutboxService).enqueue(eq(email), anyString(), anyString());
 
             // when & then
-            // 1. 메일 발송 실패로 인한 예외가 발생하는지 확인합니다.
+            // 1. 아웃박스 기록 실패로 인한 예외가 발생하는지 확인합니다.
             assertThatThrownBy(() -> emailService.sendVerificationCode(email))
                     .isInstanceOf(RuntimeException.class)
                     .hasMessage("인증 코드 전송에 실패했습니다. 다시 시도해주세요.")
-                    .hasCause(mailException);
+                    .hasCause(outboxException);
 
-            // 2. 메일 발송이 시도되었는지 확인합니다.
-            then(mailSender).should(times(1)).send(any(SimpleMailMessage.class));
-            // 3. 발송 실패로 인해 저장소에 저장되지 않았는지 확인합니다.
-            then(verificationStorage).should(never()).save(anyString(), anyString());
+            // 2. 인증 코드는 아웃박스 기록 전에 저장되었는지 확인합니다.
+            InOrder inOrder = inOrder(verificationStorage, emailOutboxService);
+            inOrder.verify(verificationStorage).save(eq(email), anyString());
+            inOrder.verify(emailOutboxService).enqueue(eq(email), anyString(), anyString());
         }
 
         @Test
-        @DisplayName("MailSender가 null일 때 개발환경 처리 테스트")
-        void shouldHandleNullMailSenderInDevelopment() {
+        @DisplayName("메일 발송 비활성화 시 개발환경 처리 테스트")
+        void shouldHandleDisabledMailSenderInDevelopment() {
             // given
-            // 1. MailSender가 null인 EmailService를 생성합니다.
-            EmailService emailServiceWithNullSender = new EmailService(verificationStorage, rateLimitService, null);
+            // 1. 메일 발송이 비활성화된 상태로 설정합니다.
+            given(emailOutboxService.isEnabled()).willReturn(false);
             String email = "test@example.com";
 
             // when
-            // 1. MailSender가 null 상태에서 인증 코드를 발송합니다.
-            emailServiceWithNullSender.sendVerificationCode(email);
+            // 1. 메일 발송 비활성화 상태에서 인증 코드를 발송합니다.
+            emailService.sendVerificationCode(email);
 
             // then
             // 1. 인증 코드가 저장소에 저장되었는지 확인합니다. (개발환경에서는 저장만 수행)
             then(verificationStorage).should(times(1)).save(eq(email), anyString());
+            // 2. 아웃박스에는 기록되지 않았는지 확인합니다.
+            then(emailOutboxService).should(never()).enqueue(anyString(), anyString(), anyString());
         }
     }
 
@@ -205,23 +209,20 @@ class EmailServiceTest {
             // given
             // 1. 유효한 이메일을 준비합니다.
             String email = "test@example.com";
-            // 2. 메일 발송이 성공하도록 설정합니다.
-            willDoNothing().given(mailSender).send(any(SimpleMailMessage.class));
 
             // when
             // 1. 회원가입용 인증 코드를 발송합니다.
             emailService.sendVerificationCode(email, EmailPurpose.SIGNUP);
 
             // then
-            // 1. 메일이 발송되었는지 확인합니다.
-            ArgumentCaptor<SimpleMailMessage> messageCaptor = ArgumentCaptor.forClass(SimpleMailMessage.class);
-            then(mailSender).should(times(1)).send(messageCaptor.capture());
-
-            // 2. 발송된 메일의 내용이 회원가입용인지 확인합니다.
-            SimpleMailMessage sentMessage = messageCaptor.getValue();
-            assertThat(sentMessage.getTo()).containsExactly(email);
-            assertThat(sentMessage.getSubject()).isEqualTo("[notimo] 회원가입 인증 코드입니다.");
-            assertThat(sentMessage.getText()).contains("회원가입을 위해 아래 인증 코드를 입력해주세요.");
+            // 1. 메일 발송이 아웃박스에 기록되었는지 확인합니다.
+            ArgumentCaptor<String> subjectCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+            then(emailOutboxService).should(times(1)).enqueue(eq(email), subjectCaptor.capture(), bodyCaptor.capture());
+
+            // 2. 기록된 메일의 내용이 회원가입용인지 확인합니다.
+            assertThat(subjectCaptor.getValue()).isEqualTo("[notimo] 회원가입 인증 코드입니다.");
+            assertThat(bodyCaptor.getValue()).contains("회원가입을 위해 아래 인증 코드를 입력해주세요.");
         }
 
         @Test
@@ -230,23 +231,20 @@ class EmailServiceTest {
             // given
             // 1. 유효한 이메일을 준비합니다.
             String email = "test@example.com";
-            // 2. 메일 발송이 성공하도록 설정합니다.
-            willDoNothing().given(mailSender).send(any(SimpleMailMessage.class));
 
             // when
             // 1. 비밀번호 재설정용 인증 코드를 발송합니다.
             emailService.sendVerificationCode(email, EmailPurpose.PASSWORD_RESET);
 
             // then
-            // 1. 메일이 발송되었는지 확인합니다.
-            ArgumentCaptor<SimpleMailMessage> messageCaptor = ArgumentCaptor.forClass(SimpleMailMessage.class);
-            then(mailSender).should(times(1)).send(messageCaptor.capture());
-
-            // 2. 발송된 메일의 내용이 비밀번호 재설정용인지 확인합니다.
-            SimpleMailMessage sentMessage = messageCaptor.getValue();
-            assertThat(sentMessage.getTo()).containsExactly(email);
-            assertThat(sentMessage.getSubject()).isEqualTo("[notimo] 비밀번호 재설정 인증 코드입니다.");
-            assertThat(sentMessage.getText()).contains("비밀번호 재설정을 위해 아래 인증 코드를 입력해주세요.");
+            // 1. 메일 발송이 아웃박스에 기록되었는지 확인합니다.
+            ArgumentCaptor<String> subjectCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+            then(emailOutboxService).should(times(1)).enqueue(eq(email), subjectCaptor.capture(), bodyCaptor.capture());
+
+            // 2. 기록된 메일의 내용이 비밀번호 재설정용인지 확인합니다.
+            assertThat(subjectCaptor.getValue()).isEqualTo("[notimo] 비밀번호 재설정 인증 코드입니다.");
+            assertThat(bodyCaptor.getValue()).contains("비밀번호 재설정을 위해 아래 인증 코드를 입력해주세요.");
         }
 
         @Test
@@ -255,23 +253,20 @@ class EmailServiceTest {
             // given
             // 1. 유효한 이메일을 준비합니다.
             String email = "test@example.com";
-            // 2. 메일 발송이 성공하도록 설정합니다.
-            willDoNothing().given(mailSender).send(any(SimpleMailMessage.class));
 
             // when
             // 1. 계정 통합용 인증 코드를 발송합니다.
             emailService.sendVerificationCode(email, EmailPurpose.ACCOUNT_MERGE);
 
             // then
-            // 1. 메일이 발송되었는지 확인합니다.
-            ArgumentCaptor<SimpleMailMessage> messageCaptor = ArgumentCaptor.forClass(SimpleMailMessage.class);
-            then(mailSender).should(times(1)).send(messageCaptor.capture());
-
-            // 2. 발송된 메일의 내용이 계정 통합용인지 확인합니다.
-            SimpleMailMessage sentMessage = messageCaptor.getValue();
-            assertThat(sentMessage.getTo()).containsExactly(email);
-            assertThat(sentMessage.getSubject()).isEqualTo("[notimo] 계정 통합 인증 코드입니다.");
-            assertThat(sentMessage.getText()).contains("계정 통합을 위해 아래 인증 코드를 입력해주세요.");
+            // 1. 메일 발송이 아웃박스에 기록되었는지 확인합니다.
+            ArgumentCaptor<String> subjectCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+            then(emailOutboxService).should(times(1)).enqueue(eq(email), subjectCaptor.capture(), bodyCaptor.capture());
+
+            // 2. 기록된 메일의 내용이 계정 통합용인지 확인합니다.
+            assertThat(subjectCaptor.getValue()).isEqualTo("[notimo] 계정 통합 인증 코드입니다.");
+            assertThat(bodyCaptor.getValue()).contains("계정 통합을 위해 아래 인증 코드를 입력해주세요.");
         }
 
         @Test
@@ -283,8 +278,6 @@ class EmailServiceTest {
             String clientIp = "192.168.1.1";
             // 2. Rate limit이 통과하도록 설정합니다.
             willDoNothing().given(rateLimitService).checkEmailSendRateLimit(clientIp, email);
-            // 3. 메일 발송이 성공하도록 설정합니다.
-            willDoNothing().given(mailSender).send(any(SimpleMailMessage.class));
 
             // when
             // 1. Rate limit과 함께 비밀번호 재설정용 인증 코드를 발송합니다.
@@ -294,14 +287,14 @@ class EmailServiceTest {
             // 1. Rate limit 검사가 수행되었는지 확인합니다.
             then(rateLimitService).should(times(1)).checkEmailSendRateLimit(clientIp, email);
 
-            // 2. 메일이 발송되었는지 확인합니다.
-            ArgumentCaptor<SimpleMailMessage> messageCaptor = ArgumentCaptor.forClass(SimpleMailMessage.class);
-            then(mailSender).should(times(1)).send(messageCaptor.capture());
+            // 2. 메일 발송이 아웃박스에 기록되었는지 확인합니다.
+            ArgumentCaptor<String> subjectCaptor = ArgumentCaptor.forClass(String.class);
+            ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+            then(emailOutboxService).should(times(1)).enqueue(eq(email), subjectCaptor.capture(), bodyCaptor.capture());
 
-            // 3. 발송된 메일의 내용이 비밀번호 재설정용인지 확인합니다.
-            SimpleMailMessage sentMessage = messageCaptor.getValue();
-            assertThat(sentMessage.getSubject()).isEqualTo("[notimo] 비밀번호 재설정 인증 코드입니다.");
-            assertThat(sentMessage.getText()).contains("비밀번호 재설정을 위해 아래 인증 코드를 입력해주세요.");
+            // 3. 기록된 메일의 내용이 비밀번호 재설정용인지 확인합니다.
+            assertThat(subjectCaptor.getValue()).isEqualTo("[notimo] 비밀번호 재설정 인증 코드입니다.");
+            assertThat(bodyCaptor.getValue()).contains("비밀번호 재설정을 위해 아래 인증 코드를 입력해주세요.");
         }
     }
 }
\ No newline at end of file
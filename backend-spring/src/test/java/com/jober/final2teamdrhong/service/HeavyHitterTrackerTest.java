@@ -0,0 +1,55 @@
+package com.jober.final2teamdrhong.service;
+
+import com.jober.final2teamdrhong.dto.rateLimit.HeavyHitterResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * HeavyHitterTracker 단위 테스트
+ */
+class HeavyHitterTrackerTest {
+
+    @Test
+    @DisplayName("서로 다른 키가 대량 유입되어도 보관 키 수는 용량을 넘지 않고 빈번한 키는 남음")
+    void record_ManyDistinctKeys_KeepsFrequentKeysWithinCapacity() {
+        // given
+        HeavyHitterTracker tracker = new HeavyHitterTracker(10);
+
+        // when: 공격 키 2,000회 + 1회성 키 10,000개 교차 유입 (공격 키 비율 > 1/용량)
+        for (int i = 0; i < 10_000; i++) {
+            tracker.record("one-off-" + i, false);
+            if (i % 5 == 0) {
+                tracker.record("attacker", true);
+            }
+        }
+
+        // then
+        assertThat(tracker.size()).isEqualTo(10);
+        HeavyHitterResponse top = tracker.top(1).getFirst();
+        assertThat(top.key()).isEqualTo("attacker");
+        assertThat(top.count() - top.error()).isLessThanOrEqualTo(2_000);
+        assertThat(top.count()).isGreaterThanOrEqualTo(2_000);
+    }
+
+    @Test
+    @DisplayName("감쇠 시 카운트가 절반이 되고 0이 된 키는 제거")
+    void decay_HalvesCountsAndDropsZero() {
+        // given
+        HeavyHitterTracker tracker = new HeavyHitterTracker(10);
+        for (int i = 0; i < 4; i++) {
+            tracker.record("frequent", true);
+        }
+        tracker.record("rare", false);
+
+        // when
+        tracker.decay();
+
+        // then
+        List<HeavyHitterResponse> top = tracker.top(10);
+        assertThat(top).containsExactly(new HeavyHitterResponse("frequent", 2, 0, 2));
+    }
+}
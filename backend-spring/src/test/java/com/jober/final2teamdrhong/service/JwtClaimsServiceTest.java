@@ -1,18 +1,24 @@
 package com.jober.final2teamdrhong.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jober.final2teamdrhong.config.AuthProperties;
 import com.jober.final2teamdrhong.config.JwtConfig;
 import com.jober.final2teamdrhong.dto.jwtClaims.JwtClaims;
 import com.jober.final2teamdrhong.entity.User;
 import com.jober.final2teamdrhong.exception.AuthenticationException;
 import com.jober.final2teamdrhong.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -33,8 +39,12 @@ class JwtClaimsServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ObjectProvider<StringRedisTemplate> stringRedisTemplateProvider;
+
+    @Mock
+    private ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
 
-    @InjectMocks
     private JwtClaimsService jwtClaimsService;
 
     // 테스트 상수
@@ -51,6 +61,11 @@ class JwtClaimsServiceTest {
 
     @BeforeEach
     void setUp() {
+        // Redis 없이 L1 캐시만 동작하는 실제 UserPrincipalCache 사용
+        UserPrincipalCache userPrincipalCache = new UserPrincipalCache(stringRedisTemplateProvider,
+                listenerContainerProvider, new ObjectMapper(), new AuthProperties(), new SimpleMeterRegistry());
+        jwtClaimsService = new JwtClaimsService(jwtConfig, userRepository, userPrincipalCache);
+
         // 기본 JWT Claims 생성 (JWT에서 추출되는 정보)
         testBasicClaims = JwtClaims.builder()
                 .email(TEST_EMAIL)
@@ -128,6 +143,43 @@ class JwtClaimsServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("getEnrichedClaims(ParsedToken) 메서드 테스트")
+    class GetEnrichedClaimsFromParsedTokenTest {
+
+        @Test
+        @DisplayName("파싱된 토큰으로 재파싱 없이 Claims 보완 성공")
+        void getEnrichedClaims_ParsedToken_DoesNotReparse() {
+            // given
+            JwtConfig.ParsedToken parsedToken = JwtConfig.ParsedToken.valid(mock(Claims.class));
+            given(jwtConfig.getJwtClaims(parsedToken)).willReturn(testBasicClaims);
+            given(userRepository.findByUserEmail(TEST_EMAIL)).willReturn(Optional.of(testUser));
+
+            // when
+            JwtClaims result = jwtClaimsService.getEnrichedClaims(parsedToken);
+
+            // then
+            assertThat(result.getUserName()).isEqualTo(TEST_USER_NAME);
+            assertThat(result.getUserRole()).isEqualTo(User.UserRole.USER);
+            verify(jwtConfig, never()).getJwtClaims(anyString());
+        }
+
+        @Test
+        @DisplayName("유효하지 않은 파싱 결과면 AuthenticationException")
+        void getEnrichedClaims_InvalidParsedToken_ThrowsException() {
+            // given
+            JwtConfig.ParsedToken parsedToken = JwtConfig.ParsedToken.invalid(new IllegalArgumentException("empty"));
+            given(jwtConfig.getJwtClaims(parsedToken)).willReturn(null);
+
+            // when & then
+            assertThatThrownBy(() -> jwtClaimsService.getEnrichedClaims(parsedToken))
+                    .isInstanceOf(AuthenticationException.class)
+                    .hasMessage("유효하지 않은 토큰입니다");
+
+            verify(userRepository, never()).findByUserEmail(anyString());
+        }
+    }
+
     @Nested
     @DisplayName("getEnrichedClaimsFromHeader 메서드 테스트")
     class GetEnrichedClaimsFromHeaderTest {
@@ -308,14 +360,69 @@ class JwtClaimsServiceTest {
     @DisplayName("캐시 관리 메서드 테스트")
     class CacheManagementTest {
 
+        @Test
+        @DisplayName("같은 사용자의 반복 요청은 DB를 한 번만 조회")
+        void enrichWithUserInfo_RepeatedCalls_QueriesDbOnce() {
+            // given
+            given(userRepository.findByUserEmail(TEST_EMAIL)).willReturn(Optional.of(testUser));
+
+            // when
+            jwtClaimsService.enrichWithUserInfo(testBasicClaims);
+            JwtClaims result = jwtClaimsService.enrichWithUserInfo(testBasicClaims);
+
+            // then
+            assertThat(result.getUserName()).isEqualTo(TEST_USER_NAME);
+            verify(userRepository, times(1)).findByUserEmail(TEST_EMAIL);
+        }
+
+        @Test
+        @DisplayName("캐시 무효화 후에는 DB에서 다시 조회")
+        void evictUserInfoCache_AfterEvict_ReloadsFromDb() {
+            // given
+            User adminUser = User.builder()
+                    .userId(TEST_USER_ID)
+                    .userEmail(TEST_EMAIL)
+                    .userName(TEST_USER_NAME)
+                    .userRole(User.UserRole.ADMIN)
+                    .build();
+            given(userRepository.findByUserEmail(TEST_EMAIL))
+                    .willReturn(Optional.of(testUser), Optional.of(adminUser));
+            jwtClaimsService.enrichWithUserInfo(testBasicClaims);
+
+            // when
+            jwtClaimsService.evictUserInfoCache(TEST_EMAIL, TEST_USER_ID);
+            JwtClaims result = jwtClaimsService.enrichWithUserInfo(testBasicClaims);
+
+            // then
+            assertThat(result.getUserRole()).isEqualTo(User.UserRole.ADMIN);
+            verify(userRepository, times(2)).findByUserEmail(TEST_EMAIL);
+        }
+
+        @Test
+        @DisplayName("캐시된 이메일과 토큰 이메일이 다르면 AuthenticationException")
+        void enrichWithUserInfo_CachedEmailMismatch_ThrowsException() {
+            // given
+            given(userRepository.findByUserEmail(TEST_EMAIL)).willReturn(Optional.of(testUser));
+            jwtClaimsService.enrichWithUserInfo(testBasicClaims);
+            JwtClaims otherEmailClaims = JwtClaims.builder()
+                    .email("other@example.com")
+                    .userId(TEST_USER_ID)
+                    .tokenType("access")
+                    .build();
+
+            // when & then
+            assertThatThrownBy(() -> jwtClaimsService.enrichWithUserInfo(otherEmailClaims))
+                    .isInstanceOf(AuthenticationException.class)
+                    .hasMessage("사용자 정보가 일치하지 않습니다");
+        }
+
         @Test
         @DisplayName("사용자 정보 캐시 무효화")
         void evictUserInfoCache_ValidParameters_CacheEvicted() {
             // when
             jwtClaimsService.evictUserInfoCache(TEST_EMAIL, TEST_USER_ID);
 
-            // then - 로그 출력이 정상적으로 수행됨을 확인 (실제 캐시 무효화는 Spring AOP에 의해 처리)
-            // 이 테스트에서는 메서드가 예외 없이 실행되는지 확인
+            // then - 메서드가 예외 없이 실행되는지 확인
             assertThatCode(() -> jwtClaimsService.evictUserInfoCache(TEST_EMAIL, TEST_USER_ID))
                     .doesNotThrowAnyException();
         }
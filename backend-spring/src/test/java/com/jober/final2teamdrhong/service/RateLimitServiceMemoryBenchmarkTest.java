@@ -0,0 +1,55 @@
+package com.jober.final2teamdrhong.service;
+
+import com.jober.final2teamdrhong.config.RateLimitConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 인메모리 Rate Limit 저장소 메모리 벤치마크
+ *
+ * 서로 다른 키 100만 개(IPv6 주소/임의 이메일 유입 상황)로 요청했을 때
+ * 버킷 수와 힙 사용량이 상한 안에서 유지되는지 확인합니다.
+ * 실행: ./gradlew benchmark --tests '*RateLimitServiceMemoryBenchmarkTest'
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RateLimitServiceMemoryBenchmarkTest {
+
+    private static final int DISTINCT_KEYS = 1_000_000;
+
+    @Test
+    @DisplayName("서로 다른 키 100만 개 유입 시 버킷 수와 힙 사용량")
+    void oneMillionDistinctKeys_HeapStaysBounded() {
+        RateLimitConfig rateLimitConfig = new RateLimitConfig();
+        RateLimitService rateLimitService = new RateLimitService(rateLimitConfig, null, null, new SimpleMeterRegistry());
+
+        long heapBefore = usedHeap();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < DISTINCT_KEYS; i++) {
+            rateLimitService.isLoginAllowed(String.format("2001:db8::%x", i));
+            rateLimitService.isLoginByEmailAllowed("attacker" + i + "@example.com");
+        }
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        long bucketCount = rateLimitService.getInMemoryBucketCount();
+        long heapAfter = usedHeap();
+
+        System.out.printf("키 %d개 x 2종 처리: %dms, 버킷 수=%d, 힙 증가=%.1fMB%n",
+                DISTINCT_KEYS, elapsedMs, bucketCount, (heapAfter - heapBefore) / (1024.0 * 1024.0));
+
+        // 제한 종류 2개 x 종류별 상한
+        assertThat(bucketCount).isLessThanOrEqualTo(2 * rateLimitConfig.getInMemoryMaxBuckets());
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
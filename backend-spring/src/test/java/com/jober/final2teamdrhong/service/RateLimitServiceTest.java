@@ -1,29 +1,37 @@
 package com.jober.final2teamdrhong.service;
 
 import com.jober.final2teamdrhong.config.RateLimitConfig;
+import com.jober.final2teamdrhong.dto.rateLimit.HeavyHitterResponse;
 import com.jober.final2teamdrhong.exception.RateLimitExceededException;
+import io.github.bucket4j.Bandwidth;
 import io.github.bucket4j.Bucket;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.BucketProxy;
+import io.github.bucket4j.distributed.proxy.RemoteBucketBuilder;
+import io.github.bucket4j.local.LocalBucketBuilder;
+import io.github.bucket4j.redis.lettuce.cas.LettuceBasedProxyManager;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
-import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Map;
-
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.BDDMockito.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.AdditionalAnswers.delegatesTo;
 
 /**
  * RateLimitService 종합 테스트
@@ -38,12 +46,13 @@ class RateLimitServiceTest {
         @Mock
         private RateLimitConfig rateLimitConfig;
 
-
-        @InjectMocks
+        // 버킷 설정을 생성자에서 만들므로 설정 스텁 이후 직접 생성
         private RateLimitService rateLimitService;
 
         private static final String TEST_IP = "192.168.1.100";
 
+        private final RateLimitConfig.CircuitBreaker circuitBreaker = new RateLimitConfig.CircuitBreaker();
+
         @BeforeEach
         void setUp() {
             // RateLimitConfig 기본값 설정
@@ -81,6 +90,9 @@ class RateLimitServiceTest {
             lenient().when(rateLimitConfig.getSignup()).thenReturn(signup);
             lenient().when(rateLimitConfig.getLogin()).thenReturn(login);
             lenient().when(rateLimitConfig.getRefreshToken()).thenReturn(refreshToken);
+            lenient().when(rateLimitConfig.getInMemoryMaxBuckets()).thenReturn(RateLimitConfig.Defaults.IN_MEMORY_MAX_BUCKETS);
+            lenient().when(rateLimitConfig.getCircuitBreaker()).thenReturn(circuitBreaker);
+            lenient().when(rateLimitConfig.getHeavyHitters()).thenReturn(new RateLimitConfig.HeavyHitters());
         }
 
 
@@ -88,7 +100,7 @@ class RateLimitServiceTest {
         @DisplayName("Redis 비활성화 시 인메모리 폴백 사용")
         void getBucket_RedisDisabled_UsesInMemoryFallback() throws Exception {
             // given: Redis ProxyManager가 null인 상황 시뮬레이션
-            rateLimitService = new RateLimitService(rateLimitConfig, null, null);
+            rateLimitService = new RateLimitService(rateLimitConfig, null, null, new SimpleMeterRegistry());
 
             // when: 동일한 키로 여러 번 호출
             boolean firstCall = rateLimitService.isEmailSendAllowed(TEST_IP);
@@ -109,7 +121,7 @@ class RateLimitServiceTest {
         @DisplayName("인메모리 버킷의 동시성 안전성 검증")
         void inMemoryBucket_ConcurrentAccess_ThreadSafe() throws InterruptedException {
             // given: Redis 비활성화 상황
-            rateLimitService = new RateLimitService(rateLimitConfig, null, null);
+            rateLimitService = new RateLimitService(rateLimitConfig, null, null, new SimpleMeterRegistry());
 
             // when: 여러 스레드에서 동시에 동일한 키로 접근
             String sharedKey = "concurrent-test-ip";
@@ -155,7 +167,7 @@ class RateLimitServiceTest {
         @DisplayName("서로 다른 키에 대한 버킷 격리 검증")
         void inMemoryBucket_DifferentKeys_IsolatedBuckets() {
             // given
-            rateLimitService = new RateLimitService(rateLimitConfig, null, null);
+            rateLimitService = new RateLimitService(rateLimitConfig, null, null, new SimpleMeterRegistry());
             String ip1 = "192.168.1.1";
             String ip2 = "192.168.1.2";
 
@@ -178,19 +190,173 @@ class RateLimitServiceTest {
         @DisplayName("인메모리 버킷 재사용 검증")
         void inMemoryBucket_BucketReuse_SameInstanceReturned() {
             // given
-            rateLimitService = new RateLimitService(rateLimitConfig, null, null);
+            rateLimitService = new RateLimitService(rateLimitConfig, null, null, new SimpleMeterRegistry());
 
             // when: 동일한 키로 버킷을 여러 번 요청
             rateLimitService.isEmailSendAllowed(TEST_IP);
             rateLimitService.isEmailSendAllowed(TEST_IP);
 
-            // then: 인메모리 맵에 하나의 버킷만 존재해야 함
-            @SuppressWarnings("unchecked")
-            Map<String, Bucket> inMemoryBuckets = (Map<String, Bucket>)
-                ReflectionTestUtils.getField(rateLimitService, "inMemoryBuckets");
+            // then: 인메모리 저장소에 하나의 버킷만 존재해야 함
+            assertThat(rateLimitService.getInMemoryBucketCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("서로 다른 키가 대량 유입되어도 인메모리 버킷 수는 상한을 넘지 않음")
+        void inMemoryBucket_ManyDistinctKeys_BoundedBySizeCap() {
+            // given
+            given(rateLimitConfig.getInMemoryMaxBuckets()).willReturn(100L);
+            rateLimitService = new RateLimitService(rateLimitConfig, null, null, new SimpleMeterRegistry());
+
+            // when: 서로 다른 IP 1,000개로 요청
+            for (int i = 0; i < 1_000; i++) {
+                rateLimitService.isLoginAllowed("10.0." + (i / 256) + "." + (i % 256));
+            }
+
+            // then
+            assertThat(rateLimitService.getInMemoryBucketCount()).isLessThanOrEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("제한 초과 시 한 번의 소비 시도 결과로 대기 시간 포함 예외 발생")
+        void checkEmailSendRateLimit_Exceeded_ThrowsWithWaitTimeFromProbe() {
+            // given
+            rateLimitService = new RateLimitService(rateLimitConfig, null, null, new SimpleMeterRegistry());
+            for (int i = 0; i < 3; i++) {
+                rateLimitService.checkEmailSendRateLimit(TEST_IP, "user@test.com");
+            }
+
+            // when & then: 5분에 3회 → 다음 토큰까지 약 100초
+            assertThatThrownBy(() -> rateLimitService.checkEmailSendRateLimit(TEST_IP, "user@test.com"))
+                    .isInstanceOfSatisfying(RateLimitExceededException.class, e ->
+                            assertThat(e.getRetryAfterSeconds()).isBetween(1L, 100L));
+        }
+
+        @Test
+        @DisplayName("선할당 모드가 켜진 제한만 Redis 버킷 빌더에 최적화 적용")
+        @SuppressWarnings("unchecked")
+        void remoteBucketBuilders_LocalBatchEnabled_AppliesOptimizationOnlyToThatLimit() {
+            // given: 토큰 갱신 제한만 선할당 모드
+            rateLimitConfig.getRefreshToken().getLocalBatch().setMaxUnsynchronizedTokens(2);
+            LettuceBasedProxyManager<byte[]> proxyManager = mock(LettuceBasedProxyManager.class);
+            RemoteBucketBuilder<byte[]> remoteBucketBuilder = mock(RemoteBucketBuilder.class);
+            given(proxyManager.builder()).willReturn(remoteBucketBuilder);
+            given(remoteBucketBuilder.withOptimization(any())).willReturn(remoteBucketBuilder);
+
+            // when
+            rateLimitService = new RateLimitService(rateLimitConfig, null, proxyManager, new SimpleMeterRegistry());
+
+            // then: 제한 종류 수만큼 빌더 생성, 최적화는 한 번만 적용
+            then(proxyManager).should(times(RateLimitService.LimitType.values().length)).builder();
+            then(remoteBucketBuilder).should(times(1)).withOptimization(any());
+        }
+
+        @Test
+        @DisplayName("Redis 호출이 연속 실패하면 로컬 버킷으로 전환하고 점검 성공 시 복귀")
+        @SuppressWarnings("unchecked")
+        void redisFailures_OpenCircuit_FallsBackToLocalUntilProbeSucceeds() {
+            // given: 2회 연속 실패 시 전환, Redis 버킷 호출은 항상 실패
+            circuitBreaker.setFailureThreshold(2);
+            LettuceBasedProxyManager<byte[]> proxyManager = mock(LettuceBasedProxyManager.class);
+            RemoteBucketBuilder<byte[]> remoteBucketBuilder = mock(RemoteBucketBuilder.class);
+            BucketProxy remoteBucket = mock(BucketProxy.class);
+            given(proxyManager.builder()).willReturn(remoteBucketBuilder);
+            given(remoteBucketBuilder.build(any(), any(Supplier.class))).willReturn(remoteBucket);
+            given(remoteBucket.tryConsumeAndReturnRemaining(1)).willThrow(new IllegalStateException("connection refused"));
+            rateLimitService = new RateLimitService(rateLimitConfig, null, proxyManager, new SimpleMeterRegistry());
+
+            // when: 실패 중에도 로컬 버킷으로 제한 유지 (5분에 3회)
+            boolean first = rateLimitService.isEmailSendAllowed(TEST_IP);
+            boolean second = rateLimitService.isEmailSendAllowed(TEST_IP);
+            boolean third = rateLimitService.isEmailSendAllowed(TEST_IP);
+            boolean fourth = rateLimitService.isEmailSendAllowed(TEST_IP);
+
+            // then: 임계값 이후에는 Redis 호출 없이 로컬 버킷만 사용
+            assertThat(first).isTrue();
+            assertThat(second).isTrue();
+            assertThat(third).isTrue();
+            assertThat(fourth).isFalse();
+            assertThat(rateLimitService.isUsingRedis()).isFalse();
+            then(remoteBucket).should(times(2)).tryConsumeAndReturnRemaining(1);
+
+            // when: 백그라운드 점검 성공
+            given(proxyManager.getProxyConfiguration(any())).willReturn(Optional.empty());
+            rateLimitService.probeRedis();
+
+            // then
+            assertThat(rateLimitService.isUsingRedis()).isTrue();
+        }
+
+        @Test
+        @DisplayName("로그인 Rate Limit 리셋 후에는 캐시된 Redis 버킷 프록시 대신 가득 찬 새 버킷에서 소비")
+        @SuppressWarnings("unchecked")
+        void resetLoginRateLimit_InvalidatesCachedProxy_NextConsumeStartsFromFullBucket() {
+            // given: 빌드할 때마다 설정대로 새로 채워진 버킷을 돌려주는 Redis 버킷 빌더 (프록시의 로컬 상태 재현)
+            LettuceBasedProxyManager<byte[]> proxyManager = mock(LettuceBasedProxyManager.class);
+            RemoteBucketBuilder<byte[]> remoteBucketBuilder = mock(RemoteBucketBuilder.class);
+            given(proxyManager.builder()).willReturn(remoteBucketBuilder);
+            given(remoteBucketBuilder.build(any(), any(Supplier.class))).willAnswer(invocation -> {
+                BucketConfiguration config = ((Supplier<BucketConfiguration>) invocation.getArgument(1)).get();
+                LocalBucketBuilder localBucketBuilder = Bucket.builder();
+                for (Bandwidth bandwidth : config.getBandwidths()) {
+                    localBucketBuilder.addLimit(bandwidth);
+                }
+                return mock(BucketProxy.class, delegatesTo(localBucketBuilder.build()));
+            });
+            rateLimitService = new RateLimitService(rateLimitConfig, null, proxyManager, new SimpleMeterRegistry());
+            String email = "user@test.com";
+
+            // 이메일별 로그인 제한(10회) 소진
+            for (int i = 0; i < 10; i++) {
+                assertThat(rateLimitService.isLoginByEmailAllowed(email)).isTrue();
+            }
+            assertThat(rateLimitService.isLoginByEmailAllowed(email)).isFalse();
+
+            // when
+            rateLimitService.resetLoginRateLimit(email, TEST_IP);
+
+            // then: 다시 10회 모두 허용되고 11회째 거부
+            for (int i = 0; i < 10; i++) {
+                assertThat(rateLimitService.isLoginByEmailAllowed(email)).isTrue();
+            }
+            assertThat(rateLimitService.isLoginByEmailAllowed(email)).isFalse();
+            then(proxyManager).should().removeProxy(any());
+            then(remoteBucketBuilder).should(times(2)).build(any(), any(Supplier.class));
+        }
+
+        @Test
+        @DisplayName("제한 판정이 상위 요청 키 추적에 반영됨")
+        void rateLimitDecisions_RecordedAsHeavyHitters() {
+            // given
+            rateLimitService = new RateLimitService(rateLimitConfig, null, null, new SimpleMeterRegistry());
+
+            // when: 공격 IP 5회(2회 거부), 일반 IP 1회
+            for (int i = 0; i < 5; i++) {
+                rateLimitService.isEmailSendAllowed("203.0.113.7");
+            }
+            rateLimitService.isEmailSendAllowed(TEST_IP);
+
+            // then
+            List<HeavyHitterResponse> top = rateLimitService.getHeavyHitters(10).get("EMAIL_SEND");
+            assertThat(top).hasSize(2);
+            assertThat(top.getFirst().key()).isEqualTo("203.0.113.7");
+            assertThat(top.getFirst().count()).isEqualTo(5);
+            assertThat(top.getFirst().rejected()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("버킷 설정은 생성 시 한 번만 만들어 재사용")
+        void bucketConfigs_BuiltOnceAtConstruction() {
+            // given
+            rateLimitService = new RateLimitService(rateLimitConfig, null, null, new SimpleMeterRegistry());
+            clearInvocations(rateLimitConfig);
+
+            // when
+            rateLimitService.isEmailSendAllowed(TEST_IP);
+            rateLimitService.isLoginAllowed(TEST_IP);
+            rateLimitService.getRefreshTokenWaitTime(TEST_IP);
 
-            assertThat(inMemoryBuckets.size()).isEqualTo(1);
-            assertThat(inMemoryBuckets.containsKey("email_send:" + TEST_IP)).isTrue();
+            // then
+            then(rateLimitConfig).shouldHaveNoInteractions();
         }
     }
 
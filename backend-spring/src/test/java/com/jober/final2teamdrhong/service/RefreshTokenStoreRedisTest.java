@@ -0,0 +1,177 @@
+package com.jober.final2teamdrhong.service;
+
+import com.jober.final2teamdrhong.config.AuthProperties;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RefreshTokenStore Redis 통합 테스트
+ *
+ * 실제 Redis에서 Lua 스크립트를 실행하여 토큰 목록 색인, 이전 형식(Set) 변환, 최대 항목 수 정리,
+ * 백그라운드 정리 작업을 검증합니다. Docker를 사용할 수 없는 환경에서는 건너뜁니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RefreshTokenStoreRedisTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static final Long TEST_USER_ID = 1L;
+    private static final String USER_TOKENS_KEY = "user_tokens:" + TEST_USER_ID;
+    private static final int MAX_ENTRIES = 3;
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        AuthProperties authProperties = new AuthProperties();
+        authProperties.getRedis().setUserTokensMaxEntries(MAX_ENTRIES);
+        refreshTokenStore = new RefreshTokenStore(stringRedisTemplate, authProperties);
+    }
+
+    @Test
+    @DisplayName("발급 시 토큰 키와 만료 시각 점수의 Sorted Set 목록을 만들고 재발급 시 기존 토큰을 정리")
+    void issue_IndexesTokenAndRevokesPrevious() {
+        // given
+        long startedAt = System.currentTimeMillis();
+        refreshTokenStore.issue(TEST_USER_ID, "first_hash", 600);
+
+        // when
+        long revoked = refreshTokenStore.issue(TEST_USER_ID, "second_hash", 600);
+
+        // then
+        assertThat(revoked).isEqualTo(1L);
+        assertThat(stringRedisTemplate.hasKey("refresh_token:first_hash")).isFalse();
+        assertThat(stringRedisTemplate.opsForValue().get("refresh_token:second_hash")).isEqualTo("1");
+
+        assertThat(stringRedisTemplate.type(USER_TOKENS_KEY)).isEqualTo(DataType.ZSET);
+        assertThat(stringRedisTemplate.opsForZSet().range(USER_TOKENS_KEY, 0, -1)).containsExactly("second_hash");
+        assertThat(stringRedisTemplate.opsForZSet().score(USER_TOKENS_KEY, "second_hash"))
+                .isBetween((double) startedAt + 600_000, (double) System.currentTimeMillis() + 600_000);
+        assertThat(stringRedisTemplate.getExpire(USER_TOKENS_KEY)).isBetween(1L, 600L);
+    }
+
+    @Test
+    @DisplayName("회전 시 기존 토큰을 목록에서 빼고 새 토큰과 Access Token 항목을 추가하며, 이미 사용된 토큰은 거부")
+    void rotate_ReplacesTokenOnce() {
+        // given
+        refreshTokenStore.issue(TEST_USER_ID, "old_hash", 600);
+
+        // when
+        boolean first = refreshTokenStore.rotate(TEST_USER_ID, "old_hash", "new_hash", "access:jti-1", 600);
+        boolean replay = refreshTokenStore.rotate(TEST_USER_ID, "old_hash", "other_hash", "access:jti-2", 600);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(replay).isFalse();
+        assertThat(stringRedisTemplate.hasKey("refresh_token:old_hash")).isFalse();
+        assertThat(stringRedisTemplate.hasKey("refresh_token:other_hash")).isFalse();
+        assertThat(stringRedisTemplate.opsForZSet().range(USER_TOKENS_KEY, 0, -1))
+                .containsExactlyInAnyOrder("new_hash", "access:jti-1");
+    }
+
+    @Test
+    @DisplayName("이전 형식(Set) 목록은 처음 접근할 때 남은 TTL을 점수로 하는 Sorted Set으로 변환")
+    void addAccessToken_LegacySet_ConvertsToSortedSet() {
+        // given
+        stringRedisTemplate.opsForSet().add(USER_TOKENS_KEY, "legacy_hash", "access:legacy-jti");
+        stringRedisTemplate.expire(USER_TOKENS_KEY, Duration.ofSeconds(100));
+        stringRedisTemplate.opsForValue().set("refresh_token:legacy_hash", "1", Duration.ofSeconds(100));
+        long startedAt = System.currentTimeMillis();
+
+        // when
+        refreshTokenStore.addAccessToken(TEST_USER_ID, "access:new-jti", 60);
+
+        // then
+        assertThat(stringRedisTemplate.type(USER_TOKENS_KEY)).isEqualTo(DataType.ZSET);
+        assertThat(stringRedisTemplate.opsForZSet().range(USER_TOKENS_KEY, 0, -1))
+                .containsExactlyInAnyOrder("legacy_hash", "access:legacy-jti", "access:new-jti");
+        assertThat(stringRedisTemplate.opsForZSet().score(USER_TOKENS_KEY, "legacy_hash"))
+                .isBetween((double) startedAt + 90_000, (double) System.currentTimeMillis() + 100_000);
+
+        // 변환된 목록으로 전체 무효화가 동작하는지 확인
+        assertThat(refreshTokenStore.revokeAll(TEST_USER_ID)).isEqualTo(3L);
+        assertThat(stringRedisTemplate.hasKey("refresh_token:legacy_hash")).isFalse();
+        assertThat(stringRedisTemplate.hasKey(USER_TOKENS_KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 만료가 가장 이른 항목부터 제거하고 밀려난 Refresh Token 키도 삭제")
+    void addAccessToken_OverLimit_TrimsEarliestEntries() {
+        // given
+        refreshTokenStore.issue(TEST_USER_ID, "short_lived_hash", 10);
+
+        // when
+        for (int i = 1; i <= MAX_ENTRIES; i++) {
+            refreshTokenStore.addAccessToken(TEST_USER_ID, "access:jti-" + i, 100L * i);
+        }
+
+        // then
+        assertThat(stringRedisTemplate.opsForZSet().zCard(USER_TOKENS_KEY)).isEqualTo(MAX_ENTRIES);
+        assertThat(stringRedisTemplate.opsForZSet().range(USER_TOKENS_KEY, 0, -1))
+                .containsExactly("access:jti-1", "access:jti-2", "access:jti-3");
+        assertThat(stringRedisTemplate.hasKey("refresh_token:short_lived_hash")).isFalse();
+        // 키 TTL은 가장 늦게 만료되는 항목에 맞춤
+        assertThat(stringRedisTemplate.getExpire(USER_TOKENS_KEY)).isBetween(200L, 300L);
+    }
+
+    @Test
+    @DisplayName("백그라운드 정리는 쓰기가 없는 사용자 목록의 만료 항목을 제거하고 이전 형식도 변환")
+    void reapExpiredEntries_TrimsIdleUserLists() {
+        // given
+        long now = System.currentTimeMillis();
+        stringRedisTemplate.opsForZSet().add("user_tokens:2", "expired_hash", now - 1_000);
+        stringRedisTemplate.opsForZSet().add("user_tokens:2", "live_hash", now + 60_000);
+        stringRedisTemplate.opsForZSet().add("user_tokens:3", "expired_only", now - 1_000);
+        stringRedisTemplate.opsForSet().add("user_tokens:4", "legacy_hash");
+        stringRedisTemplate.expire("user_tokens:4", Duration.ofSeconds(100));
+
+        // when
+        refreshTokenStore.reapExpiredEntries();
+
+        // then
+        assertThat(stringRedisTemplate.opsForZSet().range("user_tokens:2", 0, -1)).containsExactly("live_hash");
+        assertThat(stringRedisTemplate.getExpire("user_tokens:2")).isBetween(1L, 60L);
+        assertThat(stringRedisTemplate.hasKey("user_tokens:3")).isFalse();
+        assertThat(stringRedisTemplate.type("user_tokens:4")).isEqualTo(DataType.ZSET);
+        assertThat(stringRedisTemplate.opsForZSet().range("user_tokens:4", 0, -1)).containsExactly("legacy_hash");
+    }
+}
@@ -0,0 +1,82 @@
+package com.jober.final2teamdrhong.service;
+
+import com.jober.final2teamdrhong.config.AuthProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * RefreshTokenStore 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    private RefreshTokenStore refreshTokenStore;
+
+    private static final Long TEST_USER_ID = 1L;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenStore = new RefreshTokenStore(stringRedisTemplate, new AuthProperties());
+    }
+
+    @Test
+    @DisplayName("발급은 사용자 토큰 목록 키 하나로 단일 스크립트 실행")
+    void issue_ExecutesSingleScript() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of("user_tokens:1")), any(Object[].class)))
+                .willReturn(2L);
+
+        // when
+        long revoked = refreshTokenStore.issue(TEST_USER_ID, "new_hash", 604800L);
+
+        // then
+        assertThat(revoked).isEqualTo(2L);
+        then(stringRedisTemplate).should(times(1))
+                .execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("회전 스크립트가 0을 반환하면 이미 사용된 토큰으로 판단")
+    void rotate_ScriptReturnsZero_ReturnsFalse() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class),
+                eq(List.of("refresh_token:old_hash", "refresh_token:new_hash", "user_tokens:1")),
+                any(Object[].class)))
+                .willReturn(0L);
+
+        // when
+        boolean rotated = refreshTokenStore.rotate(TEST_USER_ID, "old_hash", "new_hash", "access:jti", 604800L);
+
+        // then
+        assertThat(rotated).isFalse();
+    }
+
+    @Test
+    @DisplayName("회전 스크립트가 1을 반환하면 교체 성공")
+    void rotate_ScriptReturnsOne_ReturnsTrue() {
+        // given
+        given(stringRedisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .willReturn(1L);
+
+        // when
+        boolean rotated = refreshTokenStore.rotate(TEST_USER_ID, "old_hash", "new_hash", null, 604800L);
+
+        // then
+        assertThat(rotated).isTrue();
+    }
+}
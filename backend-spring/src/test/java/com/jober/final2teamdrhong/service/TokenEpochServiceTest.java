@@ -0,0 +1,208 @@
+package com.jober.final2teamdrhong.service;
+
+import com.jober.final2teamdrhong.config.AuthProperties;
+import com.jober.final2teamdrhong.config.JwtConfig;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * TokenEpochService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class TokenEpochServiceTest {
+
+    @Mock
+    private ObjectProvider<StringRedisTemplate> stringRedisTemplateProvider;
+
+    @Mock
+    private ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private Claims claims;
+
+    private TokenEpochService tokenEpochService;
+
+    private static final Integer TEST_USER_ID = 1;
+    private static final String EPOCH_KEY = "user_token_epoch:" + TEST_USER_ID;
+
+    @BeforeEach
+    void setUp() {
+        AuthProperties authProperties = new AuthProperties();
+        authProperties.getToken().setRefreshTokenValiditySeconds(604800L);
+        given(stringRedisTemplateProvider.getIfAvailable()).willReturn(stringRedisTemplate);
+        lenient().when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(claims.get("userId")).thenReturn(TEST_USER_ID);
+        tokenEpochService = new TokenEpochService(stringRedisTemplateProvider, listenerContainerProvider, authProperties);
+    }
+
+    @Test
+    @DisplayName("일괄 무효화는 Redis 단일 쓰기 후 다른 노드로 전파")
+    void revokeAllIssuedBefore_SingleWriteAndPublish() {
+        // when
+        tokenEpochService.revokeAllIssuedBefore(TEST_USER_ID);
+
+        // then
+        then(valueOperations).should().set(eq(EPOCH_KEY), anyString(), eq(Duration.ofSeconds(604800L)));
+        then(stringRedisTemplate).should().convertAndSend(eq("user_token_epoch:events"), startsWith(TEST_USER_ID + ":"));
+    }
+
+    @Test
+    @DisplayName("무효화 이전에 발급된 토큰은 무효, 로컬 캐시로 판단하여 Redis 조회 없음")
+    void isRevoked_IssuedBeforeEpoch_ReturnsTrue() {
+        // given
+        given(claims.getIssuedAt()).willReturn(new Date(System.currentTimeMillis() - 60_000));
+        tokenEpochService.revokeAllIssuedBefore(TEST_USER_ID);
+
+        // when
+        boolean result = tokenEpochService.isRevoked(claims);
+
+        // then
+        assertThat(result).isTrue();
+        then(valueOperations).should(never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("에포크 이후에 발급된 토큰은 유효")
+    void isRevoked_IssuedAfterEpoch_ReturnsFalse() {
+        // given
+        long epochMillis = System.currentTimeMillis() - 60_000;
+        given(valueOperations.get(EPOCH_KEY)).willReturn(String.valueOf(epochMillis));
+        given(claims.getIssuedAt()).willReturn(new Date());
+
+        // when
+        boolean result = tokenEpochService.isRevoked(claims);
+
+        // then
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("에포크가 없는 사용자도 캐시하여 반복 조회하지 않음")
+    void isRevoked_NoEpoch_CachesLookup() {
+        // given
+        given(valueOperations.get(EPOCH_KEY)).willReturn(null);
+        given(claims.getIssuedAt()).willReturn(new Date());
+
+        // when
+        boolean first = tokenEpochService.isRevoked(claims);
+        boolean second = tokenEpochService.isRevoked(claims);
+
+        // then
+        assertThat(first).isFalse();
+        assertThat(second).isFalse();
+        then(valueOperations).should(times(1)).get(EPOCH_KEY);
+    }
+
+    @Test
+    @DisplayName("Redis 조회 실패 시 Fail-Safe로 무효 처리")
+    void isRevoked_RedisFailure_ReturnsTrue() {
+        // given
+        given(valueOperations.get(EPOCH_KEY)).willThrow(new RuntimeException("Redis connection failed"));
+        given(claims.getIssuedAt()).willReturn(new Date());
+
+        // when & then
+        assertThat(tokenEpochService.isRevoked(claims)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드의 에포크 이벤트 수신 시 로컬 캐시에 반영")
+    void onMessage_EpochEvent_UpdatesLocalCache() {
+        // given
+        long epochMillis = System.currentTimeMillis() + 1_000;
+        given(claims.getIssuedAt()).willReturn(new Date());
+
+        // when
+        tokenEpochService.onMessage(message(TEST_USER_ID + ":" + epochMillis), null);
+
+        // then
+        assertThat(tokenEpochService.isRevoked(claims)).isTrue();
+        then(valueOperations).should(never()).get(anyString());
+    }
+
+    @Test
+    @DisplayName("무효화와 같은 초에 재로그인한 토큰은 밀리초 발급 시각으로 비교하여 유효")
+    void isRevoked_ReloginWithinSameSecond_ReturnsFalse() {
+        // given: 에포크는 어떤 초의 500ms 지점, 재로그인은 같은 초의 700ms 지점
+        long secondStartMillis = System.currentTimeMillis() / 1000 * 1000;
+        tokenEpochService.onMessage(message(TEST_USER_ID + ":" + (secondStartMillis + 500)), null);
+        given(claims.getIssuedAt()).willReturn(new Date(secondStartMillis));
+        given(claims.get(JwtConfig.ISSUED_AT_MILLIS_CLAIM)).willReturn(secondStartMillis + 700);
+
+        // when & then
+        assertThat(tokenEpochService.isRevoked(claims)).isFalse();
+    }
+
+    @Test
+    @DisplayName("무효화와 같은 초에 그 이전 밀리초에 발급된 토큰은 무효")
+    void isRevoked_IssuedEarlierWithinSameSecond_ReturnsTrue() {
+        // given
+        long secondStartMillis = System.currentTimeMillis() / 1000 * 1000;
+        tokenEpochService.onMessage(message(TEST_USER_ID + ":" + (secondStartMillis + 500)), null);
+        given(claims.getIssuedAt()).willReturn(new Date(secondStartMillis));
+        given(claims.get(JwtConfig.ISSUED_AT_MILLIS_CLAIM)).willReturn(secondStartMillis + 300);
+
+        // when & then
+        assertThat(tokenEpochService.isRevoked(claims)).isTrue();
+    }
+
+    @Test
+    @DisplayName("밀리초 발급 시각이 없는 이전 토큰은 같은 초에 발급되었으면 무효")
+    void isRevoked_LegacyTokenWithinSameSecond_ReturnsTrue() {
+        // given
+        long secondStartMillis = System.currentTimeMillis() / 1000 * 1000;
+        tokenEpochService.onMessage(message(TEST_USER_ID + ":" + (secondStartMillis + 500)), null);
+        given(claims.getIssuedAt()).willReturn(new Date(secondStartMillis));
+
+        // when & then
+        assertThat(tokenEpochService.isRevoked(claims)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Redis가 없으면 에포크를 캐시 TTL과 무관하게 로컬에 보관")
+    void revokeAllIssuedBefore_WithoutRedis_KeepsEpochBeyondCacheTtl() {
+        // given: 캐시 TTL이 0초여도 Redis가 없으면 로컬 에포크가 유일한 저장소이므로 유지되어야 함
+        AuthProperties authProperties = new AuthProperties();
+        authProperties.getToken().setRefreshTokenValiditySeconds(604800L);
+        authProperties.getRedis().setTokenEpochCacheTtlSeconds(0);
+        given(stringRedisTemplateProvider.getIfAvailable()).willReturn(null);
+        TokenEpochService localOnlyService =
+                new TokenEpochService(stringRedisTemplateProvider, listenerContainerProvider, authProperties);
+        given(claims.getIssuedAt()).willReturn(new Date(System.currentTimeMillis() - 60_000));
+
+        // when
+        localOnlyService.revokeAllIssuedBefore(TEST_USER_ID);
+
+        // then
+        assertThat(localOnlyService.isRevoked(claims)).isTrue();
+        then(stringRedisTemplate).shouldHaveNoInteractions();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("user_token_epoch:events".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -6,6 +6,7 @@ import com.jober.final2teamdrhong.entity.User;
 import com.jober.final2teamdrhong.entity.UserAuth;
 import com.jober.final2teamdrhong.exception.AuthenticationException;
 import com.jober.final2teamdrhong.repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,13 +14,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.SetOperations;
-import org.springframework.data.redis.core.ValueOperations;
 
-import java.time.Duration;
 import java.util.Optional;
-import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -38,19 +34,15 @@ class TokenServiceTest {
     @Mock
     private RateLimitService rateLimitService;
     @Mock
-    private RedisTemplate<String, String> redisTemplate;
-    @Mock
-    private ValueOperations<String, String> valueOperations;
-    @Mock
-    private SetOperations<String, String> setOperations;
+    private RefreshTokenStore refreshTokenStore;
     @Mock
     private AuthProperties authProperties;
     @Mock
     private AuthProperties.Token tokenProperties;
     @Mock
-    private AuthProperties.Redis redisProperties;
-    @Mock
     private AuthProperties.Messages messagesProperties;
+    @Mock
+    private TokenEpochService tokenEpochService;
     @InjectMocks
     private TokenService tokenService;
 
@@ -67,18 +59,10 @@ class TokenServiceTest {
 
     @BeforeEach
     void setUp() {
-        // Common Redis mocks
-        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        lenient().when(redisTemplate.opsForSet()).thenReturn(setOperations);
-
         // Common AuthProperties.Token mocks
         lenient().when(authProperties.getToken()).thenReturn(tokenProperties);
         lenient().when(tokenProperties.getRefreshTokenValiditySeconds()).thenReturn(TTL_SECONDS);
-
-        // Common AuthProperties.Redis mocks
-        lenient().when(authProperties.getRedis()).thenReturn(redisProperties);
-        lenient().when(redisProperties.getRefreshTokenKeyPrefix()).thenReturn("refresh_token:");
-        lenient().when(redisProperties.getUserTokensKeyPrefix()).thenReturn("user_tokens:");
+        lenient().when(tokenProperties.getAccessTokenPrefix()).thenReturn("access:");
 
         // Common AuthProperties.Messages mocks
         lenient().when(authProperties.getMessages()).thenReturn(messagesProperties);
@@ -92,31 +76,21 @@ class TokenServiceTest {
     }
 
     @Test
-    @DisplayName("createRefreshToken: Refresh Token 생성 및 Redis 저장 성공 - 기존 토큰 무효화")
+    @DisplayName("createRefreshToken: 기존 토큰 무효화와 새 토큰 저장을 한 번의 스크립트로 처리")
     void createRefreshToken_Success_RevokesExistingAndSavesNew() {
         // given
         User user = createTestUser();
-        Set<String> existingTokens = Set.of("old_token_hash_1", "old_token_hash_2");
-
-        // AuthProperties Token mocks
-        lenient().when(authProperties.getToken()).thenReturn(tokenProperties);
-        lenient().when(tokenProperties.getAccessTokenPrefix()).thenReturn("access:");
-        lenient().when(tokenProperties.getRefreshTokenPrefix()).thenReturn("refresh:");
-
-        given(setOperations.members("user_tokens:" + TEST_USER_ID)).willReturn(existingTokens);
         given(jwtConfig.generateRefreshToken(eq(TEST_EMAIL), eq(TEST_USER_ID_INT))).willReturn(TEST_REFRESH_TOKEN);
         given(jwtConfig.generateTokenHash(TEST_REFRESH_TOKEN)).willReturn(TEST_TOKEN_HASH);
+        given(refreshTokenStore.issue(TEST_USER_ID, TEST_TOKEN_HASH, TTL_SECONDS)).willReturn(2L);
 
         // when
         String result = tokenService.createRefreshToken(user, TEST_IP);
 
         // then
         assertThat(result).isEqualTo(TEST_REFRESH_TOKEN);
-        // processTokenRevocation이 호출되어 조건에 따라 토큰을 처리함
-        verify(redisTemplate, times(3)).delete(anyString()); // 두 개의 old 토큰 삭제 + user_tokens 키 삭제 = 총 3번
-        verify(valueOperations).set("refresh_token:" + TEST_TOKEN_HASH, TEST_USER_ID.toString(), Duration.ofSeconds(TTL_SECONDS));
-        verify(setOperations).add("user_tokens:" + TEST_USER_ID, TEST_TOKEN_HASH);
-        verify(redisTemplate).expire("user_tokens:" + TEST_USER_ID, Duration.ofSeconds(TTL_SECONDS));
+        verify(refreshTokenStore).issue(TEST_USER_ID, TEST_TOKEN_HASH, TTL_SECONDS);
+        verify(refreshTokenStore, never()).revokeAll(anyLong());
     }
 
     @Test
@@ -126,7 +100,8 @@ class TokenServiceTest {
         User user = createTestUser();
         given(jwtConfig.generateRefreshToken(eq(TEST_EMAIL), eq(TEST_USER_ID_INT))).willReturn(TEST_REFRESH_TOKEN);
         given(jwtConfig.generateTokenHash(TEST_REFRESH_TOKEN)).willReturn(TEST_TOKEN_HASH);
-        doThrow(new RuntimeException("Redis connection failed")).when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        given(refreshTokenStore.issue(anyLong(), anyString(), anyLong()))
+            .willThrow(new RuntimeException("Redis connection failed"));
 
         // when & then
         assertThatThrownBy(() -> tokenService.createRefreshToken(user, TEST_IP))
@@ -145,14 +120,14 @@ class TokenServiceTest {
         given(jwtConfig.isRefreshToken(TEST_REFRESH_TOKEN)).willReturn(true);
         given(jwtConfig.getEmailFromToken(TEST_REFRESH_TOKEN)).willReturn(TEST_EMAIL);
         given(jwtConfig.generateTokenHash(TEST_REFRESH_TOKEN)).willReturn(TEST_TOKEN_HASH);
-        given(redisTemplate.hasKey("refresh_token:" + TEST_TOKEN_HASH)).willReturn(true);
+        given(refreshTokenStore.exists(TEST_TOKEN_HASH)).willReturn(true);
         given(userRepository.findByUserEmail(TEST_EMAIL)).willReturn(Optional.of(user));
         given(jwtConfig.generateAccessToken(eq(TEST_EMAIL), eq(TEST_USER_ID_INT))).willReturn(TEST_ACCESS_TOKEN);
         given(jwtConfig.generateRefreshToken(eq(TEST_EMAIL), eq(TEST_USER_ID_INT))).willReturn(TEST_NEW_REFRESH_TOKEN);
         given(jwtConfig.generateTokenHash(TEST_NEW_REFRESH_TOKEN)).willReturn(TEST_NEW_TOKEN_HASH);
-
-        // Mocks for revokeRefreshToken (called internally)
-        given(valueOperations.get("refresh_token:" + TEST_TOKEN_HASH)).willReturn(TEST_USER_ID.toString());
+        given(jwtConfig.getJtiFromToken(TEST_ACCESS_TOKEN)).willReturn("access-jti");
+        given(refreshTokenStore.rotate(TEST_USER_ID, TEST_TOKEN_HASH, TEST_NEW_TOKEN_HASH, "access:access-jti", TTL_SECONDS))
+            .willReturn(true);
 
         // when
         TokenService.TokenPair result = tokenService.refreshTokens(TEST_REFRESH_TOKEN, TEST_IP);
@@ -160,11 +135,33 @@ class TokenServiceTest {
         // then
         assertThat(result.accessToken()).isEqualTo(TEST_ACCESS_TOKEN);
         assertThat(result.refreshToken()).isEqualTo(TEST_NEW_REFRESH_TOKEN);
-        verify(redisTemplate).delete("refresh_token:" + TEST_TOKEN_HASH); // Old token deletion
-        verify(setOperations).remove("user_tokens:" + TEST_USER_ID, TEST_TOKEN_HASH); // Old token removed from set
-        verify(valueOperations).set("refresh_token:" + TEST_NEW_TOKEN_HASH, TEST_USER_ID.toString(), Duration.ofSeconds(TTL_SECONDS)); // New token set
-        verify(setOperations, times(1)).add(any(), any()); // New token added to set
-        verify(redisTemplate).expire("user_tokens:" + TEST_USER_ID, Duration.ofSeconds(TTL_SECONDS)); // New token set expiration
+        // 기존 토큰 삭제, 새 토큰 저장, Access Token 항목 추가가 한 번의 회전으로 처리됨
+        verify(refreshTokenStore).rotate(TEST_USER_ID, TEST_TOKEN_HASH, TEST_NEW_TOKEN_HASH, "access:access-jti", TTL_SECONDS);
+        verify(refreshTokenStore, never()).revoke(anyString());
+    }
+
+    @Test
+    @DisplayName("refreshTokens: 동시 갱신으로 이미 회전된 토큰이면 AuthenticationException 발생")
+    void refreshTokens_ConcurrentRotationLost_ThrowsAuthenticationException() {
+        // given
+        User user = createTestUserWithVerifiedAuth();
+
+        doNothing().when(rateLimitService).checkLoginRateLimit(TEST_IP);
+        given(jwtConfig.validateToken(TEST_REFRESH_TOKEN)).willReturn(true);
+        given(jwtConfig.isRefreshToken(TEST_REFRESH_TOKEN)).willReturn(true);
+        given(jwtConfig.getEmailFromToken(TEST_REFRESH_TOKEN)).willReturn(TEST_EMAIL);
+        given(jwtConfig.generateTokenHash(TEST_REFRESH_TOKEN)).willReturn(TEST_TOKEN_HASH);
+        given(refreshTokenStore.exists(TEST_TOKEN_HASH)).willReturn(true);
+        given(userRepository.findByUserEmail(TEST_EMAIL)).willReturn(Optional.of(user));
+        given(jwtConfig.generateAccessToken(eq(TEST_EMAIL), eq(TEST_USER_ID_INT))).willReturn(TEST_ACCESS_TOKEN);
+        given(jwtConfig.generateRefreshToken(eq(TEST_EMAIL), eq(TEST_USER_ID_INT))).willReturn(TEST_NEW_REFRESH_TOKEN);
+        given(jwtConfig.generateTokenHash(TEST_NEW_REFRESH_TOKEN)).willReturn(TEST_NEW_TOKEN_HASH);
+        given(refreshTokenStore.rotate(anyLong(), anyString(), anyString(), any(), anyLong())).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> tokenService.refreshTokens(TEST_REFRESH_TOKEN, TEST_IP))
+            .isInstanceOf(AuthenticationException.class)
+            .hasMessage("만료되었거나 유효하지 않은 리프레시 토큰입니다.");
     }
 
     @Test
@@ -189,7 +186,7 @@ class TokenServiceTest {
         given(jwtConfig.validateToken(TEST_REFRESH_TOKEN)).willReturn(true);
         given(jwtConfig.isRefreshToken(TEST_REFRESH_TOKEN)).willReturn(true);
         given(jwtConfig.generateTokenHash(TEST_REFRESH_TOKEN)).willReturn(TEST_TOKEN_HASH);
-        given(redisTemplate.hasKey("refresh_token:" + TEST_TOKEN_HASH)).willReturn(true); // Redis check passes
+        given(refreshTokenStore.exists(TEST_TOKEN_HASH)).willReturn(true); // Redis check passes
         given(jwtConfig.getEmailFromToken(TEST_REFRESH_TOKEN)).willReturn(null); // Simulate extraction failure
         given(messagesProperties.getInvalidTokenInfo()).willReturn("토큰 정보가 유효하지 않습니다.");
 
@@ -207,7 +204,7 @@ class TokenServiceTest {
         given(jwtConfig.validateToken(TEST_REFRESH_TOKEN)).willReturn(true);
         given(jwtConfig.isRefreshToken(TEST_REFRESH_TOKEN)).willReturn(true);
         given(jwtConfig.generateTokenHash(TEST_REFRESH_TOKEN)).willReturn(TEST_TOKEN_HASH);
-        given(redisTemplate.hasKey("refresh_token:" + TEST_TOKEN_HASH)).willReturn(false); // Simulate not found in Redis
+        given(refreshTokenStore.exists(TEST_TOKEN_HASH)).willReturn(false); // Simulate not found in Redis
         given(messagesProperties.getExpiredRefreshToken()).willReturn("만료되었거나 유효하지 않은 리프레시 토큰입니다.");
 
         // when & then
@@ -225,7 +222,7 @@ class TokenServiceTest {
         given(jwtConfig.isRefreshToken(TEST_REFRESH_TOKEN)).willReturn(true);
         given(jwtConfig.getEmailFromToken(TEST_REFRESH_TOKEN)).willReturn(TEST_EMAIL);
         given(jwtConfig.generateTokenHash(TEST_REFRESH_TOKEN)).willReturn(TEST_TOKEN_HASH);
-        given(redisTemplate.hasKey("refresh_token:" + TEST_TOKEN_HASH)).willReturn(true);
+        given(refreshTokenStore.exists(TEST_TOKEN_HASH)).willReturn(true);
         given(userRepository.findByUserEmail(TEST_EMAIL)).willReturn(Optional.empty()); // Simulate user not found
         given(messagesProperties.getUserNotFound()).willReturn("사용자를 찾을 수 없습니다.");
 
@@ -245,7 +242,7 @@ class TokenServiceTest {
         given(jwtConfig.isRefreshToken(TEST_REFRESH_TOKEN)).willReturn(true);
         given(jwtConfig.getEmailFromToken(TEST_REFRESH_TOKEN)).willReturn(TEST_EMAIL);
         given(jwtConfig.generateTokenHash(TEST_REFRESH_TOKEN)).willReturn(TEST_TOKEN_HASH);
-        given(redisTemplate.hasKey("refresh_token:" + TEST_TOKEN_HASH)).willReturn(true);
+        given(refreshTokenStore.exists(TEST_TOKEN_HASH)).willReturn(true);
         given(userRepository.findByUserEmail(TEST_EMAIL)).willReturn(Optional.of(unverifiedUser));
 
         // when & then
@@ -259,14 +256,13 @@ class TokenServiceTest {
     void revokeRefreshToken_Success() {
         // given
         given(jwtConfig.generateTokenHash(TEST_REFRESH_TOKEN)).willReturn(TEST_TOKEN_HASH);
-        given(valueOperations.get("refresh_token:" + TEST_TOKEN_HASH)).willReturn(TEST_USER_ID.toString());
+        given(refreshTokenStore.revoke(TEST_TOKEN_HASH)).willReturn(true);
 
         // when
         tokenService.revokeRefreshToken(TEST_REFRESH_TOKEN);
 
         // then
-        verify(redisTemplate).delete("refresh_token:" + TEST_TOKEN_HASH);
-        verify(setOperations).remove("user_tokens:" + TEST_USER_ID, TEST_TOKEN_HASH);
+        verify(refreshTokenStore).revoke(TEST_TOKEN_HASH);
     }
 
     @Test
@@ -277,45 +273,73 @@ class TokenServiceTest {
 
         // then
         verifyNoInteractions(jwtConfig); // No JWT processing for null token
-        verifyNoInteractions(redisTemplate); // No Redis interaction for null token
+        verifyNoInteractions(refreshTokenStore); // No Redis interaction for null token
     }
 
     @Test
     @DisplayName("revokeAllUserTokens: 사용자의 모든 Refresh Token 무효화 성공")
     void revokeAllUserTokens_Success() {
         // given
-        Set<String> userTokens = Set.of("token_hash_1", "token_hash_2");
+        given(refreshTokenStore.revokeAll(TEST_USER_ID)).willReturn(2L);
 
-        // AuthProperties Token mocks
-        lenient().when(authProperties.getToken()).thenReturn(tokenProperties);
-        lenient().when(tokenProperties.getAccessTokenPrefix()).thenReturn("access:");
-        lenient().when(tokenProperties.getRefreshTokenPrefix()).thenReturn("refresh:");
+        // when
+        tokenService.revokeAllUserTokens(TEST_USER_ID);
 
-        given(setOperations.members("user_tokens:" + TEST_USER_ID)).willReturn(userTokens);
+        // then
+        verify(refreshTokenStore).revokeAll(TEST_USER_ID);
+    }
 
+    @Test
+    @DisplayName("revokeAllUserTokens: Redis 오류는 전파하지 않음")
+    void revokeAllUserTokens_RedisFails_DoesNotThrow() {
+        // given
+        given(refreshTokenStore.revokeAll(TEST_USER_ID)).willThrow(new RuntimeException("Redis connection failed"));
+
+        // when & then
+        assertThatCode(() -> tokenService.revokeAllUserTokens(TEST_USER_ID)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("addAllUserTokensToBlacklist: 토큰 수와 무관하게 토큰 에포크만 한 번 갱신")
+    void addAllUserTokensToBlacklist_UpdatesTokenEpochOnly() {
         // when
-        tokenService.revokeAllUserTokens(TEST_USER_ID);
+        tokenService.addAllUserTokensToBlacklist(TEST_USER_ID_INT);
 
         // then
-        // processTokenRevocation이 각 토큰에 대해 호출되고,
-        // prefix가 없는 기존 방식의 토큰이므로 redisTemplate.delete가 호출됨
-        verify(redisTemplate).delete("refresh_token:token_hash_1");
-        verify(redisTemplate).delete("refresh_token:token_hash_2");
-        verify(redisTemplate).delete("user_tokens:" + TEST_USER_ID);
+        verify(tokenEpochService).revokeAllIssuedBefore(TEST_USER_ID_INT);
+        verifyNoInteractions(refreshTokenStore);
     }
 
     @Test
-    @DisplayName("revokeAllUserTokens: 토큰이 없는 사용자에게 호출 시 아무 작업도 수행하지 않음")
-    void revokeAllUserTokens_UserWithNoTokens_DoesNothing() {
+    @DisplayName("isValidRefreshToken: 토큰 에포크 이전에 발급된 토큰은 무효")
+    void isValidRefreshToken_IssuedBeforeEpoch_ReturnsFalse() {
         // given
-        given(setOperations.members("user_tokens:" + TEST_USER_ID)).willReturn(Set.of());
+        Claims claims = mock(Claims.class);
+        given(jwtConfig.validateToken(TEST_REFRESH_TOKEN)).willReturn(true);
+        given(jwtConfig.isRefreshToken(TEST_REFRESH_TOKEN)).willReturn(true);
+        given(jwtConfig.getClaimsFromToken(TEST_REFRESH_TOKEN)).willReturn(claims);
+        given(tokenEpochService.isRevoked(claims)).willReturn(true);
 
         // when
-        tokenService.revokeAllUserTokens(TEST_USER_ID);
+        boolean result = tokenService.isValidRefreshToken(TEST_REFRESH_TOKEN);
+
+        // then
+        assertThat(result).isFalse();
+        verify(refreshTokenStore, never()).exists(anyString());
+    }
+
+    @Test
+    @DisplayName("saveAccessToken: Access Token JTI를 사용자 토큰 목록에 한 번에 추가")
+    void saveAccessToken_Success_AddsAccessTokenEntry() {
+        // given
+        given(jwtConfig.getJtiFromToken(TEST_ACCESS_TOKEN)).willReturn("access-jti");
+        given(jwtConfig.getAccessTokenValiditySeconds()).willReturn(900L);
+
+        // when
+        tokenService.saveAccessToken(TEST_ACCESS_TOKEN, TEST_USER_ID_INT);
 
         // then
-        verify(redisTemplate, never()).delete(anyString());
-        verify(redisTemplate, never()).delete(anyCollection());
+        verify(refreshTokenStore).addAccessToken(TEST_USER_ID, "access:access-jti", 900L);
     }
 
     @Test
@@ -325,7 +349,7 @@ class TokenServiceTest {
         given(jwtConfig.validateToken(TEST_REFRESH_TOKEN)).willReturn(true);
         given(jwtConfig.isRefreshToken(TEST_REFRESH_TOKEN)).willReturn(true);
         given(jwtConfig.generateTokenHash(TEST_REFRESH_TOKEN)).willReturn(TEST_TOKEN_HASH);
-        given(redisTemplate.hasKey("refresh_token:" + TEST_TOKEN_HASH)).willReturn(true);
+        given(refreshTokenStore.exists(TEST_TOKEN_HASH)).willReturn(true);
 
         // when
         boolean result = tokenService.isValidRefreshToken(TEST_REFRESH_TOKEN);
@@ -373,7 +397,7 @@ class TokenServiceTest {
         given(jwtConfig.validateToken(TEST_REFRESH_TOKEN)).willReturn(true);
         given(jwtConfig.isRefreshToken(TEST_REFRESH_TOKEN)).willReturn(true);
         given(jwtConfig.generateTokenHash(TEST_REFRESH_TOKEN)).willReturn(TEST_TOKEN_HASH);
-        given(redisTemplate.hasKey("refresh_token:" + TEST_TOKEN_HASH)).willReturn(false); // Simulate not found in Redis
+        given(refreshTokenStore.exists(TEST_TOKEN_HASH)).willReturn(false); // Simulate not found in Redis
         // when
         boolean result = tokenService.isValidRefreshToken(TEST_REFRESH_TOKEN);
         // then
@@ -0,0 +1,97 @@
+package com.jober.final2teamdrhong.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * UserAuthLastUsedBuffer 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class UserAuthLastUsedBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private UserAuthLastUsedBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new UserAuthLastUsedBuffer(jdbcTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("기록 시에는 DB에 쓰지 않고 authId별로 하나만 보관")
+    void record_CoalescesPerAuthId() {
+        // when
+        buffer.record(1);
+        buffer.record(1);
+        buffer.record(2);
+        buffer.record(null);
+
+        // then
+        assertThat(buffer.pendingCount()).isEqualTo(2);
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("flush 시 모인 항목을 한 번의 배치로 반영하고 버퍼를 비움")
+    @SuppressWarnings("unchecked")
+    void flush_ExecutesSingleBatch() {
+        // given
+        buffer.record(1);
+        buffer.record(2);
+        buffer.record(3);
+
+        // when
+        int flushed = buffer.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should(times(1)).batchUpdate(anyString(), captor.capture());
+        assertThat(captor.getValue()).hasSize(3);
+        assertThat(flushed).isEqualTo(3);
+        assertThat(buffer.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("비어 있으면 flush 시 DB 접근 없음")
+    void flush_Empty_NoQuery() {
+        // when
+        int flushed = buffer.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        then(jdbcTemplate).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("배치 반영 실패 시 항목을 버퍼에 되돌려 다음 주기에 재시도")
+    void flush_Failure_RequeuesEntries() {
+        // given
+        buffer.record(1);
+        buffer.record(2);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when
+        int flushed = buffer.flush();
+
+        // then
+        assertThat(flushed).isZero();
+        assertThat(buffer.pendingCount()).isEqualTo(2);
+    }
+}
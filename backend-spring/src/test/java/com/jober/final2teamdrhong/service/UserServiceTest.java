@@ -9,6 +9,7 @@ import com.jober.final2teamdrhong.entity.User;
 import com.jober.final2teamdrhong.entity.UserAuth;
 import com.jober.final2teamdrhong.exception.AuthenticationException;
 import com.jober.final2teamdrhong.exception.BusinessException;
+import com.jober.final2teamdrhong.exception.RateLimitExceededException;
 import com.jober.final2teamdrhong.repository.UserRepository;
 import com.jober.final2teamdrhong.service.storage.VerificationStorage;
 import com.jober.final2teamdrhong.util.TimingAttackProtection;
@@ -54,6 +55,8 @@ class UserServiceTest {
     private AuthProperties authProperties;
     @Mock
     private AuthProperties.Security authSecurityProperties;
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
 
     private User user;
     private UserAuth userAuth;
@@ -94,9 +97,7 @@ class UserServiceTest {
             given(passwordEncoder.encode("newPassword")).willReturn("newPasswordHash");
             given(authProperties.getSecurity()).willReturn(authSecurityProperties);
             given(authSecurityProperties.getTimingAttackDelayMs()).willReturn(delay);
-            willDoNothing().given(timingAttackProtection).startTiming();
-            willDoNothing().given(timingAttackProtection).ensureMinimumResponseTime(delay);
-            willDoNothing().given(timingAttackProtection).clear();
+            willDoNothing().given(timingAttackProtection).requireMinimumResponseTime(delay);
 
             // when
             userService.changePassword(1, request, "127.0.0.1");
@@ -104,6 +105,7 @@ class UserServiceTest {
             // then
             assertThat(userAuth.getPasswordHash()).isEqualTo("newPasswordHash");
             then(tokenService).should().addAllUserTokensToBlacklist(1);
+            then(userPrincipalCache).should().evict(1);
             then(rateLimitService).should().resetLoginRateLimit("test@example.com", "127.0.0.1");
         }
 
@@ -118,9 +120,7 @@ class UserServiceTest {
             given(passwordEncoder.matches("wrongOldPassword", "oldPasswordHash")).willReturn(false);
             given(authProperties.getSecurity()).willReturn(authSecurityProperties);
             given(authSecurityProperties.getTimingAttackDelayMs()).willReturn(delay);
-            willDoNothing().given(timingAttackProtection).startTiming();
-            willDoNothing().given(timingAttackProtection).ensureMinimumResponseTime(delay);
-            willDoNothing().given(timingAttackProtection).clear();
+            willDoNothing().given(timingAttackProtection).requireMinimumResponseTime(delay);
 
             // when & then
             assertThatThrownBy(() -> userService.changePassword(1, request, "127.0.0.1"))
@@ -140,9 +140,7 @@ class UserServiceTest {
             given(passwordEncoder.matches("oldPassword", "oldPasswordHash")).willReturn(true);
             given(authProperties.getSecurity()).willReturn(authSecurityProperties);
             given(authSecurityProperties.getTimingAttackDelayMs()).willReturn(delay);
-            willDoNothing().given(timingAttackProtection).startTiming();
-            willDoNothing().given(timingAttackProtection).ensureMinimumResponseTime(delay);
-            willDoNothing().given(timingAttackProtection).clear();
+            willDoNothing().given(timingAttackProtection).requireMinimumResponseTime(delay);
 
             // when & then
             assertThatThrownBy(() -> userService.changePassword(1, request, "127.0.0.1"))
@@ -189,6 +187,30 @@ class UserServiceTest {
                     .isInstanceOf(BusinessException.class)
                     .hasMessage("인증 코드가 일치하지 않거나 만료되었습니다.");
         }
+
+        @Test
+        @DisplayName("실패 후 재시도: 비밀번호 해싱 풀이 거절해도 인증 코드는 소모되지 않음")
+        void resetPassword_HashingRejected_KeepsVerificationCodeForRetry() {
+            // given
+            ConfirmPasswordResetRequest request = new ConfirmPasswordResetRequest("test@example.com", "validCode", "newPassword");
+
+            willDoNothing().given(rateLimitService).checkEmailVerifyRateLimit("test@example.com");
+            given(passwordEncoder.encode("newPassword"))
+                    .willThrow(new RateLimitExceededException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 1))
+                    .willReturn("newPasswordHash");
+            given(verificationStorage.validateAndDelete("test@example.com", "validCode")).willReturn(true);
+            given(userRepository.findByUserEmail("test@example.com")).willReturn(Optional.of(user));
+
+            // when & then: 첫 요청은 429 예외로 실패하고 인증 코드는 그대로 남음
+            assertThatThrownBy(() -> userService.resetPassword(request, "127.0.0.1"))
+                    .isInstanceOf(RateLimitExceededException.class);
+            then(verificationStorage).should(never()).validateAndDelete(anyString(), anyString());
+
+            // when & then: 같은 인증 코드로 재시도하면 비밀번호 재설정 성공
+            userService.resetPassword(request, "127.0.0.1");
+            then(verificationStorage).should().validateAndDelete("test@example.com", "validCode");
+            assertThat(userAuth.getPasswordHash()).isEqualTo("newPasswordHash");
+        }
     }
 
     @Nested
@@ -213,9 +235,7 @@ class UserServiceTest {
             given(authProperties.getSecurity()).willReturn(authSecurityProperties);
             given(authSecurityProperties.getAnonymizedEmailFormat()).willReturn("deleted_user_%d_%d@deleted.com");
             given(authSecurityProperties.getTimingAttackDelayMs()).willReturn(delay);
-            willDoNothing().given(timingAttackProtection).startTiming();
-            willDoNothing().given(timingAttackProtection).ensureMinimumResponseTime(delay);
-            willDoNothing().given(timingAttackProtection).clear();
+            willDoNothing().given(timingAttackProtection).requireMinimumResponseTime(delay);
             given(passwordEncoder.matches(password, "encoded_password_hash")).willReturn(true);
 
             // when
@@ -223,6 +243,7 @@ class UserServiceTest {
 
             // then
             then(tokenService).should().addAllUserTokensToBlacklist(userId);
+            then(userPrincipalCache).should().evict(userId);
             then(rateLimitService).should().resetLoginRateLimit("local@example.com", clientIp);
             assertThat(localUser.getIsDeleted()).isTrue();
             assertThat(localUser.getUserEmail()).startsWith("deleted_user_" + userId + "_");
@@ -270,9 +291,7 @@ class UserServiceTest {
             given(userRepository.findById(userId)).willReturn(Optional.of(localUser));
             given(authProperties.getSecurity()).willReturn(authSecurityProperties);
             given(authSecurityProperties.getTimingAttackDelayMs()).willReturn(delay);
-            willDoNothing().given(timingAttackProtection).startTiming();
-            willDoNothing().given(timingAttackProtection).ensureMinimumResponseTime(delay);
-            willDoNothing().given(timingAttackProtection).clear();
+            willDoNothing().given(timingAttackProtection).requireMinimumResponseTime(delay);
             given(passwordEncoder.matches(wrongPassword, "encoded_password_hash")).willReturn(false);
 
             // when & then
@@ -0,0 +1,93 @@
+package com.jober.final2teamdrhong.service;
+
+import com.jober.final2teamdrhong.config.AuthProperties;
+import com.jober.final2teamdrhong.config.JwtConfig;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.MalformedJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * VerifiedTokenCache 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class VerifiedTokenCacheTest {
+
+    @Mock
+    private JwtConfig jwtConfig;
+
+    @Mock
+    private Claims claims;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    private static final String TEST_TOKEN = "header.payload.signature";
+
+    @BeforeEach
+    void setUp() {
+        AuthProperties authProperties = new AuthProperties();
+        authProperties.getToken().setVerifiedTokenCacheMaxSize(100);
+        verifiedTokenCache = new VerifiedTokenCache(jwtConfig, authProperties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 반복 요청은 한 번만 서명 검증")
+    void getOrParse_SameToken_ParsesOnce() {
+        // given
+        given(claims.getExpiration()).willReturn(new Date(System.currentTimeMillis() + 60_000));
+        JwtConfig.ParsedToken parsedToken = JwtConfig.ParsedToken.valid(claims);
+        given(jwtConfig.parseToken(TEST_TOKEN)).willReturn(parsedToken);
+
+        // when
+        JwtConfig.ParsedToken first = verifiedTokenCache.getOrParse(TEST_TOKEN);
+        JwtConfig.ParsedToken second = verifiedTokenCache.getOrParse(new String(TEST_TOKEN));
+
+        // then
+        assertThat(first).isSameAs(parsedToken);
+        assertThat(second).isSameAs(parsedToken);
+        verify(jwtConfig, times(1)).parseToken(TEST_TOKEN);
+        assertThat(verifiedTokenCache.stats().hitCount()).isEqualTo(1);
+        assertThat(verifiedTokenCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검증 실패한 토큰은 캐시하지 않음")
+    void getOrParse_InvalidToken_NotCached() {
+        // given
+        JwtConfig.ParsedToken invalid = JwtConfig.ParsedToken.invalid(new MalformedJwtException("malformed"));
+        given(jwtConfig.parseToken(TEST_TOKEN)).willReturn(invalid);
+
+        // when
+        verifiedTokenCache.getOrParse(TEST_TOKEN);
+        verifiedTokenCache.getOrParse(TEST_TOKEN);
+
+        // then
+        verify(jwtConfig, times(2)).parseToken(TEST_TOKEN);
+        assertThat(verifiedTokenCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("exp가 지난 캐시 항목은 사용하지 않고 다시 검증")
+    void getOrParse_ExpiredEntry_Reparses() {
+        // given
+        given(claims.getExpiration()).willReturn(new Date(System.currentTimeMillis() - 1_000));
+        given(jwtConfig.parseToken(TEST_TOKEN)).willReturn(JwtConfig.ParsedToken.valid(claims));
+
+        // when
+        verifiedTokenCache.getOrParse(TEST_TOKEN);
+        verifiedTokenCache.getOrParse(TEST_TOKEN);
+
+        // then
+        verify(jwtConfig, times(2)).parseToken(TEST_TOKEN);
+    }
+}
@@ -0,0 +1,190 @@
+package com.jober.final2teamdrhong.service;
+
+import com.jober.final2teamdrhong.config.WorkspaceDeletionConfig;
+import com.jober.final2teamdrhong.entity.WorkspaceDeletionJob;
+import com.jober.final2teamdrhong.repository.FavoriteRepository;
+import com.jober.final2teamdrhong.repository.GroupMappingRepository;
+import com.jober.final2teamdrhong.repository.IndividualTemplateRepository;
+import com.jober.final2teamdrhong.repository.PhoneBookRepository;
+import com.jober.final2teamdrhong.repository.RecipientRepository;
+import com.jober.final2teamdrhong.repository.TemplateModifiedHistoryRepository;
+import com.jober.final2teamdrhong.repository.WorkspaceDeletionJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+/**
+ * WorkspaceDeletionService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class WorkspaceDeletionServiceTest {
+
+    private static final Integer WORKSPACE_ID = 1;
+    private static final Long JOB_ID = 10L;
+
+    @Mock
+    private WorkspaceDeletionJobRepository workspaceDeletionJobRepository;
+
+    @Mock
+    private FavoriteRepository favoriteRepository;
+
+    @Mock
+    private TemplateModifiedHistoryRepository templateModifiedHistoryRepository;
+
+    @Mock
+    private GroupMappingRepository groupMappingRepository;
+
+    @Mock
+    private IndividualTemplateRepository individualTemplateRepository;
+
+    @Mock
+    private RecipientRepository recipientRepository;
+
+    @Mock
+    private PhoneBookRepository phoneBookRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private WorkspaceDeletionService workspaceDeletionService;
+
+    @BeforeEach
+    void setUp() {
+        WorkspaceDeletionConfig config = new WorkspaceDeletionConfig();
+        config.setBatchSize(2);
+        workspaceDeletionService = new WorkspaceDeletionService(workspaceDeletionJobRepository, favoriteRepository,
+                templateModifiedHistoryRepository, groupMappingRepository, individualTemplateRepository,
+                recipientRepository, phoneBookRepository, config, transactionTemplate);
+
+        // 트랜잭션 템플릿은 콜백을 그대로 실행
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("하위 데이터를 참조하는 쪽부터 배치 크기 단위로 소프트 삭제하고 진행 상태를 기록")
+    void processPending_DeletesInBatchesLeafFirst() {
+        // given
+        WorkspaceDeletionJob job = job();
+        given(workspaceDeletionJobRepository.findAllByStageNotOrderByJobIdAsc(WorkspaceDeletionJob.Stage.COMPLETED))
+                .willReturn(List.of(job));
+        given(workspaceDeletionJobRepository.claim(eq(JOB_ID), anyString(), any(), any())).willReturn(1);
+        given(workspaceDeletionJobRepository.findById(JOB_ID)).willReturn(Optional.of(job));
+
+        // 수신자는 3건이므로 배치 크기(2) 기준 2번에 나누어 삭제됨
+        given(favoriteRepository.findIdsByWorkspaceId(eq(WORKSPACE_ID), any())).willReturn(List.of(1));
+        given(favoriteRepository.softDeleteAllByIds(eq(List.of(1)), any())).willReturn(1);
+        given(recipientRepository.findIdsByWorkspaceId(eq(WORKSPACE_ID), any()))
+                .willReturn(List.of(1, 2), List.of(3));
+        given(recipientRepository.softDeleteAllByIds(eq(List.of(1, 2)), any())).willReturn(2);
+        given(recipientRepository.softDeleteAllByIds(eq(List.of(3)), any())).willReturn(1);
+
+        // when
+        long processed = workspaceDeletionService.processPending();
+
+        // then
+        assertThat(processed).isEqualTo(4);
+        assertThat(job.isCompleted()).isTrue();
+        assertThat(job.getProcessedCount()).isEqualTo(4);
+        assertThat(job.getCompletedAt()).isNotNull();
+
+        InOrder inOrder = inOrder(favoriteRepository, templateModifiedHistoryRepository, groupMappingRepository,
+                individualTemplateRepository, recipientRepository, phoneBookRepository);
+        inOrder.verify(favoriteRepository).softDeleteAllByIds(eq(List.of(1)), any());
+        inOrder.verify(templateModifiedHistoryRepository).findIdsByWorkspaceId(eq(WORKSPACE_ID), any());
+        inOrder.verify(groupMappingRepository).findIdsByWorkspaceId(eq(WORKSPACE_ID), any());
+        inOrder.verify(individualTemplateRepository).findIdsByWorkspaceId(eq(WORKSPACE_ID), any());
+        inOrder.verify(recipientRepository).softDeleteAllByIds(eq(List.of(1, 2)), any());
+        inOrder.verify(recipientRepository).softDeleteAllByIds(eq(List.of(3)), any());
+        inOrder.verify(phoneBookRepository).findIdsByWorkspaceId(eq(WORKSPACE_ID), any());
+
+        // 한 배치마다 별도 트랜잭션으로 커밋
+        then(transactionTemplate).should(atLeast(8)).execute(any());
+        then(groupMappingRepository).should(never()).softDeleteAllByIds(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("배치 처리 중 실패하면 진행 상태를 유지하고 다음 주기에 이어서 처리")
+    void processPending_FailureKeepsProgressForRetry() {
+        // given
+        WorkspaceDeletionJob job = job();
+        given(workspaceDeletionJobRepository.findAllByStageNotOrderByJobIdAsc(WorkspaceDeletionJob.Stage.COMPLETED))
+                .willReturn(List.of(job));
+        given(workspaceDeletionJobRepository.claim(eq(JOB_ID), anyString(), any(), any())).willReturn(1);
+        given(workspaceDeletionJobRepository.findById(JOB_ID)).willReturn(Optional.of(job));
+        given(favoriteRepository.findIdsByWorkspaceId(eq(WORKSPACE_ID), any()))
+                .willThrow(new IllegalStateException("lock wait timeout"));
+
+        // when
+        long processed = workspaceDeletionService.processPending();
+
+        // then
+        assertThat(processed).isZero();
+        assertThat(job.getStage()).isEqualTo(WorkspaceDeletionJob.Stage.FAVORITE);
+        assertThat(job.isCompleted()).isFalse();
+        then(recipientRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 점유 중인 작업은 하위 데이터를 건드리지 않고 건너뜀")
+    void processPending_JobClaimedByOtherNode_Skipped() {
+        // given
+        WorkspaceDeletionJob job = job();
+        given(workspaceDeletionJobRepository.findAllByStageNotOrderByJobIdAsc(WorkspaceDeletionJob.Stage.COMPLETED))
+                .willReturn(List.of(job));
+        given(workspaceDeletionJobRepository.claim(eq(JOB_ID), anyString(), any(), any())).willReturn(0);
+
+        // when
+        long processed = workspaceDeletionService.processPending();
+
+        // then
+        assertThat(processed).isZero();
+        assertThat(job.getStage()).isEqualTo(WorkspaceDeletionJob.Stage.FAVORITE);
+        then(workspaceDeletionJobRepository).should(never()).findById(any());
+        then(favoriteRepository).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("작업 등록은 같은 워크스페이스에 대해 한 번만 저장하고 커밋 이후에 처리를 깨움")
+    void enqueue_SavesOnceAndDefersUntilCommit() {
+        // given
+        given(workspaceDeletionJobRepository.findByWorkspaceId(WORKSPACE_ID))
+                .willReturn(Optional.empty(), Optional.of(job()));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            workspaceDeletionService.enqueue(WORKSPACE_ID);
+            workspaceDeletionService.enqueue(WORKSPACE_ID);
+
+            // then
+            then(workspaceDeletionJobRepository).should(times(1)).save(any(WorkspaceDeletionJob.class));
+            assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(2);
+            then(workspaceDeletionJobRepository).should(never()).findAllByStageNotOrderByJobIdAsc(any());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static WorkspaceDeletionJob job() {
+        WorkspaceDeletionJob job = WorkspaceDeletionJob.create(WORKSPACE_ID, LocalDateTime.now());
+        ReflectionTestUtils.setField(job, "jobId", JOB_ID);
+        return job;
+    }
+}
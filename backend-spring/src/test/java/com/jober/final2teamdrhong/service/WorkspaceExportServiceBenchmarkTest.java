@@ -0,0 +1,149 @@
+package com.jober.final2teamdrhong.service;
+
+import com.jober.final2teamdrhong.entity.User;
+import com.jober.final2teamdrhong.entity.Workspace;
+import com.jober.final2teamdrhong.repository.UserRepository;
+import com.jober.final2teamdrhong.repository.WorkspaceRepository;
+import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * WorkspaceExportService 대용량 내보내기 벤치마크
+ *
+ * 수신자 100만 명인 워크스페이스를 작은 힙에서 내보내 메모리 부족 없이 모든 행이 아카이브에 기록되는지 확인합니다.
+ * 인메모리 DB는 데이터 자체가 힙을 차지하므로 파일 기반 H2를 사용하고, 지연 조회(LAZY_QUERY_EXECUTION)로 커서처럼 읽습니다.
+ * 실행: ./gradlew benchmark --tests '*WorkspaceExportServiceBenchmarkTest' (benchmark 태스크가 최대 힙을 256MB로 제한)
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties =
+        "spring.datasource.url=jdbc:h2:file:./build/benchmark/workspace-export;LAZY_QUERY_EXECUTION=TRUE")
+@Import({WorkspaceExportService.class, WorkspaceValidator.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 대량 삽입을 청크마다 커밋해 힙에 쌓이지 않도록 함
+class WorkspaceExportServiceBenchmarkTest {
+
+    private static final int RECIPIENTS = 1_000_000;
+    private static final int INSERT_CHUNK = 100_000;
+    private static final long MAX_HEAP_BYTES = 256L * 1024 * 1024;
+
+    @Autowired
+    private WorkspaceExportService workspaceExportService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("수신자 100만 명 워크스페이스를 작은 힙에서 일정한 메모리로 내보냄")
+    void writeArchive_MillionRecipients_UnderSmallHeap() throws IOException {
+        long maxHeap = Runtime.getRuntime().maxMemory();
+        assertThat(maxHeap)
+                .as("최대 힙을 256MB 이하로 제한해 실행해야 합니다 (benchmark 태스크)")
+                .isLessThanOrEqualTo(MAX_HEAP_BYTES);
+
+        Integer workspaceId = createWorkspace();
+        insertRecipients(workspaceId);
+
+        Path archive = tempDir.resolve("workspace-export.zip");
+        long startedAt = System.nanoTime();
+        Map<String, Long> rowCounts;
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(archive))) {
+            rowCounts = workspaceExportService.writeArchive(workspaceId, output);
+        }
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+        System.out.printf("수신자 %d명 내보내기: %dms, 아카이브 %dKB, 최대 힙 %dMB%n",
+                RECIPIENTS, elapsedMs, Files.size(archive) / 1024, maxHeap / (1024 * 1024));
+
+        assertThat(rowCounts.get("recipients.ndjson")).isEqualTo(RECIPIENTS);
+        assertThat(countLines(archive, "recipients.ndjson")).isEqualTo(RECIPIENTS);
+    }
+
+    private Integer createWorkspace() {
+        User user = userRepository.save(User.builder()
+                .userName("benchmark")
+                .userEmail("benchmark-" + System.nanoTime() + "@test.com")
+                .build());
+        Workspace workspace = workspaceRepository.save(Workspace.builder()
+                .workspaceName("벤치마크")
+                .workspaceUrl("benchmark-" + System.nanoTime())
+                .representerName("대표")
+                .representerPhoneNumber("010-0000-0000")
+                .companyName("회사")
+                .user(user)
+                .build());
+        return workspace.getWorkspaceId();
+    }
+
+    private void insertRecipients(Integer workspaceId) {
+        for (int from = 1; from <= RECIPIENTS; from += INSERT_CHUNK) {
+            int to = Math.min(from + INSERT_CHUNK - 1, RECIPIENTS);
+            jdbcTemplate.update(String.format("""
+                    INSERT INTO recipient (recipient_name, recipient_phone_number, workspace_id, created_at, updated_at, is_deleted)
+                    SELECT CONCAT('수신자', X), CONCAT('010-', LPAD(CAST(MOD(X, 100000000) AS VARCHAR), 8, '0')), %d,
+                           CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, FALSE
+                    FROM SYSTEM_RANGE(%d, %d)""", workspaceId, from, to));
+        }
+    }
+
+    private static long countLines(Path archive, String entryName) throws IOException {
+        try (ZipInputStream zip = new ZipInputStream(new BufferedInputStream(Files.newInputStream(archive)))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.getName().equals(entryName)) {
+                    return countNewlines(zip);
+                }
+            }
+        }
+        return -1;
+    }
+
+    private static long countNewlines(InputStream input) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        long lines = 0;
+        int read;
+        while ((read = input.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+        return lines;
+    }
+}
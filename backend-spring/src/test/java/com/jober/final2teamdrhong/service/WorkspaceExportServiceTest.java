@@ -0,0 +1,170 @@
+package com.jober.final2teamdrhong.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jober.final2teamdrhong.entity.GroupMapping;
+import com.jober.final2teamdrhong.entity.IndividualTemplate;
+import com.jober.final2teamdrhong.entity.PhoneBook;
+import com.jober.final2teamdrhong.entity.Recipient;
+import com.jober.final2teamdrhong.entity.User;
+import com.jober.final2teamdrhong.entity.Workspace;
+import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * WorkspaceExportService 테스트
+ */
+@DataJpaTest
+@Import({WorkspaceExportService.class, WorkspaceValidator.class})
+class WorkspaceExportServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private WorkspaceExportService workspaceExportService;
+
+    private User owner;
+    private Workspace workspace;
+    private Recipient recipient;
+
+    @BeforeEach
+    void setUp() {
+        owner = testEntityManager.persist(User.builder()
+                .userName("owner")
+                .userEmail("owner@test.com")
+                .build());
+        workspace = testEntityManager.persist(workspace("export-url", owner));
+        Workspace otherWorkspace = testEntityManager.persist(workspace("other-url", owner));
+
+        recipient = testEntityManager.persist(recipient("수신자", "010-1111-1111", workspace));
+        Recipient deletedRecipient = recipient("삭제된 수신자", "010-2222-2222", workspace);
+        deletedRecipient.softDelete();
+        testEntityManager.persist(deletedRecipient);
+        testEntityManager.persist(recipient("다른 워크스페이스 수신자", "010-3333-3333", otherWorkspace));
+
+        PhoneBook phoneBook = testEntityManager.persist(PhoneBook.builder()
+                .phoneBookName("주소록")
+                .workspace(workspace)
+                .build());
+        testEntityManager.persist(GroupMapping.builder().phoneBook(phoneBook).recipient(recipient).build());
+        testEntityManager.persist(IndividualTemplate.builder()
+                .individualTemplateTitle("템플릿")
+                .individualTemplateContent("내용")
+                .workspace(workspace)
+                .build());
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    @DisplayName("워크스페이스 범위의 삭제되지 않은 행만 섹션별 NDJSON과 manifest로 내보냄")
+    void writeArchive_ExportsScopedLiveRowsAsNdjson() throws IOException {
+        // given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // when
+        Map<String, Long> rowCounts = workspaceExportService.writeArchive(workspace.getWorkspaceId(), output);
+
+        // then
+        assertThat(rowCounts).containsExactly(
+                entry("recipients.ndjson", 1L),
+                entry("phone_books.ndjson", 1L),
+                entry("group_mappings.ndjson", 1L),
+                entry("individual_templates.ndjson", 1L));
+
+        Map<String, List<String>> entries = unzip(output.toByteArray());
+        assertThat(entries).containsOnlyKeys("recipients.ndjson", "phone_books.ndjson",
+                "group_mappings.ndjson", "individual_templates.ndjson", "manifest.json");
+
+        JsonNode exportedRecipient = objectMapper.readTree(entries.get("recipients.ndjson").get(0));
+        assertThat(exportedRecipient.get("recipientId").asInt()).isEqualTo(recipient.getRecipientId());
+        assertThat(exportedRecipient.get("recipientName").asText()).isEqualTo("수신자");
+        assertThat(exportedRecipient.get("recipientMemo").isNull()).isTrue();
+        assertThat(LocalDateTime.parse(exportedRecipient.get("createdAt").asText())).isNotNull();
+
+        JsonNode exportedMapping = objectMapper.readTree(entries.get("group_mappings.ndjson").get(0));
+        assertThat(exportedMapping.get("recipientId").asInt()).isEqualTo(recipient.getRecipientId());
+
+        JsonNode exportedTemplate = objectMapper.readTree(entries.get("individual_templates.ndjson").get(0));
+        assertThat(exportedTemplate.get("status").asText()).isEqualTo("DRAFT");
+
+        JsonNode manifest = objectMapper.readTree(String.join("\n", entries.get("manifest.json")));
+        assertThat(manifest.get("workspaceId").asInt()).isEqualTo(workspace.getWorkspaceId());
+        assertThat(manifest.get("rowCounts").get("recipients.ndjson").asLong()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("소유자가 아니면 내보내기 전에 예외 발생")
+    void validateExport_Fail_NotOwner() {
+        // given
+        User stranger = testEntityManager.persist(User.builder()
+                .userName("stranger")
+                .userEmail("stranger@test.com")
+                .build());
+
+        // when & then
+        assertThatThrownBy(() -> workspaceExportService.validateExport(workspace.getWorkspaceId(), stranger.getUserId()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Map<String, List<String>> unzip(byte[] archive) throws IOException {
+        Map<String, List<String>> entries = new HashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                String content = new String(zip.readAllBytes(), StandardCharsets.UTF_8);
+                List<String> lines = new ArrayList<>();
+                for (String line : content.split("\n")) {
+                    if (!line.isEmpty()) {
+                        lines.add(line);
+                    }
+                }
+                entries.put(entry.getName(), lines);
+            }
+        }
+        return entries;
+    }
+
+    private static Workspace workspace(String url, User user) {
+        return Workspace.builder()
+                .workspaceName("워크스페이스")
+                .workspaceUrl(url)
+                .representerName("대표")
+                .representerPhoneNumber("010-0000-0000")
+                .companyName("회사")
+                .user(user)
+                .build();
+    }
+
+    private static Recipient recipient(String name, String phoneNumber, Workspace workspace) {
+        return Recipient.builder()
+                .recipientName(name)
+                .recipientPhoneNumber(phoneNumber)
+                .workspace(workspace)
+                .build();
+    }
+}
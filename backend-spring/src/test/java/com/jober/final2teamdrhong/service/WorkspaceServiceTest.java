@@ -4,6 +4,11 @@ import com.jober.final2teamdrhong.dto.workspace.WorkspaceRequest;
 import com.jober.final2teamdrhong.dto.workspace.WorkspaceResponse;
 import com.jober.final2teamdrhong.entity.User;
 import com.jober.final2teamdrhong.entity.Workspace;
+import com.jober.final2teamdrhong.entity.WorkspaceDeletionJob;
+import com.jober.final2teamdrhong.repository.GroupMappingRepository;
+import com.jober.final2teamdrhong.repository.IndividualTemplateRepository;
+import com.jober.final2teamdrhong.repository.PhoneBookRepository;
+import com.jober.final2teamdrhong.repository.RecipientRepository;
 import com.jober.final2teamdrhong.repository.WorkspaceRepository;
 import com.jober.final2teamdrhong.service.validator.UserValidator;
 import com.jober.final2teamdrhong.service.validator.WorkspaceValidator;
@@ -11,16 +16,20 @@ import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,12 +40,27 @@ class WorkspaceServiceTest {
     @Mock
     private WorkspaceRepository workspaceRepository;
 
+    @Mock
+    private RecipientRepository recipientRepository;
+
+    @Mock
+    private PhoneBookRepository phoneBookRepository;
+
+    @Mock
+    private GroupMappingRepository groupMappingRepository;
+
+    @Mock
+    private IndividualTemplateRepository individualTemplateRepository;
+
     @Mock
     private UserValidator userValidator;
 
     @Mock
     private WorkspaceValidator workspaceValidator;
 
+    @Mock
+    private WorkspaceDeletionService workspaceDeletionService;
+
     @Mock
     private EntityManager entityManager;
 
@@ -328,6 +352,7 @@ class WorkspaceServiceTest {
         assertNotNull(result);
         verify(workspaceValidator, times(1)).validateAndGetWorkspace(workspaceId, userId);
         verify(existingWorkspace, times(1)).softDelete();
+        verify(workspaceDeletionService, times(1)).enqueue(workspaceId);
         verify(entityManager, times(1)).flush();
         verify(entityManager, times(1)).clear();
         verify(workspaceRepository, times(1)).findByIdIncludingDeleted(workspaceId);
@@ -344,7 +369,8 @@ class WorkspaceServiceTest {
         // when
         assertThrows(IllegalArgumentException.class, () -> workspaceService.deleteWorkspace(nonExistingWorkspaceId, userId));
 
-        // then: 이 시나리오에서는 후속 검증이 필요 없습니다.
+        // then
+        verify(workspaceDeletionService, never()).enqueue(any());
     }
 
     @Test
@@ -378,4 +404,125 @@ class WorkspaceServiceTest {
         verify(entityManager, times(1)).clear();
         verify(workspaceRepository, times(1)).findByIdIncludingDeleted(workspaceId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("워크스페이스 복제 성공 테스트")
+    void cloneWorkspace_Success_Test() {
+        // given
+        Integer userId = 1;
+        Integer sourceWorkspaceId = 1;
+        Integer clonedWorkspaceId = 2;
+        User mockUser = mock(User.class);
+        WorkspaceRequest.CloneDTO cloneDTO = new WorkspaceRequest.CloneDTO("Cloned Workspace", "cloned-url");
+
+        Workspace sourceWorkspace = Workspace.builder()
+                .workspaceName("Source Workspace")
+                .workspaceSubname("Source Sub")
+                .workspaceUrl("source-url")
+                .representerName("Source Rep")
+                .representerPhoneNumber("010-1234-5678")
+                .companyName("Source Co")
+                .user(mockUser)
+                .build();
+        Workspace savedWorkspace = mock(Workspace.class);
+
+        when(workspaceValidator.validateAndGetWorkspace(sourceWorkspaceId, userId)).thenReturn(sourceWorkspace);
+        when(workspaceRepository.save(any(Workspace.class))).thenReturn(savedWorkspace);
+        when(savedWorkspace.getWorkspaceId()).thenReturn(clonedWorkspaceId);
+        when(recipientRepository.cloneAllToWorkspace(eq(sourceWorkspaceId), eq(clonedWorkspaceId), any())).thenReturn(10);
+        when(phoneBookRepository.cloneAllToWorkspace(eq(sourceWorkspaceId), eq(clonedWorkspaceId), any())).thenReturn(3);
+        when(groupMappingRepository.cloneAllToWorkspace(eq(clonedWorkspaceId), any())).thenReturn(15);
+        when(individualTemplateRepository.cloneAllToWorkspace(eq(sourceWorkspaceId), eq(clonedWorkspaceId), any())).thenReturn(4);
+
+        // when
+        WorkspaceResponse.CloneDTO result = workspaceService.cloneWorkspace(cloneDTO, sourceWorkspaceId, userId);
+
+        // then
+        // 1. 이름과 URL만 새 값이고 나머지 정보는 원본에서 복사되었는지 확인합니다.
+        ArgumentCaptor<Workspace> workspaceCaptor = ArgumentCaptor.forClass(Workspace.class);
+        verify(workspaceRepository).save(workspaceCaptor.capture());
+        Workspace clonedWorkspace = workspaceCaptor.getValue();
+        assertThat(clonedWorkspace.getWorkspaceName()).isEqualTo("Cloned Workspace");
+        assertThat(clonedWorkspace.getWorkspaceUrl()).isEqualTo("cloned-url");
+        assertThat(clonedWorkspace.getWorkspaceSubname()).isEqualTo("Source Sub");
+        assertThat(clonedWorkspace.getCompanyName()).isEqualTo("Source Co");
+        assertThat(clonedWorkspace.getUser()).isSameAs(mockUser);
+
+        // 2. 매핑은 수신자와 주소록이 복제된 이후에 복제되어야 합니다.
+        InOrder inOrder = inOrder(recipientRepository, phoneBookRepository, groupMappingRepository);
+        inOrder.verify(recipientRepository).cloneAllToWorkspace(eq(sourceWorkspaceId), eq(clonedWorkspaceId), any());
+        inOrder.verify(phoneBookRepository).cloneAllToWorkspace(eq(sourceWorkspaceId), eq(clonedWorkspaceId), any());
+        inOrder.verify(groupMappingRepository).cloneAllToWorkspace(eq(clonedWorkspaceId), any());
+
+        verify(workspaceValidator, times(1)).validateUrlOnCreate("cloned-url");
+        verify(workspaceValidator, times(1)).evictOwnership(clonedWorkspaceId);
+        assertThat(result.workspace().workspaceId()).isEqualTo(clonedWorkspaceId);
+        assertThat(result.recipientCount()).isEqualTo(10);
+        assertThat(result.phoneBookCount()).isEqualTo(3);
+        assertThat(result.groupMappingCount()).isEqualTo(15);
+        assertThat(result.individualTemplateCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("워크스페이스 복제 실패 테스트 - 중복된 URL")
+    void cloneWorkspace_Fail_DuplicateUrl_Test() {
+        // given
+        Integer userId = 1;
+        Integer sourceWorkspaceId = 1;
+        WorkspaceRequest.CloneDTO cloneDTO = new WorkspaceRequest.CloneDTO("Cloned Workspace", "duplicate-url");
+
+        when(workspaceValidator.validateAndGetWorkspace(sourceWorkspaceId, userId)).thenReturn(mock(Workspace.class));
+        doThrow(new IllegalArgumentException()).when(workspaceValidator).validateUrlOnCreate("duplicate-url");
+
+        // when
+        assertThrows(IllegalArgumentException.class, () -> workspaceService.cloneWorkspace(cloneDTO, sourceWorkspaceId, userId));
+
+        // then
+        verify(workspaceRepository, never()).save(any(Workspace.class));
+        verifyNoInteractions(recipientRepository, phoneBookRepository, groupMappingRepository, individualTemplateRepository);
+    }
+
+    @Test
+    @DisplayName("워크스페이스 삭제 진행 상태 조회 성공 테스트")
+    void readDeletionProgress_Success_Test() {
+        // given
+        Integer userId = 1;
+        Integer workspaceId = 1;
+        User mockUser = mock(User.class);
+        Workspace deletedWorkspace = mock(Workspace.class);
+        WorkspaceDeletionJob job = WorkspaceDeletionJob.create(workspaceId, LocalDateTime.now());
+
+        when(mockUser.getUserId()).thenReturn(userId);
+        when(deletedWorkspace.getUser()).thenReturn(mockUser);
+        when(workspaceRepository.findByIdIncludingDeleted(workspaceId)).thenReturn(Optional.of(deletedWorkspace));
+        when(workspaceDeletionService.getJob(workspaceId)).thenReturn(Optional.of(job));
+
+        // when
+        WorkspaceResponse.DeletionProgressDTO result = workspaceService.readDeletionProgress(workspaceId, userId);
+
+        // then
+        assertThat(result.workspaceId()).isEqualTo(workspaceId);
+        assertThat(result.stage()).isEqualTo(WorkspaceDeletionJob.Stage.FAVORITE);
+        assertThat(result.completed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("워크스페이스 삭제 진행 상태 조회 실패 테스트 - 소유자가 아님")
+    void readDeletionProgress_Fail_Unauthorized_Test() {
+        // given
+        Integer userId = 1;
+        Integer workspaceId = 1;
+        User otherUser = mock(User.class);
+        Workspace deletedWorkspace = mock(Workspace.class);
+
+        when(otherUser.getUserId()).thenReturn(2);
+        when(deletedWorkspace.getUser()).thenReturn(otherUser);
+        when(workspaceRepository.findByIdIncludingDeleted(workspaceId)).thenReturn(Optional.of(deletedWorkspace));
+
+        // when
+        assertThrows(IllegalArgumentException.class, () -> workspaceService.readDeletionProgress(workspaceId, userId));
+
+        // then
+        verify(workspaceDeletionService, never()).getJob(any());
+    }
+}
@@ -0,0 +1,110 @@
+package com.jober.final2teamdrhong.service.storage;
+
+import com.jober.final2teamdrhong.config.AuthProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RdbVerificationStorage 조회 지연 벤치마크
+ *
+ * 매 라운드마다 만료된 코드 5만 행이 쌓이는 상황에서, 정리 작업 실행 후
+ * 유효한 코드 조회 1회 평균 시간과 테이블 행 수가 라운드가 지나도 일정하게 유지되는지 확인합니다.
+ * 실행: ./gradlew benchmark --tests '*RdbVerificationStorageBenchmarkTest'
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DataJpaTest
+@Import({RdbVerificationStorage.class, AuthProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 정리 작업의 배치 트랜잭션이 실제로 커밋되도록 함
+class RdbVerificationStorageBenchmarkTest {
+
+    private static final int ROUNDS = 5;
+    private static final int EXPIRED_ROWS_PER_ROUND = 50_000;
+    private static final int LIVE_CODES = 1_000;
+    private static final int LOOKUPS = 20_000;
+    private static final String INSERT_SQL =
+            "INSERT INTO email_verification (email, verification_code, expires_at, created_at, updated_at, is_deleted) " +
+            "VALUES (?, ?, ?, ?, ?, false)";
+
+    @Autowired
+    private RdbVerificationStorage rdbStorage;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("만료 행이 계속 쌓여도 정리 후 행 수와 조회 지연이 일정하게 유지")
+    void lookupLatency_StaysFlatAsExpiredRowsAccumulate() {
+        for (int i = 0; i < LIVE_CODES; i++) {
+            rdbStorage.save(liveEmail(i), String.valueOf(100_000 + i));
+        }
+        measureLookupNanos(); // 워밍업
+
+        List<Double> latencies = new ArrayList<>(ROUNDS);
+        for (int round = 0; round < ROUNDS; round++) {
+            insertExpiredRows(round);
+            long rowsBeforeReap = countRows();
+
+            int reaped;
+            int totalReaped = 0;
+            do {
+                reaped = rdbStorage.reapExpired();
+                totalReaped += reaped;
+            } while (reaped > 0);
+
+            long rowsAfterReap = countRows();
+            double lookupMicros = measureLookupNanos() / 1_000.0;
+            latencies.add(lookupMicros);
+
+            System.out.printf("라운드 %d: 정리 전 %d행, 삭제 %d행, 정리 후 %d행, 조회 1회 평균 %.1fus%n",
+                    round + 1, rowsBeforeReap, totalReaped, rowsAfterReap, lookupMicros);
+
+            assertThat(totalReaped).isEqualTo(EXPIRED_ROWS_PER_ROUND);
+            assertThat(rowsAfterReap).isEqualTo(LIVE_CODES);
+        }
+
+        // 마지막 라운드 조회 지연이 첫 라운드 대비 크게 늘지 않음 (측정 잡음 고려해 3배 이내)
+        assertThat(latencies.get(ROUNDS - 1)).isLessThan(latencies.get(0) * 3);
+    }
+
+    private void insertExpiredRows(int round) {
+        Timestamp expiredAt = Timestamp.valueOf(LocalDateTime.now().minusHours(1));
+        List<Object[]> rows = new ArrayList<>(EXPIRED_ROWS_PER_ROUND);
+        for (int i = 0; i < EXPIRED_ROWS_PER_ROUND; i++) {
+            rows.add(new Object[]{"expired-" + round + "-" + i + "@example.com", "000000", expiredAt, expiredAt, expiredAt});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    private long measureLookupNanos() {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            assertThat(rdbStorage.find(liveEmail(i % LIVE_CODES))).isPresent();
+        }
+        return (System.nanoTime() - startedAt) / LOOKUPS;
+    }
+
+    private long countRows() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM email_verification", Long.class);
+        return count != null ? count : 0;
+    }
+
+    private static String liveEmail(int i) {
+        return "live-" + i + "@example.com";
+    }
+}
@@ -0,0 +1,106 @@
+package com.jober.final2teamdrhong.service.storage;
+
+import com.jober.final2teamdrhong.config.AuthProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * RdbVerificationStorage 통합 테스트
+ *
+ * 실제 엔티티 스키마에서 upsert 저장(H2 MERGE 구문), 조회, 일회성 검증, 만료 행 정리를 검증합니다.
+ */
+@DataJpaTest
+@Import({RdbVerificationStorage.class, AuthProperties.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 정리 작업의 배치 트랜잭션이 테스트 데이터를 볼 수 있도록 함
+class RdbVerificationStorageTest {
+
+    private static final String TEST_EMAIL = "test@example.com";
+
+    @Autowired
+    private RdbVerificationStorage rdbStorage;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM email_verification");
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 다시 저장하면 새 행을 만들지 않고 기존 행의 코드를 갱신")
+    void save_SameEmail_OverwritesSingleRow() {
+        // given
+        rdbStorage.save(TEST_EMAIL, "111111");
+
+        // when
+        rdbStorage.save(TEST_EMAIL, "222222");
+
+        // then
+        assertThat(countRows()).isEqualTo(1L);
+        assertThat(rdbStorage.find(TEST_EMAIL)).contains("222222");
+        assertThat(rdbStorage.validateAndDelete(TEST_EMAIL, "111111")).isFalse();
+        assertThat(rdbStorage.validateAndDelete(TEST_EMAIL, "222222")).isTrue();
+        assertThat(rdbStorage.find(TEST_EMAIL)).isEmpty();
+        assertThat(countRows()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료된 행은 조회되지 않고 정리 작업이 만료된 행만 삭제")
+    void reapExpired_DeletesOnlyExpiredRows() {
+        // given
+        rdbStorage.save(TEST_EMAIL, "123456");
+        LocalDateTime past = LocalDateTime.now().minusMinutes(10);
+        for (int i = 0; i < 3; i++) {
+            jdbcTemplate.update(
+                    "INSERT INTO email_verification (email, verification_code, expires_at, created_at, updated_at, is_deleted) " +
+                    "VALUES (?, ?, ?, ?, ?, false)",
+                    "expired" + i + "@example.com", "000000", Timestamp.valueOf(past),
+                    Timestamp.valueOf(past.minusMinutes(5)), Timestamp.valueOf(past.minusMinutes(5)));
+        }
+
+        // when
+        assertThat(rdbStorage.find("expired0@example.com")).isEmpty();
+        int reaped = rdbStorage.reapExpired();
+
+        // then
+        assertThat(reaped).isEqualTo(3);
+        assertThat(countRows()).isEqualTo(1L);
+        assertThat(rdbStorage.find(TEST_EMAIL)).contains("123456");
+    }
+
+    @Test
+    @DisplayName("만료된 코드가 남은 이메일에 다시 저장하면 같은 행이 새 만료 시각으로 갱신")
+    void save_OverExpiredRow_RenewsExpiry() {
+        // given
+        LocalDateTime past = LocalDateTime.now().minusMinutes(10);
+        jdbcTemplate.update(
+                "INSERT INTO email_verification (email, verification_code, expires_at, created_at, updated_at, is_deleted) " +
+                "VALUES (?, ?, ?, ?, ?, false)",
+                TEST_EMAIL, "000000", Timestamp.valueOf(past), Timestamp.valueOf(past), Timestamp.valueOf(past));
+
+        // when
+        rdbStorage.save(TEST_EMAIL, "654321");
+
+        // then
+        assertThat(countRows()).isEqualTo(1L);
+        assertThat(rdbStorage.find(TEST_EMAIL)).contains("654321");
+        assertThat(rdbStorage.reapExpired()).isZero();
+    }
+
+    private long countRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM email_verification", Long.class);
+    }
+}
@@ -1,5 +1,6 @@
 package com.jober.final2teamdrhong.service.storage;
 
+import com.jober.final2teamdrhong.config.AuthProperties;
 import com.jober.final2teamdrhong.entity.EmailVerification;
 import com.jober.final2teamdrhong.repository.EmailVerificationRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,13 +10,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -164,6 +170,12 @@ class VerificationStorageTest {
         @Mock
         private EmailVerificationRepository repository;
 
+        @Mock
+        private JdbcTemplate jdbcTemplate;
+
+        @Spy
+        private AuthProperties authProperties = new AuthProperties();
+
         @InjectMocks
         private RdbVerificationStorage rdbStorage;
 
@@ -186,15 +198,53 @@ class VerificationStorageTest {
         }
 
         @Test
-        @DisplayName("RDB에 인증 코드 저장 성공 (기존 데이터 삭제 후)")
-        void save_ValidEmailAndCode_DeletesOldAndSavesNew() {
+        @DisplayName("RDB에 인증 코드 저장 시 email 기준 단일 upsert 실행")
+        void save_ValidEmailAndCode_ExecutesSingleUpsert() {
+            // given
+            given(jdbcTemplate.execute(any(ConnectionCallback.class))).willReturn("MySQL");
+
             // when
             rdbStorage.save(TEST_EMAIL, TEST_CODE);
+            rdbStorage.save(TEST_EMAIL, WRONG_CODE);
 
             // then
-            verify(repository).deleteByEmail(TEST_EMAIL);
-            verify(repository).flush(); // 즉시 삭제 반영
-            verify(repository).save(any(EmailVerification.class));
+            verify(jdbcTemplate).update(contains("ON DUPLICATE KEY UPDATE"), eq(TEST_EMAIL), eq(TEST_CODE), any(), any(), any());
+            verify(jdbcTemplate).update(contains("ON DUPLICATE KEY UPDATE"), eq(TEST_EMAIL), eq(WRONG_CODE), any(), any(), any());
+            verify(jdbcTemplate, times(1)).execute(any(ConnectionCallback.class)); // DB 종류는 한 번만 확인
+            verify(repository, never()).deleteByEmail(anyString());
+            verify(repository, never()).save(any(EmailVerification.class));
+        }
+
+        @Test
+        @DisplayName("MySQL이 아닌 DB에서는 MERGE 구문으로 저장")
+        void save_NonMySql_UsesMerge() {
+            // given
+            given(jdbcTemplate.execute(any(ConnectionCallback.class))).willReturn("H2");
+
+            // when
+            rdbStorage.save(TEST_EMAIL, TEST_CODE);
+
+            // then
+            verify(jdbcTemplate).update(contains("MERGE INTO"), eq(TEST_EMAIL), eq(TEST_CODE), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("만료된 인증 코드를 배치 크기 단위로 나누어 삭제")
+        void reapExpired_DeletesInBoundedBatches() {
+            // given
+            authProperties.getSecurity().setVerificationReaperBatchSize(2);
+            given(repository.findExpiredIds(any(LocalDateTime.class), any(Pageable.class)))
+                    .willReturn(List.of(1, 2))
+                    .willReturn(List.of(3));
+            given(repository.deleteByIds(anyList())).willReturn(2).willReturn(1);
+
+            // when
+            int deleted = rdbStorage.reapExpired();
+
+            // then
+            assertThat(deleted).isEqualTo(3);
+            verify(repository).deleteByIds(List.of(1, 2));
+            verify(repository).deleteByIds(List.of(3));
         }
 
         @Test
@@ -322,13 +372,12 @@ class VerificationStorageTest {
         @Mock
         private VerificationStorage secondaryStorage; // RDB
 
-        @InjectMocks
         private FallbackVerificationStorage fallbackStorage;
 
         @BeforeEach
         void setUp() {
-            // 생성자를 통해 의존성 주입
-            fallbackStorage = new FallbackVerificationStorage(primaryStorage, secondaryStorage);
+            // 생성자를 통해 의존성 주입 (연속 3회 실패 시 서킷 브레이커 열림)
+            fallbackStorage = new FallbackVerificationStorage(primaryStorage, secondaryStorage, new AuthProperties());
         }
 
         @Test
@@ -476,6 +525,132 @@ class VerificationStorageTest {
             verify(primaryStorage).delete(TEST_EMAIL);
             verify(secondaryStorage).delete(TEST_EMAIL);
         }
+
+        @Test
+        @DisplayName("연속 장애 시 서킷 브레이커가 열려 Redis 호출 없이 RDB로 바로 처리")
+        void circuitOpen_SkipsPrimary() {
+            // given - 임계값(3회)만큼 연속 장애
+            DataAccessException exception = mock(DataAccessException.class);
+            willThrow(exception).given(primaryStorage).save(anyString(), anyString());
+            for (int i = 0; i < 3; i++) {
+                fallbackStorage.save(TEST_EMAIL, TEST_CODE);
+            }
+            clearInvocations(primaryStorage, secondaryStorage);
+            given(secondaryStorage.validateAndDelete(TEST_EMAIL, TEST_CODE)).willReturn(true);
+
+            // when
+            fallbackStorage.save(TEST_EMAIL, TEST_CODE);
+            boolean result = fallbackStorage.validateAndDelete(TEST_EMAIL, TEST_CODE);
+
+            // then
+            assertThat(fallbackStorage.isUsingPrimary()).isFalse();
+            assertThat(result).isTrue();
+            verifyNoInteractions(primaryStorage);
+            verify(secondaryStorage).save(TEST_EMAIL, TEST_CODE);
+        }
+
+        @Test
+        @DisplayName("점검 성공 시 Redis로 복귀하고 장애 직후에는 양쪽에 함께 저장")
+        void probeSucceeds_ReturnsToPrimaryWithDualWrite() {
+            // given - 서킷 브레이커 열림
+            DataAccessException exception = mock(DataAccessException.class);
+            willThrow(exception).given(primaryStorage).find(anyString());
+            for (int i = 0; i < 3; i++) {
+                fallbackStorage.find(TEST_EMAIL);
+            }
+            fallbackStorage.save(TEST_EMAIL, WRONG_CODE);
+            willReturn(Optional.empty()).given(primaryStorage).find(anyString());
+
+            // when - 점검 성공 후 새 코드 저장
+            fallbackStorage.probePrimary();
+            fallbackStorage.save(TEST_EMAIL, TEST_CODE);
+
+            // then
+            assertThat(fallbackStorage.isUsingPrimary()).isTrue();
+            verify(primaryStorage).save(TEST_EMAIL, TEST_CODE);
+            verify(secondaryStorage).save(TEST_EMAIL, TEST_CODE);
+        }
+
+        @Test
+        @DisplayName("Redis 검증 성공 시 함께 저장된 RDB 사본도 삭제")
+        void validateAndDelete_PrimaryValid_DeletesSecondaryCopy() {
+            // given - Redis 일시 장애로 RDB에 저장된 뒤 복구되어 양쪽에 저장된 상태
+            DataAccessException exception = mock(DataAccessException.class);
+            willThrow(exception).willDoNothing().given(primaryStorage).save(TEST_EMAIL, TEST_CODE);
+            fallbackStorage.save(TEST_EMAIL, TEST_CODE);
+            fallbackStorage.save(TEST_EMAIL, TEST_CODE);
+            given(primaryStorage.validateAndDelete(TEST_EMAIL, TEST_CODE)).willReturn(true);
+
+            // when
+            boolean result = fallbackStorage.validateAndDelete(TEST_EMAIL, TEST_CODE);
+
+            // then
+            assertThat(result).isTrue();
+            verify(secondaryStorage, times(2)).save(TEST_EMAIL, TEST_CODE);
+            verify(secondaryStorage).delete(TEST_EMAIL);
+            verify(secondaryStorage, never()).validateAndDelete(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Redis 정상 저장 시 RDB에 남은 이전 코드를 정리")
+        void save_PrimaryStorageWorking_ClearsStaleSecondaryCode() {
+            // when
+            fallbackStorage.save(TEST_EMAIL, TEST_CODE);
+
+            // then
+            verify(primaryStorage).save(TEST_EMAIL, TEST_CODE);
+            verify(secondaryStorage).delete(TEST_EMAIL);
+        }
+
+        @Test
+        @DisplayName("Redis에 다른 코드가 있으면 RDB에 남은 이전 코드로 검증하지 않음")
+        void validateAndDelete_PrimaryHoldsNewerCode_SkipsSecondary() {
+            // given - 장애 중 RDB에 남은 이전 코드(WRONG_CODE)로 검증 시도, Redis에는 새 코드가 있음
+            given(primaryStorage.validateAndDelete(TEST_EMAIL, WRONG_CODE)).willReturn(false);
+            given(primaryStorage.find(TEST_EMAIL)).willReturn(Optional.of(TEST_CODE));
+
+            // when
+            boolean result = fallbackStorage.validateAndDelete(TEST_EMAIL, WRONG_CODE);
+
+            // then
+            assertThat(result).isFalse();
+            verify(secondaryStorage, never()).validateAndDelete(anyString(), anyString());
+        }
+
+        @Test
+        @DisplayName("Redis에 코드가 없으면 장애 중 RDB에만 저장된 코드로 검증")
+        void validateAndDelete_PrimaryHasNoCode_ChecksSecondary() {
+            // given
+            given(primaryStorage.validateAndDelete(TEST_EMAIL, TEST_CODE)).willReturn(false);
+            given(primaryStorage.find(TEST_EMAIL)).willReturn(Optional.empty());
+            given(secondaryStorage.validateAndDelete(TEST_EMAIL, TEST_CODE)).willReturn(true);
+
+            // when
+            boolean result = fallbackStorage.validateAndDelete(TEST_EMAIL, TEST_CODE);
+
+            // then
+            assertThat(result).isTrue();
+            verify(secondaryStorage).validateAndDelete(TEST_EMAIL, TEST_CODE);
+        }
+
+        @Test
+        @DisplayName("장애 직후 함께 저장 중 RDB 사본 저장 실패는 로그만 남기고 정상 진행")
+        void save_DualWriteSecondaryFails_LogsAndContinues() {
+            // given - Redis 일시 장애로 RDB에만 저장되어 함께 저장 구간에 들어간 상태
+            DataAccessException primaryException = mock(DataAccessException.class);
+            willThrow(primaryException).willDoNothing().given(primaryStorage).save(TEST_EMAIL, TEST_CODE);
+            fallbackStorage.save(TEST_EMAIL, TEST_CODE);
+
+            DataAccessException secondaryException = mock(DataAccessException.class);
+            given(secondaryException.getMessage()).willReturn("DB connection failed");
+            willThrow(secondaryException).given(secondaryStorage).save(TEST_EMAIL, TEST_CODE);
+
+            // when & then
+            assertThatCode(() -> fallbackStorage.save(TEST_EMAIL, TEST_CODE))
+                    .doesNotThrowAnyException();
+            verify(primaryStorage, times(2)).save(TEST_EMAIL, TEST_CODE);
+            verify(secondaryStorage, times(2)).save(TEST_EMAIL, TEST_CODE);
+        }
     }
 
     @Nested
@@ -3,18 +3,28 @@ package com.jober.final2teamdrhong.service.validator;
 import com.jober.final2teamdrhong.entity.User;
 import com.jober.final2teamdrhong.entity.Workspace;
 import com.jober.final2teamdrhong.repository.WorkspaceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -212,4 +222,83 @@ class WorkspaceValidatorTest {
         // 2. 발생한 예외의 메시지가 예상과 정확히 일치하는지 확인합니다.
         assertThat(thrown.getMessage()).isEqualTo("이미 사용 중인 URL입니다. 다른 URL을 입력해주세요.");
     }
+
+    @Nested
+    @DisplayName("요청 단위 소유권 검증 캐시 테스트")
+    class OwnershipCacheTest {
+
+        private final Integer workspaceId = 1;
+        private final Integer userId = 1;
+
+        @BeforeEach
+        void setUp() {
+            // 1. HTTP 요청 안에서 호출되는 상황을 만듭니다.
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        }
+
+        @AfterEach
+        void tearDown() {
+            RequestContextHolder.resetRequestAttributes();
+        }
+
+        @Test
+        @DisplayName("같은 요청에서 반복 검증 시 DB는 한 번만 조회")
+        void validateAndGetWorkspace_SameRequest_QueriesOnce_Test() {
+            // given
+            // 1. 첫 검증 시 조회될 워크스페이스와 재검증 시 반환될 참조를 준비합니다.
+            Workspace workspace = mock(Workspace.class);
+            Workspace reference = mock(Workspace.class);
+            when(workspaceRepository.findByWorkspaceIdAndUser_UserId(workspaceId, userId)).thenReturn(Optional.of(workspace));
+            when(workspaceRepository.getReferenceById(workspaceId)).thenReturn(reference);
+
+            // when
+            // 1. 컨트롤러와 서비스에서 한 번씩 검증하는 상황처럼 두 번 호출합니다.
+            Workspace first = workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
+            Workspace second = workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
+
+            // then
+            // 1. 소유권 조회 쿼리는 한 번만 실행되었는지 확인합니다.
+            assertThat(first).isSameAs(workspace);
+            assertThat(second).isSameAs(reference);
+            verify(workspaceRepository, times(1)).findByWorkspaceIdAndUser_UserId(workspaceId, userId);
+        }
+
+        @Test
+        @DisplayName("다른 사용자의 검증은 캐시를 공유하지 않음")
+        void validateAndGetWorkspace_OtherUser_NotCached_Test() {
+            // given
+            // 1. 소유자는 조회에 성공하고, 다른 사용자는 실패하도록 설정합니다.
+            when(workspaceRepository.findByWorkspaceIdAndUser_UserId(workspaceId, userId)).thenReturn(Optional.of(mock(Workspace.class)));
+            when(workspaceRepository.findByWorkspaceIdAndUser_UserId(workspaceId, 2)).thenReturn(Optional.empty());
+            workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
+
+            // when
+            Throwable thrown = catchThrowable(() -> workspaceValidator.validateAndGetWorkspace(workspaceId, 2));
+
+            // then
+            // 1. 다른 사용자는 DB 조회 결과에 따라 거부되는지 확인합니다.
+            assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("무효화 후에는 DB를 다시 조회")
+        void evictOwnership_QueriesAgain_Test() {
+            // given
+            // 1. 첫 검증은 성공하고, 무효화(예: 삭제) 이후에는 조회되지 않도록 설정합니다.
+            when(workspaceRepository.findByWorkspaceIdAndUser_UserId(workspaceId, userId))
+                    .thenReturn(Optional.of(mock(Workspace.class)))
+                    .thenReturn(Optional.empty());
+            workspaceValidator.validateAndGetWorkspace(workspaceId, userId);
+
+            // when
+            workspaceValidator.evictOwnership(workspaceId);
+            Throwable thrown = catchThrowable(() -> workspaceValidator.validateAndGetWorkspace(workspaceId, userId));
+
+            // then
+            // 1. 다시 조회되어 삭제된 워크스페이스 접근이 거부되는지 확인합니다.
+            assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+            verify(workspaceRepository, times(2)).findByWorkspaceIdAndUser_UserId(workspaceId, userId);
+            verify(workspaceRepository, never()).getReferenceById(any());
+        }
+    }
 }
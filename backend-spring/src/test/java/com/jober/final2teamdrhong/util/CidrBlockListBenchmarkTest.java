@@ -0,0 +1,61 @@
+package com.jober.final2teamdrhong.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CidrBlockList 조회 성능 벤치마크
+ *
+ * 서로 겹치지 않는 범위 10만 개(IPv4 /24 5만 + IPv6 /48 5만)에서 조회 1회 평균 시간을 측정합니다.
+ * 실행: ./gradlew benchmark --tests '*CidrBlockListBenchmarkTest'
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class CidrBlockListBenchmarkTest {
+
+    private static final int RANGES_PER_FAMILY = 50_000;
+    private static final int LOOKUPS = 2_000_000;
+
+    @Test
+    @DisplayName("범위 10만 개에서 조회 1회 1마이크로초 미만")
+    void lookup_HundredThousandRanges_SubMicrosecond() {
+        List<String> cidrs = new ArrayList<>(RANGES_PER_FAMILY * 2);
+        for (int i = 0; i < RANGES_PER_FAMILY; i++) {
+            cidrs.add(String.format("%d.%d.%d.0/24", 11 + (i >> 16), (i >> 8) & 0xFF, i & 0xFF));
+            cidrs.add(String.format("2001:db8:%x::/48", i));
+        }
+        CidrBlockList blockList = CidrBlockList.parse(cidrs);
+
+        String[] probes = new String[1_024];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < probes.length; i++) {
+            probes[i] = i % 2 == 0
+                    ? String.format("%d.%d.%d.%d", random.nextInt(1, 224), random.nextInt(256), random.nextInt(256), random.nextInt(256))
+                    : String.format("2001:db8:%x::%x", random.nextInt(0x10000), random.nextInt(0x10000));
+        }
+
+        // 워밍업
+        int hits = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            hits += blockList.contains(probes[i & 1_023]) ? 1 : 0;
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < LOOKUPS; i++) {
+            hits += blockList.contains(probes[i & 1_023]) ? 1 : 0;
+        }
+        double nanosPerLookup = (System.nanoTime() - startedAt) / (double) LOOKUPS;
+
+        System.out.printf("범위 %d개, 조회 %d회: 평균 %.1fns/회 (적중 %d)%n",
+                blockList.size(), LOOKUPS, nanosPerLookup, hits);
+        assertThat(nanosPerLookup).isLessThan(1_000);
+    }
+}
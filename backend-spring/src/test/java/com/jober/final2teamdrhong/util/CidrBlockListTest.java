@@ -0,0 +1,129 @@
+package com.jober.final2teamdrhong.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * CidrBlockList 단위 테스트
+ */
+class CidrBlockListTest {
+
+    private final CidrBlockList blockList = CidrBlockList.parse(List.of(
+            "# 차단 목록",
+            "203.0.113.0/24",
+            "198.51.100.7",
+            "10.0.0.0/8 # 내부망",
+            "",
+            "2001:db8::/32",
+            "fe80::1/128"
+    ));
+
+    @Nested
+    @DisplayName("IPv4")
+    class Ipv4 {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"203.0.113.0", "203.0.113.255", "198.51.100.7", "10.255.255.255"})
+        @DisplayName("범위 안의 주소는 차단")
+        void contains_InRange_True(String ip) {
+            assertThat(blockList.contains(ip)).isTrue();
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"203.0.114.0", "198.51.100.8", "11.0.0.0", "192.168.0.1"})
+        @DisplayName("범위 밖의 주소는 허용")
+        void contains_OutOfRange_False(String ip) {
+            assertThat(blockList.contains(ip)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("IPv6")
+    class Ipv6 {
+
+        @ParameterizedTest
+        @ValueSource(strings = {"2001:db8::1", "2001:0db8:ffff:ffff:ffff:ffff:ffff:ffff", "fe80::1", "FE80::1%eth0"})
+        @DisplayName("범위 안의 주소는 차단")
+        void contains_InRange_True(String ip) {
+            assertThat(blockList.contains(ip)).isTrue();
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"2001:db9::1", "fe80::2", "::1", "::"})
+        @DisplayName("범위 밖의 주소는 허용")
+        void contains_OutOfRange_False(String ip) {
+            assertThat(blockList.contains(ip)).isFalse();
+        }
+
+        @Test
+        @DisplayName("IPv4-mapped 주소는 IPv4 목록으로 조회")
+        void contains_Ipv4Mapped_UsesIpv4Ranges() {
+            assertThat(blockList.contains("::ffff:203.0.113.9")).isTrue();
+            assertThat(blockList.contains("::ffff:192.0.2.1")).isFalse();
+            assertThat(blockList.contains("0:0:0:0:0:FFFF:10.1.2.3")).isTrue();
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"2001:db8::1.2.3.4", "2001:db8:0:0:0:0:1.2.3.4", "2001:db8::5:203.0.113.9"})
+        @DisplayName("IPv4-mapped가 아닌 주소의 IPv4 표기 부분은 하위 32비트로 해석해 IPv6 목록으로 조회")
+        void contains_NonMappedIpv4Tail_UsesIpv6Ranges(String ip) {
+            assertThat(blockList.contains(ip)).isTrue();
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = {"64:ff9b::10.0.0.1", "64:ff9b::203.0.113.9", "::198.51.100.7", "2001:db9::10.0.0.1"})
+        @DisplayName("IPv4-mapped가 아닌 주소는 끝의 IPv4 표기가 IPv4 범위에 속해도 허용")
+        void contains_NonMappedIpv4Tail_IgnoresIpv4Ranges(String ip) {
+            assertThat(blockList.contains(ip)).isFalse();
+        }
+
+        @Test
+        @DisplayName("IPv4 표기가 붙은 주소도 IPv6 범위의 경계를 정확히 비교")
+        void contains_Ipv4Tail_ComparesLow32Bits() {
+            // given
+            CidrBlockList nat64 = CidrBlockList.parse(List.of("64:ff9b::a00:0/104"));
+
+            // when & then: 64:ff9b::10.0.0.0 ~ 64:ff9b::10.255.255.255
+            assertThat(nat64.contains("64:ff9b::10.0.0.1")).isTrue();
+            assertThat(nat64.contains("64:FF9B::10.255.255.255")).isTrue();
+            assertThat(nat64.contains("64:ff9b::11.0.0.0")).isFalse();
+            assertThat(nat64.contains("10.0.0.1")).isFalse();
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "unknown", "1.2.3", "1.2.3.4.5", "256.1.1.1", "1::2::3", "12345::1", "1:2:3:4:5:6:7:8:9", "1:2:3:4:5:6:7:1.2.3.4", ":1.2.3.4", "::ffff:1.2.3"})
+    @DisplayName("잘못된 형식의 IP는 차단하지 않음")
+    void contains_InvalidIp_False(String ip) {
+        assertThat(blockList.contains(ip)).isFalse();
+    }
+
+    @Test
+    @DisplayName("겹치거나 맞닿은 범위는 하나의 구간으로 병합")
+    void parse_OverlappingRanges_Merged() {
+        // when
+        CidrBlockList merged = CidrBlockList.parse(List.of(
+                "192.0.2.0/25", "192.0.2.128/25", "192.0.2.10", "2001:db8::/48", "2001:db8:0:1::/64"));
+
+        // then
+        assertThat(merged.size()).isEqualTo(5);
+        assertThat(merged.intervalCount()).isEqualTo(2);
+        assertThat(merged.contains("192.0.2.200")).isTrue();
+    }
+
+    @Test
+    @DisplayName("잘못된 CIDR이 포함되면 예외")
+    void parse_InvalidCidr_Throws() {
+        assertThatThrownBy(() -> CidrBlockList.parse(List.of("203.0.113.0/33")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CidrBlockList.parse(List.of("not-an-ip")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}